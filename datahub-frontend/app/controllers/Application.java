@@ -10,11 +10,19 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linkedin.util.Pair;
 import com.typesafe.config.Config;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -23,6 +31,8 @@ import play.Environment;
 import play.http.HttpEntity;
 import play.libs.ws.InMemoryBodyWritable;
 import play.libs.ws.StandaloneWSClient;
+import play.libs.ws.StandaloneWSRequest;
+import play.libs.ws.StandaloneWSResponse;
 import play.libs.Json;
 import play.libs.ws.ahc.StandaloneAhcWSClient;
 import play.mvc.Controller;
@@ -39,6 +49,7 @@ import play.shaded.ahc.org.asynchttpclient.AsyncHttpClientConfig;
 import play.shaded.ahc.org.asynchttpclient.DefaultAsyncHttpClient;
 import play.shaded.ahc.org.asynchttpclient.DefaultAsyncHttpClientConfig;
 import utils.ConfigUtil;
+import utils.GraphQLUtil;
 import java.time.Duration;
 
 import static auth.AuthUtils.ACTOR;
@@ -46,16 +57,41 @@ import static auth.AuthUtils.SESSION_COOKIE_GMS_TOKEN_NAME;
 
 
 public class Application extends Controller {
+  private static final String GRAPHQL_PATH = "/api/graphql";
+  private static final Duration PROXY_REQUEST_TIMEOUT = Duration.ofSeconds(120);
+
+  private static final Set<String> PROXY_REQUEST_HEADERS_TO_DROP = caseInsensitiveSet(
+      // Remove X-DataHub-Actor to prevent malicious delegation.
+      AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER,
+      Http.HeaderNames.CONTENT_LENGTH,
+      Http.HeaderNames.CONTENT_TYPE,
+      Http.HeaderNames.AUTHORIZATION,
+      // Remove Host s.th. service meshes do not route to wrong host
+      Http.HeaderNames.HOST);
+  private static final Set<String> PROXY_RESPONSE_HEADERS_TO_DROP = caseInsensitiveSet(
+      Http.HeaderNames.CONTENT_LENGTH,
+      Http.HeaderNames.CONTENT_TYPE,
+      // Set by the server for the response it sends
+      Http.HeaderNames.TRANSFER_ENCODING);
+
   private final Logger _logger = LoggerFactory.getLogger(Application.class.getName());
   private final Config _config;
   private final StandaloneWSClient _ws;
   private final Environment _environment;
+  private final String _metadataServiceUrl;
+  private final boolean _coalesceQueries;
+  private final Map<String, CompletableFuture<Result>> _inFlightQueries = new ConcurrentHashMap<>();
 
   @Inject
   public Application(Environment environment, @Nonnull Config config) {
     _config = config;
     _ws = createWsClient();
     _environment = environment;
+    _metadataServiceUrl = getMetadataServiceUrl(config);
+    _coalesceQueries = ConfigUtil.getBoolean(
+        config,
+        ConfigUtil.METADATA_SERVICE_PROXY_COALESCE_QUERIES_CONFIG_PATH,
+        ConfigUtil.DEFAULT_METADATA_SERVICE_PROXY_COALESCE_QUERIES);
   }
 
   /**
@@ -99,66 +135,95 @@ public class Application extends Controller {
   /**
    * Proxies requests to the Metadata Service
    *
+   * Responses are streamed back as they are received. Identical GraphQL queries in flight for the same caller share a
+   * single call to the Metadata Service instead, see {@link #coalesce}.
+   *
    * TODO: Investigate using mutual SSL authentication to call Metadata Service.
    */
   @Security.Authenticated(Authenticator.class)
   public CompletableFuture<Result> proxy(String path, Http.Request request) throws ExecutionException, InterruptedException {
     final String authorizationHeaderValue = getAuthorizationHeaderValueToProxy(request);
     final String resolvedUri = mapPath(request.uri());
+    final ByteString body = Optional.ofNullable(request.body().asBytes()).orElse(ByteString.emptyByteString());
 
-    final String metadataServiceHost = ConfigUtil.getString(
-        _config,
-        ConfigUtil.METADATA_SERVICE_HOST_CONFIG_PATH,
-        ConfigUtil.DEFAULT_METADATA_SERVICE_HOST);
-    final int metadataServicePort = ConfigUtil.getInt(
-        _config,
-        ConfigUtil.METADATA_SERVICE_PORT_CONFIG_PATH,
-        ConfigUtil.DEFAULT_METADATA_SERVICE_PORT);
-    final boolean metadataServiceUseSsl = ConfigUtil.getBoolean(
-        _config,
-        ConfigUtil.METADATA_SERVICE_USE_SSL_CONFIG_PATH,
-        ConfigUtil.DEFAULT_METADATA_SERVICE_USE_SSL
-    );
+    if (_coalesceQueries
+        && GRAPHQL_PATH.equals(resolvedUri)
+        && "POST".equals(request.method())
+        && GraphQLUtil.isQuery(body.toArray())) {
+      final String key = String.join("\n", authorizationHeaderValue, getDataHubActorHeader(request), body.utf8String());
+      return coalesce(key, () -> buildProxyRequest(request, resolvedUri, authorizationHeaderValue, body));
+    }
 
-    // TODO: Fully support custom internal SSL.
-    final String protocol = metadataServiceUseSsl ? "https" : "http";
+    return buildProxyRequest(request, resolvedUri, authorizationHeaderValue, body)
+        .stream()
+        .thenApply(apiResponse -> {
+          final Optional<Long> contentLength = apiResponse.getSingleHeader(Http.HeaderNames.CONTENT_LENGTH)
+              .map(Long::parseLong);
+          final HttpEntity entity = new HttpEntity.Streamed(apiResponse.getBodyAsSource(), contentLength,
+              Optional.ofNullable(apiResponse.getContentType()));
+          return new Result(toResponseHeader(apiResponse), entity);
+        }).toCompletableFuture();
+  }
+
+  /**
+   * Sends the request unless an identical one is already in flight, in which case its result is shared. Shared
+   * results are buffered once, as every caller needs the whole of it.
+   */
+  private CompletableFuture<Result> coalesce(@Nonnull String key, @Nonnull Supplier<StandaloneWSRequest> proxyRequest) {
+    final CompletableFuture<Result> result = new CompletableFuture<>();
+    final CompletableFuture<Result> inFlight = _inFlightQueries.putIfAbsent(key, result);
+    if (inFlight != null) {
+      _logger.debug("Sharing in flight GraphQL query with identical request");
+      return inFlight.thenApply(Function.identity());
+    }
+
+    try {
+      proxyRequest.get()
+          .execute()
+          .whenComplete((apiResponse, e) -> {
+            _inFlightQueries.remove(key, result);
+            if (e != null) {
+              result.completeExceptionally(e);
+            } else {
+              result.complete(new Result(toResponseHeader(apiResponse),
+                  new HttpEntity.Strict(apiResponse.getBodyAsBytes(), Optional.ofNullable(apiResponse.getContentType()))));
+            }
+          });
+    } catch (RuntimeException e) {
+      _inFlightQueries.remove(key, result);
+      result.completeExceptionally(e);
+    }
+    return result.thenApply(Function.identity());
+  }
 
-    final Map<String, List<String>> headers = request.getHeaders().toMap();
+  @Nonnull
+  private StandaloneWSRequest buildProxyRequest(@Nonnull Http.Request request, @Nonnull String resolvedUri,
+      @Nonnull String authorizationHeaderValue, @Nonnull ByteString body) {
+    final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.getHeaders().toMap());
 
     if (headers.containsKey(Http.HeaderNames.HOST) && !headers.containsKey(Http.HeaderNames.X_FORWARDED_HOST)) {
         headers.put(Http.HeaderNames.X_FORWARDED_HOST, headers.get(Http.HeaderNames.HOST));
     }
+    headers.keySet().removeIf(PROXY_REQUEST_HEADERS_TO_DROP::contains);
 
-    return _ws.url(String.format("%s://%s:%s%s", protocol, metadataServiceHost, metadataServicePort, resolvedUri))
+    return _ws.url(_metadataServiceUrl + resolvedUri)
         .setMethod(request.method())
-        .setHeaders(headers
-            .entrySet()
-            .stream()
-            // Remove X-DataHub-Actor to prevent malicious delegation.
-            .filter(entry -> !AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER.equalsIgnoreCase(entry.getKey()))
-            .filter(entry -> !Http.HeaderNames.CONTENT_LENGTH.equals(entry.getKey()))
-            .filter(entry -> !Http.HeaderNames.CONTENT_TYPE.equals(entry.getKey()))
-            .filter(entry -> !Http.HeaderNames.AUTHORIZATION.equals(entry.getKey()))
-            // Remove Host s.th. service meshes do not route to wrong host
-            .filter(entry -> !Http.HeaderNames.HOST.equals(entry.getKey()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-        )
+        .setHeaders(headers)
         .addHeader(Http.HeaderNames.AUTHORIZATION, authorizationHeaderValue)
         .addHeader(AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER, getDataHubActorHeader(request))
-        .setBody(new InMemoryBodyWritable(ByteString.fromByteBuffer(request.body().asBytes().asByteBuffer()), "application/json"))
-        .setRequestTimeout(Duration.ofSeconds(120))
-        .execute()
-        .thenApply(apiResponse -> {
-          final ResponseHeader header = new ResponseHeader(apiResponse.getStatus(), apiResponse.getHeaders()
-              .entrySet()
-              .stream()
-              .filter(entry -> !Http.HeaderNames.CONTENT_LENGTH.equals(entry.getKey()))
-              .filter(entry -> !Http.HeaderNames.CONTENT_TYPE.equals(entry.getKey()))
-              .map(entry -> Pair.of(entry.getKey(), String.join(";", entry.getValue())))
-              .collect(Collectors.toMap(Pair::getFirst, Pair::getSecond)));
-          final HttpEntity body = new HttpEntity.Strict(apiResponse.getBodyAsBytes(), Optional.ofNullable(apiResponse.getContentType()));
-          return new Result(header, body);
-        }).toCompletableFuture();
+        .setBody(new InMemoryBodyWritable(body, "application/json"))
+        .setRequestTimeout(PROXY_REQUEST_TIMEOUT);
+  }
+
+  @Nonnull
+  private static ResponseHeader toResponseHeader(@Nonnull StandaloneWSResponse apiResponse) {
+    return new ResponseHeader(apiResponse.getStatus(), apiResponse.getHeaders()
+        .entrySet()
+        .stream()
+        .filter(entry -> !PROXY_RESPONSE_HEADERS_TO_DROP.contains(entry.getKey()))
+        .map(entry -> Pair.of(entry.getKey(), String.join(";", entry.getValue())))
+        .collect(Collectors.toMap(Pair::getFirst, Pair::getSecond)));
   }
 
   /**
@@ -256,6 +321,34 @@ public class Application extends Controller {
     return trackingConfig;
   }
 
+  @Nonnull
+  private static String getMetadataServiceUrl(@Nonnull Config config) {
+    final String metadataServiceHost = ConfigUtil.getString(
+        config,
+        ConfigUtil.METADATA_SERVICE_HOST_CONFIG_PATH,
+        ConfigUtil.DEFAULT_METADATA_SERVICE_HOST);
+    final int metadataServicePort = ConfigUtil.getInt(
+        config,
+        ConfigUtil.METADATA_SERVICE_PORT_CONFIG_PATH,
+        ConfigUtil.DEFAULT_METADATA_SERVICE_PORT);
+    final boolean metadataServiceUseSsl = ConfigUtil.getBoolean(
+        config,
+        ConfigUtil.METADATA_SERVICE_USE_SSL_CONFIG_PATH,
+        ConfigUtil.DEFAULT_METADATA_SERVICE_USE_SSL
+    );
+
+    // TODO: Fully support custom internal SSL.
+    final String protocol = metadataServiceUseSsl ? "https" : "http";
+    return String.format("%s://%s:%s", protocol, metadataServiceHost, metadataServicePort);
+  }
+
+  @Nonnull
+  private static Set<String> caseInsensitiveSet(String... values) {
+    final Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    set.addAll(Arrays.asList(values));
+    return Collections.unmodifiableSet(set);
+  }
+
   private StandaloneWSClient createWsClient() {
     final String name = "proxyClient";
     ActorSystem system = ActorSystem.create(name);
@@ -264,6 +357,8 @@ public class Application extends Controller {
     AsyncHttpClientConfig asyncHttpClientConfig =
         new DefaultAsyncHttpClientConfig.Builder()
             .setMaxRequestRetry(0)
+            // Connections to the Metadata Service are pooled and reused across proxied requests
+            .setKeepAlive(true)
             .setShutdownQuietPeriod(0)
             .setShutdownTimeout(0)
             .build();
@@ -15,6 +15,7 @@ public class ConfigUtil {
   public static final String METADATA_SERVICE_PORT_CONFIG_PATH = "metadataService.port";
   public static final String METADATA_SERVICE_USE_SSL_CONFIG_PATH = "metadataService.useSsl";
   public static final String METADATA_SERVICE_SSL_PROTOCOL_CONFIG_PATH = "metadataService.sslProtocol";
+  public static final String METADATA_SERVICE_PROXY_COALESCE_QUERIES_CONFIG_PATH = "metadataService.proxy.coalesceQueries";
 
   // Legacy env-var based config values, for backwards compatibility:
   public static final String GMS_HOST_ENV_VAR = "DATAHUB_GMS_HOST";
@@ -31,6 +32,7 @@ public class ConfigUtil {
   public static final Integer DEFAULT_METADATA_SERVICE_PORT = Integer.parseInt(Configuration.getEnvironmentVariable(GMS_PORT_ENV_VAR, "8080"));
   public static final Boolean DEFAULT_METADATA_SERVICE_USE_SSL = Boolean.parseBoolean(Configuration.getEnvironmentVariable(GMS_USE_SSL_ENV_VAR, "False"));
   public static final String DEFAULT_METADATA_SERVICE_SSL_PROTOCOL = Configuration.getEnvironmentVariable(GMS_SSL_PROTOCOL_VAR);
+  public static final boolean DEFAULT_METADATA_SERVICE_PROXY_COALESCE_QUERIES = true;
 
   public static boolean getBoolean(Config config, String key) {
     return config.hasPath(key) && config.getBoolean(key);
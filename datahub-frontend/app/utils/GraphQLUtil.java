@@ -0,0 +1,53 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import play.libs.Json;
+
+
+/**
+ * Utility functions for GraphQL requests proxied to the Metadata Service
+ */
+public class GraphQLUtil {
+
+    private static final String QUERY_FIELD = "query";
+    private static final String OPERATION_NAME_FIELD = "operationName";
+
+    private GraphQLUtil() {
+        //utility class
+    }
+
+    /**
+     * Returns true if the body of a GraphQL request is known to run a query, as opposed to a mutation or subscription,
+     * and can therefore be safely shared with identical requests.
+     *
+     * Anything that cannot be parsed, or where the operation to run cannot be told, is not considered a query.
+     *
+     * @param body the JSON body of the request
+     */
+    public static boolean isQuery(@Nonnull byte[] body) {
+        try {
+            final JsonNode request = Json.parse(body);
+            final JsonNode query = request.get(QUERY_FIELD);
+            if (query == null || !query.isTextual()) {
+                return false;
+            }
+            final JsonNode operationName = request.get(OPERATION_NAME_FIELD);
+            final Document document = new Parser().parseDocument(query.asText());
+            List<OperationDefinition> operations = document.getDefinitionsOfType(OperationDefinition.class);
+            if (operationName != null && operationName.isTextual()) {
+                operations = operations.stream()
+                    .filter(operation -> operationName.asText().equals(operation.getName()))
+                    .collect(Collectors.toList());
+            }
+            return operations.size() == 1 && operations.get(0).getOperation() == OperationDefinition.Operation.QUERY;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package utils;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GraphQLUtilTest {
+    @Test
+    public void testIsQuery() {
+        assertTrue(isQuery("{\"query\": \"query getMe { me { corpUser { urn } } }\"}"));
+        // Anonymous queries
+        assertTrue(isQuery("{\"query\": \"{ me { corpUser { urn } } }\"}"));
+        // The named operation is run
+        assertTrue(isQuery("{\"operationName\": \"getMe\", \"query\": "
+            + "\"query getMe { me { corpUser { urn } } } mutation logout { logout }\"}"));
+        assertFalse(isQuery("{\"operationName\": \"logout\", \"query\": "
+            + "\"query getMe { me { corpUser { urn } } } mutation logout { logout }\"}"));
+        // The operation to run cannot be told
+        assertFalse(isQuery("{\"query\": \"query getMe { me { corpUser { urn } } } mutation logout { logout }\"}"));
+
+        assertFalse(isQuery("{\"query\": \"mutation { updateDescription(input: {}) }\"}"));
+        assertFalse(isQuery("{\"query\": \"subscription { events }\"}"));
+        assertFalse(isQuery("{\"query\": \"query {\"}"));
+        assertFalse(isQuery("{\"variables\": {}}"));
+        assertFalse(isQuery("not json"));
+        assertFalse(isQuery(""));
+    }
+
+    private static boolean isQuery(String body) {
+        return GraphQLUtil.isQuery(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,13 @@
 package com.linkedin.datahub.graphql;
 
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.graphql.concurrency.DeadlineInstrumentation;
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
+import com.linkedin.metadata.utils.concurrent.Deadline;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
@@ -14,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -62,7 +67,9 @@ public class GraphQLEngine {
          */
         _graphQL = new GraphQL.Builder(graphQLSchema)
             .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(new TracingInstrumentation())
+            .instrumentation(new ChainedInstrumentation(ImmutableList.of(
+                new TracingInstrumentation(),
+                new DeadlineInstrumentation())))
             .build();
     }
 
@@ -75,13 +82,17 @@ public class GraphQLEngine {
         DataLoaderRegistry register = createDataLoaderRegistry(_dataLoaderSuppliers, context);
 
         /*
-         * Construct execution input
+         * Construct execution input, resolvers run with the deadline of the caller
          */
+        final Map<String, Object> graphQLContext = new HashMap<>();
+        final Optional<Deadline> deadline = Deadline.current();
+        deadline.ifPresent(value -> graphQLContext.put(DeadlineInstrumentation.DEADLINE_KEY, value));
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
             .query(query)
             .variables(variables)
             .dataLoaderRegistry(register)
             .context(context)
+            .graphQLContext(graphQLContext)
             .build();
 
         /*
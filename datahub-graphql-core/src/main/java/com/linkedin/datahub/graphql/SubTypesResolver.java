@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql;
 
 import com.linkedin.common.SubTypes;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.EntityClient;
@@ -27,7 +28,7 @@ public class SubTypesResolver implements DataFetcher<CompletableFuture<SubTypes>
     @Override
     @Nullable
     public CompletableFuture<SubTypes> get(DataFetchingEnvironment environment) throws Exception {
-        return CompletableFuture.supplyAsync(() -> {
+        return GraphQLConcurrencyUtils.supplyAsync(() -> {
             final QueryContext context = environment.getContext();
             SubTypes subType = null;
             final String urnStr = ((Entity) environment.getSource()).getUrn();
@@ -0,0 +1,53 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+
+/**
+ * Runs every resolver with the {@link Deadline} of the query being executed.
+ *
+ * Resolvers run on whichever thread completes the fields they depend on, so the deadline is carried in the
+ * GraphQL context of the query rather than in the thread of the caller.
+ */
+public class DeadlineInstrumentation extends SimpleInstrumentation {
+
+  public static final String DEADLINE_KEY = "deadline";
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+    if (parameters.isTrivialDataFetcher()) {
+      return dataFetcher;
+    }
+    return environment -> {
+      final Deadline deadline = environment.getGraphQlContext().get(DEADLINE_KEY);
+      if (deadline == null) {
+        return dataFetcher.get(environment);
+      }
+      try {
+        return deadline.call(() -> {
+          try {
+            return dataFetcher.get(environment);
+          } catch (Exception e) {
+            throw new FetchException(e);
+          }
+        });
+      } catch (FetchException e) {
+        throw e.getCause();
+      }
+    };
+  }
+
+  private static class FetchException extends RuntimeException {
+    FetchException(Exception cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized Exception getCause() {
+      return (Exception) super.getCause();
+    }
+  }
+}
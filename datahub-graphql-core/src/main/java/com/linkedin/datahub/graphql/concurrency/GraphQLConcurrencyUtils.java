@@ -0,0 +1,37 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+
+public class GraphQLConcurrencyUtils {
+
+  private GraphQLConcurrencyUtils() {
+    // Utils class
+  }
+
+  /**
+   * Same as {@link CompletableFuture#supplyAsync(Supplier)}, but runs the supplier with the {@link Deadline} of the
+   * calling resolver, so the work it fans out is cancelled once the GraphQL request runs out of time.
+   */
+  @Nonnull
+  public static <T> CompletableFuture<T> supplyAsync(@Nonnull Supplier<T> supplier) {
+    return supplyAsync(supplier, Deadline.current());
+  }
+
+  /**
+   * Same as {@link #supplyAsync(Supplier)}, with a deadline captured ahead of time, for work such as batch loads
+   * that is started outside of the resolvers of a request.
+   */
+  @Nonnull
+  public static <T> CompletableFuture<T> supplyAsync(@Nonnull Supplier<T> supplier,
+      @Nonnull Optional<Deadline> deadline) {
+    if (!deadline.isPresent()) {
+      return CompletableFuture.supplyAsync(supplier);
+    }
+    return CompletableFuture.supplyAsync(() -> deadline.get().call(supplier));
+  }
+}
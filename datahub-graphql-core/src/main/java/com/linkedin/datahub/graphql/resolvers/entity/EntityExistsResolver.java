@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.entity;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.metadata.entity.EntityService;
 import graphql.schema.DataFetcher;
@@ -31,7 +32,7 @@ public class EntityExistsResolver implements DataFetcher<CompletableFuture<Boole
     Objects.requireNonNull(entityUrnString, "Entity urn must not be null!");
 
     final Urn entityUrn = Urn.createFromString(entityUrnString);
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         return _entityService.exists(entityUrn);
       } catch (Exception e) {
@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.ingest.source;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionAuthUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -28,7 +29,7 @@ public class DeleteIngestionSourceResolver implements DataFetcher<CompletableFut
     if (IngestionAuthUtils.canManageIngestion(context)) {
       final String ingestionSourceUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(ingestionSourceUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
           return ingestionSourceUrn;
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.DescriptionUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.SiblingsUtils;
@@ -67,7 +68,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateContainerDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateContainerDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -92,7 +93,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateDomainDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDomainDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -147,7 +148,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateDatasetSchemaFieldDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateFieldDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -165,7 +166,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateTagDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -189,7 +190,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateGlossaryTermDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -213,7 +214,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateGlossaryNodeDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -237,7 +238,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateCorpGroupDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -262,7 +263,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   
   private CompletableFuture<Boolean> updateNotebookDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -287,7 +288,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateMlModelDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -312,7 +313,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateMlModelGroupDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -337,7 +338,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateMlFeatureDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -362,7 +363,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateMlPrimaryKeyDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -387,7 +388,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateMlFeatureTableDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.UpdateGlobalViewsSettingsInput;
 import com.linkedin.metadata.service.SettingsService;
@@ -36,7 +37,7 @@ public class UpdateGlobalViewsSettingsResolver implements DataFetcher<Completabl
     final QueryContext context = environment.getContext();
     final UpdateGlobalViewsSettingsInput input = bindArgument(environment.getArgument("input"), UpdateGlobalViewsSettingsInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (AuthorizationUtils.canManageGlobalViews(context)) {
         try {
           // First, fetch the existing global settings. This does a R-M-F.
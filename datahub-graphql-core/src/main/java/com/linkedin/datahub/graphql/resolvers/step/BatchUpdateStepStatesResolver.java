@@ -6,6 +6,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.BatchUpdateStepStatesInput;
 import com.linkedin.datahub.graphql.generated.BatchUpdateStepStatesResult;
 import com.linkedin.datahub.graphql.generated.StepStateInput;
@@ -46,7 +47,7 @@ public class BatchUpdateStepStatesResolver implements DataFetcher<CompletableFut
     final List<StepStateInput> states = input.getStates();
     final String actorUrnStr = authentication.getActor().toUrnStr();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Urn actorUrn = UrnUtils.getUrn(actorUrnStr);
       final AuditStamp auditStamp = new AuditStamp().setActor(actorUrn).setTime(System.currentTimeMillis());
       final List<UpdateStepStateResult> results = states
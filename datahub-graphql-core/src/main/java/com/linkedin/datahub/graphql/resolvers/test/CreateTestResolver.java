@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.test;
 
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateTestInput;
 import com.linkedin.entity.client.EntityClient;
@@ -37,7 +38,7 @@ public class CreateTestResolver implements DataFetcher<CompletableFuture<String>
     final QueryContext context = environment.getContext();
     final CreateTestInput input = bindArgument(environment.getArgument("input"), CreateTestInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (canManageTests(context)) {
 
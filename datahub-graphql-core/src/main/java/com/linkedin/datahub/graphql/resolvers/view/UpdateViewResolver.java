@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.view;
 import com.datahub.authentication.Authentication;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.DataHubView;
 import com.linkedin.datahub.graphql.generated.UpdateViewInput;
@@ -37,7 +38,7 @@ public class UpdateViewResolver implements DataFetcher<CompletableFuture<DataHub
     final UpdateViewInput input = bindArgument(environment.getArgument("input"), UpdateViewInput.class);
 
     final Urn urn = Urn.createFromString(urnStr);
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         if (ViewUtils.canUpdateView(_viewService, urn, context)) {
             _viewService.updateView(
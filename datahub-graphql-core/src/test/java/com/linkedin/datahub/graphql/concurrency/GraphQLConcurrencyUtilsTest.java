@@ -0,0 +1,39 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class GraphQLConcurrencyUtilsTest {
+
+  @Test
+  public void testResolverFanOutIsCancelledWithRequest() {
+    final long start = System.nanoTime();
+    final CompletableFuture<List<Integer>> future = Deadline.after(200, TimeUnit.MILLISECONDS).call(() ->
+        GraphQLConcurrencyUtils.supplyAsync(() -> ConcurrencyUtils.transformAndCollectAsync(List.of(1, 2), value -> {
+          if (value == 2) {
+            try {
+              Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          return value;
+        }, (value, e) -> e instanceof TimeoutException ? -1 : 0)));
+
+    assertEquals(future.join(), List.of(1, -1));
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+  }
+
+  @Test
+  public void testNoDeadlineWithoutRequestDeadline() {
+    assertFalse(GraphQLConcurrencyUtils.supplyAsync(() -> Deadline.current().isPresent()).join());
+  }
+}
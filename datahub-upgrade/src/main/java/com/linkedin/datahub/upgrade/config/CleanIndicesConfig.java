@@ -3,6 +3,7 @@ package com.linkedin.datahub.upgrade.config;
 import com.linkedin.datahub.upgrade.system.elasticsearch.CleanIndices;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
@@ -17,9 +18,10 @@ public class CleanIndicesConfig {
   public CleanIndices cleanIndices(final SystemMetadataService systemMetadataService, final TimeseriesAspectService timeseriesAspectService,
                                    final EntitySearchService entitySearchService, final GraphService graphService,
                                    final BaseElasticSearchComponentsFactory.BaseElasticSearchComponents baseElasticSearchComponents,
-                                   final ConfigurationProvider configurationProvider) {
+                                   final ConfigurationProvider configurationProvider,
+                                   final DataHubUsageAggregatesService usageAggregatesService) {
 
     return new CleanIndices(systemMetadataService, timeseriesAspectService, entitySearchService, graphService,
-        baseElasticSearchComponents, configurationProvider);
+        baseElasticSearchComponents, configurationProvider, usageAggregatesService);
   }
 }
@@ -0,0 +1,29 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.migrateaspectstorage.MigrateAspectStorage;
+import com.linkedin.metadata.entity.AspectStorageCodec;
+import io.ebean.EbeanServer;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+
+@Configuration
+public class MigrateAspectStorageConfig {
+
+  @Value("${entityService.storage.format:json}")
+  private String _storageFormat;
+
+  @Value("${entityService.storage.minCompressionBytes:4096}")
+  private Integer _minCompressionBytes;
+
+  @Bean(name = "migrateAspectStorage")
+  @DependsOn({"ebeanServer"})
+  @Nonnull
+  public MigrateAspectStorage createInstance(final EbeanServer ebeanServer) {
+    return new MigrateAspectStorage(ebeanServer,
+        new AspectStorageCodec(AspectStorageCodec.Format.fromString(_storageFormat), _minCompressionBytes));
+  }
+}
@@ -0,0 +1,52 @@
+package com.linkedin.datahub.upgrade.migrateaspectstorage;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.metadata.entity.AspectStorageCodec;
+import io.ebean.EbeanServer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Rewrites the rows of the aspect table into the configured {@link AspectStorageCodec.Format}. Rows already in the
+ * target format are left untouched, so the upgrade can be run repeatedly and resumed after any row.
+ */
+public class MigrateAspectStorage implements Upgrade {
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+  public static final String BATCH_DELAY_MS_ARG_NAME = "batchDelayMs";
+  public static final String START_URN_ARG_NAME = "startUrn";
+  public static final String START_ASPECT_ARG_NAME = "startAspect";
+  public static final String START_VERSION_ARG_NAME = "startVersion";
+  public static final String ASPECT_NAME_ARG_NAME = "aspectName";
+  public static final String FORMAT_ARG_NAME = "format";
+
+  private final List<UpgradeStep> _steps;
+
+  public MigrateAspectStorage(final EbeanServer server, final AspectStorageCodec defaultCodec) {
+    _steps = buildSteps(server, defaultCodec);
+  }
+
+  @Override
+  public String id() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  private List<UpgradeStep> buildSteps(final EbeanServer server, final AspectStorageCodec defaultCodec) {
+    final List<UpgradeStep> steps = new ArrayList<>();
+    steps.add(new MigrateAspectStorageStep(server, defaultCodec));
+    return steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
@@ -0,0 +1,205 @@
+package com.linkedin.datahub.upgrade.migrateaspectstorage;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.AspectStorageCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import io.ebean.ExpressionList;
+import io.ebean.SqlUpdate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.persistence.Table;
+
+
+/**
+ * Pages through the aspect table and re-encodes every row which is not yet stored in the target format.
+ *
+ * Pages are read in primary key order, each starting after the last key of the previous page, so every page is an
+ * index range scan no matter how far into the table it is, and rows inserted while the step runs neither shift nor
+ * skip rows that are yet to be read.
+ *
+ * Each row is rewritten with a conditional update that only applies if the stored payloads are unchanged since they
+ * were read, so the step is safe to run while GMS is serving writes: rows modified concurrently are already written in
+ * the configured format by GMS itself.
+ */
+public class MigrateAspectStorageStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final long DEFAULT_BATCH_DELAY_MS = 100;
+
+  private static final String UPDATE_SQL = String.format(
+      "UPDATE %s SET %s = :newMetadata, %s = :newSystemMetadata WHERE %s = :urn AND %s = :aspect AND %s = :version "
+          + "AND %s = :oldMetadata AND ",
+      EbeanAspectV2.class.getAnnotation(Table.class).name(), EbeanAspectV2.METADATA_COLUMN,
+      EbeanAspectV2.SYSTEM_METADATA_COLUMN, EbeanAspectV2.URN_COLUMN, EbeanAspectV2.ASPECT_COLUMN,
+      EbeanAspectV2.VERSION_COLUMN, EbeanAspectV2.METADATA_COLUMN);
+  // systemMetadata is nullable, and NULL never compares equal
+  private static final String UPDATE_SQL_WITH_SYSTEM_METADATA =
+      UPDATE_SQL + EbeanAspectV2.SYSTEM_METADATA_COLUMN + " = :oldSystemMetadata";
+  private static final String UPDATE_SQL_WITHOUT_SYSTEM_METADATA =
+      UPDATE_SQL + EbeanAspectV2.SYSTEM_METADATA_COLUMN + " IS NULL";
+
+  private final EbeanServer _server;
+  private final AspectStorageCodec _defaultCodec;
+
+  public MigrateAspectStorageStep(final EbeanServer server, final AspectStorageCodec defaultCodec) {
+    _server = server;
+    _defaultCodec = defaultCodec;
+  }
+
+  @Override
+  public String id() {
+    return "MigrateAspectStorageStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final Map<String, Optional<String>> parsedArgs = context.parsedArgs();
+      final AspectStorageCodec codec = getCodec(parsedArgs);
+      final String aspectName = parsedArgs.getOrDefault(MigrateAspectStorage.ASPECT_NAME_ARG_NAME, Optional.empty())
+          .orElse(null);
+      final int batchSize = (int) getLong(parsedArgs, MigrateAspectStorage.BATCH_SIZE_ARG_NAME, DEFAULT_BATCH_SIZE);
+      final long batchDelayMs = getLong(parsedArgs, MigrateAspectStorage.BATCH_DELAY_MS_ARG_NAME,
+          DEFAULT_BATCH_DELAY_MS);
+      EbeanAspectV2.PrimaryKey lastKey = getStartKey(parsedArgs);
+
+      context.report().addLine(String.format("Migrating aspect rows to storage format %s, starting %s",
+          codec.getFormat(), lastKey == null ? "from the first row" : "after " + toString(lastKey)));
+
+      int rowsRead = 0;
+      int rowsMigrated = 0;
+      int rowsSkipped = 0;
+      final long startTime = System.currentTimeMillis();
+      while (true) {
+        final List<EbeanAspectV2> rows = after(query(aspectName), lastKey)
+            .orderBy()
+            .asc(EbeanAspectV2.URN_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.ASPECT_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.VERSION_COLUMN)
+            .setMaxRows(batchSize)
+            .findList();
+        if (rows.isEmpty()) {
+          break;
+        }
+
+        for (EbeanAspectV2 row : rows) {
+          if (codec.isInFormat(row.getMetadata()) && codec.isInFormat(row.getSystemMetadata())) {
+            rowsSkipped++;
+            continue;
+          }
+          rowsMigrated += migrateRow(row, codec);
+        }
+
+        rowsRead += rows.size();
+        lastKey = rows.get(rows.size() - 1).getKey();
+        context.report().addLine(String.format(
+            "Processed %s rows up to %s: %s rewritten, %s already in target format. %.2f mins taken.",
+            rowsRead, toString(lastKey), rowsMigrated, rowsSkipped,
+            (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
+
+        try {
+          Thread.sleep(batchDelayMs);
+        } catch (InterruptedException e) {
+          context.report().addLine(String.format("Interrupted, resume with -a %s=%s -a %s=%s -a %s=%s",
+              MigrateAspectStorage.START_URN_ARG_NAME, lastKey.getUrn(),
+              MigrateAspectStorage.START_ASPECT_ARG_NAME, lastKey.getAspect(),
+              MigrateAspectStorage.START_VERSION_ARG_NAME, lastKey.getVersion()));
+          Thread.currentThread().interrupt();
+          return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+        }
+      }
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  private int migrateRow(final EbeanAspectV2 row, final AspectStorageCodec codec) {
+    // Both payloads are compared, so that neither a concurrent write of the aspect nor a concurrent update of its
+    // system metadata alone (e.g. lastObserved of an unchanged aspect) is overwritten with the values read here
+    final boolean hasSystemMetadata = row.getSystemMetadata() != null;
+    final SqlUpdate update = _server.createSqlUpdate(
+            hasSystemMetadata ? UPDATE_SQL_WITH_SYSTEM_METADATA : UPDATE_SQL_WITHOUT_SYSTEM_METADATA)
+        .setParameter("newMetadata", codec.encode(AspectStorageCodec.decode(row.getMetadata())))
+        .setParameter("newSystemMetadata", codec.encode(AspectStorageCodec.decode(row.getSystemMetadata())))
+        .setParameter("urn", row.getKey().getUrn())
+        .setParameter("aspect", row.getKey().getAspect())
+        .setParameter("version", row.getKey().getVersion())
+        .setParameter("oldMetadata", row.getMetadata());
+    if (hasSystemMetadata) {
+      update.setParameter("oldSystemMetadata", row.getSystemMetadata());
+    }
+    return _server.execute(update);
+  }
+
+  /**
+   * Restricts the query to the rows whose key comes after the given key, i.e. (urn, aspect, version) > key
+   */
+  private static ExpressionList<EbeanAspectV2> after(final ExpressionList<EbeanAspectV2> exp,
+      @Nullable final EbeanAspectV2.PrimaryKey key) {
+    if (key == null) {
+      return exp;
+    }
+    return exp.or()
+        .gt(EbeanAspectV2.URN_COLUMN, key.getUrn())
+        .and()
+          .eq(EbeanAspectV2.URN_COLUMN, key.getUrn())
+          .or()
+            .gt(EbeanAspectV2.ASPECT_COLUMN, key.getAspect())
+            .and()
+              .eq(EbeanAspectV2.ASPECT_COLUMN, key.getAspect())
+              .gt(EbeanAspectV2.VERSION_COLUMN, key.getVersion())
+            .endAnd()
+          .endOr()
+        .endAnd()
+        .endOr();
+  }
+
+  /**
+   * Returns the key of the last row migrated by a previous run, after which this run resumes, if given
+   */
+  @Nullable
+  private static EbeanAspectV2.PrimaryKey getStartKey(final Map<String, Optional<String>> parsedArgs) {
+    final Optional<String> urn = parsedArgs.getOrDefault(MigrateAspectStorage.START_URN_ARG_NAME, Optional.empty());
+    if (!urn.isPresent()) {
+      return null;
+    }
+    final String aspect = parsedArgs.getOrDefault(MigrateAspectStorage.START_ASPECT_ARG_NAME, Optional.empty())
+        .orElse("");
+    // without an aspect, the run resumes at the first row of the urn
+    final long version = aspect.isEmpty() ? -1 : getLong(parsedArgs, MigrateAspectStorage.START_VERSION_ARG_NAME, -1);
+    return new EbeanAspectV2.PrimaryKey(urn.get(), aspect, version);
+  }
+
+  private static String toString(final EbeanAspectV2.PrimaryKey key) {
+    return String.format("(%s, %s, %s)", key.getUrn(), key.getAspect(), key.getVersion());
+  }
+
+  private ExpressionList<EbeanAspectV2> query(final String aspectName) {
+    final ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class).where();
+    return aspectName == null ? exp : exp.eq(EbeanAspectV2.ASPECT_COLUMN, aspectName);
+  }
+
+  private AspectStorageCodec getCodec(final Map<String, Optional<String>> parsedArgs) {
+    final Optional<String> format = parsedArgs.getOrDefault(MigrateAspectStorage.FORMAT_ARG_NAME, Optional.empty());
+    return format.map(f -> new AspectStorageCodec(AspectStorageCodec.Format.fromString(f),
+        _defaultCodec.getMinCompressionBytes())).orElse(_defaultCodec);
+  }
+
+  private static long getLong(final Map<String, Optional<String>> parsedArgs, final String key,
+      final long defaultValue) {
+    return parsedArgs.getOrDefault(key, Optional.empty()).map(Long::parseLong).orElse(defaultValue);
+  }
+}
@@ -14,6 +14,7 @@ import com.linkedin.datahub.upgrade.restorebackup.backupreader.EbeanAspectBackup
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.LocalParquetReader;
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.ReaderWrapper;
 import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
@@ -158,7 +159,8 @@ public class RestoreStorageStep implements UpgradeStep {
       final RecordTemplate aspectRecord;
       try {
         aspectRecord =
-            EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
+            EntityUtils.toAspectRecord(entityName, aspectName, AspectStorageCodec.decode(aspect.getMetadata()),
+                _entityRegistry);
       } catch (Exception e) {
         context.report()
             .addLine(String.format("Failed to create aspect record with name %s associated with entity named %s: %s",
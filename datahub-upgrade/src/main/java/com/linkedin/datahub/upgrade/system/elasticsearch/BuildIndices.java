@@ -7,6 +7,7 @@ import com.linkedin.datahub.upgrade.system.elasticsearch.steps.BuildIndicesPostS
 import com.linkedin.datahub.upgrade.system.elasticsearch.steps.BuildIndicesPreStep;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
@@ -26,11 +27,13 @@ public class BuildIndices implements Upgrade {
                         final EntitySearchService entitySearchService, final GraphService graphService,
                         final BaseElasticSearchComponentsFactory.BaseElasticSearchComponents baseElasticSearchComponents,
 
-                        final ConfigurationProvider configurationProvider) {
+                        final ConfigurationProvider configurationProvider,
+                        final DataHubUsageAggregatesService usageAggregatesService) {
 
 
         List<ElasticSearchIndexed> indexedServices = Stream.of(
-                        graphService, entitySearchService, systemMetadataService, timeseriesAspectService)
+                        graphService, entitySearchService, systemMetadataService, timeseriesAspectService,
+                        usageAggregatesService)
                 .filter(service -> service instanceof ElasticSearchIndexed)
                 .map(service -> (ElasticSearchIndexed) service)
                 .collect(Collectors.toList());
@@ -5,6 +5,7 @@ import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.system.elasticsearch.steps.CleanIndicesStep;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
@@ -24,10 +25,12 @@ public class CleanIndices implements Upgrade {
     public CleanIndices(final SystemMetadataService systemMetadataService, final TimeseriesAspectService timeseriesAspectService,
                         final EntitySearchService entitySearchService, final GraphService graphService,
                         final BaseElasticSearchComponentsFactory.BaseElasticSearchComponents baseElasticSearchComponents,
-                        final ConfigurationProvider configurationProvider) {
+                        final ConfigurationProvider configurationProvider,
+                        final DataHubUsageAggregatesService usageAggregatesService) {
 
         List<ElasticSearchIndexed> indexedServices = Stream.of(
-                        graphService, entitySearchService, systemMetadataService, timeseriesAspectService)
+                        graphService, entitySearchService, systemMetadataService, timeseriesAspectService,
+                        usageAggregatesService)
                 .filter(service -> service instanceof ElasticSearchIndexed)
                 .map(service -> (ElasticSearchIndexed) service)
                 .collect(Collectors.toList());
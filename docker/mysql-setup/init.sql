@@ -54,3 +54,15 @@ CREATE TABLE IF NOT EXISTS metadata_index (
  INDEX stringIndex (`urn`,`aspect`,`path`,`stringVal`),
  INDEX doubleIndex (`urn`,`aspect`,`path`,`doubleVal`)
 );
+
+-- create metadata change log outbox table
+create table if not exists metadata_changelog_outbox (
+  id                            bigint not null auto_increment,
+  urn                           varchar(500) not null,
+  payload                       longtext not null,
+  createdon                     datetime(6) not null,
+  claimedby                     varchar(255),
+  claimedon                     datetime(6),
+  constraint pk_metadata_changelog_outbox primary key (id),
+  INDEX outboxUrnIndex (urn)
+);
@@ -35,3 +35,16 @@ INSERT INTO metadata_aspect_v2
 SELECT * FROM temp_metadata_aspect_v2
 WHERE NOT EXISTS (SELECT * from metadata_aspect_v2);
 DROP TABLE temp_metadata_aspect_v2;
+
+-- create metadata change log outbox table
+CREATE TABLE IF NOT EXISTS metadata_changelog_outbox (
+  id                            bigserial not null,
+  urn                           varchar(500) not null,
+  payload                       text not null,
+  createdon                     timestamp not null,
+  claimedby                     varchar(255),
+  claimedon                     timestamp,
+  CONSTRAINT pk_metadata_changelog_outbox PRIMARY KEY (id)
+);
+
+create index IF NOT EXISTS outboxUrnIndex ON metadata_changelog_outbox (urn);
@@ -28,3 +28,15 @@ insert into metadata_aspect_v2 (urn, aspect, version, metadata, createdon, creat
   now(),
   'urn:li:corpuser:__datahub_system'
 );
+
+create table metadata_changelog_outbox (
+  id                            bigserial not null,
+  urn                           varchar(500) not null,
+  payload                       text not null,
+  createdon                     timestamp not null,
+  claimedby                     varchar(255),
+  claimedon                     timestamp,
+  constraint pk_metadata_changelog_outbox primary key (id)
+);
+
+create index outboxUrnIndex ON metadata_changelog_outbox (urn);
@@ -516,6 +516,7 @@ module.exports = {
     // - "docker/neo4j/README",
     // - "docker/postgres/README",
     // - "perf-test/README",
+    // - "metadata-perf/README",
     // "metadata-jobs/README",
     // "docs/how/add-user-data",
     // "docs/_feature-guide-template"
@@ -5,10 +5,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
+import static com.linkedin.metadata.models.registry.template.DataMapPatch.*;
 
 
 public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template<T> {
@@ -87,4 +92,65 @@ public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template
       return mergingArray;
     }
   }
+
+  /**
+   * Same as {@link #arrayFieldToMap(JsonNode, String, List)}, on a tree copied by {@link DataMapPatch}, which is
+   * transformed in place
+   */
+  default Map<String, Object> arrayFieldToMap(Map<String, Object> baseMap, String arrayFieldName, List<String> keyFields) {
+    Object array = baseMap.get(arrayFieldName);
+    Map<String, Object> map = new LinkedHashMap<>();
+    if (array instanceof List) {
+      for (Object element : asList(array)) {
+        if (!keyFields.isEmpty()) {
+          // Creates nested maps of keys with final value being the full value of the element
+          Map<String, Object> keyValue = map;
+          for (String keyField : keyFields) {
+            String key = Objects.requireNonNull(asMap(element).get(keyField), keyField).toString();
+            keyValue = asMap(keyValue.computeIfAbsent(key, ignored -> new LinkedHashMap<>()));
+          }
+          keyValue.putAll(asMap(element));
+        } else {
+          // No key fields, assume String array
+          map.put((String) element, element);
+        }
+      }
+    }
+    baseMap.put(arrayFieldName, map);
+    return baseMap;
+  }
+
+  /**
+   * Same as {@link #transformedMapToArray(JsonNode, String, List)}, on a tree copied by {@link DataMapPatch}, which is
+   * rebased in place
+   */
+  default Map<String, Object> transformedMapToArray(Map<String, Object> transformedMap, String arrayFieldName,
+      List<String> keyFields) {
+    Map<String, Object> map = asMap(transformedMap.get(arrayFieldName));
+    List<Object> array;
+
+    if (!keyFields.isEmpty()) {
+      array = mergeToList(map, keyFields);
+    } else {
+      // No keys, assume pure Strings
+      array = new ArrayList<>(map.values());
+    }
+    transformedMap.put(arrayFieldName, array);
+    return transformedMap;
+  }
+
+  default List<Object> mergeToList(Object node, List<String> keyFields) {
+    List<Object> mergingList = new ArrayList<>();
+    if (keyFields.isEmpty()) {
+      mergingList.add(node);
+    } else {
+      // Values of maps and elements of lists are merged, like the elements of a JsonNode
+      Iterable<Object> elements = node instanceof Map ? asMap(node).values()
+          : node instanceof List ? asList(node) : Collections.emptyList();
+      for (Object element : elements) {
+        mergingList.addAll(mergeToList(element, keyFields.size() > 1 ? keyFields.subList(1, keyFields.size()) : Collections.emptyList()));
+      }
+    }
+    return mergingList;
+  }
 }
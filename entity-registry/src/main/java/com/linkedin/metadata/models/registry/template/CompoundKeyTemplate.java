@@ -7,7 +7,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.Patch;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
 import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
@@ -38,9 +40,48 @@ public abstract class CompoundKeyTemplate<T extends RecordTemplate> implements A
     return transformedNodeClone;
   }
 
+  /**
+   * Same as {@link #populateTopLevelKeys(JsonNode, Patch)}, on the tree copied from the aspect by {@link DataMapPatch}
+   * @param transformed transformed tree to have keys populated in place
+   * @return transformed tree that has top level keys populated
+   */
+  public Map<String, Object> populateTopLevelKeys(Map<String, Object> transformed,
+      List<DataMapPatch.Operation> operations) {
+    for (DataMapPatch.Operation operation : operations) {
+      String[] keys = operation.getPath().split("/");
+      // Skip first as it will always be blank due to path starting with /, skip last key as we only need to populate top level
+      Object parent = transformed;
+      for (int i = 1; i < keys.length - 1; i++) {
+        if (!(parent instanceof Map)) {
+          throw new ClassCastException("Unable to populate key " + keys[i] + " of " + operation.getPath());
+        }
+        Map<String, Object> parentMap = DataMapPatch.asMap(parent);
+        if (parentMap.get(keys[i]) == null) {
+          parentMap.put(keys[i], new LinkedHashMap<>());
+        }
+        parent = parentMap.get(keys[i]);
+      }
+    }
+
+    return transformed;
+  }
+
   @Override
   public T applyPatch(RecordTemplate recordTemplate, Patch jsonPatch)
       throws JsonProcessingException, JsonPatchException {
+    List<DataMapPatch.Operation> operations = DataMapPatch.getOperations(jsonPatch);
+    if (operations == null) {
+      return applyJsonPatch(recordTemplate, jsonPatch);
+    }
+    Map<String, Object> transformed =
+        populateTopLevelKeys(transformFields(DataMapPatch.toTree(getSubtype(recordTemplate).data())), operations);
+    Map<String, Object> patched = DataMapPatch.apply(transformed, operations);
+    return RecordUtils.toRecordTemplate(getTemplateType(), DataMapPatch.toDataMap(rebaseFields(patched)));
+  }
+
+  @Override
+  public T applyJsonPatch(RecordTemplate recordTemplate, Patch jsonPatch)
+      throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     JsonNode patched = jsonPatch.apply(transformed);
     JsonNode postProcessed = rebaseFields(patched);
@@ -0,0 +1,298 @@
+package com.linkedin.metadata.models.registry.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.github.fge.jsonpatch.Patch;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
+
+
+/**
+ * Applies json patches to the data of an aspect directly, without serializing it to JSON and parsing it back.
+ *
+ * The {@link DataMap} of the aspect is copied into a tree of ordered maps and lists, which templates transform to patch
+ * semantics the same way they transform the JSON representation of the aspect. Maps keep their insertion order like
+ * Jackson object nodes do, so that arrays transformed to maps are rebuilt in the same order, and values are normalized
+ * the way a JSON round trip would, so that patched aspects are identical to the ones produced by the JSON engine.
+ *
+ * Only add, remove and replace operations below the root are applied here, other patches are left to the JSON engine.
+ */
+public final class DataMapPatch {
+
+  private static final String OP_ADD = "add";
+  private static final String OP_REMOVE = "remove";
+  private static final String OP_REPLACE = "replace";
+  private static final String LAST_ARRAY_ELEMENT = "-";
+
+  private static final Object MISSING = new Object();
+
+  @Value
+  public static class Operation {
+    String op;
+    // escaped, as written in the patch
+    String path;
+    List<String> tokens;
+    @Nullable
+    JsonNode value;
+  }
+
+  private DataMapPatch() {
+  }
+
+  /**
+   * Returns the operations of a patch, or null if the patch cannot be applied by this engine
+   */
+  @Nullable
+  public static List<Operation> getOperations(@Nonnull Patch patch) {
+    if (!(patch instanceof JsonPatch)) {
+      return null;
+    }
+    final List<Operation> operations = new ArrayList<>();
+    for (JsonNode node : OBJECT_MAPPER.<JsonNode>valueToTree(patch)) {
+      final String op = node.path("op").asText();
+      final String path = node.path("path").asText();
+      if (!(OP_ADD.equals(op) || OP_REMOVE.equals(op) || OP_REPLACE.equals(op)) || path.isEmpty()) {
+        return null;
+      }
+      operations.add(new Operation(op, path, parsePointer(path), node.get("value")));
+    }
+    return operations;
+  }
+
+  /**
+   * Applies operations in order to a tree, following the semantics of json patch
+   *
+   * @param root tree to patch, modified in place
+   * @param operations operations returned by {@link #getOperations(Patch)}
+   * @return the patched tree
+   * @throws JsonPatchException if an operation targets a path that does not exist
+   */
+  @Nonnull
+  public static Map<String, Object> apply(@Nonnull Map<String, Object> root, @Nonnull List<Operation> operations)
+      throws JsonPatchException {
+    for (Operation operation : operations) {
+      final List<String> tokens = operation.getTokens();
+      final Object parent = resolve(root, tokens.subList(0, tokens.size() - 1));
+      final String token = tokens.get(tokens.size() - 1);
+      switch (operation.getOp()) {
+        case OP_ADD:
+          add(parent, token, fromJson(operation.getValue()));
+          break;
+        case OP_REMOVE:
+          if (get(parent, token) == MISSING) {
+            throw new JsonPatchException("no such path in target JSON document: " + operation.getPath());
+          }
+          if (parent instanceof Map) {
+            ((Map<?, ?>) parent).remove(token);
+          } else {
+            ((List<?>) parent).remove(arrayIndexFor(token));
+          }
+          break;
+        case OP_REPLACE:
+          if (get(parent, token) == MISSING) {
+            throw new JsonPatchException("no such path in target JSON document: " + operation.getPath());
+          }
+          if (parent instanceof Map) {
+            asMap(parent).put(token, fromJson(operation.getValue()));
+          } else {
+            asList(parent).set(arrayIndexFor(token), fromJson(operation.getValue()));
+          }
+          break;
+        default:
+          throw new JsonPatchException("unsupported operation: " + operation.getOp());
+      }
+    }
+    return root;
+  }
+
+  private static void add(Object parent, String token, Object value) throws JsonPatchException {
+    if (parent == MISSING) {
+      throw new JsonPatchException("parent of node to add does not exist");
+    }
+    if (parent instanceof Map) {
+      asMap(parent).put(token, value);
+    } else if (parent instanceof List) {
+      final List<Object> list = asList(parent);
+      if (LAST_ARRAY_ELEMENT.equals(token)) {
+        list.add(value);
+        return;
+      }
+      final int index;
+      try {
+        index = Integer.parseInt(token);
+      } catch (NumberFormatException e) {
+        throw new JsonPatchException("reference token is not an array index");
+      }
+      if (index < 0 || index > list.size()) {
+        throw new JsonPatchException("no such index in target array");
+      }
+      list.add(index, value);
+    } else {
+      throw new JsonPatchException("parent is neither an object nor an array");
+    }
+  }
+
+  private static Object resolve(Object node, List<String> tokens) {
+    Object current = node;
+    for (String token : tokens) {
+      current = get(current, token);
+      if (current == MISSING) {
+        break;
+      }
+    }
+    return current;
+  }
+
+  private static Object get(Object node, String token) {
+    if (node instanceof Map) {
+      final Map<?, ?> map = (Map<?, ?>) node;
+      return map.containsKey(token) ? map.get(token) : MISSING;
+    }
+    if (node instanceof List) {
+      final List<?> list = (List<?>) node;
+      final int index = arrayIndexFor(token);
+      return index >= 0 && index < list.size() ? list.get(index) : MISSING;
+    }
+    return MISSING;
+  }
+
+  /**
+   * Index referenced by a token, -1 if the token is not a valid array index
+   */
+  private static int arrayIndexFor(String token) {
+    if (token.isEmpty() || (token.charAt(0) == '0' && token.length() > 1)) {
+      return -1;
+    }
+    for (int i = 0; i < token.length(); i++) {
+      if (!Character.isDigit(token.charAt(i))) {
+        return -1;
+      }
+    }
+    try {
+      return Integer.parseInt(token);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static List<String> parsePointer(String path) {
+    final List<String> tokens = new ArrayList<>();
+    // Skip first as it will always be blank due to path starting with /, keep trailing blank tokens
+    final String[] rawTokens = path.split("/", -1);
+    for (int i = 1; i < rawTokens.length; i++) {
+      tokens.add(rawTokens[i].replace("~1", "/").replace("~0", "~"));
+    }
+    return tokens;
+  }
+
+  /**
+   * Copies a {@link DataMap} into a mutable tree of ordered maps and lists
+   */
+  @Nonnull
+  public static Map<String, Object> toTree(@Nonnull DataMap dataMap) {
+    final Map<String, Object> tree = new LinkedHashMap<>();
+    dataMap.forEach((key, value) -> tree.put(key, toTreeValue(value)));
+    return tree;
+  }
+
+  private static Object toTreeValue(Object value) {
+    if (value instanceof DataMap) {
+      return toTree((DataMap) value);
+    }
+    if (value instanceof DataList) {
+      final List<Object> list = new ArrayList<>(((DataList) value).size());
+      ((DataList) value).forEach(element -> list.add(toTreeValue(element)));
+      return list;
+    }
+    // JSON has a single number type, and parses small numbers as ints and decimals as doubles
+    if (value instanceof Long && (Long) value >= Integer.MIN_VALUE && (Long) value <= Integer.MAX_VALUE) {
+      return ((Long) value).intValue();
+    }
+    if (value instanceof Float) {
+      return Double.valueOf(value.toString());
+    }
+    if (value instanceof ByteString) {
+      return ((ByteString) value).asAvroString();
+    }
+    return value;
+  }
+
+  @Nonnull
+  private static Object fromJson(@Nullable JsonNode node) {
+    if (node == null || node.isNull()) {
+      return Data.NULL;
+    }
+    if (node.isObject()) {
+      final Map<String, Object> map = new LinkedHashMap<>();
+      final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        map.put(field.getKey(), fromJson(field.getValue()));
+      }
+      return map;
+    }
+    if (node.isArray()) {
+      final List<Object> list = new ArrayList<>(node.size());
+      node.forEach(element -> list.add(fromJson(element)));
+      return list;
+    }
+    if (node.isBoolean()) {
+      return node.booleanValue();
+    }
+    if (node.isInt()) {
+      return node.intValue();
+    }
+    if (node.isIntegralNumber()) {
+      return node.longValue();
+    }
+    if (node.isNumber()) {
+      return Double.valueOf(node.asText());
+    }
+    return node.asText();
+  }
+
+  /**
+   * Copies a patched tree back into a {@link DataMap}
+   */
+  @Nonnull
+  public static DataMap toDataMap(@Nonnull Map<String, Object> tree) {
+    final DataMap dataMap = new DataMap();
+    tree.forEach((key, value) -> dataMap.put(key, toDataValue(value)));
+    return dataMap;
+  }
+
+  private static Object toDataValue(Object value) {
+    if (value instanceof Map) {
+      return toDataMap(asMap(value));
+    }
+    if (value instanceof List) {
+      final DataList dataList = new DataList();
+      asList(value).forEach(element -> dataList.add(toDataValue(element)));
+      return dataList;
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static Map<String, Object> asMap(Object node) {
+    return (Map<String, Object>) node;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static List<Object> asList(Object node) {
+    return (List<Object>) node;
+  }
+}
@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.Patch;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
@@ -43,6 +45,26 @@ public interface Template<T extends RecordTemplate> {
    */
   default T applyPatch(RecordTemplate recordTemplate, Patch jsonPatch)
       throws JsonProcessingException, JsonPatchException {
+    List<DataMapPatch.Operation> operations = DataMapPatch.getOperations(jsonPatch);
+    if (operations == null) {
+      return applyJsonPatch(recordTemplate, jsonPatch);
+    }
+    Map<String, Object> transformed = transformFields(DataMapPatch.toTree(getSubtype(recordTemplate).data()));
+    Map<String, Object> patched = DataMapPatch.apply(transformed, operations);
+    return RecordUtils.toRecordTemplate(getTemplateType(), DataMapPatch.toDataMap(rebaseFields(patched)));
+  }
+
+  /**
+   * Applies a specified {@link Patch} to the JSON representation of an aspect, for patches {@link DataMapPatch} does
+   * not support
+   * @param recordTemplate original {@link RecordTemplate} to be patched
+   * @param jsonPatch patch to apply
+   * @return patched value
+   * @throws JsonProcessingException if there is an issue converting the input to JSON
+   * @throws JsonPatchException if there is an issue applying the patch
+   */
+  default T applyJsonPatch(RecordTemplate recordTemplate, Patch jsonPatch)
+      throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = preprocessTemplate(recordTemplate);
     JsonNode patched = jsonPatch.apply(transformed);
     JsonNode postProcessed = rebaseFields(patched);
@@ -78,6 +100,19 @@ public interface Template<T extends RecordTemplate> {
   @Nonnull
   JsonNode rebaseFields(JsonNode patched);
 
+  /**
+   * Same as {@link #transformFields(JsonNode)}, on the tree copied from the aspect by {@link DataMapPatch}
+   * @param baseMap the base tree, transformed in place
+   * @return transformed tree
+   */
+  @Nonnull
+  Map<String, Object> transformFields(Map<String, Object> baseMap);
 
-
+  /**
+   * Same as {@link #rebaseFields(JsonNode)}, on the patched tree before it is copied back to a DataMap
+   * @param patched the patched tree in custom format per aspect spec, rebased in place
+   * @return A tree that has been retranslated from patch semantics
+   */
+  @Nonnull
+  Map<String, Object> rebaseFields(Map<String, Object> patched);
 }
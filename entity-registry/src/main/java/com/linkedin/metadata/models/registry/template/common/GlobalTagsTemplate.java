@@ -6,6 +6,7 @@ import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 
@@ -47,4 +48,16 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
   public JsonNode rebaseFields(JsonNode patched) {
     return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
   }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    return arrayFieldToMap(baseMap, TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME));
+  }
 }
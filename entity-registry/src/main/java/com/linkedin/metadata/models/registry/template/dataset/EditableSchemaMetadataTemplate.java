@@ -11,9 +11,11 @@ import com.linkedin.metadata.models.registry.template.common.GlossaryTermsTempla
 import com.linkedin.schema.EditableSchemaFieldInfoArray;
 import com.linkedin.schema.EditableSchemaMetadata;
 import java.util.Collections;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.models.registry.template.DataMapPatch.*;
 
 
 public class EditableSchemaMetadataTemplate extends CompoundKeyTemplate<EditableSchemaMetadata> {
@@ -93,4 +95,52 @@ public class EditableSchemaMetadataTemplate extends CompoundKeyTemplate<Editable
 
     return rebasedNode;
   }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    Map<String, Object> transformedMap = arrayFieldToMap(baseMap, EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME,
+        Collections.singletonList(FIELDPATH_FIELD_NAME));
+    // Create temporary templates for array subfields
+    GlobalTagsTemplate globalTagsTemplate = new GlobalTagsTemplate();
+    GlossaryTermsTemplate glossaryTermsTemplate = new GlossaryTermsTemplate();
+
+    // Apply template transforms to array subfields
+    for (Object value : asMap(transformedMap.get(EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME)).values()) {
+      Map<String, Object> node = asMap(value);
+      Object globalTags = node.get(GLOBAL_TAGS_FIELD_NAME);
+      Object glossaryTerms = node.get(GLOSSARY_TERMS_FIELD_NAME);
+      if (globalTags != null) {
+        node.put(GLOBAL_TAGS_FIELD_NAME, globalTagsTemplate.transformFields(asMap(globalTags)));
+      }
+      if (glossaryTerms != null) {
+        node.put(GLOSSARY_TERMS_FIELD_NAME, glossaryTermsTemplate.transformFields(asMap(glossaryTerms)));
+      }
+    }
+    return transformedMap;
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    Map<String, Object> rebasedMap = transformedMapToArray(patched, EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME,
+        Collections.singletonList(FIELDPATH_FIELD_NAME));
+    // Create temporary templates for array subfields
+    GlobalTagsTemplate globalTagsTemplate = new GlobalTagsTemplate();
+    GlossaryTermsTemplate glossaryTermsTemplate = new GlossaryTermsTemplate();
+
+    // Apply template rebases to array subfields
+    for (Object value : asList(rebasedMap.get(EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME))) {
+      Map<String, Object> node = asMap(value);
+      Object globalTags = node.get(GLOBAL_TAGS_FIELD_NAME);
+      Object glossaryTerms = node.get(GLOSSARY_TERMS_FIELD_NAME);
+      if (globalTags != null) {
+        node.put(GLOBAL_TAGS_FIELD_NAME, globalTagsTemplate.rebaseFields(asMap(globalTags)));
+      }
+      if (glossaryTerms != null) {
+        node.put(GLOSSARY_TERMS_FIELD_NAME, glossaryTermsTemplate.rebaseFields(asMap(glossaryTerms)));
+      }
+    }
+    return rebasedMap;
+  }
 }
@@ -7,6 +7,7 @@ import com.linkedin.dataset.UpstreamArray;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 
@@ -50,4 +51,16 @@ public class UpstreamLineageTemplate implements ArrayMergingTemplate<UpstreamLin
   public JsonNode rebaseFields(JsonNode patched) {
     return transformedMapToArray(patched, UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME));
   }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    return arrayFieldToMap(baseMap, UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME));
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    return transformedMapToArray(patched, UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME));
+  }
 }
@@ -0,0 +1,83 @@
+package com.linkedin.metadata.models.registry.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Ownership;
+import com.linkedin.metadata.models.registry.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.models.registry.template.common.OwnershipTemplate;
+import com.linkedin.metadata.models.registry.template.dataset.EditableSchemaMetadataTemplate;
+import com.linkedin.schema.EditableSchemaMetadata;
+import java.util.Arrays;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
+import static org.testng.Assert.*;
+
+
+public class DataMapPatchTest {
+
+  private static JsonPatch patch(String json) throws Exception {
+    return JsonPatch.fromJson(OBJECT_MAPPER.readTree(json));
+  }
+
+  @Test
+  public void testGlobalTagsPatchMatchesJsonEngine() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    GlobalTags base = template.applyJsonPatch(template.getDefault(), patch("["
+        + "{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:b\", \"value\": {\"tag\": \"urn:li:tag:b\"}},"
+        + "{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:a\", \"value\": {\"tag\": \"urn:li:tag:a\", \"context\": \"x\"}}]"));
+
+    JsonPatch jsonPatch = patch("["
+        + "{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:c\", \"value\": {\"tag\": \"urn:li:tag:c\"}},"
+        + "{\"op\": \"remove\", \"path\": \"/tags/urn:li:tag:b\"},"
+        + "{\"op\": \"replace\", \"path\": \"/tags/urn:li:tag:a/context\", \"value\": \"y\"}]");
+
+    GlobalTags patched = template.applyPatch(base, jsonPatch);
+    assertEquals(patched, template.applyJsonPatch(base, jsonPatch));
+    assertEquals(patched.getTags().size(), 2);
+    assertEquals(patched.getTags().get(0).getTag().toString(), "urn:li:tag:a");
+    assertEquals(patched.getTags().get(0).getContext(), "y");
+    assertEquals(patched.getTags().get(1).getTag().toString(), "urn:li:tag:c");
+  }
+
+  @Test
+  public void testCompoundKeyPatchMatchesJsonEngine() throws Exception {
+    OwnershipTemplate template = new OwnershipTemplate();
+    Ownership base = template.getDefault();
+    JsonPatch jsonPatch = patch("["
+        + "{\"op\": \"add\", \"path\": \"/owners/urn:li:corpuser:a/DATAOWNER\","
+        + " \"value\": {\"owner\": \"urn:li:corpuser:a\", \"type\": \"DATAOWNER\"}},"
+        + "{\"op\": \"add\", \"path\": \"/owners/urn:li:corpuser:b/TECHNICAL_OWNER\","
+        + " \"value\": {\"owner\": \"urn:li:corpuser:b\", \"type\": \"TECHNICAL_OWNER\"}}]");
+
+    Ownership patched = template.applyPatch(base, jsonPatch);
+    assertEquals(patched, template.applyJsonPatch(base, jsonPatch));
+    assertEquals(patched.getOwners().size(), 2);
+    assertEquals(patched.getLastModified(), base.getLastModified());
+
+    EditableSchemaMetadataTemplate schemaTemplate = new EditableSchemaMetadataTemplate();
+    EditableSchemaMetadata schemaBase = schemaTemplate.getDefault();
+    JsonPatch schemaPatch = patch("["
+        + "{\"op\": \"add\", \"path\": \"/editableSchemaFieldInfo/field_a/globalTags/tags/urn:li:tag:a\","
+        + " \"value\": {\"tag\": \"urn:li:tag:a\"}}]");
+    EditableSchemaMetadata schemaPatched = schemaTemplate.applyPatch(schemaBase, schemaPatch);
+    assertEquals(schemaPatched, schemaTemplate.applyJsonPatch(schemaBase, schemaPatch));
+  }
+
+  @Test
+  public void testUnsupportedPatchFallsBackToJsonEngine() throws Exception {
+    assertNull(DataMapPatch.getOperations(patch("[{\"op\": \"test\", \"path\": \"/tags\", \"value\": []}]")));
+    assertNull(DataMapPatch.getOperations(patch("[{\"op\": \"replace\", \"path\": \"\", \"value\": {}}]")));
+    JsonNode ops = OBJECT_MAPPER.readTree("[{\"op\": \"remove\", \"path\": \"/a~1b/c~0d\"}]");
+    assertEquals(DataMapPatch.getOperations(JsonPatch.fromJson(ops)).get(0).getTokens(),
+        Arrays.asList("a/b", "c~d"));
+  }
+
+  @Test(expectedExceptions = JsonPatchException.class)
+  public void testRemoveMissingPathFails() throws Exception {
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    template.applyPatch(template.getDefault(), patch("[{\"op\": \"remove\", \"path\": \"/tags/urn:li:tag:a\"}]"));
+  }
+}
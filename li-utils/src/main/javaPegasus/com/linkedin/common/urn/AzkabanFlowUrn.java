@@ -10,6 +10,8 @@ public final class AzkabanFlowUrn extends Urn {
 
   public static final String ENTITY_TYPE = "azkabanFlow";
 
+  private static final UrnCache<AzkabanFlowUrn> CACHE = new UrnCache<>();
+
   private final String _cluster;
   private final String _project;
   private final String _flowId;
@@ -34,7 +36,7 @@ public final class AzkabanFlowUrn extends Urn {
   }
 
   public static AzkabanFlowUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static AzkabanFlowUrn createFromUrn(Urn urn) throws URISyntaxException {
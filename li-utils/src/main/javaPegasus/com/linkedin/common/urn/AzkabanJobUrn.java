@@ -10,6 +10,8 @@ public final class AzkabanJobUrn extends Urn {
 
   public static final String ENTITY_TYPE = "azkabanJob";
 
+  private static final UrnCache<AzkabanJobUrn> CACHE = new UrnCache<>();
+
   private final AzkabanFlowUrn _flow;
   private final String _jobId;
 
@@ -28,7 +30,7 @@ public final class AzkabanJobUrn extends Urn {
   }
 
   public static AzkabanJobUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static AzkabanJobUrn createFromUrn(Urn urn) throws URISyntaxException {
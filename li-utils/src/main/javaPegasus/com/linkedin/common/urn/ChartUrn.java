@@ -10,6 +10,8 @@ public final class ChartUrn extends Urn {
 
   public static final String ENTITY_TYPE = "chart";
 
+  private static final UrnCache<ChartUrn> CACHE = new UrnCache<>();
+
   private final String _dashboardTool;
   private final String _chartId;
 
@@ -28,7 +30,7 @@ public final class ChartUrn extends Urn {
   }
 
   public static ChartUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static ChartUrn createFromUrn(Urn urn) throws URISyntaxException {
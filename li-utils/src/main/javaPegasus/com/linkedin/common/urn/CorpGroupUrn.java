@@ -10,6 +10,8 @@ public final class CorpGroupUrn extends Urn {
 
   public static final String ENTITY_TYPE = "corpGroup";
 
+  private static final UrnCache<CorpGroupUrn> CACHE = new UrnCache<>();
+
   private final String _groupName;
 
   public CorpGroupUrn(String groupName) {
@@ -27,7 +29,7 @@ public final class CorpGroupUrn extends Urn {
   }
 
   public static CorpGroupUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   private static CorpGroupUrn decodeUrn(String groupName) throws Exception {
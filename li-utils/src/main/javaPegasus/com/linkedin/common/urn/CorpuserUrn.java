@@ -12,6 +12,8 @@ public final class CorpuserUrn extends Urn {
 
   public static final String ENTITY_TYPE = "corpuser";
 
+  private static final UrnCache<CorpuserUrn> CACHE = new UrnCache<>();
+
   private final String _username;
 
   public CorpuserUrn(String username) {
@@ -24,7 +26,7 @@ public final class CorpuserUrn extends Urn {
   }
 
   public static CorpuserUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static CorpuserUrn createFromUrn(Urn urn) throws URISyntaxException {
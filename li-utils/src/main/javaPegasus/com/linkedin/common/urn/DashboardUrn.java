@@ -10,6 +10,8 @@ public final class DashboardUrn extends Urn {
 
   public static final String ENTITY_TYPE = "dashboard";
 
+  private static final UrnCache<DashboardUrn> CACHE = new UrnCache<>();
+
   private final String _dashboardTool;
   private final String _dashboardId;
 
@@ -28,7 +30,7 @@ public final class DashboardUrn extends Urn {
   }
 
   public static DashboardUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DashboardUrn createFromUrn(Urn urn) throws URISyntaxException {
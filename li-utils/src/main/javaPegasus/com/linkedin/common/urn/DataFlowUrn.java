@@ -10,6 +10,8 @@ public final class DataFlowUrn extends Urn {
 
   public static final String ENTITY_TYPE = "dataFlow";
 
+  private static final UrnCache<DataFlowUrn> CACHE = new UrnCache<>();
+
   private final String _orchestrator;
   private final String _flowId;
   private final String _cluster;
@@ -34,7 +36,7 @@ public final class DataFlowUrn extends Urn {
   }
 
   public static DataFlowUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DataFlowUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -10,6 +10,8 @@ public final class DataJobUrn extends Urn {
 
   public static final String ENTITY_TYPE = "dataJob";
 
+  private static final UrnCache<DataJobUrn> CACHE = new UrnCache<>();
+
   private final DataFlowUrn _flow;
   private final String _jobId;
 
@@ -28,7 +30,7 @@ public final class DataJobUrn extends Urn {
   }
 
   public static DataJobUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DataJobUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -11,6 +11,8 @@ public final class DataPlatformUrn extends Urn {
 
   public static final String ENTITY_TYPE = "dataPlatform";
 
+  private static final UrnCache<DataPlatformUrn> CACHE = new UrnCache<>();
+
   private final String _platformName;
 
   public DataPlatformUrn(String platformName) {
@@ -23,7 +25,7 @@ public final class DataPlatformUrn extends Urn {
   }
 
   public static DataPlatformUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DataPlatformUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -13,6 +13,8 @@ import static com.linkedin.common.urn.UrnUtils.toFabricType;
 public class DataProcessUrn extends Urn {
   public static final String ENTITY_TYPE = "dataProcess";
 
+  private static final UrnCache<DataProcessUrn> CACHE = new UrnCache<>();
+
   private final String _name;
   private final String _orchestrator;
   private final FabricType _origin;
@@ -37,7 +39,7 @@ public class DataProcessUrn extends Urn {
   }
 
   public static DataProcessUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DataProcessUrn deserialize(String rawUrn) throws URISyntaxException {
@@ -17,6 +17,8 @@ public class DatasetFieldUrn extends Urn {
   // uniquely identifies urn's key type
   public static final String ENTITY_TYPE = "datasetField";
 
+  private static final UrnCache<DatasetFieldUrn> CACHE = new UrnCache<>();
+
   /**
    * Dataset urn of the datasetFieldUrn
    */
@@ -68,7 +70,7 @@ public class DatasetFieldUrn extends Urn {
   }
 
   public static DatasetFieldUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DatasetFieldUrn deserialize(String rawUrn) throws URISyntaxException {
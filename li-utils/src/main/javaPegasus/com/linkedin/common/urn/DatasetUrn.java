@@ -11,6 +11,8 @@ public final class DatasetUrn extends Urn {
 
   public static final String ENTITY_TYPE = "dataset";
 
+  private static final UrnCache<DatasetUrn> CACHE = new UrnCache<>();
+
   private final DataPlatformUrn _platform;
   private final String _datasetName;
   private final FabricType _origin;
@@ -35,7 +37,7 @@ public final class DatasetUrn extends Urn {
   }
 
   public static DatasetUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DatasetUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -10,6 +10,8 @@ public final class FabricUrn extends Urn {
 
   public static final String ENTITY_TYPE = "fabric";
 
+  private static final UrnCache<FabricUrn> CACHE = new UrnCache<>();
+
   private final String _name;
 
   public FabricUrn(String name) {
@@ -22,7 +24,7 @@ public final class FabricUrn extends Urn {
   }
 
   public static FabricUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static FabricUrn createFromUrn(Urn urn) throws URISyntaxException {
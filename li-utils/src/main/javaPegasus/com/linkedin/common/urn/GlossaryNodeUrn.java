@@ -11,6 +11,8 @@ public final class GlossaryNodeUrn extends Urn {
 
     public static final String ENTITY_TYPE = "glossaryNode";
 
+    private static final UrnCache<GlossaryNodeUrn> CACHE = new UrnCache<>();
+
     private final String _name;
 
     public GlossaryNodeUrn(String name) {
@@ -23,7 +25,7 @@ public final class GlossaryNodeUrn extends Urn {
     }
 
     public static GlossaryNodeUrn createFromString(String rawUrn) throws URISyntaxException {
-        return createFromUrn(Urn.createFromString(rawUrn));
+        return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
     }
 
     public static GlossaryNodeUrn createFromUrn(Urn urn) throws URISyntaxException {
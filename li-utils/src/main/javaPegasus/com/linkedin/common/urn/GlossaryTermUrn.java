@@ -14,6 +14,8 @@ public final class GlossaryTermUrn extends Urn {
 
   public static final String ENTITY_TYPE = "glossaryTerm";
 
+  private static final UrnCache<GlossaryTermUrn> CACHE = new UrnCache<>();
+
   private final String _name;
 
   public GlossaryTermUrn(String name) {
@@ -26,7 +28,7 @@ public final class GlossaryTermUrn extends Urn {
   }
 
   public static GlossaryTermUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static GlossaryTermUrn createFromUrn(Urn urn) throws URISyntaxException {
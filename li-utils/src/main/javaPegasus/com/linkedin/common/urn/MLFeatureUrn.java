@@ -10,6 +10,8 @@ public final class MLFeatureUrn extends Urn {
 
   public static final String ENTITY_TYPE = "mlFeature";
 
+  private static final UrnCache<MLFeatureUrn> CACHE = new UrnCache<>();
+
   private final String _mlFeatureNamespace;
 
   private final String _mlFeatureName;
@@ -29,7 +31,7 @@ public final class MLFeatureUrn extends Urn {
   }
 
   public static MLFeatureUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static MLFeatureUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -14,6 +14,8 @@ public final class MLModelUrn extends Urn {
 
   public static final String ENTITY_TYPE = "mlModel";
 
+  private static final UrnCache<MLModelUrn> CACHE = new UrnCache<>();
+
   private final DataPlatformUrn _platform;
   private final String _mlModelName;
   private final FabricType _origin;
@@ -38,7 +40,7 @@ public final class MLModelUrn extends Urn {
   }
 
   public static MLModelUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static MLModelUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -9,6 +9,8 @@ import java.net.URISyntaxException;
 public class NotebookUrn extends Urn {
   public static final String ENTITY_TYPE = "notebook";
 
+  private static final UrnCache<NotebookUrn> CACHE = new UrnCache<>();
+
   private final String _notebookTool;
   private final String _notebookId;
 
@@ -27,7 +29,7 @@ public class NotebookUrn extends Urn {
   }
 
   public static NotebookUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static NotebookUrn createFromUrn(Urn urn) throws URISyntaxException {
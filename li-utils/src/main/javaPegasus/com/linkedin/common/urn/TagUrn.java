@@ -11,6 +11,8 @@ public final class TagUrn extends Urn {
 
     public static final String ENTITY_TYPE = "tag";
 
+    private static final UrnCache<TagUrn> CACHE = new UrnCache<>();
+
     private final String _name;
 
     public TagUrn(String name) {
@@ -23,7 +25,7 @@ public final class TagUrn extends Urn {
     }
 
     public static TagUrn createFromString(String rawUrn) throws URISyntaxException {
-        return createFromUrn(Urn.createFromString(rawUrn));
+        return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
     }
 
     public static TagUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -11,6 +11,8 @@ public final class TestEntityUrn extends Urn {
 
     public static final String ENTITY_TYPE = "testEntity";
 
+    private static final UrnCache<TestEntityUrn> CACHE = new UrnCache<>();
+
     private final String _keyPart1;
     private final String _keyPart2;
     private final String _keyPart3;
@@ -23,7 +25,7 @@ public final class TestEntityUrn extends Urn {
     }
 
     public static TestEntityUrn createFromString(String rawUrn) throws URISyntaxException {
-        return createFromUrn(Urn.createFromString(rawUrn));
+        return CACHE.getOrParse(rawUrn, raw -> createFromUrn(new Urn(raw)));
     }
 
     public static TestEntityUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -49,6 +49,9 @@ public class Urn {
   @Nullable
   private String _cachedStringUrn;
 
+  // Cached like String#hashCode, 0 until computed. Shared urns are hashed again and again as map keys.
+  private int _cachedHashCode;
+
   static {
     Custom.registerCoercer(new UrnCoercer(), Urn.class);
   }
@@ -67,6 +70,11 @@ public class Urn {
    */
   private static final Map<String, String> ENTITY_TYPE_INTERNER = new ConcurrentHashMap<>();
 
+  /**
+   * Urns parsed by {@link #createFromString(String)}, shared by all callers parsing the same string.
+   */
+  private static final UrnCache<Urn> CACHE = new UrnCache<>();
+
   /**
    * Create a Urn given its raw String representation.
    * @param rawUrn - the String representation of a Urn.
@@ -223,12 +231,13 @@ public class Urn {
   }
 
   /**
-   * Create a Urn given its raw String representation.
+   * Create a Urn given its raw String representation. Urns are cached, so the returned Urn may be shared with other
+   * callers parsing the same String.
    * @param rawUrn - the String representation of a Urn.
    * @throws URISyntaxException - if the String is not a valid Urn.
    */
   public static Urn createFromString(String rawUrn) throws URISyntaxException {
-    return new Urn(rawUrn);
+    return CACHE.getOrParse(rawUrn, Urn::new);
   }
 
   /**
@@ -238,7 +247,7 @@ public class Urn {
    */
   public static Urn createFromCharSequence(CharSequence rawUrn) throws URISyntaxException {
     ArgumentUtil.notNull(rawUrn, "rawUrn");
-    return new Urn(rawUrn.toString());
+    return createFromString(rawUrn.toString());
   }
 
   /**
@@ -327,10 +336,17 @@ public class Urn {
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (obj == null || !Urn.class.isAssignableFrom(obj.getClass())) {
       return false;
     }
     Urn other = (Urn) obj;
+    // Urns parsed from the same string are equal, which avoids comparing keys part by part
+    if (_cachedStringUrn != null && _cachedStringUrn.equals(other._cachedStringUrn)) {
+      return true;
+    }
     return _entityType.equals(other._entityType)
         && _entityKey.equals(other._entityKey)
         && _namespace.equals(other._namespace);
@@ -338,9 +354,13 @@ public class Urn {
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = _entityType.hashCode();
-    result = prime * result + _entityKey.hashCode();
+    int result = _cachedHashCode;
+    if (result == 0) {
+      final int prime = 31;
+      result = _entityType.hashCode();
+      result = prime * result + _entityKey.hashCode();
+      _cachedHashCode = result;
+    }
     return result;
   }
 
@@ -0,0 +1,153 @@
+package com.linkedin.common.urn;
+
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Bounded cache of parsed urns of one type, keyed by their string representation.
+ *
+ * <p>Urns are immutable, so an urn parsed once can be shared by every caller parsing the same string, which saves
+ * tokenizing the string and allocating the urn and its {@link TupleKey} again. The same urns recur constantly in
+ * events, search hits, graph edges and request paths, so the cache keeps recently seen urns in two generations:
+ * urns are added to the current generation, and when it is full it becomes the previous generation and the old
+ * previous generation is dropped. Urns of the previous generation seen again are moved to the current one, so
+ * frequently seen urns survive while rarely seen ones age out, and a cache never holds more than its maximum size.
+ *
+ * <p>The maximum size of each cache is read from the URN_CACHE_MAX_SIZE environment variable, 0 disables caching.
+ *
+ * @param <T> type of the cached urns
+ */
+public final class UrnCache<T extends Urn> {
+
+  /**
+   * Parses a raw urn string, the same way the factory using the cache does.
+   */
+  @FunctionalInterface
+  public interface UrnParser<T extends Urn> {
+    T parse(String rawUrn) throws URISyntaxException;
+  }
+
+  private static final String MAX_SIZE_ENV = "URN_CACHE_MAX_SIZE";
+  private static final int DEFAULT_MAX_SIZE = 100000;
+
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static final List<UrnCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+  private final int _generationSize;
+  private volatile Map<String, T> _current = new ConcurrentHashMap<>();
+  private volatile Map<String, T> _previous = Collections.emptyMap();
+
+  public UrnCache() {
+    this(getMaxSize());
+  }
+
+  UrnCache(int maxSize) {
+    _generationSize = maxSize / 2;
+    CACHES.add(this);
+  }
+
+  /**
+   * Returns the urn cached for a string, parsing and caching it if it is not cached yet. Strings that fail to parse
+   * are not cached.
+   *
+   * @param rawUrn the String representation of a Urn
+   * @param parser parses the urn on a cache miss
+   * @return a shared urn equal to the one the parser would return
+   * @throws URISyntaxException if the String is not a valid Urn
+   */
+  public T getOrParse(String rawUrn, UrnParser<T> parser) throws URISyntaxException {
+    if (rawUrn == null || _generationSize <= 0) {
+      return parser.parse(rawUrn);
+    }
+
+    T urn = _current.get(rawUrn);
+    if (urn == null) {
+      urn = _previous.get(rawUrn);
+      if (urn != null) {
+        put(rawUrn, urn);
+      }
+    }
+    if (urn != null) {
+      HITS.increment();
+      return urn;
+    }
+
+    MISSES.increment();
+    urn = parser.parse(rawUrn);
+    put(rawUrn, urn);
+    return urn;
+  }
+
+  /**
+   * Number of urns held by this cache
+   */
+  public int size() {
+    return _current.size() + _previous.size();
+  }
+
+  /**
+   * Drops all urns held by this cache
+   */
+  public synchronized void clear() {
+    _previous = Collections.emptyMap();
+    _current = new ConcurrentHashMap<>();
+  }
+
+  private void put(String rawUrn, T urn) {
+    final Map<String, T> current = _current;
+    current.put(rawUrn, urn);
+    if (current.size() >= _generationSize) {
+      synchronized (this) {
+        // Only the first thread to see the generation full rotates it
+        if (_current == current) {
+          _previous = current;
+          _current = new ConcurrentHashMap<>();
+        }
+      }
+    }
+  }
+
+  /**
+   * Number of lookups served from any urn cache since startup
+   */
+  public static long getHitCount() {
+    return HITS.sum();
+  }
+
+  /**
+   * Number of lookups that had to parse their urn since startup
+   */
+  public static long getMissCount() {
+    return MISSES.sum();
+  }
+
+  /**
+   * Number of urns held by all urn caches
+   */
+  public static long getTotalSize() {
+    long size = 0;
+    for (UrnCache<?> cache : CACHES) {
+      size += cache.size();
+    }
+    return size;
+  }
+
+  private static int getMaxSize() {
+    final String maxSize = System.getenv(MAX_SIZE_ENV);
+    if (maxSize == null || maxSize.isEmpty()) {
+      return DEFAULT_MAX_SIZE;
+    }
+    try {
+      return Integer.parseInt(maxSize.trim());
+    } catch (NumberFormatException e) {
+      return DEFAULT_MAX_SIZE;
+    }
+  }
+}
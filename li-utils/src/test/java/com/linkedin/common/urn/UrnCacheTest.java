@@ -0,0 +1,57 @@
+package com.linkedin.common.urn;
+
+import java.net.URISyntaxException;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+
+public class UrnCacheTest {
+
+  private static final String DATASET_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.fooTable,PROD)";
+
+  @Test
+  public void testFactoriesReturnSharedUrns() throws URISyntaxException {
+    final Urn urn = Urn.createFromString(DATASET_URN);
+    Assertions.assertThat(Urn.createFromString(DATASET_URN)).isSameAs(urn);
+    Assertions.assertThat(urn).isEqualTo(new Urn(DATASET_URN));
+    Assertions.assertThat(urn.getClass()).isEqualTo(Urn.class);
+
+    final DatasetUrn datasetUrn = DatasetUrn.createFromString(DATASET_URN);
+    Assertions.assertThat(DatasetUrn.createFromString(DATASET_URN)).isSameAs(datasetUrn);
+    Assertions.assertThat(datasetUrn.getDatasetNameEntity()).isEqualTo("fooDb.fooTable");
+    Assertions.assertThat(datasetUrn).isEqualTo(urn);
+    Assertions.assertThat(datasetUrn.hashCode()).isEqualTo(urn.hashCode());
+  }
+
+  @Test
+  public void testInvalidUrnsAreNotCached() {
+    final UrnCache<Urn> cache = new UrnCache<>(10);
+    Assertions.assertThatThrownBy(() -> cache.getOrParse("urn:li:", Urn::new)).isInstanceOf(URISyntaxException.class);
+    Assertions.assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testCacheIsBoundedAndKeepsRecurringUrns() throws URISyntaxException {
+    final UrnCache<Urn> cache = new UrnCache<>(10);
+    final Urn recurring = cache.getOrParse("urn:li:corpuser:recurring", Urn::new);
+    final long hits = UrnCache.getHitCount();
+
+    for (int i = 0; i < 100; i++) {
+      cache.getOrParse("urn:li:corpuser:user" + i, Urn::new);
+      Assertions.assertThat(cache.getOrParse("urn:li:corpuser:recurring", Urn::new)).isSameAs(recurring);
+      Assertions.assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+    Assertions.assertThat(UrnCache.getHitCount() - hits).isGreaterThanOrEqualTo(100);
+
+    final Urn evicted = cache.getOrParse("urn:li:corpuser:user0", Urn::new);
+    Assertions.assertThat(cache.getOrParse("urn:li:corpuser:user0", Urn::new)).isSameAs(evicted);
+  }
+
+  @Test
+  public void testDisabledCacheParsesEveryTime() throws URISyntaxException {
+    final UrnCache<Urn> cache = new UrnCache<>(0);
+    final Urn urn = cache.getOrParse(DATASET_URN, Urn::new);
+    Assertions.assertThat(cache.getOrParse(DATASET_URN, Urn::new)).isNotSameAs(urn).isEqualTo(urn);
+    Assertions.assertThat(cache.size()).isEqualTo(0);
+  }
+}
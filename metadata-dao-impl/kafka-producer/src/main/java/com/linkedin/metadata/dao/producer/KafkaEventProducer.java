@@ -20,6 +20,7 @@ import com.linkedin.mxe.Topics;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -95,7 +96,7 @@ public class KafkaEventProducer implements EventProducer {
 
   @Override
   @WithSpan
-  public void produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull AspectSpec aspectSpec,
+  public Future<?> produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
     GenericRecord record;
     try {
@@ -112,7 +113,7 @@ public class KafkaEventProducer implements EventProducer {
     if (aspectSpec.isTimeseries()) {
       topic = _topicConvention.getMetadataChangeLogTimeseriesTopicName();
     }
-    _producer.send(new ProducerRecord(topic, urn.toString(), record),
+    return _producer.send(new ProducerRecord(topic, urn.toString(), record),
             _kafkaHealthChecker.getKafkaCallBack("MCL", urn.toString()));
   }
 
@@ -138,7 +139,7 @@ public class KafkaEventProducer implements EventProducer {
   }
 
   @Override
-  public void producePlatformEvent(@Nonnull String name, @Nullable String key, @Nonnull PlatformEvent event) {
+  public Future<?> producePlatformEvent(@Nonnull String name, @Nullable String key, @Nonnull PlatformEvent event) {
     GenericRecord record;
     try {
       log.debug(String.format("Converting Pegasus Event to Avro Event urn %s\nEvent: %s",
@@ -151,7 +152,7 @@ public class KafkaEventProducer implements EventProducer {
     }
 
     final String topic = _topicConvention.getPlatformEventTopicName();
-    _producer.send(new ProducerRecord(topic, key == null ? name : key, record),
+    return _producer.send(new ProducerRecord(topic, key == null ? name : key, record),
             _kafkaHealthChecker.getKafkaCallBack("Platform Event", name));
   }
 
@@ -171,6 +172,11 @@ public class KafkaEventProducer implements EventProducer {
             .getKafkaCallBack("History Event", "Event Version: " + event.getVersion()));
   }
 
+  @Override
+  public void flush() {
+    _producer.flush();
+  }
+
   @VisibleForTesting
   static boolean isValidAspectSpecificTopic(@Nonnull String topic) {
     return Arrays.stream(Topics.class.getFields()).anyMatch(field -> field.getName().equals(topic));
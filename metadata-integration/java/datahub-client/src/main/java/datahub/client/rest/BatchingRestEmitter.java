@@ -0,0 +1,271 @@
+package datahub.client.rest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.mxe.MetadataChangeProposal;
+
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.EventFormatter;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.event.UpsertAspectRequest;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+@ThreadSafe
+@Slf4j
+/**
+ * A REST emitter that groups proposals into batches, sent to the batch ingest endpoint of GMS in a single (by default
+ * gzip compressed) request each. Bulk producers are then bound by the throughput of the server rather than by the
+ * latency of a round trip per proposal.
+ *
+ * A batch is sent as soon as it reaches maxBatchSize proposals or maxBatchBytes of serialized proposals, or
+ * batchLingerMs after its first proposal was emitted, see {@link RestEmitterConfig}. The future and callback of each
+ * proposal complete with the result of that very proposal, so callers can retry the ones that failed.
+ * e.g.
+ * BatchingRestEmitter emitter = BatchingRestEmitter.create(b :: b
+ *                                                .server("http://localhost:8080")
+ *                                                .maxBatchSize(500)
+ *                                                );
+ */
+public class BatchingRestEmitter implements Emitter {
+
+  private final RestEmitter restEmitter;
+  private final RestEmitterConfig config;
+  private final EventFormatter eventFormatter;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ScheduledExecutorService lingerScheduler;
+
+  // Guarded by this
+  private List<PendingProposal> pending = new ArrayList<>();
+  private long pendingBytes = 0;
+  private ScheduledFuture<?> lingerFlush;
+
+  // Batches taken from pending and not completed yet, registered as soon as they are taken so that close() also
+  // waits for a batch a linger flush has taken but not sent yet
+  private final Set<Future<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+  @AllArgsConstructor
+  private static class PendingProposal {
+    private final String serialized;
+    private final CompletableFuture<MetadataWriteResponse> future;
+    private final Callback callback;
+  }
+
+  public BatchingRestEmitter(RestEmitterConfig config) {
+    this.config = config;
+    this.restEmitter = new RestEmitter(config);
+    this.eventFormatter = config.getEventFormatter();
+    this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "datahub-batching-emitter");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public static BatchingRestEmitter create(Consumer<RestEmitterConfig.RestEmitterConfigBuilder> builderSupplier) {
+    return new BatchingRestEmitter(RestEmitterConfig.builder().with(builderSupplier).build());
+  }
+
+  @Override
+  public Future<MetadataWriteResponse> emit(MetadataChangeProposalWrapper mcpw, Callback callback) throws IOException {
+    return emit(this.eventFormatter.convert(mcpw), callback);
+  }
+
+  @Override
+  public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback callback) throws IOException {
+    PendingProposal proposal = new PendingProposal(restEmitter.serialize(mcp), new CompletableFuture<>(), callback);
+    List<PendingProposal> fullBatch = null;
+    synchronized (this) {
+      pending.add(proposal);
+      pendingBytes += proposal.serialized.getBytes(StandardCharsets.UTF_8).length;
+      if (pending.size() >= config.getMaxBatchSize() || pendingBytes >= config.getMaxBatchBytes()) {
+        fullBatch = takePending();
+      } else if (lingerFlush == null) {
+        lingerFlush = lingerScheduler.schedule(this::flushQuietly, config.getBatchLingerMs(), TimeUnit.MILLISECONDS);
+      }
+    }
+    if (fullBatch != null) {
+      send(fullBatch);
+    }
+    return proposal.future;
+  }
+
+  /**
+   * OpenAPI requests are not batched
+   */
+  @Override
+  public Future<MetadataWriteResponse> emit(List<UpsertAspectRequest> request, Callback callback) throws IOException {
+    return restEmitter.emit(request, callback);
+  }
+
+  /**
+   * Sends the pending proposals right away
+   */
+  public void flush() throws IOException {
+    List<PendingProposal> batch;
+    synchronized (this) {
+      batch = takePending();
+    }
+    send(batch);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to send batch of proposals", e);
+    }
+  }
+
+  private List<PendingProposal> takePending() {
+    List<PendingProposal> batch = pending;
+    pending = new ArrayList<>();
+    pendingBytes = 0;
+    if (lingerFlush != null) {
+      lingerFlush.cancel(false);
+      lingerFlush = null;
+    }
+    if (!batch.isEmpty()) {
+      CompletableFuture<Void> done =
+          CompletableFuture.allOf(batch.stream().map(proposal -> proposal.future).toArray(CompletableFuture[]::new));
+      inFlight.add(done);
+      done.whenComplete((ignored, e) -> inFlight.remove(done));
+    }
+    return batch;
+  }
+
+  private void send(List<PendingProposal> batch) throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<String> serialized = new ArrayList<>(batch.size());
+    batch.forEach(proposal -> serialized.add(proposal.serialized));
+    Callback batchCallback = new Callback() {
+      @Override
+      public void onCompletion(@Nullable MetadataWriteResponse response) {
+        completeBatch(batch, response);
+      }
+
+      @Override
+      public void onFailure(Throwable exception) {
+        failBatch(batch, exception);
+      }
+    };
+    try {
+      restEmitter.postBatch(serialized, batchCallback);
+    } catch (IOException | RuntimeException e) {
+      failBatch(batch, e);
+      throw e;
+    }
+  }
+
+  private void completeBatch(List<PendingProposal> batch, @Nullable MetadataWriteResponse response) {
+    List<JsonNode> results = Collections.emptyList();
+    if (response != null && response.isSuccess() && response.getResponseContent() != null) {
+      try {
+        JsonNode content = objectMapper.readTree(response.getResponseContent());
+        if (content.isArray() && content.size() == batch.size()) {
+          results = new ArrayList<>(batch.size());
+          content.forEach(results::add);
+        } else {
+          log.warn("Expected {} results for batch of proposals, got {}", batch.size(), content);
+        }
+      } catch (IOException e) {
+        log.warn("Unable to read results of batch of proposals", e);
+      }
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      MetadataWriteResponse itemResponse;
+      if (results.isEmpty()) {
+        // The batch as a whole failed, so has every proposal of it
+        itemResponse = MetadataWriteResponse.builder()
+            .success(false)
+            .responseContent(response != null ? response.getResponseContent() : null)
+            .underlyingResponse(response != null ? response.getUnderlyingResponse() : null)
+            .build();
+      } else {
+        JsonNode result = results.get(i);
+        itemResponse = MetadataWriteResponse.builder()
+            .success(result.path("success").asBoolean(false))
+            .responseContent(result.toString())
+            .underlyingResponse(response.getUnderlyingResponse())
+            .build();
+      }
+      complete(batch.get(i), itemResponse);
+    }
+  }
+
+  private static void complete(PendingProposal proposal, MetadataWriteResponse response) {
+    proposal.future.complete(response);
+    if (proposal.callback != null) {
+      try {
+        proposal.callback.onCompletion(response);
+      } catch (Exception e) {
+        log.error("Error executing user callback on completion.", e);
+      }
+    }
+  }
+
+  private static void failBatch(List<PendingProposal> batch, Throwable exception) {
+    for (PendingProposal proposal : batch) {
+      proposal.future.completeExceptionally(exception);
+      if (proposal.callback != null) {
+        try {
+          proposal.callback.onFailure(exception);
+        } catch (Exception e) {
+          log.error("Error executing user callback on failure.", e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean testConnection() throws IOException, ExecutionException, InterruptedException {
+    return restEmitter.testConnection();
+  }
+
+  /**
+   * Sends the pending proposals and waits for all the batches taken so far, including one a linger flush may be
+   * sending concurrently, to complete before closing the connection
+   */
+  @Override
+  public void close() throws IOException {
+    flush();
+    // Not shutdownNow, which would interrupt a linger flush in the middle of sending its batch
+    lingerScheduler.shutdown();
+    for (Future<Void> future : new ArrayList<>(inFlight)) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException e) {
+        // Already reported to the callers of the batch
+      }
+    }
+    restEmitter.close();
+  }
+}
@@ -4,12 +4,16 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -18,7 +22,10 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.HttpEntity;
 import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
@@ -75,6 +82,7 @@ public class RestEmitter implements Emitter {
   private final RestEmitterConfig config;
   private final String ingestProposalUrl;
   private final String ingestOpenApiUrl;
+  private final String batchIngestUrl;
   private final String configUrl;
 
   private final ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -111,6 +119,7 @@ public class RestEmitter implements Emitter {
     this.httpClient.start();
     this.ingestProposalUrl = this.config.getServer() + "/aspects?action=ingestProposal";
     this.ingestOpenApiUrl = config.getServer() + "/openapi/entities/v1/";
+    this.batchIngestUrl = config.getServer() + "/openapi/platform/entities/v1/batchIngest";
     this.configUrl = this.config.getServer() + "/config";
     this.eventFormatter = this.config.getEventFormatter();
   }
@@ -192,8 +201,49 @@ public class RestEmitter implements Emitter {
     return this.postGeneric(this.ingestProposalUrl, serializedMCP, mcp, callback);
   }
 
+  /**
+   * Sends several proposals in a single request to the batch ingest endpoint of GMS. The response content is a JSON
+   * array holding the result of each proposal, in order, see {@link BatchingRestEmitter} for a client that builds the
+   * batches and maps the results back to each proposal.
+   */
+  public Future<MetadataWriteResponse> emitBatch(List<MetadataChangeProposal> mcps, Callback callback)
+      throws IOException {
+    List<String> serializedMCPs = mcps.stream().map(this::serialize).collect(Collectors.toList());
+    return postBatch(serializedMCPs, callback);
+  }
+
+  String serialize(MetadataChangeProposal mcp) {
+    try {
+      return dataTemplateCodec.mapToString(mcp.data());
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Unable to serialize proposal " + mcp, e);
+    }
+  }
+
+  Future<MetadataWriteResponse> postBatch(List<String> serializedMCPs, Callback callback) throws IOException {
+    String payloadJson = serializedMCPs.stream().collect(Collectors.joining(",", "{\"proposals\":[", "]}"));
+    log.debug("Emit batch: URL: {}, {} proposals\n", this.batchIngestUrl, serializedMCPs.size());
+    HttpEntity entity;
+    if (this.config.isCompressBatches()) {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (OutputStream out = new GZIPOutputStream(compressed)) {
+        out.write(payloadJson.getBytes(StandardCharsets.UTF_8));
+      }
+      ByteArrayEntity byteArrayEntity = new ByteArrayEntity(compressed.toByteArray(), ContentType.APPLICATION_JSON);
+      byteArrayEntity.setContentEncoding("gzip");
+      entity = byteArrayEntity;
+    } else {
+      entity = new StringEntity(payloadJson, ContentType.APPLICATION_JSON);
+    }
+    return this.post(this.batchIngestUrl, entity, callback);
+  }
+
   private Future<MetadataWriteResponse> postGeneric(String urlStr, String payloadJson, Object originalRequest,
       Callback callback) throws IOException {
+    return post(urlStr, new StringEntity(payloadJson), callback);
+  }
+
+  private Future<MetadataWriteResponse> post(String urlStr, HttpEntity entity, Callback callback) {
     HttpPost httpPost = new HttpPost(urlStr);
     httpPost.setHeader("Content-Type", "application/json");
     httpPost.setHeader("X-RestLi-Protocol-Version", "2.0.0");
@@ -202,7 +252,7 @@ public class RestEmitter implements Emitter {
     if (this.config.getToken() != null) {
       httpPost.setHeader("Authorization", "Bearer " + this.config.getToken());
     }
-    httpPost.setEntity(new StringEntity(payloadJson));
+    httpPost.setEntity(entity);
     AtomicReference<MetadataWriteResponse> responseAtomicReference = new AtomicReference<>();
     CountDownLatch responseLatch = new CountDownLatch(1);
     FutureCallback<HttpResponse> httpCallback = new FutureCallback<HttpResponse>() {
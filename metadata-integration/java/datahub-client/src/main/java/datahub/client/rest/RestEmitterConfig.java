@@ -43,6 +43,22 @@ public class RestEmitterConfig {
   @Builder.Default
   private final EventFormatter eventFormatter = new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
 
+  /**
+   * Settings of the {@link BatchingRestEmitter}: a batch is sent as soon as it holds maxBatchSize proposals or
+   * maxBatchBytes of serialized proposals, or batchLingerMs after its first proposal was emitted.
+   */
+  @Builder.Default
+  private final int maxBatchSize = 100;
+
+  @Builder.Default
+  private final long maxBatchBytes = 4 * 1024 * 1024;
+
+  @Builder.Default
+  private final long batchLingerMs = 100;
+
+  @Builder.Default
+  private final boolean compressBatches = true;
+
   public static class RestEmitterConfigBuilder {
 
     private String getVersion() {
@@ -0,0 +1,144 @@
+package datahub.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.dataset.DatasetProperties;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.MetadataChangeProposalWrapper;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchingRestEmitterTest {
+
+  @Mock
+  HttpAsyncClientBuilder mockHttpClientFactory;
+
+  @Mock
+  CloseableHttpAsyncClient mockClient;
+
+  @Captor
+  ArgumentCaptor<HttpPost> postArgumentCaptor;
+
+  @Captor
+  ArgumentCaptor<FutureCallback> callbackCaptor;
+
+  @Before
+  public void setupMocks() {
+    Mockito.when(mockHttpClientFactory.build()).thenReturn(mockClient);
+  }
+
+  @Test
+  public void testBatchIsSentOnceFull() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(b -> b.asyncHttpClientBuilder(mockHttpClientFactory)
+        .maxBatchSize(2)
+        .batchLingerMs(60000));
+
+    Future<MetadataWriteResponse> first = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:foo"), null);
+    Mockito.verify(mockClient, Mockito.never()).execute(Mockito.any(), Mockito.any());
+    Future<MetadataWriteResponse> second = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:bar"), null);
+
+    Mockito.verify(mockClient).execute(postArgumentCaptor.capture(), callbackCaptor.capture());
+    HttpPost post = postArgumentCaptor.getValue();
+    Assert.assertTrue(post.getURI().toString().endsWith("/openapi/platform/entities/v1/batchIngest"));
+    Assert.assertEquals("gzip", post.getEntity().getContentEncoding().getValue());
+    JsonNode body = new ObjectMapper().readTree(new GZIPInputStream(post.getEntity().getContent()));
+    Assert.assertEquals(2, body.get("proposals").size());
+    Assert.assertEquals("urn:li:dataset:foo", body.get("proposals").get(0).get("entityUrn").asText());
+    Assert.assertEquals("urn:li:dataset:bar", body.get("proposals").get(1).get("entityUrn").asText());
+
+    // Each proposal gets its own result
+    callbackCaptor.getValue().completed(response(200,
+        "[{\"urn\":\"urn:li:dataset:foo\",\"success\":true,\"didUpdate\":true},"
+            + "{\"success\":false,\"error\":\"Invalid aspect\"}]"));
+    Assert.assertTrue(first.get(1, TimeUnit.SECONDS).isSuccess());
+    Assert.assertFalse(second.get(1, TimeUnit.SECONDS).isSuccess());
+    Assert.assertTrue(second.get().getResponseContent().contains("Invalid aspect"));
+  }
+
+  @Test
+  public void testBatchIsSentAfterLinger() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(b -> b.asyncHttpClientBuilder(mockHttpClientFactory)
+        .maxBatchSize(100)
+        .batchLingerMs(10)
+        .compressBatches(false));
+
+    Future<MetadataWriteResponse> future = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:foo"), null);
+
+    Mockito.verify(mockClient, Mockito.timeout(5000)).execute(postArgumentCaptor.capture(), callbackCaptor.capture());
+    Assert.assertNull(postArgumentCaptor.getValue().getEntity().getContentEncoding());
+
+    // A failed request fails every proposal of the batch
+    callbackCaptor.getValue().completed(response(500, "Internal error"));
+    Assert.assertFalse(future.get(1, TimeUnit.SECONDS).isSuccess());
+  }
+
+  @Test
+  public void testCloseWaitsForBatchTakenByLingerFlush() throws Exception {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch releaseSend = new CountDownLatch(1);
+    Mockito.when(mockClient.execute(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+      // Hold the linger flush between taking its batch and handing it to the client
+      sending.countDown();
+      releaseSend.await();
+      return null;
+    });
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(b -> b.asyncHttpClientBuilder(mockHttpClientFactory)
+        .maxBatchSize(100)
+        .batchLingerMs(10));
+
+    Future<MetadataWriteResponse> future = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:foo"), null);
+    Assert.assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> closed = CompletableFuture.runAsync(() -> {
+      try {
+        emitter.close();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    Assert.assertFalse(closed.isDone());
+    Mockito.verify(mockClient, Mockito.never()).close();
+
+    releaseSend.countDown();
+    Mockito.verify(mockClient).execute(postArgumentCaptor.capture(), callbackCaptor.capture());
+    callbackCaptor.getValue().completed(response(200, "[{\"success\":true}]"));
+    closed.get(5, TimeUnit.SECONDS);
+    Assert.assertTrue(future.get().isSuccess());
+    Mockito.verify(mockClient).close();
+  }
+
+  private static HttpResponse response(int status, String content) throws IOException {
+    BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status, null);
+    response.setEntity(new StringEntity(content));
+    return response;
+  }
+
+  private static MetadataChangeProposalWrapper getMetadataChangeProposalWrapper(String urn) {
+    return MetadataChangeProposalWrapper.create(
+        b -> b.entityType("dataset").entityUrn(urn).upsert().aspect(new DatasetProperties().setDescription("Test")));
+  }
+}
@@ -7,10 +7,12 @@ import datahub.protobuf.ProtobufUtils;
 import datahub.protobuf.visitors.ProtobufModelVisitor;
 import datahub.protobuf.visitors.VisitContext;
 import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.AllDirectedPaths;
 import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.GraphWalk;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +24,7 @@ import java.util.stream.Stream;
 
 public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTypeEdge> {
     private final transient ProtobufMessage rootProtobufMessage;
-    private final transient AllDirectedPaths<ProtobufElement, FieldTypeEdge> directedPaths;
+    private final transient Map<ProtobufElement, Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>>> pathsBySource = new HashMap<>();
     private final transient ExtensionRegistry registry;
 
     public ProtobufGraph(DescriptorProtos.FileDescriptorSet fileSet) throws InvalidProtocolBufferException {
@@ -65,12 +67,46 @@ public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTy
                         .orElseThrow(() -> new IllegalArgumentException("Cannot autodetect root protobuf Message."));
             }
         }
-
-        this.directedPaths = new AllDirectedPaths<>(this);
     }
 
+    /**
+     * All the simple paths from a to b.
+     *
+     * The paths from a source to every vertex are computed together the first time the source is asked for, with a
+     * single depth first walk producing one path per step, and are then reused for all the other targets. A path never
+     * goes through the same vertex twice, which bounds the expansion of recursive message types.
+     */
     public List<GraphPath<ProtobufElement, FieldTypeEdge>> getAllPaths(ProtobufElement a, ProtobufElement b) {
-        return directedPaths.getAllPaths(a, b, true, null);
+        return getAllPathsFrom(a).getOrDefault(b, List.of());
+    }
+
+    private synchronized Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>> getAllPathsFrom(ProtobufElement source) {
+        return pathsBySource.computeIfAbsent(source, s -> {
+            Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>> paths = new HashMap<>();
+            paths.put(s, new ArrayList<>(List.of(GraphWalk.singletonWalk(this, s, 0d))));
+            Set<ProtobufElement> onPath = new HashSet<>();
+            onPath.add(s);
+            collectPaths(s, s, new ArrayList<>(), onPath, paths);
+            return paths;
+        });
+    }
+
+    private void collectPaths(ProtobufElement source, ProtobufElement vertex, List<FieldTypeEdge> edges,
+                              Set<ProtobufElement> onPath,
+                              Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>> paths) {
+        for (FieldTypeEdge edge : outgoingEdgesOf(vertex)) {
+            ProtobufElement target = getEdgeTarget(edge);
+            if (!onPath.add(target)) {
+                // recursive type, the path would no longer be simple
+                continue;
+            }
+            edges.add(edge);
+            paths.computeIfAbsent(target, t -> new ArrayList<>())
+                    .add(new GraphWalk<>(this, source, target, new ArrayList<>(edges), edges.size()));
+            collectPaths(source, target, edges, onPath, paths);
+            edges.remove(edges.size() - 1);
+            onPath.remove(target);
+        }
     }
 
     public ExtensionRegistry getRegistry() {
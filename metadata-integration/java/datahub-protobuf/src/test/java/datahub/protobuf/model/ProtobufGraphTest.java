@@ -1,11 +1,14 @@
 package datahub.protobuf.model;
 
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.AllDirectedPaths;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static datahub.protobuf.TestFixtures.getTestProtobufFileSet;
@@ -81,4 +84,22 @@ public class ProtobufGraphTest {
 
         assertEquals(2, nestedMessages.size(), "Expected 2 nested fields");
     }
+
+    @Test
+    public void allPathsTest() throws IOException {
+        for (String filename : List.of("messageA", "messageB", "messageC", "messageC2")) {
+            ProtobufGraph test = getTestProtobufGraph("protobuf", filename);
+            AllDirectedPaths<ProtobufElement, FieldTypeEdge> expected = new AllDirectedPaths<>(test);
+
+            test.vertexSet().forEach(vertex -> {
+                Set<List<FieldTypeEdge>> expectedPaths = expected.getAllPaths(test.root(), vertex, true, null).stream()
+                        .map(GraphPath::getEdgeList).collect(Collectors.toSet());
+                List<GraphPath<ProtobufElement, FieldTypeEdge>> actualPaths = test.getAllPaths(test.root(), vertex);
+
+                assertEquals(expectedPaths.size(), actualPaths.size(), vertex.fullName());
+                assertEquals(expectedPaths, actualPaths.stream().map(GraphPath::getEdgeList).collect(Collectors.toSet()),
+                        vertex.fullName());
+            });
+        }
+    }
 }
@@ -82,10 +82,13 @@ public class DatahubSparkListener extends SparkListener {
       this.plan = plan;
       this.ctx = ctx;
 
-      String jsonPlan = (plan != null) ? plan.toJSON() : null;
-      String sqlStartJson =
-          (sqlStart != null) ? JsonMethods$.MODULE$.compact(JsonProtocol.sparkEventToJson(sqlStart)) : null;
-      log.debug("SqlStartTask with parameters: sqlStart: {}, plan: {}, ctx: {}", sqlStartJson, jsonPlan, ctx);
+      // Serializing plans is expensive, only do it when it is going to be logged
+      if (log.isDebugEnabled()) {
+        String jsonPlan = (plan != null) ? plan.toJSON() : null;
+        String sqlStartJson =
+            (sqlStart != null) ? JsonMethods$.MODULE$.compact(JsonProtocol.sparkEventToJson(sqlStart)) : null;
+        log.debug("SqlStartTask with parameters: sqlStart: {}, plan: {}, ctx: {}", sqlStartJson, jsonPlan, ctx);
+      }
     }
 
     public void run() {
@@ -108,8 +111,7 @@ public class DatahubSparkListener extends SparkListener {
           .put(sqlStart.executionId(),
               new SQLQueryExecStartEvent(ctx.conf().get("spark.master"), getPipelineName(ctx), ctx.applicationId(),
                   sqlStart.time(), sqlStart.executionId(), null));
-      log.debug("PLAN for execution id: " + getPipelineName(ctx) + ":" + sqlStart.executionId() + "\n");
-      log.debug(plan.toString());
+      log.debug("PLAN for execution id: {}:{}\n{}", getPipelineName(ctx), sqlStart.executionId(), plan);
 
       Optional<? extends Collection<SparkDataset>> outputDS = DatasetExtractor.asDataset(plan, ctx, true);
       if (!outputDS.isPresent() || outputDS.get().isEmpty()) {
@@ -119,14 +121,14 @@ public class DatahubSparkListener extends SparkListener {
       }
       // Here assumption is that there will be only single target for single sql query
       DatasetLineage lineage =
-          new DatasetLineage(sqlStart.description(), plan.toString(), outputDS.get().iterator().next());
+          new DatasetLineage(sqlStart.description(), plan::toString, outputDS.get().iterator().next());
       Collection<QueryPlan<?>> allInners = new ArrayList<>();
 
       plan.collect(new AbstractPartialFunction<LogicalPlan, Void>() {
 
         @Override
         public Void apply(LogicalPlan plan) {
-          log.debug("CHILD " + plan.getClass() + "\n" + plan + "\n-------------\n");
+          log.debug("CHILD {}\n{}\n-------------\n", plan.getClass(), plan);
           Optional<? extends Collection<SparkDataset>> inputDS = DatasetExtractor.asDataset(plan, ctx, false);
           inputDS.ifPresent(x -> x.forEach(y -> lineage.addSource(y)));
           allInners.addAll(JavaConversions.asJavaCollection(plan.innerChildren()));
@@ -149,7 +151,7 @@ public class DatahubSparkListener extends SparkListener {
 
           @Override
           public Void apply(LogicalPlan plan) {
-            log.debug("INNER CHILD " + plan.getClass() + "\n" + plan + "\n-------------\n");
+            log.debug("INNER CHILD {}\n{}\n-------------\n", plan.getClass(), plan);
             Optional<? extends Collection<SparkDataset>> inputDS = DatasetExtractor.asDataset(plan, ctx, false);
             inputDS.ifPresent(
                 x -> log.debug("source added for " + ctx.appName() + "/" + sqlStart.executionId() + ": " + x));
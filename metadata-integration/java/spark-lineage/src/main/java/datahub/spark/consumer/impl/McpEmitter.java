@@ -1,15 +1,22 @@
 package datahub.spark.consumer.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import com.typesafe.config.Config;
 
 import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
 import datahub.client.rest.RestEmitter;
 import datahub.client.rest.RestEmitterConfig;
 import datahub.event.MetadataChangeProposalWrapper;
@@ -18,16 +25,51 @@ import datahub.spark.model.LineageEvent;
 import lombok.extern.slf4j.Slf4j;
 
 
+/**
+ * Emits lineage events to DataHub from a background thread, so that Spark listener callbacks only have to enqueue
+ * them.
+ *
+ * One emitter is kept for the whole application. Events are turned into metadata change proposals by the sender thread,
+ * which is where the potentially large query plans get serialized. Pending events are bounded by
+ * spark.datahub.emitter.queue_size: once full, new events are either dropped or block the listener, depending on
+ * spark.datahub.emitter.overflow_policy. Closing the emitter sends whatever is still pending, waiting at most
+ * spark.datahub.emitter.close_timeout_sec.
+ */
 @Slf4j
 public class McpEmitter implements LineageConsumer {
 
-  private String emitterType;
-  private Optional<RestEmitterConfig> restEmitterConfig;
   private static final String TRANSPORT_KEY = "transport";
   private static final String GMS_URL_KEY = "rest.server";
   private static final String GMS_AUTH_TOKEN = "rest.token";
   private static final String DISABLE_SSL_VERIFICATION_KEY = "rest.disable_ssl_verification";
-  private Optional<Emitter> getEmitter() {
+  private static final String QUEUE_SIZE_KEY = "emitter.queue_size";
+  private static final String OVERFLOW_POLICY_KEY = "emitter.overflow_policy";
+  private static final String COALESCE_UPSERTS_KEY = "emitter.coalesce_upserts";
+  private static final String CLOSE_TIMEOUT_KEY = "emitter.close_timeout_sec";
+
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+  private static final long DEFAULT_CLOSE_TIMEOUT_SEC = 30;
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final long POLL_INTERVAL_MS = 100;
+
+  enum OverflowPolicy {
+    // Drop the event that does not fit in the queue
+    DROP,
+    // Wait for the sender to make room in the queue
+    BLOCK
+  }
+
+  private String emitterType;
+  private Optional<RestEmitterConfig> restEmitterConfig = Optional.empty();
+  private final BlockingQueue<Supplier<List<MetadataChangeProposalWrapper>>> queue;
+  private final OverflowPolicy overflowPolicy;
+  private final boolean coalesceUpserts;
+  private final long closeTimeoutSec;
+  private Optional<Emitter> emitter = Optional.empty();
+  private Thread sender;
+  private volatile boolean closed = false;
+
+  private Optional<Emitter> createEmitter() {
     Optional<Emitter> emitter = Optional.empty();
     switch (emitterType) {
     case "rest":
@@ -35,42 +77,113 @@ public class McpEmitter implements LineageConsumer {
         emitter = Optional.of(new RestEmitter(restEmitterConfig.get()));
       }
       break;
-      
+
     default:
       log.error("DataHub Transport {} not recognized. DataHub Lineage emission will not work", emitterType);
       break;
-      
+
     }
     return emitter;
   }
 
+  /**
+   * Queues metadata change proposals to be sent to DataHub
+   */
   protected void emit(List<MetadataChangeProposalWrapper> mcpws) {
-    Optional<Emitter> emitter = getEmitter();
-    if (emitter.isPresent()) {
-      mcpws.stream().map(mcpw -> {
-        try {
-          log.debug("emitting mcpw: " + mcpw);
-          return emitter.get().emit(mcpw);
-        } catch (IOException ioException) {
-          log.error("Failed to emit metadata to DataHub", ioException);
-          return null;
-        }
-      }).filter(Objects::nonNull).collect(Collectors.toList()).forEach(future -> {
-        try {
-          log.info(future.get().toString());
-        } catch (InterruptedException | ExecutionException e) {
-          // log error, but don't impact thread
-          log.error("Failed to emit metadata to DataHub", e);
+    enqueue(() -> mcpws);
+  }
+
+  private void enqueue(Supplier<List<MetadataChangeProposalWrapper>> mcpws) {
+    if (!emitter.isPresent()) {
+      return;
+    }
+    if (closed) {
+      log.warn("DataHub emitter already closed, dropping lineage metadata");
+      return;
+    }
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      try {
+        queue.put(mcpws);
+      } catch (InterruptedException e) {
+        log.warn("Interrupted while waiting for room in the DataHub emitter queue, dropping lineage metadata");
+        Thread.currentThread().interrupt();
+      }
+    } else if (!queue.offer(mcpws)) {
+      log.warn("DataHub emitter queue is full ({} pending), dropping lineage metadata", queue.size());
+    }
+  }
+
+  private void sendLoop() {
+    final List<Supplier<List<MetadataChangeProposalWrapper>>> batch = new ArrayList<>();
+    while (true) {
+      try {
+        Supplier<List<MetadataChangeProposalWrapper>> next = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (next == null) {
+          if (closed) {
+            return;
+          }
+          continue;
         }
-      });
+        batch.add(next);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        send(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        log.warn("DataHub emitter interrupted with {} lineage events left unsent", queue.size() + batch.size());
+        return;
+      } catch (Exception e) {
+        // log error, but keep the sender going
+        log.error("Failed to emit metadata to DataHub", e);
+        batch.clear();
+      }
+    }
+  }
+
+  private void send(List<Supplier<List<MetadataChangeProposalWrapper>>> batch) throws InterruptedException {
+    List<MetadataChangeProposalWrapper> mcpws = new ArrayList<>();
+    for (Supplier<List<MetadataChangeProposalWrapper>> item : batch) {
+      try {
+        mcpws.addAll(item.get());
+      } catch (Exception e) {
+        log.error("Failed to convert lineage event to metadata", e);
+      }
+    }
+    if (coalesceUpserts) {
+      mcpws = coalesce(mcpws);
+    }
+
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>(mcpws.size());
+    for (MetadataChangeProposalWrapper mcpw : mcpws) {
+      try {
+        log.debug("emitting mcpw: " + mcpw);
+        futures.add(emitter.get().emit(mcpw));
+      } catch (IOException ioException) {
+        log.error("Failed to emit metadata to DataHub", ioException);
+      }
+    }
+    for (Future<MetadataWriteResponse> future : futures) {
       try {
-        emitter.get().close();
-      } catch (IOException e) {
-        log.error("Issue while closing emitter" + e);
+        log.info(future.get().toString());
+      } catch (ExecutionException e) {
+        // log error, but don't stop the sender
+        log.error("Failed to emit metadata to DataHub", e);
       }
     }
   }
 
+  /**
+   * Only keeps the latest of the pending proposals targeting the same aspect of the same entity
+   */
+  static List<MetadataChangeProposalWrapper> coalesce(List<MetadataChangeProposalWrapper> mcpws) {
+    Map<String, MetadataChangeProposalWrapper> latest = new LinkedHashMap<>();
+    for (MetadataChangeProposalWrapper mcpw : mcpws) {
+      String key = mcpw.getEntityUrn() + "/" + mcpw.getAspectName();
+      latest.remove(key);
+      latest.put(key, mcpw);
+    }
+    return new ArrayList<>(latest.values());
+  }
+
   public McpEmitter(Config datahubConf) {
       emitterType = datahubConf.hasPath(TRANSPORT_KEY) ? datahubConf.getString(TRANSPORT_KEY) : "rest";
       switch (emitterType) {
@@ -97,18 +210,50 @@ public class McpEmitter implements LineageConsumer {
           log.error("DataHub Transport {} not recognized. DataHub Lineage emission will not work", emitterType);
           break;
       }
+
+      int queueSize = datahubConf.hasPath(QUEUE_SIZE_KEY) ? datahubConf.getInt(QUEUE_SIZE_KEY) : DEFAULT_QUEUE_SIZE;
+      queue = new ArrayBlockingQueue<>(queueSize);
+      overflowPolicy = datahubConf.hasPath(OVERFLOW_POLICY_KEY)
+          ? OverflowPolicy.valueOf(datahubConf.getString(OVERFLOW_POLICY_KEY).toUpperCase()) : OverflowPolicy.DROP;
+      coalesceUpserts = datahubConf.hasPath(COALESCE_UPSERTS_KEY) && datahubConf.getBoolean(COALESCE_UPSERTS_KEY);
+      closeTimeoutSec = datahubConf.hasPath(CLOSE_TIMEOUT_KEY) ? datahubConf.getLong(CLOSE_TIMEOUT_KEY)
+          : DEFAULT_CLOSE_TIMEOUT_SEC;
+      log.info("Emitter Configuration: queue size {}, overflow policy {}, coalesce upserts {}", queueSize,
+          overflowPolicy, coalesceUpserts);
+
+      emitter = createEmitter();
+      if (emitter.isPresent()) {
+        sender = new Thread(this::sendLoop, "datahub-mcp-emitter");
+        sender.setDaemon(true);
+        sender.start();
+      }
   }
 
   @Override
   public void accept(LineageEvent evt) {
-    emit(evt.asMetadataEvents());
+    // Converted on the sender thread, so that the listener does not pay for it
+    enqueue(evt::asMetadataEvents);
   }
 
   @Override
   public void close() throws IOException {
-    // Nothing to close at this point
-    
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (sender != null) {
+      try {
+        sender.join(TimeUnit.SECONDS.toMillis(closeTimeoutSec));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (sender.isAlive()) {
+        log.warn("DataHub emitter did not send all pending lineage within {} seconds", closeTimeoutSec);
+        sender.interrupt();
+      }
+    }
+    if (emitter.isPresent()) {
+      emitter.get().close();
+    }
   }
-
- 
-}
\ No newline at end of file
+}
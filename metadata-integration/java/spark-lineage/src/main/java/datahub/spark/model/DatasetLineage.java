@@ -3,14 +3,13 @@ package datahub.spark.model;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import datahub.spark.model.dataset.SparkDataset;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-@RequiredArgsConstructor
 @ToString
 public class DatasetLineage {
 
@@ -18,13 +17,37 @@ public class DatasetLineage {
 
   @Getter
   private final String callSiteShort;
-  
-  @Getter
-  private final String plan;
+
+  // Serializing a plan is expensive, so it is only done if and when the plan is first read
+  @ToString.Exclude
+  private Supplier<String> planSupplier;
+
+  private String plan;
 
   @Getter
   private final SparkDataset sink;
 
+  public DatasetLineage(String callSiteShort, Supplier<String> planSupplier, SparkDataset sink) {
+    this.callSiteShort = callSiteShort;
+    this.planSupplier = planSupplier;
+    this.sink = sink;
+  }
+
+  public DatasetLineage(String callSiteShort, String plan, SparkDataset sink) {
+    this.callSiteShort = callSiteShort;
+    this.plan = plan;
+    this.sink = sink;
+  }
+
+  public synchronized String getPlan() {
+    if (planSupplier != null) {
+      plan = planSupplier.get();
+      // Let go of whatever the supplier holds on to
+      planSupplier = null;
+    }
+    return plan;
+  }
+
   public void addSource(SparkDataset source) {
     sources.add(source);
   }
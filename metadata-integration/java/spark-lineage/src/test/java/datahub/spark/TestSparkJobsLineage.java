@@ -78,6 +78,8 @@ public class TestSparkJobsLineage {
 
   private static final int N = 3; // num of GMS requests per spark job
 
+  private static final long REQUESTS_TIMEOUT_MS = 30000; // max wait for lineage sent in the background
+
   private static final int MOCK_PORT = PortFactory.findFreePort();
   private static final int GMS_PORT = MOCK_GMS ? MOCK_PORT : 8080;
 
@@ -155,8 +157,17 @@ public class TestSparkJobsLineage {
         VerificationTimes.exactly(numRequests));
   }
 
+  private static void awaitRequests(int numRequests) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + REQUESTS_TIMEOUT_MS;
+    while (mockServer.retrieveRecordedRequests(
+        request().withMethod("POST").withPath("/aspects").withQueryStringParameter("action", "ingestProposal"))
+        .length < numRequests && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
   @BeforeClass
-  public static void setup() {
+  public static void setup() throws Exception {
 
     acc = new DatasetLineageAccumulator();
     LineageUtils.registerConsumer("accumulator", acc);
@@ -178,6 +189,8 @@ public class TestSparkJobsLineage {
     jdbcConnnProperties.put("password", db.getPassword());
 
     if (VERIFY_EXPECTED) {
+      // Application start events are sent in the background
+      awaitRequests(2);
       verify(2);
       clear();
     }
@@ -10,4 +10,32 @@ public class BuildIndicesConfiguration {
   private boolean allowDocCountMismatch;
   private String retentionUnit;
   private Long retentionValue;
+
+  /**
+   * Number of parallel slices of a reindex, 0 lets Elasticsearch pick one slice per shard
+   */
+  private int reindexSlices = 0;
+
+  /**
+   * Throughput budget of a reindex in documents per second, non-positive values do not throttle
+   */
+  private float reindexRequestsPerSecond = -1;
+
+  private int reindexBatchSize = 2500;
+
+  /**
+   * Disables refreshes and replicas of the new index while documents are copied
+   */
+  private boolean reindexOptimizeSettings = true;
+
+  /**
+   * Maximum number of passes replaying writes made to the source index during a reindex
+   */
+  private int reindexMaxCatchUpPasses = 3;
+
+  /**
+   * Maximum number of seconds writes to the source index are blocked while the last writes are replayed and the
+   * indices are swapped
+   */
+  private int reindexMaxWriteBlockSeconds = 60;
 }
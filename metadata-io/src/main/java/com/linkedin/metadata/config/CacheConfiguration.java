@@ -0,0 +1,33 @@
+package com.linkedin.metadata.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+
+
+@Data
+public class CacheConfiguration {
+
+  /**
+   * Policy of every cache, unless overridden by caches
+   */
+  private CachePolicyConfiguration defaults = defaultPolicy();
+
+  /**
+   * Per-cache overrides of the default policy, keyed by cache name
+   */
+  private Map<String, CachePolicyConfiguration> caches = new HashMap<>();
+
+  public CachePolicyConfiguration getPolicy(String cacheName) {
+    CachePolicyConfiguration overrides = caches.get(cacheName);
+    return overrides != null ? defaults.merge(overrides) : defaults.merge(new CachePolicyConfiguration());
+  }
+
+  private static CachePolicyConfiguration defaultPolicy() {
+    CachePolicyConfiguration policy = new CachePolicyConfiguration();
+    policy.setMaxSize(10000L);
+    policy.setMaxIdleSeconds(600);
+    policy.setPlacement(CachePolicyConfiguration.Placement.DISTRIBUTED);
+    return policy;
+  }
+}
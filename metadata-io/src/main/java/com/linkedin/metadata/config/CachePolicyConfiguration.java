@@ -0,0 +1,64 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * Sizing, expiry and placement of a single cache. Unset fields are inherited from the default policy.
+ */
+@Data
+public class CachePolicyConfiguration {
+
+  public enum Placement {
+    /**
+     * Entries are only held by the instance that computed them
+     */
+    LOCAL,
+    /**
+     * Entries are shared across instances through the distributed cache, when one is configured
+     */
+    DISTRIBUTED
+  }
+
+  /**
+   * Maximum number of entries, only used when no weight budget is set
+   */
+  private Long maxSize;
+
+  /**
+   * Maximum estimated size of all entries in bytes, takes precedence over maxSize when positive
+   */
+  private Long maxWeightBytes;
+
+  /**
+   * Seconds after which an entry expires once written, 0 disables
+   */
+  private Integer ttlSeconds;
+
+  /**
+   * Seconds after which an entry expires once last accessed, 0 disables
+   */
+  private Integer maxIdleSeconds;
+
+  /**
+   * Seconds after which an entry is reloaded on its next read, 0 disables
+   */
+  private Integer refreshAfterWriteSeconds;
+
+  private Placement placement;
+
+  /**
+   * Returns a policy with the fields set in overrides replacing the fields of this policy.
+   */
+  public CachePolicyConfiguration merge(CachePolicyConfiguration overrides) {
+    CachePolicyConfiguration merged = new CachePolicyConfiguration();
+    merged.setMaxSize(overrides.getMaxSize() != null ? overrides.getMaxSize() : maxSize);
+    merged.setMaxWeightBytes(overrides.getMaxWeightBytes() != null ? overrides.getMaxWeightBytes() : maxWeightBytes);
+    merged.setTtlSeconds(overrides.getTtlSeconds() != null ? overrides.getTtlSeconds() : ttlSeconds);
+    merged.setMaxIdleSeconds(overrides.getMaxIdleSeconds() != null ? overrides.getMaxIdleSeconds() : maxIdleSeconds);
+    merged.setRefreshAfterWriteSeconds(overrides.getRefreshAfterWriteSeconds() != null
+        ? overrides.getRefreshAfterWriteSeconds() : refreshAfterWriteSeconds);
+    merged.setPlacement(overrides.getPlacement() != null ? overrides.getPlacement() : placement);
+    return merged;
+  }
+}
@@ -0,0 +1,250 @@
+package com.linkedin.metadata.datahubusage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.shared.ElasticSearchIndexed;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
+import org.elasticsearch.search.sort.SortOrder;
+
+
+/**
+ * Maintains compact, incrementally updated aggregates over DataHub usage events, so that recommendation sources do
+ * not need to aggregate over the raw usage event index on every request.
+ *
+ * Two kinds of documents are kept in a single index:
+ * <ul>
+ *   <li>one document per entity, holding an exponentially time-decayed view score, used for "most popular"</li>
+ *   <li>one document per user, holding bounded lists of the most recently viewed entities and issued searches</li>
+ * </ul>
+ *
+ * The decayed score is stored in log space relative to the epoch, i.e. log(sum(2^(t_i / halfLife))). This keeps the
+ * ranking between entities correct at any point in time without ever having to rewrite documents of entities that
+ * are no longer viewed.
+ */
+@Slf4j
+public class DataHubUsageAggregatesService implements ElasticSearchIndexed {
+
+  public static final String INDEX_NAME = "datahub_usage_aggregates_v1";
+
+  private static final String FIELD_KIND = "kind";
+  private static final String FIELD_URN = "urn";
+  private static final String FIELD_LOG_SCORE = "logScore";
+  private static final String FIELD_VIEW_COUNT = "viewCount";
+  private static final String FIELD_LAST_VIEWED = "lastViewed";
+  private static final String FIELD_RECENTLY_VIEWED = "recentlyViewed";
+  private static final String FIELD_RECENT_SEARCHES = "recentSearches";
+  private static final String FIELD_VALUE = "value";
+
+  private static final String KIND_ENTITY = "entity";
+  private static final String KIND_USER = "user";
+
+  private static final String ENTITY_VIEW_SCRIPT =
+      "ctx._source.kind = params.kind; ctx._source.urn = params.urn;"
+          + "if (ctx._source.logScore == null) { ctx._source.logScore = params.logWeight; } else {"
+          + "  double a = ctx._source.logScore; double b = params.logWeight;"
+          + "  ctx._source.logScore = Math.max(a, b) + Math.log(1 + Math.exp(-Math.abs(a - b))); }"
+          + "ctx._source.viewCount = (ctx._source.viewCount == null ? 0 : ctx._source.viewCount) + 1;"
+          + "if (ctx._source.lastViewed == null || ctx._source.lastViewed < params.timestamp) {"
+          + "  ctx._source.lastViewed = params.timestamp; }";
+
+  private static final String RECENT_ITEM_SCRIPT =
+      "ctx._source.kind = params.kind; ctx._source.urn = params.urn;"
+          + "if (ctx._source[params.field] == null) { ctx._source[params.field] = []; }"
+          + "def items = ctx._source[params.field];"
+          + "def value = params.value;"
+          + "items.removeIf(item -> item.value == value);"
+          + "items.add(['value': value, 'timestamp': params.timestamp]);"
+          + "items.sort((x, y) -> Long.compare((long) y.timestamp, (long) x.timestamp));"
+          + "while (items.size() > params.maxItems) { items.remove(items.size() - 1); }";
+
+  private final RestHighLevelClient _searchClient;
+  private final ESBulkProcessor _bulkProcessor;
+  private final IndexConvention _indexConvention;
+  private final ESIndexBuilder _indexBuilder;
+  private final int _numRetries;
+  private final long _popularityHalfLifeMs;
+  private final int _maxRecentItems;
+
+  public DataHubUsageAggregatesService(@Nonnull RestHighLevelClient searchClient,
+      @Nonnull ESBulkProcessor bulkProcessor, @Nonnull IndexConvention indexConvention,
+      @Nonnull ESIndexBuilder indexBuilder, int numRetries, long popularityHalfLifeMs, int maxRecentItems) {
+    _searchClient = searchClient;
+    _bulkProcessor = bulkProcessor;
+    _indexConvention = indexConvention;
+    _indexBuilder = indexBuilder;
+    _numRetries = numRetries;
+    _popularityHalfLifeMs = popularityHalfLifeMs;
+    _maxRecentItems = maxRecentItems;
+  }
+
+  /**
+   * Records a view of an entity by a user, updating both the entity's popularity and the user's recently viewed list.
+   */
+  public void recordEntityView(@Nonnull String actorUrn, @Nonnull String entityUrn, long timestamp) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("kind", KIND_ENTITY);
+    params.put("urn", entityUrn);
+    params.put("logWeight", logWeight(timestamp));
+    params.put("timestamp", timestamp);
+    upsert(toDocId(KIND_ENTITY, entityUrn), ENTITY_VIEW_SCRIPT, params);
+
+    recordRecentItem(actorUrn, FIELD_RECENTLY_VIEWED, entityUrn, timestamp);
+  }
+
+  /**
+   * Records a search issued by a user.
+   */
+  public void recordSearch(@Nonnull String actorUrn, @Nonnull String query, long timestamp) {
+    recordRecentItem(actorUrn, FIELD_RECENT_SEARCHES, query, timestamp);
+  }
+
+  /**
+   * Returns the entity urns with the highest time-decayed view score, most popular first.
+   */
+  @Nonnull
+  public List<String> getMostPopularEntities(int count) throws IOException {
+    final SearchSourceBuilder source = new SearchSourceBuilder()
+        .query(QueryBuilders.termQuery(FIELD_KIND, KIND_ENTITY))
+        .sort(FIELD_LOG_SCORE, SortOrder.DESC)
+        .fetchSource(FIELD_URN, null)
+        .size(count);
+    final SearchRequest request = new SearchRequest(getIndexName()).source(source);
+    final SearchResponse response = _searchClient.search(request, RequestOptions.DEFAULT);
+    return Arrays.stream(response.getHits().getHits())
+        .map(hit -> (String) hit.getSourceAsMap().get(FIELD_URN))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the entity urns most recently viewed by the user, most recent first.
+   */
+  @Nonnull
+  public List<String> getRecentlyViewedEntities(@Nonnull String actorUrn) throws IOException {
+    return getRecentItems(actorUrn, FIELD_RECENTLY_VIEWED);
+  }
+
+  /**
+   * Returns the queries most recently searched by the user, most recent first.
+   */
+  @Nonnull
+  public List<String> getRecentSearches(@Nonnull String actorUrn) throws IOException {
+    return getRecentItems(actorUrn, FIELD_RECENT_SEARCHES);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> getRecentItems(@Nonnull String actorUrn, @Nonnull String field) throws IOException {
+    final GetRequest request = new GetRequest(getIndexName(), toDocId(KIND_USER, actorUrn))
+        .fetchSourceContext(new FetchSourceContext(true, new String[]{field}, null));
+    final GetResponse response = _searchClient.get(request, RequestOptions.DEFAULT);
+    if (!response.isExists() || response.getSourceAsMap().get(field) == null) {
+      return Collections.emptyList();
+    }
+    return ((List<Map<String, Object>>) response.getSourceAsMap().get(field)).stream()
+        .map(item -> (String) item.get(FIELD_VALUE))
+        .collect(Collectors.toList());
+  }
+
+  private void recordRecentItem(@Nonnull String actorUrn, @Nonnull String field, @Nonnull String value,
+      long timestamp) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("kind", KIND_USER);
+    params.put("urn", actorUrn);
+    params.put("field", field);
+    params.put("value", value);
+    params.put("timestamp", timestamp);
+    params.put("maxItems", _maxRecentItems);
+    upsert(toDocId(KIND_USER, actorUrn), RECENT_ITEM_SCRIPT, params);
+  }
+
+  private void upsert(@Nonnull String docId, @Nonnull String script, @Nonnull Map<String, Object> params) {
+    final UpdateRequest updateRequest = new UpdateRequest(getIndexName(), docId)
+        .script(new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, script, params))
+        .scriptedUpsert(true)
+        .upsert(Collections.emptyMap())
+        .retryOnConflict(_numRetries);
+    _bulkProcessor.add(updateRequest);
+  }
+
+  @VisibleForTesting
+  double logWeight(long timestamp) {
+    return (double) timestamp / _popularityHalfLifeMs * Math.log(2);
+  }
+
+  private String getIndexName() {
+    return _indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  private static String toDocId(@Nonnull String kind, @Nonnull String urn) {
+    final String rawDocId = kind + "_" + urn;
+    try {
+      final byte[] digest = MessageDigest.getInstance("MD5").digest(rawDocId.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      log.error("Failed to hash doc id {}", rawDocId, e);
+      return rawDocId;
+    }
+  }
+
+  private static Map<String, Object> getMappings() {
+    final Map<String, Object> keyword = ImmutableMap.of("type", "keyword");
+    final Map<String, Object> notIndexed = ImmutableMap.of("type", "object", "enabled", false);
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(FIELD_KIND, keyword);
+    mappings.put(FIELD_URN, keyword);
+    mappings.put(FIELD_LOG_SCORE, ImmutableMap.of("type", "double"));
+    mappings.put(FIELD_VIEW_COUNT, ImmutableMap.of("type", "long"));
+    mappings.put(FIELD_LAST_VIEWED, ImmutableMap.of("type", "long"));
+    mappings.put(FIELD_RECENTLY_VIEWED, notIndexed);
+    mappings.put(FIELD_RECENT_SEARCHES, notIndexed);
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  public void configure() {
+    log.info("Setting up usage aggregates index");
+    try {
+      for (ReindexConfig config : getReindexConfigs()) {
+        _indexBuilder.buildIndex(config);
+      }
+    } catch (IOException ie) {
+      throw new RuntimeException("Could not configure usage aggregates index", ie);
+    }
+  }
+
+  @Override
+  public List<ReindexConfig> getReindexConfigs() throws IOException {
+    return List.of(_indexBuilder.buildReindexState(getIndexName(), getMappings(), Collections.emptyMap()));
+  }
+
+  @Override
+  public void reindexAll() {
+    configure();
+  }
+}
@@ -44,6 +44,12 @@ public interface AspectDao {
     @Nullable
     EntityAspect getLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName);
 
+    /**
+     * Returns the subset of urns that have a latest version of at least one of the given aspects.
+     */
+    @Nonnull
+    Set<String> getUrnsWithLatestAspect(@Nonnull final Set<String> urns, @Nonnull final Set<String> aspectNames);
+
     void saveAspect(
         @Nonnull final String urn,
         @Nonnull final String aspectName,
@@ -0,0 +1,147 @@
+package com.linkedin.metadata.entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+
+
+/**
+ * Encodes and decodes the serialized aspect payloads ({@code metadata} and {@code systemMetadata}) stored in the
+ * {@code metadata_aspect_v2} table.
+ *
+ * Encoded payloads are prefixed with a format marker, so rows written in any format can always be read back
+ * transparently alongside legacy rows holding plain JSON. Only writes are affected by the configured
+ * {@link Format}.
+ */
+public class AspectStorageCodec {
+
+  /**
+   * Codec writing plain JSON, the historical storage format.
+   */
+  public static final AspectStorageCodec JSON = new AspectStorageCodec(Format.JSON, 0);
+
+  public enum Format {
+    /**
+     * Uncompressed JSON text, no marker.
+     */
+    JSON(null),
+    /**
+     * Gzip-compressed JSON, Base64 encoded so that it fits the existing text columns.
+     */
+    GZIP_JSON("$gz1:");
+
+    @Nullable
+    private final String _marker;
+
+    Format(@Nullable final String marker) {
+      _marker = marker;
+    }
+
+    @Nonnull
+    public static Format fromString(@Nonnull final String format) {
+      return Format.valueOf(format.trim().toUpperCase());
+    }
+  }
+
+  @Getter
+  private final Format format;
+  @Getter
+  private final int minCompressionBytes;
+
+  /**
+   * @param format the format to write new payloads in
+   * @param minCompressionBytes payloads shorter than this many characters are always written as plain JSON
+   */
+  public AspectStorageCodec(@Nonnull final Format format, final int minCompressionBytes) {
+    this.format = format;
+    this.minCompressionBytes = minCompressionBytes;
+  }
+
+  /**
+   * Encodes a JSON payload into the configured storage format.
+   */
+  @Nullable
+  public String encode(@Nullable final String json) {
+    if (json == null || format == Format.JSON || json.length() < minCompressionBytes || isEncoded(json)) {
+      return json;
+    }
+    return format._marker + Base64.getEncoder().encodeToString(gzip(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Returns whether the stored payload is already in the configured storage format, e.g. to decide whether a row
+   * needs to be migrated.
+   */
+  public boolean isInFormat(@Nullable final String stored) {
+    if (stored == null) {
+      return true;
+    }
+    final Format storedFormat = formatOf(stored);
+    return storedFormat == format || (storedFormat == Format.JSON && stored.length() < minCompressionBytes);
+  }
+
+  /**
+   * Decodes a stored payload of any known format back into JSON. Legacy JSON payloads are returned as-is.
+   */
+  @Nullable
+  public static String decode(@Nullable final String stored) {
+    if (stored == null) {
+      return null;
+    }
+    switch (formatOf(stored)) {
+      case GZIP_JSON:
+        final byte[] compressed = Base64.getDecoder().decode(stored.substring(Format.GZIP_JSON._marker.length()));
+        return new String(gunzip(compressed), StandardCharsets.UTF_8);
+      case JSON:
+      default:
+        return stored;
+    }
+  }
+
+  public static boolean isEncoded(@Nullable final String stored) {
+    return stored != null && formatOf(stored) != Format.JSON;
+  }
+
+  @Nonnull
+  private static Format formatOf(@Nonnull final String stored) {
+    // JSON payloads always start with '{', so a leading '$' unambiguously identifies a marker.
+    if (!stored.isEmpty() && stored.charAt(0) == '$' && stored.startsWith(Format.GZIP_JSON._marker)) {
+      return Format.GZIP_JSON;
+    }
+    return Format.JSON;
+  }
+
+  @Nonnull
+  private static byte[] gzip(@Nonnull final byte[] bytes) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compress aspect payload", e);
+    }
+    return out.toByteArray();
+  }
+
+  @Nonnull
+  private static byte[] gunzip(@Nonnull final byte[] bytes) {
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = gzip.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to decompress aspect payload", e);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.metadata.entity;
 import com.datahub.util.RecordUtils;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -11,11 +12,11 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entity.Aspect;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.RelatedEntitiesResult;
-import com.linkedin.metadata.graph.RelatedEntity;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.RelationshipFieldSpec;
@@ -24,21 +25,38 @@ import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.run.DeleteReferencesResponse;
 import com.linkedin.metadata.run.RelatedAspect;
 import com.linkedin.metadata.run.RelatedAspectArray;
+import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,18 +64,52 @@ import static com.linkedin.metadata.search.utils.QueryUtils.*;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class DeleteEntityService {
 
     private final EntityService _entityService;
     private final GraphService _graphService;
+    private final int _batchSize;
+    // runs reference removal jobs in the background, null if references are removed while the caller waits
+    private final ExecutorService _jobExecutor;
+    private final Map<Urn, DeleteReferencesProgress> _runningJobs = new ConcurrentHashMap<>();
 
     private static final Integer ELASTIC_BATCH_DELETE_SLEEP_SEC = 5;
+    private static final int RELATED_ENTITIES_PAGE_SIZE = 10000;
+    // number of times the graph is queried again while it does not reflect the removed references yet
+    private static final int MAX_STALE_PAGES = 12;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    public DeleteEntityService(final EntityService entityService, final GraphService graphService) {
+        this(entityService, graphService, false, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param async     Whether references are removed by a background job, or while the caller waits.
+     * @param batchSize The number of referencing entities whose aspects are read together. Batches are processed in
+     *                  parallel on the {@link BoundedExecutors#DELETE_REFERENCES} executor.
+     */
+    public DeleteEntityService(final EntityService entityService, final GraphService graphService, final boolean async,
+                               final int batchSize) {
+        _entityService = entityService;
+        _graphService = graphService;
+        _batchSize = Math.max(1, batchSize);
+        _jobExecutor = async ? Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "delete-references");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
 
     /**
      * Public endpoint that deletes references to a given urn across DataHub's metadata graph. This is the entrypoint for
      * addressing dangling pointers whenever a user deletes some entity.
      *
+     * When the service is asynchronous, references are removed by a background job and this method returns as soon as
+     * the job is submitted. A job is started at most once per urn at a time, and as removed references disappear from
+     * the graph, running it again after an interruption continues where the previous one stopped. Jobs are neither
+     * persisted nor resumed automatically, so a job stopped by a restart or by a graph lagging behind the removed
+     * references only finishes once this method is called again.
+     *
      * @param urn    The urn for which to delete references in DataHub's metadata graph.
      * @param dryRun Specifies if the delete logic should be executed to conclusion or if the caller simply wants a
      *               preview of the response.
@@ -66,11 +118,7 @@ public class DeleteEntityService {
      */
     public DeleteReferencesResponse deleteReferencesTo(final Urn urn, final boolean dryRun) {
         final DeleteReferencesResponse result = new DeleteReferencesResponse();
-        RelatedEntitiesResult relatedEntities =
-                _graphService.findRelatedEntities(null, newFilter("urn", urn.toString()), null,
-                        EMPTY_FILTER,
-                        ImmutableList.of(),
-                        newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING), 0, 10000);
+        final RelatedEntitiesResult relatedEntities = findReferencingEntities(urn);
 
         final List<RelatedAspect> relatedAspects = relatedEntities.getEntities().stream()
                 .flatMap(relatedEntity -> getRelatedAspectStream(urn, UrnUtils.getUrn(relatedEntity.getUrn()),
@@ -81,24 +129,149 @@ public class DeleteEntityService {
         result.setRelatedAspects(new RelatedAspectArray(relatedAspects));
         result.setTotal(relatedEntities.getTotal());
 
-        if (dryRun) {
+        if (dryRun || relatedEntities.getTotal() == 0) {
             return result;
         }
 
-        for (int processedEntities = 0; processedEntities < relatedEntities.getTotal(); processedEntities += relatedEntities.getCount()) {
-            log.info("Processing batch {} of {} aspects", processedEntities, relatedEntities.getTotal());
-            relatedEntities.getEntities().forEach(entity -> deleteReference(urn, entity));
-            if (processedEntities + relatedEntities.getEntities().size() < relatedEntities.getTotal()) {
-                sleep(ELASTIC_BATCH_DELETE_SLEEP_SEC);
-                relatedEntities = _graphService.findRelatedEntities(null, newFilter("urn", urn.toString()),
-                        null, EMPTY_FILTER, ImmutableList.of(),
-                        newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING), 0, 10000);
-            }
+        final DeleteReferencesProgress progress = new DeleteReferencesProgress(urn, relatedEntities.getTotal());
+        final DeleteReferencesProgress runningJob = _runningJobs.putIfAbsent(urn, progress);
+        if (runningJob != null) {
+            log.info("References to {} are already being deleted, {} of {} processed", urn, runningJob.getProcessed(),
+                    runningJob.getTotal());
+            return result;
         }
 
+        if (_jobExecutor == null) {
+            runDeleteReferencesJob(urn, relatedEntities, progress);
+        } else {
+            try {
+                _jobExecutor.execute(() -> runDeleteReferencesJob(urn, relatedEntities, progress));
+            } catch (RejectedExecutionException e) {
+                _runningJobs.remove(urn);
+                throw e;
+            }
+        }
         return result;
     }
 
+    /**
+     * Returns the progress of the job deleting references to the given urn, if one is running.
+     */
+    public Optional<DeleteReferencesProgress> getDeleteReferencesProgress(final Urn urn) {
+        return Optional.ofNullable(_runningJobs.get(urn));
+    }
+
+    private RelatedEntitiesResult findReferencingEntities(final Urn urn) {
+        return _graphService.findRelatedEntities(null, newFilter("urn", urn.toString()), null,
+                EMPTY_FILTER,
+                ImmutableList.of(),
+                newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING), 0, RELATED_ENTITIES_PAGE_SIZE);
+    }
+
+    private void runDeleteReferencesJob(final Urn urn, final RelatedEntitiesResult firstPage,
+                                        final DeleteReferencesProgress progress) {
+        try {
+            deleteReferences(urn, firstPage, progress);
+            log.info("Deleted references to {}: {} entities processed, {} failed, took {} ms", urn,
+                    progress.getProcessed(), progress.getFailed(), System.currentTimeMillis() - progress.getStartTimeMillis());
+        } catch (RuntimeException e) {
+            MetricUtils.exceptionCounter(DeleteEntityService.class, "deleteReferences", e);
+            log.error("Failed to delete references to {} after processing {} entities", urn, progress.getProcessed(), e);
+            if (_jobExecutor == null) {
+                throw e;
+            }
+        } finally {
+            _runningJobs.remove(urn);
+        }
+    }
+
+    /**
+     * Removes the references held by the entities of each page of related entities. The graph only reflects removed
+     * references once the corresponding change logs are processed, so pages are queried from the start again after
+     * a pause, skipping the references that were processed already.
+     */
+    private void deleteReferences(final Urn urn, RelatedEntitiesResult relatedEntities,
+                                  final DeleteReferencesProgress progress) {
+        final Set<String> processedReferences = new HashSet<>();
+        int stalePages = 0;
+
+        while (true) {
+            // group by entity, so that all references held by an entity are removed by the same write
+            final Map<Urn, Set<String>> references = new LinkedHashMap<>();
+            relatedEntities.getEntities().stream()
+                    .filter(entity -> processedReferences.add(entity.getRelationshipType() + " " + entity.getUrn()))
+                    .forEach(entity -> references.computeIfAbsent(UrnUtils.getUrn(entity.getUrn()), key -> new HashSet<>())
+                            .add(entity.getRelationshipType()));
+
+            if (!references.isEmpty()) {
+                stalePages = 0;
+                log.info("Deleting references to {} from {} entities. {} entities processed, about {} remaining", urn,
+                        references.size(), progress.getProcessed(), relatedEntities.getTotal());
+                final List<List<Map.Entry<Urn, Set<String>>>> batches =
+                        Lists.partition(new ArrayList<>(references.entrySet()), _batchSize);
+                ConcurrencyUtils.transformAndCollectAsync(BoundedExecutors.DELETE_REFERENCES, batches, batch -> {
+                    deleteReferences(urn, batch);
+                    progress.processed.addAndGet(batch.size());
+                    return true;
+                }, (batch, e) -> {
+                    MetricUtils.exceptionCounter(DeleteEntityService.class, "deleteReferencesBatch", e);
+                    log.error("Failed to delete references to {} from a batch of {} entities", urn, batch.size(), e);
+                    progress.processed.addAndGet(batch.size());
+                    progress.failed.addAndGet(batch.size());
+                    return false;
+                });
+            } else if (++stalePages > MAX_STALE_PAGES) {
+                log.warn("Graph still has {} references to {} that were processed already", relatedEntities.getTotal(), urn);
+                return;
+            }
+
+            if (relatedEntities.getEntities().size() >= relatedEntities.getTotal()) {
+                return;
+            }
+            sleep(ELASTIC_BATCH_DELETE_SLEEP_SEC);
+            relatedEntities = findReferencingEntities(urn);
+        }
+    }
+
+    /**
+     * Removes references to a given urn from a batch of entities, reading the aspects of all entities of the same type
+     * at once.
+     *
+     * @param urn        The urn to be found.
+     * @param references The entities to be modified, with the types of their relationships to the urn.
+     */
+    private void deleteReferences(final Urn urn, final List<Map.Entry<Urn, Set<String>>> references) {
+        references.stream()
+                .collect(Collectors.groupingBy(reference -> reference.getKey().getEntityType(), LinkedHashMap::new,
+                        Collectors.toList()))
+                .forEach((entityType, entityReferences) -> {
+                    final EntitySpec entitySpec = _entityService.getEntityRegistry().getEntitySpec(entityType);
+                    final Set<String> aspectNames = entityReferences.stream()
+                            .flatMap(reference -> reference.getValue().stream())
+                            .distinct()
+                            .flatMap(relationshipType ->
+                                    getAspectSpecsReferringTo(urn.getEntityType(), relationshipType, entitySpec).keySet().stream())
+                            .collect(Collectors.toSet());
+                    final Set<Urn> urns = entityReferences.stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+
+                    final Map<Urn, EntityResponse> entityResponses;
+                    try {
+                        entityResponses = aspectNames.isEmpty() ? Collections.emptyMap()
+                                : _entityService.getEntitiesV2(entityType, urns, aspectNames);
+                    } catch (URISyntaxException e) {
+                        throw new RuntimeException("Unable to retrieve entity data for " + urns, e);
+                    }
+
+                    entityReferences.forEach(reference -> {
+                        final Urn relatedUrn = reference.getKey();
+                        final EntityResponse entityResponse = entityResponses.getOrDefault(relatedUrn,
+                                new EntityResponse().setUrn(relatedUrn).setEntityName(entityType)
+                                        .setAspects(new EnvelopedAspectMap()));
+                        deleteReferences(urn, relatedUrn, reference.getValue(), entityResponse);
+                    });
+                });
+    }
+
     /**
      * Gets a stream of relatedAspects Pojos (high-level, trimmed information) that relate an entity with urn `urn` to
      * another entity of urn `relatedUrn` via a concrete relationship type. Used to give users of this API a summary of
@@ -129,6 +302,15 @@ public class DeleteEntityService {
      * @return A stream of {@link EnrichedAspect} instances that have the relationship from urn to relatedUrn.
      */
     private Stream<EnrichedAspect> getAspects(Urn urn, Urn relatedUrn, String relationshipType) {
+        return getAspects(urn, relatedUrn, relationshipType, null);
+    }
+
+    /**
+     * Same as {@link #getAspects(Urn, Urn, String)}, taking the aspects from an already fetched entity response if
+     * one is given.
+     */
+    private Stream<EnrichedAspect> getAspects(Urn urn, Urn relatedUrn, String relationshipType,
+                                              @Nullable EntityResponse entityResponse) {
         final String relatedEntityName = relatedUrn.getEntityType();
         final EntitySpec relatedEntitySpec = _entityService.getEntityRegistry().getEntitySpec(relatedEntityName);
         final Map<String, AspectSpec> aspectSpecs = getAspectSpecsReferringTo(urn.getEntityType(), relationshipType, relatedEntitySpec);
@@ -147,7 +329,9 @@ public class DeleteEntityService {
             return Stream.empty();
         }
 
-        final List<EnvelopedAspect> aspectList = getAspectsReferringTo(relatedUrn, aspectSpecs)
+        final List<EnvelopedAspect> aspectList = (entityResponse == null
+                ? getAspectsReferringTo(relatedUrn, aspectSpecs)
+                : getAspectsReferringTo(entityResponse, aspectSpecs))
                 .collect(Collectors.toList());
 
         // If we have an empty list it means that we have a graph edge that points to some aspect that we can't find in the
@@ -187,51 +371,66 @@ public class DeleteEntityService {
     }
 
     /**
-     * Processes an aspect of a given {@link RelatedEntity} instance that references a given {@link Urn}, removes said
-     * urn from the aspects and submits an MCP with the updated aspects.
+     * Processes the aspects of an entity that reference a given {@link Urn} through any of the given relationship
+     * types, removes said urn from the aspects and submits an MCP per updated aspect.
      *
-     * @param urn           The urn to be found.
-     * @param relatedEntity The entity to be modified.
+     * @param urn               The urn to be found.
+     * @param relatedUrn        The urn of the entity to be modified.
+     * @param relationshipTypes The names of the relationship types that link the entity to urn.
+     * @param entityResponse    The aspects of the entity to be modified.
      */
-    private void deleteReference(final Urn urn, final RelatedEntity relatedEntity) {
-        final Urn relatedUrn = UrnUtils.getUrn(relatedEntity.getUrn());
-        final String relationshipType = relatedEntity.getRelationshipType();
-        getAspects(urn, relatedUrn, relationshipType)
+    private void deleteReferences(final Urn urn, final Urn relatedUrn, final Set<String> relationshipTypes,
+                                  final EntityResponse entityResponse) {
+        // an aspect may hold references through several relationship types, which must end up in a single write
+        final Map<String, EnrichedAspect> aspects = new LinkedHashMap<>();
+        final Map<String, Set<String>> aspectRelationshipTypes = new HashMap<>();
+        relationshipTypes.forEach(relationshipType -> getAspects(urn, relatedUrn, relationshipType, entityResponse)
                 .forEach(enrichedAspect -> {
-                    final String aspectName = enrichedAspect.getName();
-                    final Aspect aspect = enrichedAspect.getAspect();
-                    final AspectSpec aspectSpec = enrichedAspect.getSpec();
-
-                    final AtomicReference<Aspect> updatedAspect;
-                    try {
-                        updatedAspect = new AtomicReference<>(aspect.copy());
-                    } catch (CloneNotSupportedException e) {
-                        log.error("Failed to clone aspect {}", aspect);
-                        handleError(new DeleteEntityServiceError("Failed to clone aspect",
-                                DeleteEntityServiceErrorReason.CLONE_FAILED,
-                                ImmutableMap.of("aspect", aspect)));
-                        return;
-                    }
-
-                    aspectSpec.getRelationshipFieldSpecs().stream()
-                            .filter(relationshipFieldSpec -> relationshipFieldSpec.getRelationshipAnnotation().getName().equals(relationshipType))
-                            .forEach(relationshipFieldSpec -> {
-                                final PathSpec path = relationshipFieldSpec.getPath();
-                                updatedAspect.set(DeleteEntityUtils.getAspectWithReferenceRemoved(urn.toString(),
-                                        updatedAspect.get(), aspectSpec.getPegasusSchema(), path));
-                            });
+                    aspects.putIfAbsent(enrichedAspect.getName(), enrichedAspect);
+                    aspectRelationshipTypes.computeIfAbsent(enrichedAspect.getName(), key -> new HashSet<>())
+                            .add(relationshipType);
+                }));
+
+        aspects.values().forEach(enrichedAspect -> {
+            final String aspectName = enrichedAspect.getName();
+            final Aspect aspect = enrichedAspect.getAspect();
+            final AspectSpec aspectSpec = enrichedAspect.getSpec();
+
+            final AtomicReference<Aspect> updatedAspect;
+            try {
+                updatedAspect = new AtomicReference<>(aspect.copy());
+            } catch (CloneNotSupportedException e) {
+                log.error("Failed to clone aspect {}", aspect);
+                handleError(new DeleteEntityServiceError("Failed to clone aspect",
+                        DeleteEntityServiceErrorReason.CLONE_FAILED,
+                        ImmutableMap.of("aspect", aspect)));
+                return;
+            }
 
-                    // If there has been an update, then we produce an MCE.
-                    if (!aspect.equals(updatedAspect.get())) {
+            aspectSpec.getRelationshipFieldSpecs().stream()
+                    .filter(relationshipFieldSpec -> aspectRelationshipTypes.get(aspectName)
+                            .contains(relationshipFieldSpec.getRelationshipAnnotation().getName()))
+                    .forEach(relationshipFieldSpec -> {
                         if (updatedAspect.get() == null) {
-                            // Then we should remove the aspect.
-                            deleteAspect(relatedUrn, aspectName, aspect);
-                        } else {
-                            // Then we should update the aspect.
-                            updateAspect(relatedUrn, aspectName, aspect, updatedAspect.get());
+                            // the aspect is removed already
+                            return;
                         }
-                    }
-                });
+                        final PathSpec path = relationshipFieldSpec.getPath();
+                        updatedAspect.set(DeleteEntityUtils.getAspectWithReferenceRemoved(urn.toString(),
+                                updatedAspect.get(), aspectSpec.getPegasusSchema(), path));
+                    });
+
+            // If there has been an update, then we produce an MCE.
+            if (!aspect.equals(updatedAspect.get())) {
+                if (updatedAspect.get() == null) {
+                    // Then we should remove the aspect.
+                    deleteAspect(relatedUrn, aspectName, aspect);
+                } else {
+                    // Then we should update the aspect.
+                    updateAspect(relatedUrn, aspectName, aspect, updatedAspect.get());
+                }
+            }
+        });
     }
 
     /**
@@ -312,6 +511,19 @@ public class DeleteEntityService {
                 .filter(aspect -> aspectSpecs.containsKey(aspect.getName()));
     }
 
+    /**
+     * Same as {@link #getAspectsReferringTo(Urn, Map)}, taking the aspects from an already fetched entity response.
+     */
+    private Stream<EnvelopedAspect> getAspectsReferringTo(final EntityResponse entityResponse,
+                                                          final Map<String, AspectSpec> aspectSpecs) {
+        return entityResponse
+                .getAspects()
+                .values()
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(aspect -> aspectSpecs.containsKey(aspect.getName()));
+    }
+
     /**
      * Utility method that determines whether a given aspect has an instance of a relationship of type relationType
      * to a given entity type.
@@ -400,6 +612,31 @@ public class DeleteEntityService {
         CLONE_FAILED,
     }
 
+    /**
+     * Progress of a job deleting the references to an urn.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class DeleteReferencesProgress {
+        private final Urn urn;
+        // number of references found when the job started
+        private final int total;
+        private final long startTimeMillis = System.currentTimeMillis();
+        @Getter(AccessLevel.NONE)
+        private final AtomicInteger processed = new AtomicInteger();
+        @Getter(AccessLevel.NONE)
+        private final AtomicInteger failed = new AtomicInteger();
+
+        // number of referencing entities processed so far, including failed ones
+        public int getProcessed() {
+            return processed.get();
+        }
+
+        public int getFailed() {
+            return failed.get();
+        }
+    }
+
     @AllArgsConstructor
     @Data
     private static class EnrichedAspect {
@@ -0,0 +1,47 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.urn.Urn;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+
+/**
+ * In-memory set of urns recently seen to exist in the aspect store, used by {@link EntityService#getExistingUrns} to
+ * answer most of a result page without hitting the database.
+ *
+ * Only positive answers are kept, so newly created entities are visible right away. Urns deleted through the local
+ * {@link EntityService} are evicted immediately; deletes made by other instances are only picked up once the entry
+ * expires, so the cache is off by default and meant for deployments that accept that delay.
+ */
+public class EntityExistenceCache {
+
+  private final Cache<Urn, Boolean> _existingUrns;
+
+  public EntityExistenceCache(long ttlSeconds, long maxSize) {
+    _existingUrns = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  /**
+   * Returns the subset of the given urns known to exist
+   */
+  @Nonnull
+  public Set<Urn> getExisting(@Nonnull Collection<Urn> urns) {
+    return urns.stream().filter(urn -> _existingUrns.getIfPresent(urn) != null).collect(Collectors.toSet());
+  }
+
+  public void putExisting(@Nonnull Collection<Urn> urns) {
+    urns.forEach(urn -> _existingUrns.put(urn, Boolean.TRUE));
+  }
+
+  public void invalidate(@Nonnull Urn urn) {
+    _existingUrns.invalidate(urn);
+  }
+}
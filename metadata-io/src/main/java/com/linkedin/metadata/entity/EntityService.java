@@ -39,6 +39,7 @@ import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.Aspect;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutbox;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
@@ -71,11 +72,13 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -157,12 +160,20 @@ public class EntityService {
   private final EntityRegistry _entityRegistry;
   private final Map<String, Set<String>> _entityToValidAspects;
   private RetentionService _retentionService;
+  private ChangeLogOutbox _changeLogOutbox;
+  private EntityExistenceCache _existenceCache;
   private final Boolean _alwaysEmitAuditEvent = false;
   public static final String DEFAULT_RUN_ID = "no-run-id-provided";
   public static final String BROWSE_PATHS = "browsePaths";
   public static final String DATA_PLATFORM_INSTANCE = "dataPlatformInstance";
   protected static final int MAX_KEYS_PER_QUERY = 500;
 
+  /**
+   * Proposal being ingested by {@link #ingestProposal} on the current thread. Change logs appended to the outbox while
+   * writing it are built from it, so that they match the ones {@link #emitChangeLog} produces.
+   */
+  private static final ThreadLocal<MetadataChangeProposal> INGESTING_PROPOSAL = new ThreadLocal<>();
+
   public EntityService(
       @Nonnull final AspectDao aspectDao,
       @Nonnull final EventProducer producer,
@@ -753,8 +764,10 @@ public class EntityService {
       }
       RecordTemplate oldValue = EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
       SystemMetadata oldMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
-      return new UpdateAspectResult(urn, oldValue, oldValue, oldMetadata, oldMetadata, MetadataAuditOperation.UPDATE, auditStamp,
-          latest.getVersion());
+      UpdateAspectResult unchangedResult = new UpdateAspectResult(urn, oldValue, oldValue, oldMetadata, oldMetadata,
+          MetadataAuditOperation.UPDATE, auditStamp, latest.getVersion());
+      appendToChangeLogOutbox(urn, aspectName, unchangedResult);
+      return unchangedResult;
     }, DEFAULT_MAX_TRANSACTION_RETRY);
     ingestToLocalDBTimer.stop();
 
@@ -783,10 +796,13 @@ public class EntityService {
       throw new RuntimeException(String.format("Unknown aspect %s for entity %s", aspectName, entityName));
     }
 
-    Timer.Context produceMCLTimer = MetricUtils.timer(this.getClass(), "produceMCL").time();
-    produceMetadataChangeLog(urn, entityName, aspectName, aspectSpec, oldValue, updatedValue, oldSystemMetadata,
-        updatedSystemMetadata, result.getAuditStamp(), ChangeType.UPSERT);
-    produceMCLTimer.stop();
+    // With the outbox enabled, the change log was stored in the transaction of the write and is produced by the relay
+    if (_changeLogOutbox == null) {
+      Timer.Context produceMCLTimer = MetricUtils.timer(this.getClass(), "produceMCL").time();
+      produceMetadataChangeLog(urn, entityName, aspectName, aspectSpec, oldValue, updatedValue, oldSystemMetadata,
+          updatedSystemMetadata, result.getAuditStamp(), ChangeType.UPSERT);
+      produceMCLTimer.stop();
+    }
 
     // For legacy reasons, keep producing to the MAE event stream without blocking ingest
     try {
@@ -859,16 +875,25 @@ public class EntityService {
       if (!async) {
         // When async mode is turned off, we write to primary store for non timeseries aspects
         UpdateAspectResult result;
-        switch (mcp.getChangeType()) {
-          case UPSERT:
-            result = performUpsert(mcp, aspectSpec, systemMetadata, entityUrn, auditStamp);
-            break;
-          case PATCH:
-            result = performPatch(mcp, aspectSpec, systemMetadata, entityUrn, auditStamp);
-            break;
-          default:
-            // Should never reach since we throw error above
-            throw new UnsupportedOperationException("ChangeType not supported: " + mcp.getChangeType());
+        INGESTING_PROPOSAL.set(mcp);
+        try {
+          switch (mcp.getChangeType()) {
+            case UPSERT:
+              result = performUpsert(mcp, aspectSpec, systemMetadata, entityUrn, auditStamp);
+              break;
+            case PATCH:
+              result = performPatch(mcp, aspectSpec, systemMetadata, entityUrn, auditStamp);
+              break;
+            default:
+              // Should never reach since we throw error above
+              throw new UnsupportedOperationException("ChangeType not supported: " + mcp.getChangeType());
+          }
+        } finally {
+          INGESTING_PROPOSAL.remove();
+        }
+        if (_changeLogOutbox != null) {
+          // The change log was appended to the outbox in the transaction of the write, the relay produces it
+          return new IngestProposalResult(entityUrn, true, false);
         }
         oldAspect = result != null ? result.getOldValue() : null;
         oldSystemMetadata = result != null ? result.getOldSystemMetadata() : null;
@@ -1019,6 +1044,20 @@ public class EntityService {
       AuditStamp auditStamp, AspectSpec aspectSpec) {
     log.debug("Producing MetadataChangeLog for ingested aspect {}, urn {}", mcp.getAspectName(), entityUrn);
 
+    final MetadataChangeLog metadataChangeLog =
+        buildMetadataChangeLog(oldAspect, oldSystemMetadata, newAspect, newSystemMetadata, mcp, entityUrn, auditStamp);
+
+    log.debug("Serialized MCL event: {}", metadataChangeLog);
+
+    produceMetadataChangeLog(entityUrn, aspectSpec, metadataChangeLog);
+
+    return true;
+  }
+
+  @Nonnull
+  private MetadataChangeLog buildMetadataChangeLog(@Nullable RecordTemplate oldAspect,
+      @Nullable SystemMetadata oldSystemMetadata, @Nullable RecordTemplate newAspect,
+      @Nullable SystemMetadata newSystemMetadata, MetadataChangeProposal mcp, Urn entityUrn, AuditStamp auditStamp) {
     final MetadataChangeLog metadataChangeLog = new MetadataChangeLog(mcp.data());
     metadataChangeLog.setEntityUrn(entityUrn);
     metadataChangeLog.setCreated(auditStamp);
@@ -1037,12 +1076,7 @@ public class EntityService {
     if (newSystemMetadata != null) {
       metadataChangeLog.setSystemMetadata(newSystemMetadata);
     }
-
-    log.debug("Serialized MCL event: {}", metadataChangeLog);
-
-    produceMetadataChangeLog(entityUrn, aspectSpec, metadataChangeLog);
-
-    return true;
+    return metadataChangeLog;
   }
 
   public Integer getCountAspect(@Nonnull String aspectName, @Nullable String urnLike) {
@@ -1107,19 +1141,21 @@ public class EntityService {
       startTime = System.currentTimeMillis();
 
       // 4. Create record from json aspect
+      final String jsonAspect = AspectStorageCodec.decode(aspect.getMetadata());
       final RecordTemplate aspectRecord;
       try {
-        aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
+        aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, jsonAspect, _entityRegistry);
       } catch (Exception e) {
         logger.accept(String.format("Failed to deserialize row %s for entity %s, aspect %s: %s. Ignoring row.",
-            aspect.getMetadata(), entityName, aspectName, e));
+            jsonAspect, entityName, aspectName, e));
         ignored = ignored + 1;
         continue;
       }
       result.createRecordMs += System.currentTimeMillis() - startTime;
       startTime = System.currentTimeMillis();
 
-      SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(aspect.getSystemMetadata());
+      SystemMetadata latestSystemMetadata =
+          EntityUtils.parseSystemMetadata(AspectStorageCodec.decode(aspect.getSystemMetadata()));
 
       // 5. Produce MAE events for the aspect record
       produceMetadataChangeLog(urn, entityName, aspectName, aspectSpec, null, aspectRecord, null,
@@ -1263,12 +1299,20 @@ public class EntityService {
    * Produces a {@link com.linkedin.mxe.MetadataChangeLog} from a
    * new & previous aspect.
    *
+   * With the outbox enabled, change logs of stored aspects are appended to the outbox instead, joining the transaction
+   * of the caller if any. Restates, rollbacks and deletes are then published by the relay after every change log of
+   * the same urn appended before them, instead of overtaking the ones still pending in the outbox.
+   *
    * @param urn the urn associated with the entity changed
    * @param aspectSpec AspectSpec of the aspect being updated
    * @param metadataChangeLog metadata change log to push into MCL kafka topic
    */
   public void produceMetadataChangeLog(@Nonnull final Urn urn, AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
+    if (_changeLogOutbox != null && (aspectSpec == null || !aspectSpec.isTimeseries())) {
+      _changeLogOutbox.append(urn, metadataChangeLog);
+      return;
+    }
     _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
   }
 
@@ -1276,6 +1320,15 @@ public class EntityService {
       @Nonnull final AspectSpec aspectSpec, @Nullable final RecordTemplate oldAspectValue,
       @Nullable final RecordTemplate newAspectValue, @Nullable final SystemMetadata oldSystemMetadata,
       @Nullable final SystemMetadata newSystemMetadata, @Nonnull AuditStamp auditStamp, @Nonnull final ChangeType changeType) {
+    produceMetadataChangeLog(urn, aspectSpec, buildMetadataChangeLog(urn, entityName, aspectName, oldAspectValue,
+        newAspectValue, oldSystemMetadata, newSystemMetadata, auditStamp, changeType));
+  }
+
+  @Nonnull
+  private MetadataChangeLog buildMetadataChangeLog(@Nonnull final Urn urn, @Nonnull String entityName,
+      @Nonnull String aspectName, @Nullable final RecordTemplate oldAspectValue,
+      @Nullable final RecordTemplate newAspectValue, @Nullable final SystemMetadata oldSystemMetadata,
+      @Nullable final SystemMetadata newSystemMetadata, @Nonnull AuditStamp auditStamp, @Nonnull final ChangeType changeType) {
     final MetadataChangeLog metadataChangeLog = new MetadataChangeLog();
     metadataChangeLog.setEntityType(entityName);
     metadataChangeLog.setEntityUrn(urn);
@@ -1294,7 +1347,7 @@ public class EntityService {
     if (oldSystemMetadata != null) {
       metadataChangeLog.setPreviousSystemMetadata(oldSystemMetadata);
     }
-    produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+    return metadataChangeLog;
   }
 
   public RecordTemplate getLatestAspect(@Nonnull final Urn urn, @Nonnull final String aspectName) {
@@ -1522,6 +1575,21 @@ public class EntityService {
     _retentionService = retentionService;
   }
 
+  /**
+   * Enables the transactional outbox: change logs of aspect writes are stored in the outbox within the write
+   * transaction, and published by a {@link com.linkedin.metadata.entity.outbox.ChangeLogOutboxRelay} instead of being
+   * produced on the ingest path. Restates, rollbacks and deletes go through the outbox as well, so that they keep
+   * their order with the writes of the same urn. Timeseries aspects, which are not stored, are still produced
+   * directly.
+   */
+  public void setChangeLogOutbox(@Nullable ChangeLogOutbox changeLogOutbox) {
+    _changeLogOutbox = changeLogOutbox;
+  }
+
+  public void setExistenceCache(@Nullable EntityExistenceCache existenceCache) {
+    _existenceCache = existenceCache;
+  }
+
   protected Set<String> getEntityAspectNames(final Urn entityUrn) {
     return getEntityAspectNames(urnToEntityName(entityUrn));
   }
@@ -1609,13 +1677,49 @@ public class EntityService {
   }
 
   public Boolean exists(Urn urn) {
-    final Set<String> aspectsToFetch = getEntityAspectNames(urn);
-    final List<EntityAspectIdentifier> dbKeys = aspectsToFetch.stream()
-        .map(aspectName -> new EntityAspectIdentifier(urn.toString(), aspectName, ASPECT_LATEST_VERSION))
-        .collect(Collectors.toList());
+    return getExistingUrns(Collections.singleton(urn)).contains(urn);
+  }
+
+  /**
+   * Returns the subset of the given urns that exist, i.e. have a latest version of at least one of their entity's
+   * aspects. Urns not known to exist by the existence cache are checked with a single query.
+   *
+   * @param urns urns to check, typically a page of search, browse or lineage results
+   * @return the urns that exist
+   */
+  @Nonnull
+  public Set<Urn> getExistingUrns(@Nonnull final Collection<Urn> urns) {
+    if (urns.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Set<Urn> existingUrns = new HashSet<>();
+    final Set<Urn> urnsToFetch = new HashSet<>(urns);
+    if (_existenceCache != null) {
+      existingUrns.addAll(_existenceCache.getExisting(urnsToFetch));
+      urnsToFetch.removeAll(existingUrns);
+      MetricUtils.counter(this.getClass(), "existenceCacheHit").inc(existingUrns.size());
+    }
+    if (urnsToFetch.isEmpty()) {
+      return existingUrns;
+    }
 
-    Map<EntityAspectIdentifier, EntityAspect> aspects = _aspectDao.batchGet(new HashSet(dbKeys));
-    return aspects.values().stream().anyMatch(aspect -> aspect != null);
+    final Map<String, Urn> urnsByString = urnsToFetch.stream().collect(Collectors.toMap(Urn::toString, urn -> urn));
+    final Set<String> aspectNames = urnsToFetch.stream()
+        .map(PegasusUtils::urnToEntityName)
+        .distinct()
+        .map(this::getEntityAspectNames)
+        .filter(Objects::nonNull)
+        .flatMap(Set::stream)
+        .collect(Collectors.toSet());
+    final Set<Urn> fetchedUrns = _aspectDao.getUrnsWithLatestAspect(urnsByString.keySet(), aspectNames)
+        .stream()
+        .map(urnsByString::get)
+        .collect(Collectors.toSet());
+    if (_existenceCache != null) {
+      _existenceCache.putExisting(fetchedUrns);
+    }
+    existingUrns.addAll(fetchedUrns);
+    return existingUrns;
   }
 
   @Nullable
@@ -1745,6 +1849,9 @@ public class EntityService {
       }
     }, DEFAULT_MAX_TRANSACTION_RETRY);
 
+    if (_existenceCache != null) {
+      _existenceCache.invalidate(entityUrn);
+    }
     return result;
   }
 
@@ -1894,9 +2001,11 @@ public class EntityService {
 
       _aspectDao.saveAspect(latest, false);
 
-      return new UpdateAspectResult(urn, oldValue, oldValue,
+      final UpdateAspectResult result = new UpdateAspectResult(urn, oldValue, oldValue,
           EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), latestSystemMetadata,
           MetadataAuditOperation.UPDATE, auditStamp, 0);
+      appendToChangeLogOutbox(urn, aspectName, result);
+      return result;
     }
 
     // 4. Save the newValue as the latest version
@@ -1908,9 +2017,28 @@ public class EntityService {
         auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
         new Timestamp(auditStamp.getTime()), EntityUtils.toJsonAspect(providedSystemMetadata), nextVersion);
 
-    return new UpdateAspectResult(urn, oldValue, newValue,
+    final UpdateAspectResult result = new UpdateAspectResult(urn, oldValue, newValue,
         latest == null ? null : EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), providedSystemMetadata,
         MetadataAuditOperation.UPDATE, auditStamp, versionOfOld);
+    appendToChangeLogOutbox(urn, aspectName, result);
+    return result;
+  }
+
+  /**
+   * Appends the change log of a write to the outbox, if enabled. Must be called within the transaction of the write.
+   */
+  private void appendToChangeLogOutbox(@Nonnull final Urn urn, @Nonnull final String aspectName,
+      @Nonnull final UpdateAspectResult result) {
+    if (_changeLogOutbox == null) {
+      return;
+    }
+    final MetadataChangeProposal mcp = INGESTING_PROPOSAL.get();
+    final MetadataChangeLog metadataChangeLog = mcp != null && aspectName.equals(mcp.getAspectName())
+        ? buildMetadataChangeLog(result.getOldValue(), result.getOldSystemMetadata(), result.getNewValue(),
+            result.getNewSystemMetadata(), mcp, urn, result.getAuditStamp())
+        : buildMetadataChangeLog(urn, urnToEntityName(urn), aspectName, result.getOldValue(), result.getNewValue(),
+            result.getOldSystemMetadata(), result.getNewSystemMetadata(), result.getAuditStamp(), ChangeType.UPSERT);
+    _changeLogOutbox.append(urn, metadataChangeLog);
   }
 
   @Nonnull
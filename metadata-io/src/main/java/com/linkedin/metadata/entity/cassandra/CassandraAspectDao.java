@@ -23,6 +23,7 @@ import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.ListResult;
@@ -55,6 +56,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   private final CqlSession _cqlSession;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
+  private AspectStorageCodec _storageCodec = AspectStorageCodec.JSON;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
     _cqlSession = cqlSession;
@@ -84,6 +86,17 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return getAspect(urn, aspectName, ASPECT_LATEST_VERSION);
   }
 
+  @Override
+  @Nonnull
+  public Set<String> getUrnsWithLatestAspect(@Nonnull final Set<String> urns, @Nonnull final Set<String> aspectNames) {
+    validateConnection();
+    final Set<EntityAspectIdentifier> keys = urns.stream()
+        .flatMap(urn -> aspectNames.stream()
+            .map(aspectName -> new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION)))
+        .collect(Collectors.toSet());
+    return batchGet(keys).keySet().stream().map(EntityAspectIdentifier::getUrn).collect(Collectors.toSet());
+  }
+
   @Override
   public long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     validateConnection();
@@ -540,8 +553,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
               .value(CassandraAspect.URN_COLUMN, literal(aspect.getUrn()))
               .value(CassandraAspect.ASPECT_COLUMN, literal(aspect.getAspect()))
               .value(CassandraAspect.VERSION_COLUMN, literal(aspect.getVersion()))
-              .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .value(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
+              .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(_storageCodec.encode(aspect.getSystemMetadata())))
+              .value(CassandraAspect.METADATA_COLUMN, literal(_storageCodec.encode(aspect.getMetadata())))
               .value(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
               .value(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()))
               .value(CassandraAspect.ENTITY_COLUMN, literal(entity))
@@ -551,8 +564,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     } else {
 
       UpdateWithAssignments uwa = update(CassandraAspect.TABLE_NAME)
-              .setColumn(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
-              .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
+              .setColumn(CassandraAspect.METADATA_COLUMN, literal(_storageCodec.encode(aspect.getMetadata())))
+              .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(_storageCodec.encode(aspect.getSystemMetadata())))
               .setColumn(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
               .setColumn(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
               .setColumn(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()));
@@ -571,6 +584,13 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     _canWrite = canWrite;
   }
 
+  /**
+   * Sets the codec used to encode aspect payloads on write. Reads always accept every known format.
+   */
+  public void setStorageCodec(@Nonnull final AspectStorageCodec storageCodec) {
+    _storageCodec = storageCodec;
+  }
+
   @Override
   public void saveAspect(
       @Nonnull final String urn,
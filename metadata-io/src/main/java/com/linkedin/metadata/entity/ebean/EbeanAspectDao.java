@@ -6,6 +6,7 @@ import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.ListResult;
@@ -31,6 +32,7 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +57,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // while its storage is being migrated
   private boolean _canWrite = true;
 
+  // Codec used to encode aspect payloads on write. Reads always accept every known format.
+  private AspectStorageCodec _storageCodec = AspectStorageCodec.JSON;
+
   // Why 375? From tuning, this seems to be about the largest size we can get without having ebean batch issues.
   // This may be able to be moved up, 375 is a bit conservative. However, we should be careful to tweak this without
   // more testing.
@@ -69,6 +74,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     _canWrite = canWrite;
   }
 
+  public void setStorageCodec(@Nonnull final AspectStorageCodec storageCodec) {
+    _storageCodec = storageCodec;
+  }
+
   /**
    * Return the {@link EbeanServer} server instance used for customized queries.
    * Only used in tests.
@@ -148,8 +157,8 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     final EbeanAspectV2 aspect = new EbeanAspectV2();
     aspect.setKey(new EbeanAspectV2.PrimaryKey(urn, aspectName, version));
-    aspect.setMetadata(aspectMetadata);
-    aspect.setSystemMetadata(systemMetadata);
+    aspect.setMetadata(_storageCodec.encode(aspectMetadata));
+    aspect.setSystemMetadata(_storageCodec.encode(systemMetadata));
     aspect.setCreatedOn(timestamp);
     aspect.setCreatedBy(actor);
     if (impersonator != null) {
@@ -161,7 +170,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
   @Override
   public void saveAspect(@Nonnull final EntityAspect aspect, final boolean insert) {
-    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect);
+    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect, _storageCodec);
     saveEbeanAspect(ebeanAspect, insert);
   }
 
@@ -235,10 +244,28 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void deleteAspect(@Nonnull final EntityAspect aspect) {
     validateConnection();
-    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect);
+    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect, _storageCodec);
     _server.delete(ebeanAspect);
   }
 
+  @Override
+  @Nonnull
+  public Set<String> getUrnsWithLatestAspect(@Nonnull final Set<String> urns, @Nonnull final Set<String> aspectNames) {
+    validateConnection();
+    if (urns.isEmpty() || aspectNames.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final List<String> result = _server.find(EbeanAspectV2.class)
+        .setDistinct(true)
+        .select(EbeanAspectV2.URN_COLUMN)
+        .where()
+        .in(EbeanAspectV2.URN_COLUMN, urns)
+        .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+        .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+        .findSingleAttributeList();
+    return new HashSet<>(result);
+  }
+
   @Override
   public int deleteUrn(@Nonnull final String urn) {
     validateConnection();
@@ -471,7 +498,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         .asc(EbeanAspectV2.URN_COLUMN)
         .findPagedList();
 
-    final List<String> aspects = pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
+    final List<String> aspects = pagedList.getList().stream()
+        .map(aspect -> AspectStorageCodec.decode(aspect.getMetadata()))
+        .collect(Collectors.toList());
     final ListResultMetadata listResultMetadata = toListResultMetadata(pagedList.getList().stream().map(
         EbeanAspectDao::toExtraInfo).collect(Collectors.toList()));
     return toListResult(aspects, listResultMetadata, pagedList, start);
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import io.ebean.Model;
@@ -121,14 +122,17 @@ public class EbeanAspectV2 extends Model {
         systemMetadata);
   }
 
+  /**
+   * Converts the row into an {@link EntityAspect}, decoding the stored payloads back into JSON.
+   */
   @Nonnull
   public EntityAspect toEntityAspect() {
     return new EntityAspect(
         getKey().getUrn(),
         getKey().getAspect(),
         getKey().getVersion(),
-        getMetadata(),
-        getSystemMetadata(),
+        AspectStorageCodec.decode(getMetadata()),
+        AspectStorageCodec.decode(getSystemMetadata()),
         getCreatedOn(),
         getCreatedBy(),
         getCreatedFor()
@@ -136,15 +140,22 @@ public class EbeanAspectV2 extends Model {
   }
 
   public static EbeanAspectV2 fromEntityAspect(EntityAspect aspect) {
+    return fromEntityAspect(aspect, AspectStorageCodec.JSON);
+  }
+
+  /**
+   * Converts an {@link EntityAspect} into a row, encoding its payloads with the given codec.
+   */
+  public static EbeanAspectV2 fromEntityAspect(EntityAspect aspect, AspectStorageCodec codec) {
     return new EbeanAspectV2(
         aspect.getUrn(),
         aspect.getAspect(),
         aspect.getVersion(),
-        aspect.getMetadata(),
+        codec.encode(aspect.getMetadata()),
         aspect.getCreatedOn(),
         aspect.getCreatedBy(),
         aspect.getCreatedFor(),
-        aspect.getSystemMetadata()
+        codec.encode(aspect.getSystemMetadata())
     );
   }
 }
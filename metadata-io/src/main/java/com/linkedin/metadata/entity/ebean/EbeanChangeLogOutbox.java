@@ -0,0 +1,144 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutbox;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutboxEntry;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.ebean.EbeanServer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.linkedin.metadata.entity.ebean.EbeanChangeLogOutboxRow.*;
+
+
+/**
+ * {@link ChangeLogOutbox} stored in the same database as the aspects, so that entries are appended in the transaction
+ * of the aspect write.
+ */
+@Slf4j
+public class EbeanChangeLogOutbox implements ChangeLogOutbox {
+
+  private final EbeanServer _server;
+
+  public EbeanChangeLogOutbox(@Nonnull final EbeanServer server) {
+    _server = server;
+  }
+
+  @Override
+  public void append(@Nonnull Urn urn, @Nonnull MetadataChangeLog metadataChangeLog) {
+    // Joins the transaction of the current thread, if any
+    _server.insert(new EbeanChangeLogOutboxRow(urn.toString(), RecordUtils.toJsonString(metadataChangeLog),
+        new Timestamp(System.currentTimeMillis())));
+  }
+
+  @Nonnull
+  @Override
+  public List<ChangeLogOutboxEntry> claim(@Nonnull String owner, int limit, long leaseMillis) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final Timestamp expiry = new Timestamp(now.getTime() - leaseMillis);
+
+    final List<Long> candidates = _server.find(EbeanChangeLogOutboxRow.class)
+        .where()
+        .or()
+        .isNull(CLAIMED_BY_COLUMN)
+        .lt(CLAIMED_ON_COLUMN, expiry)
+        .endOr()
+        .orderBy()
+        .asc(ID_COLUMN)
+        .setMaxRows(limit)
+        .findIds();
+    if (!candidates.isEmpty()) {
+      // Only take over rows that nobody else claimed in the meantime
+      _server.createSqlUpdate(
+          String.format("UPDATE %s SET %s = :owner, %s = :now WHERE %s IN (%s) AND (%s IS NULL OR %s < :expiry)",
+              TABLE_NAME, CLAIMED_BY_COLUMN, CLAIMED_ON_COLUMN, ID_COLUMN, toInList(candidates), CLAIMED_BY_COLUMN,
+              CLAIMED_ON_COLUMN))
+          .setParameter("owner", owner)
+          .setParameter("now", now)
+          .setParameter("expiry", expiry)
+          .execute();
+    }
+
+    final List<EbeanChangeLogOutboxRow> owned = _server.find(EbeanChangeLogOutboxRow.class)
+        .where()
+        .eq(CLAIMED_BY_COLUMN, owner)
+        .orderBy()
+        .asc(ID_COLUMN)
+        .findList();
+    if (owned.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    // An entry may only be published once all the older entries of its urn are gone. Older entries that are still
+    // around belong to other owners (or nobody), so leave the urn to them.
+    final Map<String, Long> oldestForeignIds = getOldestForeignIds(owner,
+        owned.stream().map(EbeanChangeLogOutboxRow::getUrn).collect(Collectors.toSet()));
+    final List<ChangeLogOutboxEntry> claimed = new ArrayList<>(owned.size());
+    final List<Long> blocked = new ArrayList<>();
+    for (EbeanChangeLogOutboxRow row : owned) {
+      final Long oldestForeignId = oldestForeignIds.get(row.getUrn());
+      if (oldestForeignId != null && oldestForeignId < row.getId()) {
+        blocked.add(row.getId());
+      } else {
+        claimed.add(new ChangeLogOutboxEntry(row.getId(), UrnUtils.getUrn(row.getUrn()),
+            RecordUtils.toRecordTemplate(MetadataChangeLog.class, row.getPayload())));
+      }
+    }
+    if (!blocked.isEmpty()) {
+      log.debug("Releasing {} outbox entries waiting on older entries of the same urn", blocked.size());
+      release(owner, blocked);
+    }
+    return claimed;
+  }
+
+  @Override
+  public void delete(@Nonnull Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    _server.find(EbeanChangeLogOutboxRow.class).where().idIn(ids).delete();
+  }
+
+  @Override
+  public void release(@Nonnull String owner, @Nonnull Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    _server.createSqlUpdate(String.format("UPDATE %s SET %s = NULL, %s = NULL WHERE %s IN (%s) AND %s = :owner",
+        TABLE_NAME, CLAIMED_BY_COLUMN, CLAIMED_ON_COLUMN, ID_COLUMN, toInList(ids), CLAIMED_BY_COLUMN))
+        .setParameter("owner", owner)
+        .execute();
+  }
+
+  @Nonnull
+  private Map<String, Long> getOldestForeignIds(@Nonnull String owner, @Nonnull Set<String> urns) {
+    final List<EbeanChangeLogOutboxRow> foreignRows = _server.find(EbeanChangeLogOutboxRow.class)
+        .select(ID_COLUMN + ", " + URN_COLUMN)
+        .where()
+        .in(URN_COLUMN, urns)
+        .or()
+        .isNull(CLAIMED_BY_COLUMN)
+        .ne(CLAIMED_BY_COLUMN, owner)
+        .endOr()
+        .findList();
+    final Map<String, Long> oldestIds = new HashMap<>();
+    foreignRows.forEach(row -> oldestIds.merge(row.getUrn(), row.getId(), Math::min));
+    return oldestIds;
+  }
+
+  @Nonnull
+  private static String toInList(@Nonnull Collection<Long> ids) {
+    // Ids are numeric, so they can be inlined safely
+    return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+  }
+}
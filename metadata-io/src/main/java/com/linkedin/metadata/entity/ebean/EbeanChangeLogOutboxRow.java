@@ -0,0 +1,71 @@
+package com.linkedin.metadata.entity.ebean;
+
+import io.ebean.Model;
+import io.ebean.annotation.Index;
+import java.sql.Timestamp;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+
+/**
+ * Schema definition for the metadata change log outbox table.
+ *
+ * Rows are written in the same transaction as the aspect they describe, and deleted by the relay once published.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "metadata_changelog_outbox")
+public class EbeanChangeLogOutboxRow extends Model {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final String TABLE_NAME = "metadata_changelog_outbox";
+  public static final String ID_COLUMN = "id";
+  public static final String URN_COLUMN = "urn";
+  public static final String PAYLOAD_COLUMN = "payload";
+  public static final String CREATED_ON_COLUMN = "createdOn";
+  public static final String CLAIMED_BY_COLUMN = "claimedBy";
+  public static final String CLAIMED_ON_COLUMN = "claimedOn";
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = ID_COLUMN, nullable = false)
+  private Long id;
+
+  @NonNull
+  @Index
+  @Column(name = URN_COLUMN, length = 500, nullable = false)
+  private String urn;
+
+  @NonNull
+  @Lob
+  @Column(name = PAYLOAD_COLUMN, nullable = false)
+  private String payload;
+
+  @NonNull
+  @Column(name = CREATED_ON_COLUMN, nullable = false)
+  private Timestamp createdOn;
+
+  @Column(name = CLAIMED_BY_COLUMN, nullable = true)
+  private String claimedBy;
+
+  @Column(name = CLAIMED_ON_COLUMN, nullable = true)
+  private Timestamp claimedOn;
+
+  public EbeanChangeLogOutboxRow(@NonNull String urn, @NonNull String payload, @NonNull Timestamp createdOn) {
+    this.urn = urn;
+    this.payload = payload;
+    this.createdOn = createdOn;
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.ebean;
 
 import com.linkedin.common.urn.Urn;
 import com.datahub.util.RecordUtils;
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
@@ -248,7 +249,8 @@ public class EbeanRetentionService extends RetentionService {
         .findList()
         .stream()
         .collect(Collectors.toMap(EbeanAspectV2::getUrn,
-            row -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class, row.getMetadata())));
+            row -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class,
+                AspectStorageCodec.decode(row.getMetadata()))));
   }
 
   private ExpressionList<EbeanAspectV2> queryCandidates(@Nullable String urn,
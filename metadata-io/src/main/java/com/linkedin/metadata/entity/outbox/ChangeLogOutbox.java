@@ -0,0 +1,49 @@
+package com.linkedin.metadata.entity.outbox;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Durable queue of {@link MetadataChangeLog}s waiting to be published, stored alongside the aspects.
+ *
+ * {@link com.linkedin.metadata.entity.EntityService} appends the change log of an aspect write in the same transaction
+ * as the write itself, so that committed writes are never lost to a failed or interrupted produce. A
+ * {@link ChangeLogOutboxRelay} then claims, publishes and deletes the entries.
+ *
+ * Implementations must guarantee that, for a given urn, entries are only returned by {@link #claim} once every entry
+ * appended before them for the same urn has been deleted or is claimed by the same owner.
+ */
+public interface ChangeLogOutbox {
+
+  /**
+   * Append a change log to the outbox. Must be called within the transaction writing the aspect, so that both are
+   * committed or rolled back together.
+   */
+  void append(@Nonnull Urn urn, @Nonnull MetadataChangeLog metadataChangeLog);
+
+  /**
+   * Lease up to limit entries to the given owner, in the order they were appended. Entries whose lease expired are
+   * claimable again, which makes delivery at-least-once.
+   *
+   * @param owner unique id of the claiming relay worker
+   * @param limit max number of entries to claim
+   * @param leaseMillis time after which the entries may be claimed by another owner
+   * @return the claimed entries, ordered by id
+   */
+  @Nonnull
+  List<ChangeLogOutboxEntry> claim(@Nonnull String owner, int limit, long leaseMillis);
+
+  /**
+   * Delete published entries
+   */
+  void delete(@Nonnull Collection<Long> ids);
+
+  /**
+   * Give up the lease on entries that could not be published, so they can be claimed again
+   */
+  void release(@Nonnull String owner, @Nonnull Collection<Long> ids);
+}
@@ -0,0 +1,16 @@
+package com.linkedin.metadata.entity.outbox;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.mxe.MetadataChangeLog;
+import lombok.Value;
+
+
+/**
+ * A {@link MetadataChangeLog} claimed from a {@link ChangeLogOutbox}
+ */
+@Value
+public class ChangeLogOutboxEntry {
+  long id;
+  Urn urn;
+  MetadataChangeLog metadataChangeLog;
+}
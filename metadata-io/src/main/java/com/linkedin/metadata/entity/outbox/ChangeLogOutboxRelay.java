@@ -0,0 +1,196 @@
+package com.linkedin.metadata.entity.outbox;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Publishes the {@link MetadataChangeLog}s of a {@link ChangeLogOutbox} to Kafka.
+ *
+ * Each worker repeatedly claims a batch of entries, produces them in order and waits for the acknowledgements. Published
+ * entries are deleted. When an entry fails, it is released together with all the later entries of the same urn in the
+ * batch, even if those were acknowledged, so that they are produced again after it. Delivery is therefore
+ * at-least-once, and the latest change log produced for an urn always reflects its latest committed state.
+ */
+@Slf4j
+public class ChangeLogOutboxRelay {
+
+  private final ChangeLogOutbox _outbox;
+  private final EventProducer _producer;
+  private final EntityRegistry _entityRegistry;
+  private final int _workers;
+  private final int _batchSize;
+  private final long _pollIntervalMillis;
+  private final long _leaseMillis;
+  private final long _publishTimeoutMillis;
+  private final String _instanceId = UUID.randomUUID().toString();
+
+  private ScheduledExecutorService _executor;
+
+  public ChangeLogOutboxRelay(@Nonnull final ChangeLogOutbox outbox, @Nonnull final EventProducer producer,
+      @Nonnull final EntityRegistry entityRegistry, final int workers, final int batchSize,
+      final long pollIntervalMillis, final long leaseMillis, final long publishTimeoutMillis) {
+    _outbox = outbox;
+    _producer = producer;
+    _entityRegistry = entityRegistry;
+    _workers = workers;
+    _batchSize = batchSize;
+    _pollIntervalMillis = pollIntervalMillis;
+    _leaseMillis = leaseMillis;
+    _publishTimeoutMillis = publishTimeoutMillis;
+  }
+
+  public synchronized void start() {
+    if (_executor != null) {
+      return;
+    }
+    log.info("Starting {} change log outbox relay workers", _workers);
+    final AtomicInteger threadCount = new AtomicInteger();
+    _executor = Executors.newScheduledThreadPool(_workers, runnable -> {
+      final Thread thread = new Thread(runnable, "changelog-outbox-relay-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < _workers; i++) {
+      final String owner = _instanceId + "-" + i;
+      _executor.scheduleWithFixedDelay(() -> drain(owner), 0, _pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public synchronized void stop() {
+    if (_executor == null) {
+      return;
+    }
+    _executor.shutdown();
+    try {
+      if (!_executor.awaitTermination(_publishTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        _executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      _executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    _executor = null;
+  }
+
+  private void drain(@Nonnull String owner) {
+    try {
+      // Keep going while the outbox is backed up, instead of waiting for the next poll
+      while (relayBatch(owner) >= _batchSize && !Thread.currentThread().isInterrupted()) {
+        log.debug("Outbox relay worker {} relayed a full batch, claiming the next one", owner);
+      }
+    } catch (Exception e) {
+      // Claimed entries that were not released are picked up again once their lease expires
+      log.error("Failed to relay change log outbox entries", e);
+      MetricUtils.exceptionCounter(ChangeLogOutboxRelay.class, "relayFailed", e);
+    }
+  }
+
+  /**
+   * Claim, publish and delete a single batch of entries
+   *
+   * @return the number of entries claimed
+   */
+  @VisibleForTesting
+  public int relayBatch(@Nonnull String owner) {
+    final List<ChangeLogOutboxEntry> entries = _outbox.claim(owner, _batchSize, _leaseMillis);
+    if (entries.isEmpty()) {
+      return 0;
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(ChangeLogOutboxRelay.class, "relayBatch").time()) {
+      final List<Future<?>> futures = new ArrayList<>(entries.size());
+      for (ChangeLogOutboxEntry entry : entries) {
+        futures.add(produce(entry));
+      }
+
+      final long deadline = System.currentTimeMillis() + _publishTimeoutMillis;
+      final Set<Urn> failedUrns = new HashSet<>();
+      final List<Long> published = new ArrayList<>();
+      final List<Long> failed = new ArrayList<>();
+      for (int i = 0; i < entries.size(); i++) {
+        final ChangeLogOutboxEntry entry = entries.get(i);
+        if (failedUrns.contains(entry.getUrn())) {
+          failed.add(entry.getId());
+        } else if (await(entry, futures.get(i), deadline)) {
+          published.add(entry.getId());
+        } else {
+          failedUrns.add(entry.getUrn());
+          failed.add(entry.getId());
+        }
+      }
+
+      _outbox.delete(published);
+      _outbox.release(owner, failed);
+      MetricUtils.counter(ChangeLogOutboxRelay.class, "published").inc(published.size());
+      MetricUtils.counter(ChangeLogOutboxRelay.class, "released").inc(failed.size());
+    }
+    return entries.size();
+  }
+
+  @Nullable
+  private Future<?> produce(@Nonnull ChangeLogOutboxEntry entry) {
+    final MetadataChangeLog metadataChangeLog = entry.getMetadataChangeLog();
+    final AspectSpec aspectSpec = getAspectSpec(metadataChangeLog);
+    if (aspectSpec == null) {
+      // Nothing can be done about it, so do not let it hold up the urn forever
+      log.error("Dropping change log outbox entry {} for unknown aspect {} of entity {}", entry.getId(),
+          metadataChangeLog.getAspectName(), metadataChangeLog.getEntityType());
+      MetricUtils.counter(ChangeLogOutboxRelay.class, "dropped").inc();
+      return null;
+    }
+    try {
+      return _producer.produceMetadataChangeLog(entry.getUrn(), aspectSpec, metadataChangeLog);
+    } catch (Exception e) {
+      log.warn("Failed to produce change log outbox entry {} for urn {}", entry.getId(), entry.getUrn(), e);
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private boolean await(@Nonnull ChangeLogOutboxEntry entry, @Nullable Future<?> future, long deadline) {
+    if (future == null) {
+      return true;
+    }
+    try {
+      future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (Exception e) {
+      log.warn("Failed to publish change log outbox entry {} for urn {}", entry.getId(), entry.getUrn(), e);
+      return false;
+    }
+  }
+
+  @Nullable
+  private AspectSpec getAspectSpec(@Nonnull MetadataChangeLog metadataChangeLog) {
+    try {
+      final EntitySpec entitySpec = _entityRegistry.getEntitySpec(metadataChangeLog.getEntityType());
+      return entitySpec.getAspectSpec(metadataChangeLog.getAspectName());
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -12,6 +12,7 @@ import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.SystemMetadata;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -49,8 +50,9 @@ public interface EventProducer {
    * @param urn the urn associated with the entity changed
    * @param aspectSpec aspect spec of the aspect being updated
    * @param metadataChangeLog metadata change log to push into MCL kafka topic
+   * @return a future completed once the change log is acknowledged, or null if the producer does not track delivery
    */
-  void produceMetadataChangeLog(
+  Future<?> produceMetadataChangeLog(
       @Nonnull final Urn urn,
       @Nonnull AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog
@@ -72,8 +74,9 @@ public interface EventProducer {
    * @param name the name, or type, of the event to produce, as defined in the {@link EntityRegistry}.
    * @param key an optional partitioning key for the event. If not provided, the name of the event will be used.
    * @param payload the event payload itself. This will be serialized to JSON and produced as a system event.
+   * @return a future completed once the event is acknowledged, or null if the producer does not track delivery
    */
-  void producePlatformEvent(
+  Future<?> producePlatformEvent(
       @Nonnull String name,
       @Nullable String key,
       @Nonnull PlatformEvent payload
@@ -87,4 +90,10 @@ public interface EventProducer {
   void produceDataHubUpgradeHistoryEvent(
       @Nonnull DataHubUpgradeHistoryEvent event
   );
+
+  /**
+   * Blocks until all the events produced so far are sent, for producers sending events asynchronously.
+   */
+  default void flush() {
+  }
 }
@@ -9,6 +9,7 @@ import com.linkedin.metadata.search.utils.QueryUtils;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -228,6 +229,38 @@ public interface GraphService {
     return result;
   }
 
+  /**
+   * Traverse from all the given entityUrns at once towards the input direction up to maxHops number of hops, e.g. from
+   * all the members of a sibling group. An entity reachable from several of the urns is returned once, and the urns
+   * themselves are not returned.
+   *
+   * Unless overridden, it fetches the lineage of each urn and merges the results
+   */
+  @Nonnull
+  default EntityLineageResult getLineage(@Nonnull Set<Urn> entityUrns, @Nonnull LineageDirection direction,
+      int offset, int count, int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    final Map<Urn, LineageRelationship> relationships = new LinkedHashMap<>();
+    int total = 0;
+    for (Urn entityUrn : entityUrns) {
+      EntityLineageResult result =
+          getLineage(entityUrn, direction, 0, offset + count, maxHops, startTimeMillis, endTimeMillis);
+      total += result.getTotal();
+      result.getRelationships()
+          .stream()
+          .filter(relationship -> !entityUrns.contains(relationship.getEntity()))
+          .forEach(relationship -> relationships.putIfAbsent(relationship.getEntity(), relationship));
+    }
+    LineageRelationshipArray page = relationships.values()
+        .stream()
+        .skip(offset)
+        .limit(count)
+        .collect(Collectors.toCollection(LineageRelationshipArray::new));
+    return new EntityLineageResult().setStart(offset)
+        .setCount(page.size())
+        .setRelationships(page)
+        .setTotal(total);
+  }
+
   /**
    * Removes the given node (if it exists) as well as all edges (incoming and outgoing) of the node.
    */
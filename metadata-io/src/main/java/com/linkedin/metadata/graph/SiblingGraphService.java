@@ -1,20 +1,20 @@
 package com.linkedin.metadata.graph;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.Siblings;
-import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.shared.ValidationUtils;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -33,17 +33,16 @@ public class SiblingGraphService {
   @Nonnull
   public EntityLineageResult getLineage(@Nonnull Urn entityUrn, @Nonnull LineageDirection direction, int offset,
       int count, int maxHops) {
-    return ValidationUtils.validateEntityLineageResult(getLineage(
-            entityUrn,
-            direction,
-            offset,
-            count,
-            maxHops,
-            false,
-            new HashSet<>(),
-            null,
-            null),
-        _entityService);
+    return getLineage(
+        entityUrn,
+        direction,
+        offset,
+        count,
+        maxHops,
+        false,
+        new HashSet<>(),
+        null,
+        null);
   }
 
   /**
@@ -72,127 +71,105 @@ public class SiblingGraphService {
           String.format("More than 1 hop is not supported for %s", this.getClass().getSimpleName()));
     }
 
-    EntityLineageResult entityLineage =
-        _graphService.getLineage(
-            entityUrn,
-            direction,
-            offset,
-            count,
-            maxHops,
-            startTimeMillis,
-            endTimeMillis);
-
-    Siblings siblingAspectOfEntity = (Siblings) _entityService.getLatestAspect(entityUrn, SIBLINGS_ASPECT_NAME);
-
-    // if you have siblings, we want to fetch their lineage too and merge it in
-    if (siblingAspectOfEntity != null && siblingAspectOfEntity.hasSiblings()) {
-      UrnArray siblingUrns = siblingAspectOfEntity.getSiblings();
-      Set<Urn> allSiblingsInGroup = siblingUrns.stream().collect(Collectors.toSet());
-      allSiblingsInGroup.add(entityUrn);
-
-      // remove your siblings from your lineage
-      entityLineage =
-          filterLineageResultFromSiblings(entityUrn, allSiblingsInGroup, entityLineage, null);
-
-      // Update offset and count to fetch the correct number of edges from the next sibling node
-      offset = Math.max(0, offset - entityLineage.getTotal());
-      count = Math.max(0, count - entityLineage.getRelationships().size());
-
-      visitedUrns.add(entityUrn);
-      // iterate through each sibling and include their lineage in the bunch
-      for (Urn siblingUrn : siblingUrns) {
-        if (visitedUrns.contains(siblingUrn)) {
-          continue;
-        }
-        // need to call siblingGraphService to get sibling results for this sibling entity in case there is more than one sibling
-        EntityLineageResult nextEntityLineage = filterLineageResultFromSiblings(siblingUrn, allSiblingsInGroup,
-            getLineage(
-                siblingUrn,
-                direction,
-                offset,
-                count,
-                maxHops,
-                false,
-                visitedUrns,
-                startTimeMillis,
-                endTimeMillis),
-            entityLineage);
-
-        // Update offset and count to fetch the correct number of edges from the next sibling node
-        offset = Math.max(0, offset - nextEntityLineage.getTotal());
-        count = Math.max(0, count - nextEntityLineage.getCount() - entityLineage.getCount());
-
-        entityLineage = nextEntityLineage;
-      };
+    final Set<Urn> siblingGroup = getSiblingGroup(entityUrn);
+    visitedUrns.addAll(siblingGroup);
+
+    if (siblingGroup.size() == 1) {
+      return ValidationUtils.validateEntityLineageResult(_graphService.getLineage(
+          entityUrn,
+          direction,
+          offset,
+          count,
+          maxHops,
+          startTimeMillis,
+          endTimeMillis), _entityService);
     }
 
-    return ValidationUtils.validateEntityLineageResult(entityLineage, _entityService);
+    // if you have siblings, fetch the lineage of the whole group at once and merge it
+    final EntityLineageResult groupLineage = _graphService.getLineage(
+        siblingGroup,
+        direction,
+        offset,
+        count,
+        maxHops,
+        startTimeMillis,
+        endTimeMillis);
+
+    return ValidationUtils.validateEntityLineageResult(
+        filterLineageResultFromSiblings(siblingGroup, groupLineage), _entityService);
+  }
+
+  /**
+   * Returns the entity along with its siblings, and the siblings of those, reading the siblings aspects of each level
+   * in a single batch
+   */
+  @Nonnull
+  private Set<Urn> getSiblingGroup(@Nonnull final Urn entityUrn) {
+    final Set<Urn> siblingGroup = new LinkedHashSet<>();
+    siblingGroup.add(entityUrn);
+    Set<Urn> urnsToFetch = Collections.singleton(entityUrn);
+    while (!urnsToFetch.isEmpty()) {
+      final Map<Urn, List<RecordTemplate>> siblingAspects =
+          _entityService.getLatestAspects(urnsToFetch, ImmutableSet.of(SIBLINGS_ASPECT_NAME));
+      final Set<Urn> newSiblings = new LinkedHashSet<>();
+      for (Urn urn : urnsToFetch) {
+        getSiblingsAspect(siblingAspects, urn).filter(Siblings::hasSiblings)
+            .ifPresent(siblings -> siblings.getSiblings()
+                .stream()
+                .filter(siblingGroup::add)
+                .forEach(newSiblings::add));
+      }
+      urnsToFetch = newSiblings;
+    }
+    return siblingGroup;
   }
 
-  // takes a lineage result and removes any nodes that are siblings of some other node already in the result
+  // takes the lineage of a sibling group and removes the members of the group, duplicates, and any nodes that are
+  // siblings of some other node already in the result
   private EntityLineageResult filterLineageResultFromSiblings(
-      @Nonnull final Urn urn,
-      @Nonnull final Set<Urn> allSiblingsInGroup,
-      @Nonnull final EntityLineageResult entityLineageResult,
-      @Nullable final EntityLineageResult existingResult
+      @Nonnull final Set<Urn> siblingGroup,
+      @Nonnull final EntityLineageResult entityLineageResult
   ) {
-    // 1) remove the source entities siblings from this entity's downstreams
-    final List<LineageRelationship> filteredRelationships = entityLineageResult.getRelationships()
+    // 1) remove the siblings of the source entity, and any duplicates
+    final Map<Urn, LineageRelationship> relationshipsByUrn = new LinkedHashMap<>();
+    entityLineageResult.getRelationships()
         .stream()
-        .filter(lineageRelationship -> !allSiblingsInGroup.contains(lineageRelationship.getEntity())
-            || lineageRelationship.getEntity().equals(urn))
-        .collect(Collectors.toList());
-
-    // 2) filter out existing lineage to avoid duplicates in our combined result
-    final Set<Urn> existingUrns = existingResult != null
-        ? existingResult.getRelationships().stream().map(LineageRelationship::getEntity).collect(Collectors.toSet())
-        : new HashSet<>();
-    List<LineageRelationship> uniqueFilteredRelationships = filteredRelationships.stream().filter(
-        lineageRelationship -> !existingUrns.contains(lineageRelationship.getEntity())).collect(Collectors.toList());
-
-    // 3) combine this entity's lineage with the lineage we've already seen and remove duplicates
-    final List<LineageRelationship> combinedResults = Stream.concat(
-            uniqueFilteredRelationships.stream(),
-            existingResult != null ? existingResult.getRelationships().stream() : ImmutableList.<LineageRelationship>of().stream())
-        .collect(Collectors.toList());
-
-    // 4) fetch the siblings of each lineage result
-    final Set<Urn> combinedResultUrns = combinedResults.stream().map(result -> result.getEntity()).collect(Collectors.toSet());
-
-    final Map<Urn, List<RecordTemplate>> siblingAspects =
-        _entityService.getLatestAspects(combinedResultUrns, ImmutableSet.of(SIBLINGS_ASPECT_NAME));
-
-    // 5) if you are not primary & your sibling is in the results, filter yourself out of the return set
-    uniqueFilteredRelationships = combinedResults.stream().filter(result -> {
-      Optional<RecordTemplate> optionalSiblingsAspect = siblingAspects.get(result.getEntity()).stream().filter(
-          aspect -> aspect instanceof Siblings
-      ).findAny();
-
-      if (!optionalSiblingsAspect.isPresent()) {
-        return true;
-      }
+        .filter(lineageRelationship -> !siblingGroup.contains(lineageRelationship.getEntity()))
+        .forEach(lineageRelationship -> relationshipsByUrn.putIfAbsent(lineageRelationship.getEntity(),
+            lineageRelationship));
 
+    // 2) fetch the siblings of each lineage result
+    final Map<Urn, List<RecordTemplate>> siblingAspects = relationshipsByUrn.isEmpty()
+        ? Collections.emptyMap()
+        : _entityService.getLatestAspects(relationshipsByUrn.keySet(), ImmutableSet.of(SIBLINGS_ASPECT_NAME));
 
-      final Siblings siblingsAspect = (Siblings) optionalSiblingsAspect.get();
+    // 3) if you are not primary & your sibling is in the results, filter yourself out of the return set
+    final List<LineageRelationship> filteredRelationships = relationshipsByUrn.values().stream().filter(result -> {
+      final Optional<Siblings> optionalSiblingsAspect = getSiblingsAspect(siblingAspects, result.getEntity());
 
-      if (siblingsAspect.isPrimary()) {
+      if (!optionalSiblingsAspect.isPresent() || optionalSiblingsAspect.get().isPrimary()) {
         return true;
       }
 
       // if you are not primary and your sibling exists in the result set, filter yourself out
-      if (siblingsAspect.getSiblings().stream().anyMatch(
-          sibling -> combinedResultUrns.contains(sibling)
-      )) {
-        return false;
-      }
-
-      return true;
+      return optionalSiblingsAspect.get().getSiblings().stream().noneMatch(relationshipsByUrn::containsKey);
     }).collect(Collectors.toList());
 
-    entityLineageResult.setRelationships(new LineageRelationshipArray(uniqueFilteredRelationships));
-    entityLineageResult.setTotal(entityLineageResult.getTotal() + (existingResult != null ? existingResult.getTotal() : 0));
-    entityLineageResult.setCount(uniqueFilteredRelationships.size());
-    return ValidationUtils.validateEntityLineageResult(entityLineageResult, _entityService);
+    return new EntityLineageResult()
+        .setStart(entityLineageResult.getStart())
+        .setTotal(entityLineageResult.getTotal())
+        .setCount(filteredRelationships.size())
+        .setRelationships(new LineageRelationshipArray(filteredRelationships));
+  }
+
+  @Nonnull
+  private static Optional<Siblings> getSiblingsAspect(@Nonnull final Map<Urn, List<RecordTemplate>> aspects,
+      @Nonnull final Urn urn) {
+    return aspects.getOrDefault(urn, Collections.emptyList())
+        .stream()
+        .filter(aspect -> aspect instanceof Siblings)
+        .map(aspect -> (Siblings) aspect)
+        .findAny();
   }
 
 }
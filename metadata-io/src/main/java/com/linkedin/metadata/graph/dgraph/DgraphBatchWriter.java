@@ -0,0 +1,373 @@
+package com.linkedin.metadata.graph.dgraph;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.dgraph.DgraphClient;
+import io.dgraph.DgraphProto.Mutation;
+import io.dgraph.DgraphProto.Request;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Collects edge upserts and deletions and writes them to Dgraph in batches: a batch becomes a single
+ * upsert request whose query looks up every node touched by the batch once, followed by one mutation
+ * holding all deletions and one mutation holding all additions.
+ *
+ * A batch is written once it holds maxBatchSize writes, once flushInterval has passed, or when
+ * {@link #flush()} is called. As deletions of a request are applied before its additions, a deletion
+ * that follows an addition starts a new batch. Batches are written one at a time in the order they were
+ * closed, so writes are always applied in the order they were added.
+ *
+ * {@link #add(Write)} returns once the batch holding the write has been written, and throws the failure of
+ * that write only. Batching therefore pays off with many concurrent writers, each of them waiting at most
+ * flushInterval for its batch. Writes are added while a batch is being written, the lock guarding the
+ * pending writes is never held during a Dgraph request.
+ *
+ * When a batch fails, it is split into two halves that are written one after the other, so that
+ * only the conflicting subset is retried in the end and every write gets its own result.
+ * A single write is retried like any other Dgraph request.
+ */
+@Slf4j
+public class DgraphBatchWriter implements AutoCloseable {
+
+    // batches are only retried a few times before being split, single writes get the full number of attempts
+    private static final int BATCH_MAX_ATTEMPTS = 3;
+
+    private static final ScheduledExecutorService FLUSH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dgraph-batch-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final @Nonnull DgraphExecutor _dgraph;
+    private final @Nonnull DgraphExecutor _batchDgraph;
+    private final int _maxBatchSize;
+    private final @Nullable ScheduledFuture<?> _scheduledFlush;
+
+    // guarded by this
+    private List<PendingWrite> _pending = new ArrayList<>();
+    private boolean _pendingHasAdditions = false;
+    private final Queue<List<PendingWrite>> _batches = new ArrayDeque<>();
+
+    // held while writing batches, so that batches are written in order
+    private final Object _writeLock = new Object();
+
+    /**
+     * @param maxBatchSize number of writes batched into a single Dgraph request, 1 disables batching
+     * @param flushIntervalMillis interval at which incomplete batches are written, batching is disabled if not positive
+     */
+    public DgraphBatchWriter(@Nonnull DgraphClient client, int maxAttempts, int maxBatchSize, long flushIntervalMillis) {
+        this._dgraph = new DgraphExecutor(client, maxAttempts);
+        this._batchDgraph = new DgraphExecutor(client, Math.min(maxAttempts, BATCH_MAX_ATTEMPTS));
+        // without a periodic flush, writers of an incomplete batch would wait forever
+        this._maxBatchSize = flushIntervalMillis > 0 ? Math.max(1, maxBatchSize) : 1;
+
+        if (_maxBatchSize > 1) {
+            this._scheduledFlush = FLUSH_SCHEDULER.scheduleWithFixedDelay(this::scheduledFlush,
+                    flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this._scheduledFlush = null;
+        }
+    }
+
+    /**
+     * Adds the write to the current batch and waits until that batch is written.
+     * Exceptions of this write are thrown to the caller.
+     */
+    public void add(@Nonnull Write write) {
+        PendingWrite pending = new PendingWrite(write);
+        boolean closedBatch;
+        synchronized (this) {
+            if (write.isDeletion() && _pendingHasAdditions) {
+                closeBatch();
+            }
+
+            _pending.add(pending);
+            _pendingHasAdditions |= !write.isDeletion();
+
+            if (_pending.size() >= _maxBatchSize) {
+                closeBatch();
+            }
+            closedBatch = !_batches.isEmpty();
+        }
+
+        if (closedBatch) {
+            writeBatches();
+        }
+
+        try {
+            pending._result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Writes all pending writes to Dgraph. Failures are reported to the callers that added the failed writes.
+     */
+    public void flush() {
+        synchronized (this) {
+            closeBatch();
+        }
+        writeBatches();
+    }
+
+    @Override
+    public void close() {
+        if (_scheduledFlush != null) {
+            _scheduledFlush.cancel(false);
+        }
+        flush();
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            MetricUtils.exceptionCounter(DgraphBatchWriter.class, "scheduledFlush", e);
+            log.error("Failed to write batch of edges to Dgraph", e);
+        }
+    }
+
+    // must hold this
+    private void closeBatch() {
+        if (_pending.isEmpty()) {
+            return;
+        }
+
+        _batches.add(_pending);
+        _pending = new ArrayList<>();
+        _pendingHasAdditions = false;
+    }
+
+    private synchronized @Nullable List<PendingWrite> nextBatch() {
+        return _batches.poll();
+    }
+
+    private void writeBatches() {
+        synchronized (_writeLock) {
+            List<PendingWrite> batch;
+            while ((batch = nextBatch()) != null) {
+                try {
+                    write(batch);
+                } catch (Throwable e) {
+                    // do not leave the writers of this batch waiting
+                    batch.forEach(pending -> pending._result.completeExceptionally(e));
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void write(@Nonnull List<PendingWrite> batch) {
+        Request request = getRequest(batch.stream().map(pending -> pending._write).collect(Collectors.toList()));
+        if (batch.size() == 1) {
+            try {
+                _dgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+                batch.get(0)._result.complete(null);
+            } catch (RuntimeException e) {
+                batch.get(0)._result.completeExceptionally(e);
+            }
+            return;
+        }
+
+        try {
+            _batchDgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+            batch.forEach(pending -> pending._result.complete(null));
+        } catch (RuntimeException e) {
+            // Dgraph does not tell which part of the request failed, so narrow it down by halves
+            log.debug("Splitting batch of {} writes after {}", batch.size(), e.getMessage());
+            int half = batch.size() / 2;
+            write(batch.subList(0, half));
+            write(batch.subList(half, batch.size()));
+        }
+    }
+
+    protected static @Nonnull Request getRequest(@Nonnull List<Write> batch) {
+        RequestBuilder builder = new RequestBuilder();
+        batch.forEach(write -> write.addTo(builder));
+        return builder.build();
+    }
+
+    /**
+     * A single edge upsert or deletion that can be added to a batched request.
+     */
+    public interface Write {
+        boolean isDeletion();
+
+        void addTo(@Nonnull RequestBuilder request);
+    }
+
+    public static @Nonnull Write addEdge(@Nonnull Edge edge) {
+        return new Write() {
+            @Override
+            public boolean isDeletion() {
+                return false;
+            }
+
+            @Override
+            public void addTo(@Nonnull RequestBuilder request) {
+                // create source and destination nodes if they do not exist
+                // and create the new edge between them
+                // TODO: translate edge name to allowed dgraph uris
+                String src = request.upsertNode(edge.getSource());
+                String dst = request.upsertNode(edge.getDestination());
+                request.set(String.format("%s <%s> %s .", src, edge.getRelationshipType(), dst));
+            }
+        };
+    }
+
+    public static @Nonnull Write removeNode(@Nonnull Urn urn) {
+        return new Deletion() {
+            @Override
+            public void addTo(@Nonnull RequestBuilder request) {
+                request.delete(String.format("%s * * .", request.node(urn)));
+            }
+        };
+    }
+
+    public static @Nonnull Write removeOutgoingEdges(@Nonnull Urn urn, @Nonnull List<String> relationshipTypes) {
+        return new Deletion() {
+            @Override
+            public void addTo(@Nonnull RequestBuilder request) {
+                String node = request.node(urn);
+                relationshipTypes.forEach(relationshipType ->
+                        request.delete(String.format("%s <%s> * .", node, relationshipType)));
+            }
+        };
+    }
+
+    public static @Nonnull Write removeIncomingEdges(@Nonnull Urn urn, @Nonnull List<String> relationshipTypes) {
+        return new Deletion() {
+            @Override
+            public void addTo(@Nonnull RequestBuilder request) {
+                String node = request.node(urn);
+                StringJoiner reverseEdges = new StringJoiner("\n    ");
+                relationshipTypes.forEach(relationshipType -> {
+                    String uids = request.newVariable("uids");
+                    reverseEdges.add("<~" + relationshipType + "> { " + uids + " as uid }");
+                    request.delete(String.format("uid(%s) <%s> %s .", uids, relationshipType, node));
+                });
+                request.query(String.format(""
+                        + "  var(func: %s) @normalize {\n"
+                        + "    %s\n"
+                        + "  }", node, reverseEdges));
+            }
+        };
+    }
+
+    private static class PendingWrite {
+        private final @Nonnull Write _write;
+        private final CompletableFuture<Void> _result = new CompletableFuture<>();
+
+        private PendingWrite(@Nonnull Write write) {
+            this._write = write;
+        }
+    }
+
+    private abstract static class Deletion implements Write {
+        @Override
+        public boolean isDeletion() {
+            return true;
+        }
+    }
+
+    /**
+     * Builds a single upsert request from many writes. Each urn is looked up by exactly one query variable,
+     * so that writes of the same batch creating the same new node do not create duplicate nodes.
+     */
+    public static class RequestBuilder {
+        private final Map<Urn, String> _nodes = new LinkedHashMap<>();
+        private final Set<Urn> _upsertedNodes = new HashSet<>();
+        private final StringJoiner _query = new StringJoiner("\n", "query {\n", "\n}");
+        private final StringJoiner _deletions = new StringJoiner("\n");
+        private final StringJoiner _additions = new StringJoiner("\n");
+        private int _variables = 0;
+
+        /**
+         * Returns the uid variable of the node with the given urn.
+         */
+        public @Nonnull String node(@Nonnull Urn urn) {
+            String variable = _nodes.get(urn);
+            if (variable == null) {
+                variable = newVariable("node");
+                _nodes.put(urn, variable);
+                // TODO: add escape for string values
+                query(String.format("  %s as var(func: eq(<urn>, \"%s\"))", variable, urn));
+            }
+            return "uid(" + variable + ")";
+        }
+
+        /**
+         * Returns the uid variable of the node with the given urn, the node is created if it does not exist.
+         */
+        public @Nonnull String upsertNode(@Nonnull Urn urn) {
+            String node = node(urn);
+            if (_upsertedNodes.add(urn)) {
+                // TODO: add escape for string values
+                set(String.format("%s <dgraph.type> \"%s\" .", node, DgraphGraphService.getDgraphType(urn)));
+                set(String.format("%s <urn> \"%s\" .", node, urn));
+                set(String.format("%s <type> \"%s\" .", node, urn.getEntityType()));
+                set(String.format("%s <key> \"%s\" .", node, urn.getEntityKey()));
+            }
+            return node;
+        }
+
+        public @Nonnull String newVariable(@Nonnull String prefix) {
+            return prefix + (++_variables);
+        }
+
+        public void query(@Nonnull String block) {
+            _query.add(block);
+        }
+
+        public void delete(@Nonnull String nquad) {
+            _deletions.add(nquad);
+        }
+
+        public void set(@Nonnull String nquad) {
+            _additions.add(nquad);
+        }
+
+        public @Nonnull Request build() {
+            log.debug("Query: " + _query);
+            log.debug("Deletions: " + _deletions);
+            log.debug("Mutations: " + _additions);
+
+            Request.Builder request = Request.newBuilder()
+                    .setQuery(_query.toString())
+                    .setCommitNow(true);
+            if (_deletions.length() > 0) {
+                request.addMutations(Mutation.newBuilder()
+                        .setDelNquads(ByteString.copyFromUtf8(_deletions.toString()))
+                        .build());
+            }
+            if (_additions.length() > 0) {
+                request.addMutations(Mutation.newBuilder()
+                        .setSetNquads(ByteString.copyFromUtf8(_additions.toString()))
+                        .build());
+            }
+            return request.build();
+        }
+    }
+}
@@ -71,7 +71,7 @@ public class DgraphExecutor {
      * @param t exception from DgraphClient
      * @return true if this exception can be retried
      */
-    private static boolean isRetryableException(Throwable t) {
+    static boolean isRetryableException(Throwable t) {
         // unwrap RuntimeException and ExecutionException
         while (true) {
             if ((t instanceof RuntimeException || t instanceof ExecutionException) && t.getCause() != null) {
@@ -2,7 +2,6 @@ package com.linkedin.metadata.graph.dgraph;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.protobuf.ByteString;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
@@ -15,12 +14,9 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import io.dgraph.DgraphClient;
-import io.dgraph.DgraphProto.Mutation;
-import io.dgraph.DgraphProto.NQuad;
 import io.dgraph.DgraphProto.Operation;
 import io.dgraph.DgraphProto.Request;
 import io.dgraph.DgraphProto.Response;
-import io.dgraph.DgraphProto.Value;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -49,6 +45,7 @@ public class DgraphGraphService implements GraphService {
     private static final int MAX_ATTEMPTS = 160;
 
     private final @Nonnull DgraphExecutor _dgraph;
+    private final @Nonnull DgraphBatchWriter _writer;
     private final @Nonnull LineageRegistry _lineageRegistry;
 
     private static final String URN_RELATIONSHIP_TYPE = "urn";
@@ -60,9 +57,25 @@ public class DgraphGraphService implements GraphService {
     // we want to defer initialization of schema (accessing Dgraph server) to the first time accessing _schema
     private final DgraphSchema _schema = getSchema();
 
+    /**
+     * Writes every edge upsert and deletion in its own Dgraph request.
+     */
     public DgraphGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull DgraphClient client) {
+        this(lineageRegistry, client, 1, 0);
+    }
+
+    /**
+     * Batches edge upserts and deletions of concurrent writers, see {@link DgraphBatchWriter}.
+     * Each write waits for its batch, so a write can take up to flushIntervalMillis longer.
+     *
+     * @param maxBatchSize number of edge writes batched into a single Dgraph request, 1 disables batching
+     * @param flushIntervalMillis interval at which incomplete batches are written, batching is disabled if not positive
+     */
+    public DgraphGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull DgraphClient client,
+                              int maxBatchSize, long flushIntervalMillis) {
         _lineageRegistry = lineageRegistry;
         this._dgraph = new DgraphExecutor(client, MAX_ATTEMPTS);
+        this._writer = new DgraphBatchWriter(client, MAX_ATTEMPTS, maxBatchSize, flushIntervalMillis);
     }
 
     protected @Nonnull DgraphSchema getSchema() {
@@ -171,59 +184,10 @@ public class DgraphGraphService implements GraphService {
         String relationshipType = edge.getRelationshipType();
         get_schema().ensureField(sourceEntityType, relationshipType, URN_RELATIONSHIP_TYPE, TYPE_RELATIONSHIP_TYPE, KEY_RELATIONSHIP_TYPE);
 
-        // lookup the source and destination nodes
-        // TODO: add escape for string values
-        String query = String.format("query {\n"
-                + " src as var(func: eq(urn, \"%s\"))\n"
-                + " dst as var(func: eq(urn, \"%s\"))\n"
-                + "}", edge.getSource(), edge.getDestination());
-        String srcVar = "uid(src)";
-        String dstVar = "uid(dst)";
-
-        // edge case: source and destination are same node
-        if (edge.getSource().equals(edge.getDestination())) {
-            query = String.format("query {\n"
-                    + " node as var(func: eq(urn, \"%s\"))\n"
-                    + "}", edge.getSource());
-            srcVar = "uid(node)";
-            dstVar = "uid(node)";
-        }
-
-        // create source and destination nodes if they do not exist
-        // and create the new edge between them
-        // TODO: add escape for string values
-        // TODO: translate edge name to allowed dgraph uris
-        StringJoiner mutations = new StringJoiner("\n");
-        mutations.add(String.format("%s <dgraph.type> \"%s\" .", srcVar, getDgraphType(edge.getSource())));
-        mutations.add(String.format("%s <urn> \"%s\" .", srcVar, edge.getSource()));
-        mutations.add(String.format("%s <type> \"%s\" .", srcVar, edge.getSource().getEntityType()));
-        mutations.add(String.format("%s <key> \"%s\" .", srcVar, edge.getSource().getEntityKey()));
-        if (!edge.getSource().equals(edge.getDestination())) {
-            mutations.add(String.format("%s <dgraph.type> \"%s\" .", dstVar, getDgraphType(edge.getDestination())));
-            mutations.add(String.format("%s <urn> \"%s\" .", dstVar, edge.getDestination()));
-            mutations.add(String.format("%s <type> \"%s\" .", dstVar, edge.getDestination().getEntityType()));
-            mutations.add(String.format("%s <key> \"%s\" .", dstVar, edge.getDestination().getEntityKey()));
-        }
-        mutations.add(String.format("%s <%s> %s .", srcVar, edge.getRelationshipType(), dstVar));
-
-        log.debug("Query: " + query);
-        log.debug("Mutations: " + mutations);
-
-        // construct the upsert
-        Mutation mutation = Mutation.newBuilder()
-                .setSetNquads(ByteString.copyFromUtf8(mutations.toString()))
-                .build();
-        Request request = Request.newBuilder()
-                .setQuery(query)
-                .addMutations(mutation)
-                .setCommitNow(true)
-                .build();
-
-        // run the request
-        _dgraph.executeFunction(client -> client.newTransaction().doRequest(request));
+        _writer.add(DgraphBatchWriter.addEdge(edge));
     }
 
-    private static @Nonnull String getDgraphType(@Nonnull Urn urn) {
+    static @Nonnull String getDgraphType(@Nonnull Urn urn) {
         return urn.getNamespace() + ":" + urn.getEntityType();
     }
 
@@ -575,24 +539,7 @@ public class DgraphGraphService implements GraphService {
 
     @Override
     public void removeNode(@Nonnull Urn urn) {
-        String query = String.format("query {\n"
-                + " node as var(func: eq(urn, \"%s\"))\n"
-                + "}", urn);
-        String deletion = "uid(node) * * .";
-
-        log.debug("Query: " + query);
-        log.debug("Delete: " + deletion);
-
-        Mutation mutation = Mutation.newBuilder()
-                .setDelNquads(ByteString.copyFromUtf8(deletion))
-                .build();
-        Request request = Request.newBuilder()
-                .setQuery(query)
-                .addMutations(mutation)
-                .setCommitNow(true)
-                .build();
-
-        _dgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+        _writer.add(DgraphBatchWriter.removeNode(urn));
     }
 
     @Override
@@ -606,78 +553,26 @@ public class DgraphGraphService implements GraphService {
         RelationshipDirection direction = relationshipFilter.getDirection();
 
         if (direction == RelationshipDirection.OUTGOING || direction == RelationshipDirection.UNDIRECTED) {
-            removeOutgoingEdgesFromNode(urn, relationshipTypes);
+            _writer.add(DgraphBatchWriter.removeOutgoingEdges(urn, relationshipTypes));
         }
 
         if (direction == RelationshipDirection.INCOMING || direction == RelationshipDirection.UNDIRECTED) {
-            removeIncomingEdgesFromNode(urn, relationshipTypes);
+            _writer.add(DgraphBatchWriter.removeIncomingEdges(urn, relationshipTypes));
         }
     }
 
-    private void removeOutgoingEdgesFromNode(@Nonnull Urn urn,
-                                             @Nonnull List<String> relationshipTypes) {
-        // TODO: add escape for string values
-        String query = String.format("query {\n"
-                + "  node as var(func: eq(<urn>, \"%s\"))\n"
-                + "}", urn);
-
-        Value star = Value.newBuilder().setDefaultVal("_STAR_ALL").build();
-        List<NQuad> deletions = relationshipTypes.stream().map(relationshipType ->
-                NQuad.newBuilder()
-                        .setSubject("uid(node)")
-                        .setPredicate(relationshipType)
-                        .setObjectValue(star)
-                        .build()
-        ).collect(Collectors.toList());
-
-        log.debug("Query: " + query);
-        log.debug("Deletions: " + deletions);
-
-        Mutation mutation = Mutation.newBuilder()
-                .addAllDel(deletions)
-                .build();
-        Request request = Request.newBuilder()
-                .setQuery(query)
-                .addMutations(mutation)
-                .setCommitNow(true)
-                .build();
-
-        _dgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+    /**
+     * Writes all pending edge upserts and deletions to Dgraph.
+     */
+    public void flush() {
+        _writer.flush();
     }
 
-    private void removeIncomingEdgesFromNode(@Nonnull Urn urn,
-                                             @Nonnull List<String> relationshipTypes) {
-        // TODO: add escape for string values
-        StringJoiner reverseEdges = new StringJoiner("\n    ");
-        IntStream.range(0, relationshipTypes.size()).forEach(idx ->
-                reverseEdges.add("<~" + relationshipTypes.get(idx) + "> { uids" + (idx + 1) + " as uid }")
-        );
-        String query = String.format("query {\n"
-                + "  node as var(func: eq(<urn>, \"%s\"))\n"
-                + "\n"
-                + "  var(func: uid(node)) @normalize {\n"
-                + "    %s\n"
-                + "  }\n"
-                + "}", urn, reverseEdges);
-
-        StringJoiner deletions = new StringJoiner("\n");
-        IntStream.range(0, relationshipTypes.size()).forEach(idx ->
-                deletions.add("uid(uids" + (idx + 1) + ") <" + relationshipTypes.get(idx) + "> uid(node) .")
-        );
-
-        log.debug("Query: " + query);
-        log.debug("Deletions: " + deletions);
-
-        Mutation mutation = Mutation.newBuilder()
-                .setDelNquads(ByteString.copyFromUtf8(deletions.toString()))
-                .build();
-        Request request = Request.newBuilder()
-                .setQuery(query)
-                .addMutations(mutation)
-                .setCommitNow(true)
-                .build();
-
-        _dgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+    /**
+     * Writes all pending edge upserts and deletions and stops the periodic flush.
+     */
+    public void close() {
+        _writer.close();
     }
 
     @Override
@@ -687,6 +582,9 @@ public class DgraphGraphService implements GraphService {
     public void clear() {
         log.debug("dropping Dgraph data");
 
+        // pending writes must not end up in the emptied graph
+        _writer.flush();
+
         Operation dropAll = Operation.newBuilder().setDropOp(Operation.DropOp.ALL).build();
         _dgraph.executeConsumer(client -> client.alter(dropAll));
 
@@ -20,6 +20,7 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
@@ -30,7 +31,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -164,6 +164,15 @@ public class ESGraphQueryDAO {
   public LineageResponse getLineage(@Nonnull Urn entityUrn, @Nonnull LineageDirection direction,
       GraphFilters graphFilters, int offset, int count,
       int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    return getLineage(ImmutableList.of(entityUrn), direction, graphFilters, offset, count, maxHops, startTimeMillis,
+        endTimeMillis);
+  }
+
+  // Lineage of several entities at once, e.g. of a sibling group, each related entity being returned once
+  @WithSpan
+  public LineageResponse getLineage(@Nonnull List<Urn> entityUrns, @Nonnull LineageDirection direction,
+      GraphFilters graphFilters, int offset, int count,
+      int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
     List<LineageRelationship> result = new ArrayList<>();
     long currentTime = System.currentTimeMillis();
     long remainingTime = TIMEOUT_SECS * 1000;
@@ -171,9 +180,9 @@ public class ESGraphQueryDAO {
 
     // Do a Level-order BFS
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
-    visitedEntities.add(entityUrn);
+    visitedEntities.addAll(entityUrns);
     UrnArrayArray existingPaths = new UrnArrayArray();
-    List<Urn> currentLevel = ImmutableList.of(entityUrn);
+    List<Urn> currentLevel = entityUrns;
 
     for (int i = 0; i < maxHops; i++) {
       if (currentLevel.isEmpty()) {
@@ -182,7 +191,7 @@ public class ESGraphQueryDAO {
 
       if (remainingTime < 0) {
         log.info("Timed out while fetching lineage for {} with direction {}, maxHops {}. Returning results so far",
-            entityUrn, direction, maxHops);
+            entityUrns, direction, maxHops);
         break;
       }
 
@@ -222,18 +231,16 @@ public class ESGraphQueryDAO {
       long remainingTime, UrnArrayArray existingPaths, @Nullable Long startTimeMillis,
       @Nullable Long endTimeMillis) {
     List<List<Urn>> batches = Lists.partition(entityUrns, BATCH_SIZE);
-    return ConcurrencyUtils.getAllCompleted(batches.stream()
-            .map(batchUrns -> CompletableFuture.supplyAsync(
-                () -> getLineageRelationships(
-                    batchUrns,
-                    direction,
-                    graphFilters,
-                    visitedEntities,
-                    numHops,
-                    existingPaths,
-                    startTimeMillis,
-                    endTimeMillis)))
-            .collect(Collectors.toList()), remainingTime, TimeUnit.MILLISECONDS)
+    return ConcurrencyUtils.getAllCompleted(BoundedExecutors.GRAPH, batches,
+            batchUrns -> getLineageRelationships(
+                batchUrns,
+                direction,
+                graphFilters,
+                visitedEntities,
+                numHops,
+                existingPaths,
+                startTimeMillis,
+                endTimeMillis), remainingTime, TimeUnit.MILLISECONDS)
         .stream()
         .flatMap(List::stream)
         .collect(Collectors.toList());
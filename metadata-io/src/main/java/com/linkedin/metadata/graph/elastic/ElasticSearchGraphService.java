@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -254,6 +255,34 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
         .setTotal(lineageResponse.getTotal());
   }
 
+  @Nonnull
+  @WithSpan
+  @Override
+  public EntityLineageResult getLineage(@Nonnull Set<Urn> entityUrns, @Nonnull LineageDirection direction,
+      int offset, int count, int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    final GraphFilters graphFilters = new GraphFilters(entityUrns.stream()
+        .map(Urn::getEntityType)
+        .distinct()
+        .flatMap(entityType -> _lineageRegistry.getEntitiesWithLineageToEntityType(entityType).stream())
+        .distinct()
+        .collect(Collectors.toList()));
+    ESGraphQueryDAO.LineageResponse lineageResponse =
+        _graphReadDAO.getLineage(
+            new ArrayList<>(entityUrns),
+            direction,
+            graphFilters,
+            offset,
+            count,
+            maxHops,
+            startTimeMillis,
+            endTimeMillis);
+    return new EntityLineageResult().setRelationships(
+            new LineageRelationshipArray(lineageResponse.getLineageRelationships()))
+        .setStart(offset)
+        .setCount(count)
+        .setTotal(lineageResponse.getTotal());
+  }
+
   private Filter createUrnFilter(@Nonnull final Urn urn) {
     Filter filter = new Filter();
     CriterionArray criterionArray = new CriterionArray();
@@ -0,0 +1,172 @@
+package com.linkedin.metadata.recommendation;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationCacheScope;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Caches the modules produced by {@link RecommendationSource}s according to their {@link RecommendationCacheScope}.
+ *
+ * Entries are fresh for {@code ttlSeconds}. Once an entry is older than that it is still served, but a refresh is
+ * scheduled on a bounded background executor (stale-while-revalidate), so that only the very first request for a key
+ * pays the cost of computing the module. Entries older than {@code ttlSeconds + maxStalenessSeconds} are dropped and
+ * recomputed inline. When the refresh executor is saturated, refreshes are skipped and retried by a later request.
+ */
+@Slf4j
+public class RecommendationModuleCache {
+
+  private final Cache<CacheKey, CachedModule> _cache;
+  private final Executor _refreshExecutor;
+  private final Set<CacheKey> _pendingRefreshes = ConcurrentHashMap.newKeySet();
+  private final Map<String, RecommendationCacheScope> _scopeOverrides;
+  private final long _ttlMs;
+  private final Clock _clock;
+
+  public RecommendationModuleCache(long ttlSeconds, long maxStalenessSeconds, long maxSize, int refreshThreads,
+      int refreshQueueSize, @Nonnull Map<String, RecommendationCacheScope> scopeOverrides) {
+    this(ttlSeconds, maxStalenessSeconds, maxSize, buildRefreshExecutor(refreshThreads, refreshQueueSize),
+        scopeOverrides, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  RecommendationModuleCache(long ttlSeconds, long maxStalenessSeconds, long maxSize,
+      @Nonnull Executor refreshExecutor, @Nonnull Map<String, RecommendationCacheScope> scopeOverrides,
+      @Nonnull Clock clock) {
+    _ttlMs = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    _cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds + maxStalenessSeconds, TimeUnit.SECONDS)
+        .build();
+    _refreshExecutor = refreshExecutor;
+    _scopeOverrides = Collections.unmodifiableMap(scopeOverrides);
+    _clock = clock;
+  }
+
+  private static ThreadPoolExecutor buildRefreshExecutor(int refreshThreads, int refreshQueueSize) {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(refreshQueueSize),
+        new ThreadFactoryBuilder().setNameFormat("recommendation-refresh-%d").setDaemon(true).build(),
+        new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Returns the cache scope that applies to the source, taking configured overrides into account
+   */
+  @Nonnull
+  public RecommendationCacheScope getCacheScope(@Nonnull RecommendationSource source) {
+    return _scopeOverrides.getOrDefault(source.getModuleId(), source.getCacheScope());
+  }
+
+  /**
+   * Get the module of the source for the request, either from the cache or by computing it. Eligibility of the source
+   * is part of the cached result, so callers do not need to check it separately for cached sources.
+   *
+   * @param source Source of the module
+   * @param userUrn User requesting recommendations
+   * @param requestContext Context of where the recommendations are being requested
+   * @return the module, or empty if the source is not eligible or has no content
+   */
+  @Nonnull
+  public Optional<RecommendationModule> getRecommendationModule(@Nonnull RecommendationSource source,
+      @Nonnull Urn userUrn, @Nonnull RecommendationRequestContext requestContext) {
+    final RecommendationCacheScope scope = getCacheScope(source);
+    if (scope == RecommendationCacheScope.NONE) {
+      return source.getRecommendationModule(userUrn, requestContext);
+    }
+
+    final CacheKey key = new CacheKey(source.getModuleId(), requestContext.getScenario(),
+        scope == RecommendationCacheScope.USER ? userUrn.toString() : null);
+    final CachedModule cached = _cache.getIfPresent(key);
+    if (cached == null) {
+      MetricUtils.counter(this.getClass(), "miss").inc();
+      return load(key, source, userUrn, requestContext).getModule();
+    }
+
+    if (_clock.millis() - cached.getLoadedAtMs() >= _ttlMs) {
+      MetricUtils.counter(this.getClass(), "stale_hit").inc();
+      scheduleRefresh(key, source, userUrn, requestContext);
+    } else {
+      MetricUtils.counter(this.getClass(), "hit").inc();
+    }
+    return cached.getModule();
+  }
+
+  /**
+   * Drops all cached modules
+   */
+  public void invalidateAll() {
+    _cache.invalidateAll();
+  }
+
+  private CachedModule load(@Nonnull CacheKey key, @Nonnull RecommendationSource source, @Nonnull Urn userUrn,
+      @Nonnull RecommendationRequestContext requestContext) {
+    final Optional<RecommendationModule> module;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "load").time()) {
+      module = source.getRecommendationModule(userUrn, requestContext);
+    }
+    final CachedModule cached = new CachedModule(module, _clock.millis());
+    _cache.put(key, cached);
+    return cached;
+  }
+
+  private void scheduleRefresh(@Nonnull CacheKey key, @Nonnull RecommendationSource source, @Nonnull Urn userUrn,
+      @Nonnull RecommendationRequestContext requestContext) {
+    if (!_pendingRefreshes.add(key)) {
+      return;
+    }
+    try {
+      _refreshExecutor.execute(() -> {
+        try {
+          load(key, source, userUrn, requestContext);
+        } catch (Exception e) {
+          // Keep serving the stale module, a later request will try again
+          log.error("Failed to refresh recommendation module {}", key, e);
+          MetricUtils.exceptionCounter(this.getClass(), "refresh_failed", e);
+        } finally {
+          _pendingRefreshes.remove(key);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      _pendingRefreshes.remove(key);
+      MetricUtils.counter(this.getClass(), "refresh_rejected").inc();
+    }
+  }
+
+  @Value
+  private static class CacheKey {
+    String moduleId;
+    ScenarioType scenario;
+    @Nullable
+    String userUrn;
+  }
+
+  @Value
+  private static class CachedModule {
+    Optional<RecommendationModule> module;
+    long loadedAtMs;
+  }
+}
@@ -1,15 +1,18 @@
 package com.linkedin.metadata.recommendation;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationCacheScope;
 import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource;
 import com.linkedin.metadata.recommendation.ranker.RecommendationModuleRanker;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -18,13 +21,23 @@ public class RecommendationsService {
 
   private final List<RecommendationSource> _candidateSources;
   private final RecommendationModuleRanker _moduleRanker;
+  @Nullable
+  private final RecommendationModuleCache _moduleCache;
 
   public RecommendationsService(
       final List<RecommendationSource> candidateSources,
       final RecommendationModuleRanker moduleRanker) {
+    this(candidateSources, moduleRanker, null);
+  }
+
+  public RecommendationsService(
+      final List<RecommendationSource> candidateSources,
+      final RecommendationModuleRanker moduleRanker,
+      @Nullable final RecommendationModuleCache moduleCache) {
     validateRecommendationSources(candidateSources);
     _candidateSources = candidateSources;
     _moduleRanker = moduleRanker;
+    _moduleCache = moduleCache;
   }
 
   private void validateRecommendationSources(final List<RecommendationSource> candidateSources) {
@@ -55,10 +68,11 @@ public class RecommendationsService {
       @Nonnull Urn userUrn,
       @Nonnull RecommendationRequestContext requestContext,
       int limit) {
-    // Get recommendation candidates from sources which are eligible, in parallel
-    final List<RecommendationModule> candidateModules = ConcurrencyUtils.transformAndCollectAsync(_candidateSources.stream()
-        .filter(source -> source.isEligible(userUrn, requestContext))
-        .collect(Collectors.toList()), source -> source.getRecommendationModule(userUrn, requestContext), (source, exception) -> {
+    // Get recommendation candidates from sources which are eligible, in parallel. Eligibility of cached sources is
+    // resolved as part of the cached module.
+    final List<RecommendationModule> candidateModules = ConcurrencyUtils.transformAndCollectAsync(BoundedExecutors.RECOMMENDATION, _candidateSources.stream()
+        .filter(source -> isCached(source) || source.isEligible(userUrn, requestContext))
+        .collect(Collectors.toList()), source -> getRecommendationModule(source, userUrn, requestContext), (source, exception) -> {
       log.error("Error while fetching candidate modules from source {}", source, exception);
       return Optional.<RecommendationModule>empty();
     }).stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
@@ -66,4 +80,16 @@ public class RecommendationsService {
     // Rank recommendation modules, which determines their ordering during rendering
     return _moduleRanker.rank(candidateModules, userUrn, requestContext, limit);
   }
+
+  private boolean isCached(@Nonnull RecommendationSource source) {
+    return _moduleCache != null && _moduleCache.getCacheScope(source) != RecommendationCacheScope.NONE;
+  }
+
+  private Optional<RecommendationModule> getRecommendationModule(@Nonnull RecommendationSource source,
+      @Nonnull Urn userUrn, @Nonnull RecommendationRequestContext requestContext) {
+    if (_moduleCache == null) {
+      return source.getRecommendationModule(userUrn, requestContext);
+    }
+    return _moduleCache.getRecommendationModule(source, userUrn, requestContext);
+  }
 }
@@ -52,6 +52,11 @@ public abstract class EntitySearchAggregationSource implements RecommendationSou
    */
   protected abstract boolean isValueUrn();
 
+  @Override
+  public RecommendationCacheScope getCacheScope() {
+    return RecommendationCacheScope.GLOBAL;
+  }
+
   /**
    * Whether the urn candidate is valid
    */
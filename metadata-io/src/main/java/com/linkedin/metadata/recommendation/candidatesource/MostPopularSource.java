@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventConstants;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventType;
 import com.linkedin.metadata.entity.EntityService;
@@ -26,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.search.SearchRequest;
@@ -61,6 +63,12 @@ public class MostPopularSource implements RecommendationSource {
   private final RestHighLevelClient _searchClient;
   private final IndexConvention _indexConvention;
   private final EntityService _entityService;
+  /**
+   * When present, popularity is read from the incrementally maintained usage aggregates instead of aggregating over
+   * the raw usage event index.
+   */
+  @Nullable
+  private final DataHubUsageAggregatesService _usageAggregatesService;
 
   private static final String DATAHUB_USAGE_INDEX = "datahub_usage_event";
   private static final String ENTITY_AGG_NAME = "entity";
@@ -81,6 +89,11 @@ public class MostPopularSource implements RecommendationSource {
     return RecommendationRenderType.ENTITY_NAME_LIST;
   }
 
+  @Override
+  public RecommendationCacheScope getCacheScope() {
+    return RecommendationCacheScope.GLOBAL;
+  }
+
   @Override
   public boolean isEligible(@Nonnull Urn userUrn, @Nonnull RecommendationRequestContext requestContext) {
     boolean analyticsEnabled = false;
@@ -97,6 +110,9 @@ public class MostPopularSource implements RecommendationSource {
   @WithSpan
   public List<RecommendationContent> getRecommendations(@Nonnull Urn userUrn,
       @Nonnull RecommendationRequestContext requestContext) {
+    if (_usageAggregatesService != null) {
+      return getRecommendationsFromAggregates();
+    }
     SearchRequest searchRequest = buildSearchRequest(userUrn);
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getMostPopular").time()) {
       final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
@@ -115,6 +131,21 @@ public class MostPopularSource implements RecommendationSource {
     }
   }
 
+  private List<RecommendationContent> getRecommendationsFromAggregates() {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getMostPopularFromAggregates").time()) {
+      return _usageAggregatesService.getMostPopularEntities(MAX_CONTENT * 2)
+          .stream()
+          .map(this::buildContent)
+          .filter(Optional::isPresent)
+          .map(Optional::get)
+          .limit(MAX_CONTENT)
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      log.error("Failed to get most popular entities from usage aggregates", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+  }
+
   private SearchRequest buildSearchRequest(@Nonnull Urn userUrn) {
     // TODO: Proactively filter for entity types in the supported set.
     SearchRequest request = new SearchRequest();
@@ -3,6 +3,7 @@ package com.linkedin.metadata.recommendation.candidatesource;
 import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ESQueryException;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventConstants;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventType;
 import com.linkedin.metadata.recommendation.RecommendationContent;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.search.SearchRequest;
@@ -39,6 +41,12 @@ import org.elasticsearch.search.builder.SearchSourceBuilder;
 public class RecentlySearchedSource implements RecommendationSource {
   private final RestHighLevelClient _searchClient;
   private final IndexConvention _indexConvention;
+  /**
+   * When present, the user's recent searches are read from the incrementally maintained usage aggregates instead of
+   * aggregating over the raw usage event index.
+   */
+  @Nullable
+  private final DataHubUsageAggregatesService _usageAggregatesService;
 
   private static final String DATAHUB_USAGE_INDEX = "datahub_usage_event";
   private static final String ENTITY_AGG_NAME = "entity";
@@ -74,6 +82,9 @@ public class RecentlySearchedSource implements RecommendationSource {
   @Override
   public List<RecommendationContent> getRecommendations(@Nonnull Urn userUrn,
       @Nonnull RecommendationRequestContext requestContext) {
+    if (_usageAggregatesService != null) {
+      return getRecommendationsFromAggregates(userUrn);
+    }
     SearchRequest searchRequest = buildSearchRequest(userUrn);
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getRecentlySearched").time()) {
       final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
@@ -92,6 +103,21 @@ public class RecentlySearchedSource implements RecommendationSource {
     }
   }
 
+  private List<RecommendationContent> getRecommendationsFromAggregates(@Nonnull Urn userUrn) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getRecentlySearchedFromAggregates").time()) {
+      return _usageAggregatesService.getRecentSearches(userUrn.toString())
+          .stream()
+          .map(this::buildContent)
+          .filter(Optional::isPresent)
+          .map(Optional::get)
+          .limit(MAX_CONTENT)
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      log.error("Failed to get recent searches from usage aggregates", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+  }
+
   private SearchRequest buildSearchRequest(@Nonnull Urn userUrn) {
     SearchRequest request = new SearchRequest();
     SearchSourceBuilder source = new SearchSourceBuilder();
@@ -0,0 +1,20 @@
+package com.linkedin.metadata.recommendation.candidatesource;
+
+/**
+ * Describes how the module produced by a {@link RecommendationSource} may be shared between requests
+ */
+public enum RecommendationCacheScope {
+  /**
+   * Module is computed on every request
+   */
+  NONE,
+  /**
+   * Module only depends on the scenario, and is shared across all users
+   */
+  GLOBAL,
+  /**
+   * Module depends on the scenario and the requesting user. Modules reflecting the user's own recent activity are
+   * not cached by default, as a cached module would not show the activity the user just did
+   */
+  USER
+}
@@ -41,6 +41,14 @@ public interface RecommendationSource {
    */
   boolean isEligible(@Nonnull Urn userUrn, @Nonnull RecommendationRequestContext requestContext);
 
+  /**
+   * Returns how the module of this source may be cached. Sources whose module depends on more of the request context
+   * than the scenario and the requesting user must not be cached.
+   */
+  default RecommendationCacheScope getCacheScope() {
+    return RecommendationCacheScope.NONE;
+  }
+
   /**
    * Get recommended items (candidates / content) provided the context
    *
@@ -160,6 +160,14 @@ public interface EntitySearchService {
   @Nonnull
   List<String> getBrowsePaths(@Nonnull String entityName, @Nonnull Urn urn);
 
+  /**
+   * Records the browse paths of an entity, for backends that keep a dedicated browse index.
+   *
+   * @param entityName type of the entity
+   * @param browsePaths browse paths the entity is listed under
+   */
+  void addBrowsePaths(@Nonnull String entityName, @Nonnull List<String> browsePaths);
+
   /**
    * Max result size returned by the underlying search backend
    */
@@ -21,6 +21,7 @@ import com.linkedin.metadata.search.ranker.SearchRanker;
 import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.SearchUtil;
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.util.Pair;
 import io.opentelemetry.extension.annotations.WithSpan;
@@ -157,7 +158,7 @@ public class AllEntitiesSearchAggregator {
     Map<String, SearchResult> searchResults;
     // Query the entity search service for all entities asynchronously
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "searchEntities").time()) {
-      searchResults = ConcurrencyUtils.transformAndCollectAsync(entities, entity -> new Pair<>(entity,
+      searchResults = ConcurrencyUtils.transformAndCollectAsync(BoundedExecutors.SEARCH, entities, entity -> new Pair<>(entity,
           _cachingEntitySearchService.search(entity, input, postFilters, sortCriterion, queryFrom, querySize, searchFlags)))
           .stream()
           .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
@@ -21,4 +21,11 @@ public class CachedEntityLineageResult implements Serializable {
   public EntityLineageResult getEntityLineageResult() {
     return toRecordTemplate(EntityLineageResult.class, gzipDecompress(entityLineageResult));
   }
+
+  /**
+   * Size of the compressed lineage result, used to weigh cache entries without decompressing them
+   */
+  public int getCompressedSize() {
+    return entityLineageResult.length;
+  }
 }
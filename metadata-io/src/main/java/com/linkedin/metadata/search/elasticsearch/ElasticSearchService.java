@@ -7,6 +7,8 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.elasticsearch.autocomplete.ESAutocompleteDAO;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
@@ -15,6 +17,10 @@ import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
 
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,15 +41,47 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
   private final ESSearchDAO esSearchDAO;
   private final ESBrowseDAO esBrowseDAO;
   private final ESWriteDAO esWriteDAO;
+  @Nullable
+  private final ESBrowseTreeDAO esBrowseTreeDAO;
+  @Nullable
+  private final ESAutocompleteDAO esAutocompleteDAO;
+
+  public ElasticSearchService(EntityIndexBuilders indexBuilders, ESSearchDAO esSearchDAO, ESBrowseDAO esBrowseDAO,
+      ESWriteDAO esWriteDAO) {
+    this(indexBuilders, esSearchDAO, esBrowseDAO, esWriteDAO, null, null);
+  }
 
   @Override
   public void configure() {
     indexBuilders.reindexAll();
+    if (esBrowseTreeDAO != null) {
+      // Built after the entity indices, as it is backfilled from them when first created
+      esBrowseTreeDAO.configure();
+    }
+    if (esAutocompleteDAO != null) {
+      // Same as the browse tree, backfilled from the entity indices when first created
+      esAutocompleteDAO.configure();
+    }
   }
 
   @Override
   public List<ReindexConfig> getReindexConfigs() {
-    return indexBuilders.getReindexConfigs();
+    final List<ReindexConfig> reindexConfigs = new ArrayList<>(indexBuilders.getReindexConfigs());
+    if (esBrowseTreeDAO != null) {
+      try {
+        reindexConfigs.addAll(esBrowseTreeDAO.getReindexConfigs());
+      } catch (IOException e) {
+        throw new RuntimeException("Could not build the browse tree index config", e);
+      }
+    }
+    if (esAutocompleteDAO != null) {
+      try {
+        reindexConfigs.addAll(esAutocompleteDAO.getReindexConfigs());
+      } catch (IOException e) {
+        throw new RuntimeException("Could not build the autocomplete index config", e);
+      }
+    }
+    return reindexConfigs;
   }
 
   @Override
@@ -66,12 +104,19 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
     log.debug(String.format("Upserting Search document entityName: %s, document: %s, docId: %s", entityName, document,
         docId));
     esWriteDAO.upsertDocument(entityName, document, docId);
+    if (esAutocompleteDAO != null) {
+      esAutocompleteDAO.upsertDocument(entityName, document, docId);
+    }
   }
 
   @Override
   public void deleteDocument(@Nonnull String entityName, @Nonnull String docId) {
     log.debug(String.format("Deleting Search document entityName: %s, docId: %s", entityName, docId));
     esWriteDAO.deleteDocument(entityName, docId);
+    if (esAutocompleteDAO != null) {
+      // doc ids are url encoded urns, see SearchUtils.getDocId
+      esAutocompleteDAO.deleteSuggestions(entityName, URLDecoder.decode(docId, StandardCharsets.UTF_8));
+    }
   }
 
   @Override
@@ -137,9 +182,24 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
       @Nullable Filter requestParams, int limit) {
     log.debug(String.format("Autocompleting query entityName: %s, query: %s, field: %s, requestParams: %s, limit: %s",
         entityName, query, field, requestParams, limit));
+    if (esAutocompleteDAO != null && isEmpty(requestParams)) {
+      try {
+        return esAutocompleteDAO.autoComplete(entityName, query, field, limit);
+      } catch (IOException e) {
+        log.error("Autocomplete from the suggestion index failed, falling back to the entity index", e);
+      }
+    }
     return esSearchDAO.autoComplete(entityName, query, field, requestParams, limit);
   }
 
+  /**
+   * The suggestion index only knows about entity types and fields, filtered requests go to the entity index
+   */
+  private static boolean isEmpty(@Nullable Filter filter) {
+    return filter == null || ((filter.getOr() == null || filter.getOr().isEmpty())
+        && (filter.getCriteria() == null || filter.getCriteria().isEmpty()));
+  }
+
   @Nonnull
   @Override
   public Map<String, Long> aggregateByValue(@Nullable String entityName, @Nonnull String field,
@@ -166,6 +226,14 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
     return esBrowseDAO.getBrowsePaths(entityName, urn);
   }
 
+  @Override
+  public void addBrowsePaths(@Nonnull String entityName, @Nonnull List<String> browsePaths) {
+    if (esBrowseTreeDAO != null) {
+      log.debug("Adding browse paths for entity entityName: {}, browsePaths: {}", entityName, browsePaths);
+      esBrowseTreeDAO.addBrowsePaths(entityName, browsePaths);
+    }
+  }
+
   @Override
   public int maxResultSize() {
     return ESUtils.MAX_RESULT_SIZE;
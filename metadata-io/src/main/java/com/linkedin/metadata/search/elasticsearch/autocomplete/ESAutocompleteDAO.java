@@ -0,0 +1,521 @@
+package com.linkedin.metadata.search.elasticsearch.autocomplete;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.metadata.models.annotation.SearchableAnnotation;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.AutoCompleteEntity;
+import com.linkedin.metadata.query.AutoCompleteEntityArray;
+import com.linkedin.metadata.query.AutoCompleteResult;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.search.suggest.SuggestBuilder;
+import org.elasticsearch.search.suggest.SuggestBuilders;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestion;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestionBuilder;
+import org.elasticsearch.search.suggest.completion.context.CategoryQueryContext;
+
+import static com.linkedin.metadata.models.SearchableFieldSpecExtractor.PRIMARY_URN_SEARCH_PROPERTIES;
+
+
+/**
+ * Suggestion index serving autocomplete, holding one document per entity and autocomplete field.
+ *
+ * The values of a field are indexed as inputs of a completion field, which Elasticsearch keeps in an in-memory FST per
+ * segment, so a prefix lookup never touches the entity indices. Besides the full value, each word following a
+ * delimiter starts an input of its own, so that typing "customers" suggests "jaffle_shop.customers". Suggestions are
+ * ranked by the boost score of their field, and scoped by entity type, as well as by entity type and field for
+ * requests that autocomplete a single field.
+ *
+ * Documents are written whenever the search document of an entity is, and removed when the entity is deleted. Soft
+ * deleting an entity replaces its documents by markers without inputs, which later updates of its other aspects leave
+ * in place, until the entity is restored. Their ids are derived from the urn and field, so no lookup is needed to
+ * update or remove them.
+ */
+@Slf4j
+public class ESAutocompleteDAO {
+
+  public static final String INDEX_NAME = "autocomplete_v1";
+
+  private static final String FIELD_URN = "urn";
+  private static final String FIELD_ENTITY_TYPE = "entityType";
+  private static final String FIELD_FIELD = "field";
+  private static final String FIELD_VALUES = "values";
+  private static final String FIELD_SUGGEST = "suggest";
+  private static final String FIELD_REMOVED = "removed";
+  private static final String CONTEXT_SCOPE = "scope";
+  private static final String SUGGESTION_NAME = "autocomplete";
+  private static final String ANALYZER = "autocomplete_keyword";
+
+  // Field of the entity search documents marking soft deleted entities
+  private static final String ENTITY_REMOVED = "removed";
+
+  private static final String DELIMITERS = "._-/: ,()";
+  private static final int MAX_INPUTS_PER_VALUE = 10;
+  private static final int MAX_INPUT_LENGTH = 100;
+  // Several fields of the same entity can match, so more suggestions than needed are requested
+  private static final int OVERFETCH_FACTOR = 3;
+  private static final int BACKFILL_BATCH_SIZE = 1000;
+
+  // Replaces the whole document, so the completion inputs of previous values do not survive, or deletes it when no
+  // document is given, unless it marks a soft deleted entity
+  private static final String UPSERT_SCRIPT = "if (ctx._source." + FIELD_REMOVED + " == true) { ctx.op = 'noop' } "
+      + "else if (params.doc == null) { ctx.op = ctx._source.isEmpty() ? 'noop' : 'delete' } "
+      + "else { ctx._source.clear(); ctx._source.putAll(params.doc) }";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final RestHighLevelClient _searchClient;
+  private final ESBulkProcessor _bulkProcessor;
+  private final IndexConvention _indexConvention;
+  private final ESIndexBuilder _indexBuilder;
+  private final EntityRegistry _entityRegistry;
+  private final int _numRetries;
+  private final Map<String, Map<String, Double>> _fieldBoostsByEntity = new ConcurrentHashMap<>();
+
+  @Value
+  @VisibleForTesting
+  static class Suggestion {
+    String field;
+    List<String> values;
+    List<String> inputs;
+    int weight;
+  }
+
+  public ESAutocompleteDAO(@Nonnull RestHighLevelClient searchClient, @Nonnull ESBulkProcessor bulkProcessor,
+      @Nonnull IndexConvention indexConvention, @Nonnull ESIndexBuilder indexBuilder,
+      @Nonnull EntityRegistry entityRegistry, int numRetries) {
+    _searchClient = searchClient;
+    _bulkProcessor = bulkProcessor;
+    _indexConvention = indexConvention;
+    _indexBuilder = indexBuilder;
+    _entityRegistry = entityRegistry;
+    _numRetries = numRetries;
+  }
+
+  /**
+   * Updates the suggestions of an entity from a (partial) search document: fields present in the document replace
+   * their suggestions, soft deleting the entity removes all of them and restoring it re-reads the entity document.
+   * Fields of a soft deleted entity are not suggested until it is restored.
+   *
+   * @param entityName type of the entity
+   * @param document search document being upserted
+   * @param docId id of the search document
+   */
+  public void upsertDocument(@Nonnull String entityName, @Nonnull String document, @Nonnull String docId) {
+    final JsonNode node;
+    try {
+      node = OBJECT_MAPPER.readTree(document);
+    } catch (IOException e) {
+      log.error("Failed to parse search document {} of {}", docId, entityName, e);
+      return;
+    }
+    if (!node.hasNonNull(FIELD_URN)) {
+      return;
+    }
+    final String urn = node.get(FIELD_URN).asText();
+    final JsonNode removed = node.get(ENTITY_REMOVED);
+    if (removed != null && removed.asBoolean()) {
+      markRemoved(entityName, urn);
+      return;
+    }
+    if (removed != null) {
+      // The fields of a restored entity are not part of the document updating its status
+      deleteSuggestions(entityName, urn);
+      restoreSuggestions(entityName, urn, docId);
+      return;
+    }
+
+    final Map<String, Double> fieldBoosts = getFieldBoosts(entityName);
+    fieldBoosts.forEach((field, boost) -> {
+      if (node.has(field)) {
+        final Suggestion suggestion = toSuggestion(field, boost, toValues(node.get(field)));
+        if (suggestion != null) {
+          upsertSuggestion(entityName, urn, suggestion);
+        } else {
+          updateSuggestionDocument(entityName, urn, field, null);
+        }
+      }
+    });
+  }
+
+  /**
+   * Removes the suggestions of a deleted entity.
+   *
+   * @param entityName type of the entity
+   * @param urn urn of the entity
+   */
+  public void deleteSuggestions(@Nonnull String entityName, @Nonnull String urn) {
+    getFieldBoosts(entityName).keySet().forEach(field ->
+        _bulkProcessor.add(new DeleteRequest(getIndexName()).id(toDocId(entityName, urn, field))));
+  }
+
+  /**
+   * Replaces the suggestions of a soft deleted entity by markers, so that updates of its other aspects do not add them
+   * back
+   */
+  private void markRemoved(@Nonnull String entityName, @Nonnull String urn) {
+    getFieldBoosts(entityName).keySet().forEach(field -> {
+      final Map<String, Object> document = new HashMap<>();
+      document.put(FIELD_URN, urn);
+      document.put(FIELD_ENTITY_TYPE, entityName);
+      document.put(FIELD_FIELD, field);
+      document.put(FIELD_REMOVED, true);
+      _bulkProcessor.add(new IndexRequest(getIndexName()).id(toDocId(entityName, urn, field)).source(document));
+    });
+  }
+
+  /**
+   * Returns the entities whose autocomplete fields start with the input, or contain a word starting with it.
+   *
+   * @param entityName type of the entities to suggest
+   * @param input what the user typed so far
+   * @param field field to autocomplete, all autocomplete fields of the entity if null
+   * @param limit max number of suggestions and entities to return
+   */
+  @Nonnull
+  public AutoCompleteResult autoComplete(@Nonnull String entityName, @Nonnull String input, @Nullable String field,
+      int limit) throws IOException {
+    final String scope = field == null || field.isEmpty() ? entityName : entityName + "." + field;
+    final CompletionSuggestionBuilder completion = SuggestBuilders.completionSuggestion(FIELD_SUGGEST)
+        .prefix(input.trim())
+        .size(limit * OVERFETCH_FACTOR)
+        .contexts(Collections.singletonMap(CONTEXT_SCOPE,
+            Collections.singletonList(CategoryQueryContext.builder().setCategory(scope).build())));
+    final SearchSourceBuilder source = new SearchSourceBuilder()
+        .suggest(new SuggestBuilder().addSuggestion(SUGGESTION_NAME, completion))
+        .fetchSource(new String[]{FIELD_URN, FIELD_VALUES}, null);
+    final SearchResponse response =
+        _searchClient.search(new SearchRequest(getIndexName()).source(source), RequestOptions.DEFAULT);
+
+    final Set<String> suggestions = new LinkedHashSet<>();
+    final Map<String, AutoCompleteEntity> entities = new LinkedHashMap<>();
+    final CompletionSuggestion suggestion = response.getSuggest() != null
+        ? response.getSuggest().getSuggestion(SUGGESTION_NAME) : null;
+    if (suggestion != null) {
+      for (CompletionSuggestion.Entry.Option option : suggestion.getOptions()) {
+        final Map<String, Object> hit = option.getHit().getSourceAsMap();
+        if (suggestions.size() < limit) {
+          suggestions.add(getMatchedValue(toStrings(hit.get(FIELD_VALUES)), option.getText().string()));
+        }
+        final String urn = (String) hit.get(FIELD_URN);
+        if (entities.size() < limit && !entities.containsKey(urn)) {
+          try {
+            entities.put(urn, new AutoCompleteEntity().setUrn(Urn.createFromString(urn)));
+          } catch (URISyntaxException e) {
+            log.error("Invalid urn {} in autocomplete index", urn, e);
+          }
+        }
+      }
+    }
+    return new AutoCompleteResult()
+        .setQuery(input)
+        .setSuggestions(new StringArray(suggestions))
+        .setEntities(new AutoCompleteEntityArray(entities.values()));
+  }
+
+  /**
+   * Returns the suggestion of a field, or null if the field has no value to suggest
+   */
+  @VisibleForTesting
+  @Nullable
+  static Suggestion toSuggestion(@Nonnull String field, double boostScore, @Nonnull List<String> values) {
+    final Set<String> inputs = new LinkedHashSet<>();
+    for (String value : values) {
+      inputs.addAll(getInputs(value, !FIELD_URN.equals(field)));
+    }
+    if (inputs.isEmpty()) {
+      return null;
+    }
+    // completion weights are integers, keep one decimal of the boost score
+    final int weight = (int) Math.max(1, Math.round(boostScore * 10));
+    return new Suggestion(field, values, new ArrayList<>(inputs), weight);
+  }
+
+  /**
+   * Returns the value itself, and unless it is a urn, each suffix of the value starting at a word.
+   *
+   * <p>Example: jaffle_shop.customers => jaffle_shop.customers, shop.customers, customers
+   */
+  @VisibleForTesting
+  @Nonnull
+  static List<String> getInputs(@Nonnull String value, boolean includeWords) {
+    final String trimmed = value.trim();
+    final List<String> inputs = new ArrayList<>();
+    if (trimmed.isEmpty()) {
+      return inputs;
+    }
+    inputs.add(truncate(trimmed));
+    if (!includeWords) {
+      return inputs;
+    }
+    for (int i = 1; i < trimmed.length() && inputs.size() < MAX_INPUTS_PER_VALUE; i++) {
+      if (DELIMITERS.indexOf(trimmed.charAt(i - 1)) >= 0 && DELIMITERS.indexOf(trimmed.charAt(i)) < 0) {
+        inputs.add(truncate(trimmed.substring(i)));
+      }
+    }
+    return inputs;
+  }
+
+  private static String truncate(@Nonnull String input) {
+    return input.length() > MAX_INPUT_LENGTH ? input.substring(0, MAX_INPUT_LENGTH) : input;
+  }
+
+  /**
+   * Returns the value the matched input was derived from
+   */
+  @Nonnull
+  private static String getMatchedValue(@Nonnull List<String> values, @Nonnull String input) {
+    return values.stream()
+        .filter(value -> truncate(value.trim()).equals(input) || value.trim().endsWith(input))
+        .findFirst()
+        .orElse(input);
+  }
+
+  private void upsertSuggestion(@Nonnull String entityName, @Nonnull String urn, @Nonnull Suggestion suggestion) {
+    final Map<String, Object> document = new HashMap<>();
+    document.put(FIELD_URN, urn);
+    document.put(FIELD_ENTITY_TYPE, entityName);
+    document.put(FIELD_FIELD, suggestion.getField());
+    document.put(FIELD_VALUES, suggestion.getValues());
+    document.put(FIELD_SUGGEST, ImmutableMap.of(
+        "input", suggestion.getInputs(),
+        "weight", suggestion.getWeight(),
+        "contexts", ImmutableMap.of(CONTEXT_SCOPE, List.of(entityName, entityName + "." + suggestion.getField()))));
+    updateSuggestionDocument(entityName, urn, suggestion.getField(), document);
+  }
+
+  /**
+   * Replaces the suggestion document of a field, or deletes it if the document is null, unless the entity is soft
+   * deleted
+   */
+  private void updateSuggestionDocument(@Nonnull String entityName, @Nonnull String urn, @Nonnull String field,
+      @Nullable Map<String, Object> document) {
+    final Map<String, Object> params = document == null
+        ? Collections.emptyMap() : Collections.singletonMap("doc", document);
+    // the script also runs when the document does not exist yet, on an empty document
+    _bulkProcessor.add(new UpdateRequest(getIndexName(), toDocId(entityName, urn, field))
+        .script(new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, UPSERT_SCRIPT, params))
+        .scriptedUpsert(true)
+        .upsert(Collections.emptyMap())
+        .retryOnConflict(_numRetries));
+  }
+
+  private void restoreSuggestions(@Nonnull String entityName, @Nonnull String urn, @Nonnull String docId) {
+    final EntitySpec entitySpec = _entityRegistry.getEntitySpec(entityName);
+    try {
+      final GetResponse response = _searchClient.get(
+          new GetRequest(_indexConvention.getIndexName(entitySpec), docId), RequestOptions.DEFAULT);
+      if (response.isExists()) {
+        indexEntity(entityName, urn, response.getSourceAsMap());
+      }
+    } catch (IOException e) {
+      log.error("Failed to read search document {} of {} to restore its suggestions", docId, entityName, e);
+    }
+  }
+
+  private void indexEntity(@Nonnull String entityName, @Nonnull String urn, @Nonnull Map<String, Object> source) {
+    getFieldBoosts(entityName).forEach((field, boost) -> {
+      final Suggestion suggestion = toSuggestion(field, boost, toStrings(source.get(field)));
+      if (suggestion != null) {
+        upsertSuggestion(entityName, urn, suggestion);
+      }
+    });
+  }
+
+  /**
+   * Autocomplete fields of an entity type by name, with the boost score used to rank their suggestions
+   */
+  @Nonnull
+  private Map<String, Double> getFieldBoosts(@Nonnull String entityName) {
+    return _fieldBoostsByEntity.computeIfAbsent(entityName, name -> {
+      final Map<String, Double> fieldBoosts = new LinkedHashMap<>();
+      for (SearchableFieldSpec fieldSpec : _entityRegistry.getEntitySpec(name).getSearchableFieldSpecs()) {
+        final SearchableAnnotation annotation = fieldSpec.getSearchableAnnotation();
+        if (annotation.isEnableAutocomplete()) {
+          fieldBoosts.merge(annotation.getFieldName(), annotation.getBoostScore(), Math::max);
+        }
+      }
+      fieldBoosts.put(FIELD_URN, Double.parseDouble((String) PRIMARY_URN_SEARCH_PROPERTIES.get("boostScore")));
+      return fieldBoosts;
+    });
+  }
+
+  @Nonnull
+  private static List<String> toValues(@Nullable JsonNode node) {
+    if (node == null || node.isNull()) {
+      return Collections.emptyList();
+    }
+    if (node.isArray()) {
+      final List<String> values = new ArrayList<>();
+      node.forEach(element -> {
+        if (element.isValueNode()) {
+          values.add(element.asText());
+        }
+      });
+      return values;
+    }
+    return node.isValueNode() ? Collections.singletonList(node.asText()) : Collections.emptyList();
+  }
+
+  @Nonnull
+  private static List<String> toStrings(@Nullable Object value) {
+    if (value instanceof List) {
+      return ((List<?>) value).stream()
+          .filter(element -> element != null && !(element instanceof Map))
+          .map(Object::toString)
+          .collect(Collectors.toList());
+    }
+    return value == null || value instanceof Map ? Collections.emptyList() : Collections.singletonList(value.toString());
+  }
+
+  /**
+   * Adds the suggestions of all the entities currently in the search index of an entity type
+   */
+  private void backfill(@Nonnull EntitySpec entitySpec) throws IOException {
+    final String entityIndexName = _indexConvention.getIndexName(entitySpec);
+    if (!_searchClient.indices().exists(new GetIndexRequest(entityIndexName), RequestOptions.DEFAULT)) {
+      return;
+    }
+    log.info("Backfilling autocomplete suggestions of {} from index {}", entitySpec.getName(), entityIndexName);
+    final String[] fields = getFieldBoosts(entitySpec.getName()).keySet().toArray(new String[0]);
+    long count = 0;
+    Object[] searchAfter = null;
+    while (true) {
+      final SearchSourceBuilder source = new SearchSourceBuilder()
+          .query(QueryBuilders.boolQuery().mustNot(QueryBuilders.termQuery(ENTITY_REMOVED, true)))
+          .fetchSource(fields, null)
+          .sort(FIELD_URN, SortOrder.ASC)
+          .size(BACKFILL_BATCH_SIZE);
+      if (searchAfter != null) {
+        source.searchAfter(searchAfter);
+      }
+      final SearchHit[] hits = _searchClient.search(new SearchRequest(entityIndexName).source(source),
+          RequestOptions.DEFAULT).getHits().getHits();
+      for (SearchHit hit : hits) {
+        final Map<String, Object> hitSource = hit.getSourceAsMap();
+        if (hitSource.get(FIELD_URN) != null) {
+          indexEntity(entitySpec.getName(), hitSource.get(FIELD_URN).toString(), hitSource);
+          count++;
+        }
+      }
+      if (hits.length < BACKFILL_BATCH_SIZE) {
+        break;
+      }
+      searchAfter = hits[hits.length - 1].getSortValues();
+    }
+    log.info("Backfilled autocomplete suggestions of {} {} entities", count, entitySpec.getName());
+  }
+
+  private String getIndexName() {
+    return _indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  private static String toDocId(@Nonnull String entityName, @Nonnull String urn, @Nonnull String field) {
+    final String rawDocId = entityName + "|" + urn + "|" + field;
+    try {
+      final byte[] digest = MessageDigest.getInstance("MD5").digest(rawDocId.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      log.error("Failed to hash doc id {}", rawDocId, e);
+      return rawDocId;
+    }
+  }
+
+  private static Map<String, Object> getMappings() {
+    final Map<String, Object> keyword = ImmutableMap.of("type", "keyword");
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(FIELD_URN, keyword);
+    mappings.put(FIELD_ENTITY_TYPE, keyword);
+    mappings.put(FIELD_FIELD, keyword);
+    mappings.put(FIELD_VALUES, ImmutableMap.of("type", "keyword", "index", false));
+    mappings.put(FIELD_REMOVED, ImmutableMap.of("type", "boolean"));
+    mappings.put(FIELD_SUGGEST, ImmutableMap.of(
+        "type", "completion",
+        "analyzer", ANALYZER,
+        "max_input_length", MAX_INPUT_LENGTH,
+        "contexts", List.of(ImmutableMap.of("name", CONTEXT_SCOPE, "type", "category"))));
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  private static Map<String, Object> getSettings() {
+    // inputs are matched as a whole, so that prefixes may span delimiters like in "shop.cust"
+    return ImmutableMap.of("analysis", ImmutableMap.of("analyzer", ImmutableMap.of(ANALYZER, ImmutableMap.of(
+        "type", "custom",
+        "tokenizer", "keyword",
+        "filter", List.of("lowercase", "asciifolding")))));
+  }
+
+  /**
+   * Creates the autocomplete index, and fills it from the entity indices the first time around
+   */
+  public void configure() {
+    log.info("Setting up autocomplete index");
+    try {
+      final boolean exists =
+          _searchClient.indices().exists(new GetIndexRequest(getIndexName()), RequestOptions.DEFAULT);
+      for (ReindexConfig config : getReindexConfigs()) {
+        _indexBuilder.buildIndex(config);
+      }
+      if (!exists) {
+        for (EntitySpec entitySpec : _entityRegistry.getEntitySpecs().values()) {
+          if (entitySpec.getSearchableFieldSpecs().stream()
+              .anyMatch(fieldSpec -> fieldSpec.getSearchableAnnotation().isEnableAutocomplete())) {
+            backfill(entitySpec);
+          }
+        }
+      }
+    } catch (IOException ie) {
+      throw new RuntimeException("Could not configure autocomplete index", ie);
+    }
+  }
+
+  @Nonnull
+  public List<ReindexConfig> getReindexConfigs() throws IOException {
+    return List.of(_indexBuilder.buildReindexState(getIndexName(), getMappings(), getSettings()));
+  }
+}
@@ -0,0 +1,352 @@
+package com.linkedin.metadata.search.elasticsearch.browse;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+
+
+/**
+ * Materialized browse tree, holding one document per browse path node of each entity type.
+ *
+ * Nodes are upserted whenever the browse paths of an entity are indexed, so that the children of a path can be listed
+ * and paged directly instead of through a regex terms aggregation over the browse paths of the whole entity index.
+ *
+ * Change logs of deleted entities do not carry their browse paths, so nodes are not removed when their last entity
+ * leaves them. Instead, how many entities are under a node is counted at browse time, and nodes found without any
+ * entity are removed by {@link #removeEmptyNodes}. Each node records when an entity was last added to it, and nodes
+ * are only removed once that is longer ago than it takes for a new entity to become searchable, so that a node is not
+ * removed while the entity being added to it is still on its way to the entity index.
+ */
+@Slf4j
+public class ESBrowseTreeDAO {
+
+  public static final String INDEX_NAME = "browse_tree_v1";
+
+  private static final String FIELD_ENTITY_TYPE = "entityType";
+  private static final String FIELD_PATH = "path";
+  private static final String FIELD_PARENT_PATH = "parentPath";
+  private static final String FIELD_NAME = "name";
+  private static final String FIELD_DEPTH = "depth";
+  private static final String FIELD_LAST_ADDED = "lastAdded";
+
+  // Field names of the entity search documents read by the backfill
+  private static final String ENTITY_BROWSE_PATHS = "browsePaths";
+  private static final String ENTITY_URN = "urn";
+
+  private static final int BACKFILL_BATCH_SIZE = 1000;
+  private static final int CHILDREN_PAGE_SIZE = 1000;
+
+  // lastAdded is rounded down to this, so that re-adding an existing node is mostly a noop on the Elasticsearch side
+  private static final long LAST_ADDED_PRECISION_MS = TimeUnit.MINUTES.toMillis(1);
+  // how long after an entity was last added to a node the node may be removed, well above refresh and flush intervals
+  private static final long REMOVAL_GRACE_PERIOD_MS = TimeUnit.MINUTES.toMillis(5);
+
+  private final RestHighLevelClient _searchClient;
+  private final ESBulkProcessor _bulkProcessor;
+  private final IndexConvention _indexConvention;
+  private final ESIndexBuilder _indexBuilder;
+  private final EntityRegistry _entityRegistry;
+  private final int _numRetries;
+
+  @Value
+  public static class BrowseTreeNode {
+    // Full path of the node
+    String path;
+    // Time an entity was last added to the node, 0 if unknown
+    long lastAdded;
+    long seqNo;
+    long primaryTerm;
+  }
+
+  @Value
+  public static class BrowseTreeChildren {
+    // Children in the requested page, ordered by name
+    List<BrowseTreeNode> nodes;
+    // Number of children of the path, including the ones left empty
+    long total;
+
+    @Nonnull
+    public List<String> getPaths() {
+      return nodes.stream().map(BrowseTreeNode::getPath).collect(Collectors.toList());
+    }
+  }
+
+  public ESBrowseTreeDAO(@Nonnull RestHighLevelClient searchClient, @Nonnull ESBulkProcessor bulkProcessor,
+      @Nonnull IndexConvention indexConvention, @Nonnull ESIndexBuilder indexBuilder,
+      @Nonnull EntityRegistry entityRegistry, int numRetries) {
+    _searchClient = searchClient;
+    _bulkProcessor = bulkProcessor;
+    _indexConvention = indexConvention;
+    _indexBuilder = indexBuilder;
+    _entityRegistry = entityRegistry;
+    _numRetries = numRetries;
+  }
+
+  /**
+   * Makes sure all the nodes leading to the given browse paths exist.
+   *
+   * <p>Example: /prod/hive/db => /prod, /prod/hive, /prod/hive/db
+   *
+   * @param entityName type of the entity listed under the paths
+   * @param browsePaths browse paths of the entity
+   */
+  public void addBrowsePaths(@Nonnull String entityName, @Nonnull Collection<String> browsePaths) {
+    getNodePaths(browsePaths).forEach(path -> upsertNode(entityName, path));
+  }
+
+  /**
+   * Lists the children of a node, ordered by name.
+   *
+   * Children are paged with search_after, as names are unique under a parent, so that paths with more children than
+   * the max result window of the index can be browsed to the end. Pages before the requested one are only read to
+   * find where it starts.
+   *
+   * @param entityName type of entity being browsed
+   * @param path the path being browsed, empty for the root
+   * @param from index of the first child to return
+   * @param size max number of children to return
+   */
+  @Nonnull
+  public BrowseTreeChildren getChildren(@Nonnull String entityName, @Nonnull String path, int from, int size)
+      throws IOException {
+    final List<BrowseTreeNode> nodes = new ArrayList<>();
+    long total = 0;
+    int toSkip = Math.max(from, 0);
+    Object[] searchAfter = null;
+    while (searchAfter == null || nodes.size() < size) {
+      final int pageSize = toSkip > 0 ? Math.min(toSkip, CHILDREN_PAGE_SIZE)
+          : Math.min(Math.max(size - nodes.size(), 0), CHILDREN_PAGE_SIZE);
+      final SearchSourceBuilder source = new SearchSourceBuilder()
+          .query(QueryBuilders.boolQuery()
+              .filter(QueryBuilders.termQuery(FIELD_ENTITY_TYPE, entityName))
+              .filter(QueryBuilders.termQuery(FIELD_PARENT_PATH, path)))
+          .sort(FIELD_NAME, SortOrder.ASC)
+          .fetchSource(new String[]{FIELD_PATH, FIELD_LAST_ADDED}, null)
+          .seqNoAndPrimaryTerm(true)
+          .trackTotalHits(searchAfter == null)
+          .size(pageSize);
+      if (searchAfter != null) {
+        source.searchAfter(searchAfter);
+      }
+      final SearchResponse response =
+          _searchClient.search(new SearchRequest(getIndexName()).source(source), RequestOptions.DEFAULT);
+      if (searchAfter == null) {
+        total = response.getHits().getTotalHits().value;
+      }
+
+      final SearchHit[] hits = response.getHits().getHits();
+      for (SearchHit hit : hits) {
+        if (toSkip > 0) {
+          toSkip--;
+        } else {
+          final Map<String, Object> node = hit.getSourceAsMap();
+          final Object lastAdded = node.get(FIELD_LAST_ADDED);
+          nodes.add(new BrowseTreeNode((String) node.get(FIELD_PATH),
+              lastAdded instanceof Number ? ((Number) lastAdded).longValue() : 0, hit.getSeqNo(), hit.getPrimaryTerm()));
+        }
+      }
+      if (hits.length == 0 || hits.length < pageSize) {
+        break;
+      }
+      searchAfter = hits[hits.length - 1].getSortValues();
+    }
+    return new BrowseTreeChildren(nodes, total);
+  }
+
+  /**
+   * Removes nodes found to have no entity under them, unless an entity was added to them recently or they changed
+   * since they were read. Nodes below them are removed once they are found empty in turn.
+   *
+   * @param entityName type of the entity listed under the nodes
+   * @param emptyNodes nodes, as returned by {@link #getChildren}, without any entity under them
+   */
+  public void removeEmptyNodes(@Nonnull String entityName, @Nonnull Collection<BrowseTreeNode> emptyNodes) {
+    final long removableBefore = System.currentTimeMillis() - REMOVAL_GRACE_PERIOD_MS;
+    emptyNodes.stream()
+        .filter(node -> node.getLastAdded() < removableBefore)
+        .forEach(node -> {
+          log.debug("Removing empty browse tree node {} of {}", node.getPath(), entityName);
+          _bulkProcessor.add(new DeleteRequest(getIndexName(), toDocId(entityName, node.getPath()))
+              .setIfSeqNo(node.getSeqNo())
+              .setIfPrimaryTerm(node.getPrimaryTerm()));
+        });
+  }
+
+  /**
+   * Returns all the nodes needed to reach the given browse paths, including the paths themselves. Paths are expected
+   * to start with a slash, anything else can never be browsed to and is ignored.
+   */
+  @VisibleForTesting
+  @Nonnull
+  static Set<String> getNodePaths(@Nonnull Collection<String> browsePaths) {
+    final Set<String> nodePaths = new LinkedHashSet<>();
+    for (String browsePath : browsePaths) {
+      if (!browsePath.startsWith("/")) {
+        continue;
+      }
+      for (int end = browsePath.indexOf('/', 1); end != -1; end = browsePath.indexOf('/', end + 1)) {
+        addNodePath(nodePaths, browsePath.substring(0, end));
+      }
+      addNodePath(nodePaths, browsePath);
+    }
+    return nodePaths;
+  }
+
+  private static void addNodePath(@Nonnull Set<String> nodePaths, @Nonnull String path) {
+    // Skip the empty segments of paths like /prod//db or /prod/
+    if (!path.endsWith("/")) {
+      nodePaths.add(path);
+    }
+  }
+
+  private void upsertNode(@Nonnull String entityName, @Nonnull String path) {
+    final long addedAt = System.currentTimeMillis();
+    final int lastSlash = path.lastIndexOf('/');
+    final Map<String, Object> node = new HashMap<>();
+    node.put(FIELD_ENTITY_TYPE, entityName);
+    node.put(FIELD_PATH, path);
+    node.put(FIELD_PARENT_PATH, path.substring(0, lastSlash));
+    node.put(FIELD_NAME, path.substring(lastSlash + 1));
+    node.put(FIELD_DEPTH, StringUtils.countMatches(path, "/"));
+    node.put(FIELD_LAST_ADDED, addedAt - addedAt % LAST_ADDED_PRECISION_MS);
+    // Re-adding an existing node within the same minute is a noop on the Elasticsearch side
+    _bulkProcessor.add(new UpdateRequest(getIndexName(), toDocId(entityName, path))
+        .doc(node)
+        .docAsUpsert(true)
+        .retryOnConflict(_numRetries));
+  }
+
+  /**
+   * Adds the nodes of all the browse paths currently in the search index of an entity type
+   */
+  private void backfill(@Nonnull EntitySpec entitySpec) throws IOException {
+    final String entityIndexName = _indexConvention.getIndexName(entitySpec);
+    if (!_searchClient.indices().exists(new GetIndexRequest(entityIndexName), RequestOptions.DEFAULT)) {
+      return;
+    }
+    log.info("Backfilling browse tree of {} from index {}", entitySpec.getName(), entityIndexName);
+    final Set<String> nodePaths = new LinkedHashSet<>();
+    Object[] searchAfter = null;
+    while (true) {
+      final SearchSourceBuilder source = new SearchSourceBuilder()
+          .query(QueryBuilders.existsQuery(ENTITY_BROWSE_PATHS))
+          .fetchSource(ENTITY_BROWSE_PATHS, null)
+          .sort(ENTITY_URN, SortOrder.ASC)
+          .size(BACKFILL_BATCH_SIZE);
+      if (searchAfter != null) {
+        source.searchAfter(searchAfter);
+      }
+      final SearchHit[] hits = _searchClient.search(new SearchRequest(entityIndexName).source(source),
+          RequestOptions.DEFAULT).getHits().getHits();
+      for (SearchHit hit : hits) {
+        nodePaths.addAll(getNodePaths(toPaths(hit.getSourceAsMap().get(ENTITY_BROWSE_PATHS))));
+      }
+      if (hits.length < BACKFILL_BATCH_SIZE) {
+        break;
+      }
+      searchAfter = hits[hits.length - 1].getSortValues();
+    }
+    nodePaths.forEach(path -> upsertNode(entitySpec.getName(), path));
+    log.info("Backfilled {} browse tree nodes of {}", nodePaths.size(), entitySpec.getName());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nonnull
+  private static Collection<String> toPaths(Object browsePaths) {
+    if (browsePaths instanceof Collection) {
+      return (Collection<String>) browsePaths;
+    }
+    return browsePaths instanceof String ? Collections.singletonList((String) browsePaths) : Collections.emptyList();
+  }
+
+  private String getIndexName() {
+    return _indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  private static String toDocId(@Nonnull String entityName, @Nonnull String path) {
+    final String rawDocId = entityName + path;
+    try {
+      final byte[] digest = MessageDigest.getInstance("MD5").digest(rawDocId.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      log.error("Failed to hash doc id {}", rawDocId, e);
+      return rawDocId;
+    }
+  }
+
+  private static Map<String, Object> getMappings() {
+    final Map<String, Object> keyword = ImmutableMap.of("type", "keyword");
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(FIELD_ENTITY_TYPE, keyword);
+    mappings.put(FIELD_PATH, keyword);
+    mappings.put(FIELD_PARENT_PATH, keyword);
+    mappings.put(FIELD_NAME, keyword);
+    mappings.put(FIELD_DEPTH, ImmutableMap.of("type", "integer"));
+    mappings.put(FIELD_LAST_ADDED, ImmutableMap.of("type", "date"));
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  /**
+   * Creates the browse tree index, and fills it from the entity indices the first time around
+   */
+  public void configure() {
+    log.info("Setting up browse tree index");
+    try {
+      final boolean exists =
+          _searchClient.indices().exists(new GetIndexRequest(getIndexName()), RequestOptions.DEFAULT);
+      for (ReindexConfig config : getReindexConfigs()) {
+        _indexBuilder.buildIndex(config);
+      }
+      if (!exists) {
+        for (EntitySpec entitySpec : _entityRegistry.getEntitySpecs().values()) {
+          if (entitySpec.hasAspect(Constants.BROWSE_PATHS_ASPECT_NAME)) {
+            backfill(entitySpec);
+          }
+        }
+      }
+    } catch (IOException ie) {
+      throw new RuntimeException("Could not configure browse tree index", ie);
+    }
+  }
+
+  @Nonnull
+  public List<ReindexConfig> getReindexConfigs() throws IOException {
+    return List.of(_indexBuilder.buildReindexState(getIndexName(), getMappings(), Collections.emptyMap()));
+  }
+}
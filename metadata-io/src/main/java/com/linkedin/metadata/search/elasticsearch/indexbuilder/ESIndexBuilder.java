@@ -1,5 +1,6 @@
 package com.linkedin.metadata.search.elasticsearch.indexbuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 
 import com.linkedin.metadata.search.utils.ESUtils;
@@ -16,9 +17,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import com.linkedin.metadata.config.BuildIndicesConfiguration;
 import com.linkedin.metadata.config.ElasticSearchConfiguration;
 import com.linkedin.util.Pair;
 import io.github.resilience4j.retry.Retry;
@@ -28,15 +33,24 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.config.RequestConfig;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.elasticsearch.action.admin.cluster.health.ClusterHealthResponse;
 import org.elasticsearch.action.admin.cluster.node.tasks.list.ListTasksRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
 import org.elasticsearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.GetAliasesResponse;
+import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.core.CountRequest;
@@ -45,21 +59,34 @@ import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.client.indices.GetIndexResponse;
 import org.elasticsearch.client.indices.GetMappingsRequest;
 import org.elasticsearch.client.indices.PutMappingRequest;
+import org.elasticsearch.client.tasks.GetTaskRequest;
+import org.elasticsearch.client.tasks.GetTaskResponse;
 import org.elasticsearch.client.tasks.TaskSubmissionResponse;
 import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.reindex.AbstractBulkByScrollRequest;
 import org.elasticsearch.index.reindex.ReindexRequest;
 import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.tasks.TaskId;
 import org.elasticsearch.tasks.TaskInfo;
 
 
 @Slf4j
 public class ESIndexBuilder {
 
+  private static final String NUMBER_OF_REPLICAS = "number_of_replicas";
+  private static final String REFRESH_INTERVAL = "refresh_interval";
+  private static final String SEQ_NO_FIELD = "_seq_no";
+  private static final String WRITE_BLOCK = "index.blocks.write";
+  private static final int ID_BATCH_SIZE = 1000;
+  private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
   private final RestHighLevelClient searchClient;
   @Getter
   private final int numShards;
@@ -130,8 +157,8 @@ public class ESIndexBuilder {
 
     Map<String, Object> baseSettings = new HashMap<>(settings);
     baseSettings.put("number_of_shards", numShards);
-    baseSettings.put("number_of_replicas", numReplicas);
-    baseSettings.put("refresh_interval", String.format("%ss", refreshIntervalSeconds));
+    baseSettings.put(NUMBER_OF_REPLICAS, numReplicas);
+    baseSettings.put(REFRESH_INTERVAL, String.format("%ss", refreshIntervalSeconds));
     baseSettings.putAll(indexSettingOverrides.getOrDefault(indexName, Map.of()));
     Map<String, Object> targetSetting = ImmutableMap.of("index", baseSettings);
     builder.targetSettings(targetSetting);
@@ -177,6 +204,12 @@ public class ESIndexBuilder {
       return;
     }
 
+    // A write block is only held while a reindex swaps indices, so one found here was left by a reindex that died
+    if (indexState.currentSettings().getAsBoolean(WRITE_BLOCK, false)) {
+      log.warn("Index {} has writes blocked, left over from an interrupted reindex. Unblocking.", indexState.name());
+      setWriteBlock(indexState.name(), false);
+    }
+
     // If there are no updates to mappings and settings, return
     if (!indexState.requiresApplyMappings() && !indexState.requiresApplySettings()) {
       log.info("No updates to index {}", indexState.name());
@@ -224,32 +257,59 @@ public class ESIndexBuilder {
     final long timeoutAt = startTime + (1000 * 60 * 60 * maxReindexHours);
 
     String tempIndexName = indexState.name() + "_" + startTime;
+    boolean writesBlocked = false;
 
     try {
       Optional<TaskInfo> previousTaskInfo = getTaskInfoByHeader(indexState.name());
 
       String parentTaskId;
+      // writes to each shard of the source index with a higher sequence number than this are replayed before the
+      // alias swap
+      Map<Integer, Long> seqNoCheckpoints = null;
       if (previousTaskInfo.isPresent()) {
         log.info("Reindex task {} in progress with description {}. Attempting to continue task from breakpoint.",
                 previousTaskInfo.get().getTaskId(), previousTaskInfo.get().getDescription());
-        parentTaskId = previousTaskInfo.get().getParentTaskId().toString();
+        parentTaskId = previousTaskInfo.get().getParentTaskId().isSet()
+                ? previousTaskInfo.get().getParentTaskId().toString() : previousTaskInfo.get().getTaskId().toString();
         tempIndexName = ESUtils.extractTargetIndex(previousTaskInfo.get().getHeaders().get(ESUtils.OPAQUE_ID_HEADER));
+        log.warn("Index: {} - Writes made before the reindex was continued are only reconciled by document count",
+                indexState.name());
       } else {
-        // Create new index
-        createIndex(tempIndexName, indexState);
+        // Create new index, without refreshes and replicas while documents are copied
+        createIndex(tempIndexName, indexState, getBuildIndicesConfiguration().isReindexOptimizeSettings());
 
-        parentTaskId = submitReindex(indexState.name(), tempIndexName);
+        seqNoCheckpoints = getSeqNoCheckpoints(indexState.name());
+        parentTaskId = submitReindex(indexState.name(), tempIndexName, null);
       }
 
       int reindexCount = 1;
       int count = 0;
       boolean reindexTaskCompleted = false;
-      Pair<Long, Long> documentCounts = getDocumentCounts(indexState.name(), tempIndexName);
+      boolean settingsRestored = !getBuildIndicesConfiguration().isReindexOptimizeSettings();
+      Pair<Long, Long> documentCounts = Pair.of(-1L, -1L);
       long documentCountsLastUpdated = System.currentTimeMillis();
 
       while (System.currentTimeMillis() < timeoutAt) {
         log.info("Task: {} - Reindexing from {} to {} in progress...", parentTaskId, indexState.name(), tempIndexName);
 
+        // documents only become visible to counts once the copy is refreshed, so wait for the copy to finish first
+        if (!isTaskCompleted(parentTaskId)) {
+          documentCountsLastUpdated = System.currentTimeMillis();
+          count = count + 1;
+          Thread.sleep(Math.min(finalCheckIntervalMilli, initialCheckIntervalMilli * count));
+          continue;
+        }
+
+        refresh(tempIndexName);
+        if (seqNoCheckpoints != null) {
+          seqNoCheckpoints = catchUp(indexState.name(), tempIndexName, seqNoCheckpoints, timeoutAt);
+          deleteRemovedDocuments(indexState.name(), tempIndexName);
+        }
+        if (!settingsRestored) {
+          restoreSettings(tempIndexName, indexState);
+          settingsRestored = true;
+        }
+
         Pair<Long, Long> tempDocumentsCount = getDocumentCounts(indexState.name(), tempIndexName);
         if (!tempDocumentsCount.equals(documentCounts)) {
           documentCountsLastUpdated = System.currentTimeMillis();
@@ -269,7 +329,7 @@ public class ESIndexBuilder {
           if (lastUpdateDelta > (300 * 1000)) {
             if (reindexCount <=  numRetries) {
               log.warn("No change in index count after 5 minutes, re-triggering reindex #{}.", reindexCount);
-              submitReindex(indexState.name(), tempIndexName);
+              parentTaskId = submitReindex(indexState.name(), tempIndexName, null);
               reindexCount = reindexCount + 1;
             } else {
               throw new RuntimeException(String.format("Reindex from %s to %s failed. Document count %s != %s", indexState.name(), tempIndexName,
@@ -283,8 +343,8 @@ public class ESIndexBuilder {
       }
 
       if (!reindexTaskCompleted) {
-        if (elasticSearchConfiguration.getBuildIndices().isAllowDocCountMismatch()
-                && elasticSearchConfiguration.getBuildIndices().isCloneIndices()) {
+        if (getBuildIndicesConfiguration().isAllowDocCountMismatch()
+                && getBuildIndicesConfiguration().isCloneIndices()) {
           log.warn("Index: {} - Post-reindex document count is different, source_doc_count: {} reindex_doc_count: {}\n"
                           + "This condition is explicitly ALLOWED, please refer to latest clone if original index is required.",
                   indexState.name(), documentCounts.getFirst(), documentCounts.getSecond());
@@ -296,41 +356,108 @@ public class ESIndexBuilder {
                   documentCounts.getFirst(), documentCounts.getSecond()));
         }
       }
+
+      if (!settingsRestored) {
+        restoreSettings(tempIndexName, indexState);
+      }
+
+      // replicas of the new index are recovered before it takes over the alias
+      waitForShards(tempIndexName, timeoutAt);
+
+      if (seqNoCheckpoints == null) {
+        log.info("Reindex from {} to {} succeeded", indexState.name(), tempIndexName);
+        swapIndices(indexState, tempIndexName);
+      } else {
+        // most writes made while waiting are replayed while the source index still accepts writes
+        seqNoCheckpoints = catchUp(indexState.name(), tempIndexName, seqNoCheckpoints, timeoutAt);
+        deleteRemovedDocuments(indexState.name(), tempIndexName);
+
+        for (int attempt = 1; ; attempt++) {
+          // the source index rejects writes from the last replay until it is swapped out, so none can be missed
+          setWriteBlock(indexState.name(), true);
+          writesBlocked = true;
+          long blockTimeoutAt = Math.min(timeoutAt, System.currentTimeMillis()
+              + TimeUnit.SECONDS.toMillis(getBuildIndicesConfiguration().getReindexMaxWriteBlockSeconds()));
+          Map<Integer, Long> blockCheckpoints = getSeqNoCheckpoints(indexState.name());
+          replayWrites(indexState.name(), tempIndexName, seqNoCheckpoints, blockTimeoutAt);
+          refresh(indexState.name());
+          if (getCount(tempIndexName) == getCount(indexState.name())) {
+            log.info("Reindex from {} to {} succeeded", indexState.name(), tempIndexName);
+            swapIndices(indexState, tempIndexName);
+            break;
+          }
+
+          // documents were deleted since the last check, which takes a scan of the new index to find, so they are
+          // deleted with writes unblocked and the swap is attempted again
+          setWriteBlock(indexState.name(), false);
+          writesBlocked = false;
+          if (attempt >= getBuildIndicesConfiguration().getReindexMaxCatchUpPasses()) {
+            throw new RuntimeException(String.format("Reindex from %s to %s failed. Documents kept being deleted "
+                + "from the source index during %s attempts to swap indices", indexState.name(), tempIndexName,
+                attempt));
+          }
+          seqNoCheckpoints = blockCheckpoints;
+          deleteRemovedDocuments(indexState.name(), tempIndexName);
+        }
+      }
     } catch (Throwable e) {
       log.error("Failed to reindex {} to {}: Exception {}", indexState.name(), tempIndexName, e.toString());
+      if (writesBlocked) {
+        setWriteBlock(indexState.name(), false);
+      }
       searchClient.indices().delete(new DeleteIndexRequest().indices(tempIndexName), RequestOptions.DEFAULT);
       throw e;
     }
+    log.info("Finished setting up {}", indexState.name());
+  }
 
-    log.info("Reindex from {} to {} succeeded", indexState.name(), tempIndexName);
+  /**
+   * Deletes the original index, or the indices behind its alias, and points the alias to the new index, in a single
+   * atomic request
+   */
+  private void swapIndices(ReindexConfig indexState, String newIndexName) throws IOException {
     // Check if the original index is aliased or not
     GetAliasesResponse aliasesResponse = searchClient.indices().getAlias(
             new GetAliasesRequest(indexState.name()).indices(indexState.indexPattern()), RequestOptions.DEFAULT);
+    IndicesAliasesRequest request = new IndicesAliasesRequest();
     // If not aliased, delete the original index
     if (aliasesResponse.getAliases().isEmpty()) {
-      searchClient.indices().delete(new DeleteIndexRequest().indices(indexState.name()), RequestOptions.DEFAULT);
+      request.addAliasAction(AliasActions.removeIndex().index(indexState.name()));
     } else {
-      searchClient.indices()
-          .delete(new DeleteIndexRequest().indices(aliasesResponse.getAliases().keySet().toArray(new String[0])),
-              RequestOptions.DEFAULT);
+      aliasesResponse.getAliases().keySet()
+          .forEach(index -> request.addAliasAction(AliasActions.removeIndex().index(index)));
     }
-
     // Add alias for the new index
-    AliasActions removeAction = AliasActions.remove().alias(indexState.name()).index(indexState.indexPattern());
-    AliasActions addAction = AliasActions.add().alias(indexState.name()).index(tempIndexName);
-    searchClient.indices()
-        .updateAliases(new IndicesAliasesRequest().addAliasAction(removeAction).addAliasAction(addAction),
-            RequestOptions.DEFAULT);
-    log.info("Finished setting up {}", indexState.name());
+    request.addAliasAction(AliasActions.add().alias(indexState.name()).index(newIndexName));
+    searchClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+  }
+
+  private String submitReindex(String sourceIndex, String destinationIndex, @Nullable QueryBuilder query) throws IOException {
+    return submitReindex(sourceIndex, destinationIndex, query, null);
   }
 
-  private String submitReindex(String sourceIndex, String destinationIndex) throws IOException {
+  /**
+   * @param shard the only shard of the source index to copy from, if set
+   */
+  private String submitReindex(String sourceIndex, String destinationIndex, @Nullable QueryBuilder query,
+      @Nullable Integer shard) throws IOException {
+    BuildIndicesConfiguration config = getBuildIndicesConfiguration();
     ReindexRequest reindexRequest = new ReindexRequest()
             .setSourceIndices(sourceIndex)
             .setDestIndex(destinationIndex)
             .setMaxRetries(numRetries)
             .setAbortOnVersionConflict(false)
-            .setSourceBatchSize(2500);
+            .setSourceBatchSize(config.getReindexBatchSize())
+            .setSlices(config.getReindexSlices() > 0 ? config.getReindexSlices() : AbstractBulkByScrollRequest.AUTO_SLICES)
+            .setRequestsPerSecond(config.getReindexRequestsPerSecond() > 0 ? config.getReindexRequestsPerSecond()
+                    : Float.POSITIVE_INFINITY);
+    if (query != null) {
+      reindexRequest.setSourceQuery(query);
+    }
+    if (shard != null) {
+      reindexRequest.getSearchRequest().preference("_shards:" + shard);
+      reindexRequest.setSlices(1);
+    }
 
     RequestOptions requestOptions = ESUtils.buildReindexTaskRequestOptions(gitVersion.getVersion(), sourceIndex,
             destinationIndex);
@@ -338,6 +465,178 @@ public class ESIndexBuilder {
     return reindexTask.getTask();
   }
 
+  private boolean isTaskCompleted(String taskId) throws Throwable {
+    TaskId task = new TaskId(taskId);
+    Optional<GetTaskResponse> response = retryRegistry.retry("getTask").executeCheckedSupplier(() ->
+            searchClient.tasks().get(new GetTaskRequest(task.getNodeId(), task.getId()), REQUEST_OPTIONS));
+    // tasks that are not known anymore are done, their outcome is checked by comparing document counts
+    return response.map(GetTaskResponse::isCompleted).orElse(true);
+  }
+
+  private void waitForTask(String taskId, long timeoutAt) throws Throwable {
+    while (!isTaskCompleted(taskId)) {
+      if (System.currentTimeMillis() > timeoutAt) {
+        throw new RuntimeException(String.format("Task %s did not complete in time", taskId));
+      }
+      Thread.sleep(1000);
+    }
+  }
+
+  /**
+   * Replays writes made to the source index since the given checkpoints until no more writes arrive or the maximum
+   * number of passes is reached, so the remaining writes to replay before the alias swap are few.
+   *
+   * @return checkpoints of the writes replayed so far
+   */
+  private Map<Integer, Long> catchUp(String sourceIndex, String destinationIndex, Map<Integer, Long> seqNoCheckpoints,
+      long timeoutAt) throws Throwable {
+    for (int pass = 0; pass < getBuildIndicesConfiguration().getReindexMaxCatchUpPasses(); pass++) {
+      Map<Integer, Long> nextCheckpoints = getSeqNoCheckpoints(sourceIndex);
+      if (nextCheckpoints.equals(seqNoCheckpoints)) {
+        break;
+      }
+      replayWrites(sourceIndex, destinationIndex, seqNoCheckpoints, timeoutAt);
+      seqNoCheckpoints = nextCheckpoints;
+    }
+    return seqNoCheckpoints;
+  }
+
+  private void replayWrites(String sourceIndex, String destinationIndex, Map<Integer, Long> seqNoCheckpoints,
+      long timeoutAt) throws Throwable {
+    log.info("Replaying writes to {} after sequence numbers {} to {}", sourceIndex, seqNoCheckpoints, destinationIndex);
+    // sequence numbers are only comparable within a shard, so each shard is replayed from its own checkpoint
+    List<String> taskIds = new ArrayList<>();
+    for (Map.Entry<Integer, Long> checkpoint : getSeqNoCheckpoints(sourceIndex).entrySet()) {
+      long seqNoCheckpoint = seqNoCheckpoints.getOrDefault(checkpoint.getKey(), -1L);
+      if (checkpoint.getValue() > seqNoCheckpoint) {
+        taskIds.add(submitReindex(sourceIndex, destinationIndex,
+            QueryBuilders.rangeQuery(SEQ_NO_FIELD).gt(seqNoCheckpoint), checkpoint.getKey()));
+      }
+    }
+    for (String taskId : taskIds) {
+      waitForTask(taskId, timeoutAt);
+    }
+    refresh(destinationIndex);
+  }
+
+  /**
+   * Documents that were deleted from the source index after they were copied are left in the destination index, as
+   * replays only carry documents that exist. The destination holds every document of the source, so there are such
+   * documents exactly when it holds more documents, in which case they are found by their ids and deleted.
+   */
+  private void deleteRemovedDocuments(String sourceIndex, String destinationIndex) throws Throwable {
+    refresh(sourceIndex);
+    refresh(destinationIndex);
+    if (getCount(destinationIndex) <= getCount(sourceIndex)) {
+      return;
+    }
+
+    long deleted = 0;
+    SearchRequest scrollRequest = new SearchRequest(destinationIndex).scroll(SCROLL_KEEP_ALIVE)
+        .source(new SearchSourceBuilder().fetchSource(false).sort("_doc").size(ID_BATCH_SIZE));
+    SearchResponse response = searchClient.search(scrollRequest, RequestOptions.DEFAULT);
+    String scrollId = response.getScrollId();
+    try {
+      while (response.getHits().getHits().length > 0) {
+        String[] ids = Arrays.stream(response.getHits().getHits()).map(SearchHit::getId).toArray(String[]::new);
+        SearchRequest existingRequest = new SearchRequest(sourceIndex).source(new SearchSourceBuilder()
+            .query(QueryBuilders.idsQuery().addIds(ids))
+            .fetchSource(false)
+            .size(ids.length));
+        Set<String> existing = Arrays.stream(searchClient.search(existingRequest, RequestOptions.DEFAULT)
+            .getHits().getHits()).map(SearchHit::getId).collect(Collectors.toSet());
+
+        BulkRequest deletes = new BulkRequest();
+        Arrays.stream(ids).filter(id -> !existing.contains(id))
+            .forEach(id -> deletes.add(new DeleteRequest(destinationIndex, id)));
+        if (deletes.numberOfActions() > 0) {
+          BulkResponse bulkResponse = searchClient.bulk(deletes, RequestOptions.DEFAULT);
+          if (bulkResponse.hasFailures()) {
+            throw new RuntimeException(String.format("Failed to delete documents removed from %s from %s: %s",
+                sourceIndex, destinationIndex, bulkResponse.buildFailureMessage()));
+          }
+          deleted += deletes.numberOfActions();
+        }
+
+        response = searchClient.scroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE),
+            RequestOptions.DEFAULT);
+        scrollId = response.getScrollId();
+      }
+    } finally {
+      ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+      clearScrollRequest.addScrollId(scrollId);
+      searchClient.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+    }
+    refresh(destinationIndex);
+    log.info("Deleted {} documents removed from {} during the reindex from {}", deleted, sourceIndex,
+        destinationIndex);
+  }
+
+  private void setWriteBlock(String indexName, boolean blocked) throws IOException {
+    searchClient.indices().putSettings(new UpdateSettingsRequest(indexName)
+        .settings(Map.of(WRITE_BLOCK, blocked)), RequestOptions.DEFAULT);
+    log.info("{} writes to index {}", blocked ? "Blocked" : "Unblocked", indexName);
+  }
+
+  /**
+   * Waits until all the shards of the index that can be assigned are started, i.e. replicas are recovered
+   */
+  private void waitForShards(String indexName, long timeoutAt) throws IOException {
+    long timeoutMillis = Math.max(0, timeoutAt - System.currentTimeMillis());
+    ClusterHealthResponse health = searchClient.cluster().health(new ClusterHealthRequest(indexName)
+        .waitForYellowStatus()
+        .waitForNoInitializingShards(true)
+        .waitForNoRelocatingShards(true)
+        .timeout(TimeValue.timeValueMillis(timeoutMillis)), RequestOptions.DEFAULT);
+    if (health.isTimedOut()) {
+      throw new RuntimeException(String.format("Shards of index %s were not started in time", indexName));
+    }
+  }
+
+  /**
+   * Maximum sequence number of each primary shard. Sequence numbers increase with every write to a shard, so any
+   * document written to a shard after this call has a higher sequence number than the one returned for the shard.
+   */
+  private Map<Integer, Long> getSeqNoCheckpoints(String indexName) throws Throwable {
+    Request request = new Request("GET", "/" + indexName + "/_stats");
+    request.addParameter("level", "shards");
+    request.addParameter("filter_path", "indices.*.shards.*.routing.primary,indices.*.shards.*.seq_no.max_seq_no");
+
+    JsonNode stats = retryRegistry.retry("getSeqNoCheckpoint").executeCheckedSupplier(() ->
+            ReindexConfig.OBJECT_MAPPER.readTree(
+                    searchClient.getLowLevelClient().performRequest(request).getEntity().getContent()));
+
+    Map<Integer, Long> checkpoints = new TreeMap<>();
+    for (JsonNode index : stats.path("indices")) {
+      index.path("shards").fields().forEachRemaining(shardCopies -> {
+        for (JsonNode shardCopy : shardCopies.getValue()) {
+          if (shardCopy.path("routing").path("primary").asBoolean()) {
+            checkpoints.put(Integer.parseInt(shardCopies.getKey()),
+                shardCopy.path("seq_no").path("max_seq_no").asLong(-1));
+          }
+        }
+      });
+    }
+    return checkpoints;
+  }
+
+  private void refresh(String indexName) throws IOException {
+    searchClient.indices().refresh(new RefreshRequest(indexName), RequestOptions.DEFAULT);
+  }
+
+  private void restoreSettings(String indexName, ReindexConfig state) throws IOException {
+    Map<String, Object> targetSettings = (Map<String, Object>) state.targetSettings().get("index");
+    Map<String, Object> settings = new HashMap<>();
+    settings.put("index.number_of_replicas", targetSettings.get(NUMBER_OF_REPLICAS));
+    settings.put("index.refresh_interval", targetSettings.get(REFRESH_INTERVAL));
+    searchClient.indices().putSettings(new UpdateSettingsRequest(indexName).settings(settings), RequestOptions.DEFAULT);
+    log.info("Restored settings of index {}: {}", indexName, settings);
+  }
+
+  private BuildIndicesConfiguration getBuildIndicesConfiguration() {
+    return Optional.ofNullable(elasticSearchConfiguration.getBuildIndices()).orElseGet(BuildIndicesConfiguration::new);
+  }
+
   private Pair<Long, Long> getDocumentCounts(String sourceIndex, String destinationIndex) throws Throwable {
     // Check whether reindex succeeded by comparing document count
     // There can be some delay between the reindex finishing and count being fully up to date, so try multiple times
@@ -408,10 +707,22 @@ public class ESIndexBuilder {
   }
 
   private void createIndex(String indexName, ReindexConfig state) throws IOException {
+    createIndex(indexName, state, false);
+  }
+
+  private void createIndex(String indexName, ReindexConfig state, boolean bulkLoad) throws IOException {
     log.info("Index {} does not exist. Creating", indexName);
     CreateIndexRequest createIndexRequest = new CreateIndexRequest(indexName);
     createIndexRequest.mapping(state.targetMappings());
-    createIndexRequest.settings(state.targetSettings());
+    if (bulkLoad) {
+      // restored by restoreSettings once the documents are copied
+      Map<String, Object> settings = new HashMap<>((Map<String, Object>) state.targetSettings().get("index"));
+      settings.put(NUMBER_OF_REPLICAS, 0);
+      settings.put(REFRESH_INTERVAL, "-1");
+      createIndexRequest.settings(ImmutableMap.of("index", settings));
+    } else {
+      createIndexRequest.settings(state.targetSettings());
+    }
     searchClient.indices().create(createIndexRequest, RequestOptions.DEFAULT);
     log.info("Created index {}", indexName);
   }
@@ -12,10 +12,12 @@ import com.linkedin.metadata.browse.BrowseResultGroupArray;
 import com.linkedin.metadata.browse.BrowseResultMetadata;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +41,9 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.filter.FiltersAggregator;
+import org.elasticsearch.search.aggregations.bucket.filter.ParsedFilter;
+import org.elasticsearch.search.aggregations.bucket.filter.ParsedFilters;
 import org.elasticsearch.search.aggregations.bucket.terms.IncludeExclude;
 import org.elasticsearch.search.aggregations.bucket.terms.ParsedTerms;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
@@ -52,6 +57,8 @@ public class ESBrowseDAO {
   private final EntityRegistry entityRegistry;
   private final RestHighLevelClient client;
   private final IndexConvention indexConvention;
+  @Nullable
+  private final ESBrowseTreeDAO browseTreeDAO;
 
   private static final String BROWSE_PATH = "browsePaths";
   private static final String BROWSE_PATH_DEPTH = "browsePaths.length";
@@ -59,6 +66,7 @@ public class ESBrowseDAO {
   private static final String REMOVED = "removed";
 
   private static final String GROUP_AGG = "groups";
+  private static final String LIVE_AGG = "live";
 
   // Set explicit max size for grouping
   private static final int AGGREGATION_MAX_SIZE = 2000;
@@ -70,6 +78,11 @@ public class ESBrowseDAO {
     int totalNumEntities;
   }
 
+  public ESBrowseDAO(@Nonnull EntityRegistry entityRegistry, @Nonnull RestHighLevelClient client,
+      @Nonnull IndexConvention indexConvention) {
+    this(entityRegistry, client, indexConvention, null);
+  }
+
   /**
    * Gets a list of groups/entities that match given browse request.
    *
@@ -88,12 +101,10 @@ public class ESBrowseDAO {
     try {
       final String indexName = indexConvention.getIndexName(entityRegistry.getEntitySpec(entityName));
 
-      final SearchResponse groupsResponse;
-      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esGroupSearch").time()) {
-        groupsResponse =
-            client.search(constructGroupsSearchRequest(indexName, path, requestMap), RequestOptions.DEFAULT);
-      }
-      final BrowseGroupsResult browseGroupsResult = extractGroupsResponse(groupsResponse, path, from, size);
+      // The browse tree has no notion of filters, so filtered browsing still aggregates over the entity index
+      final BrowseGroupsResult browseGroupsResult = browseTreeDAO != null && requestMap.isEmpty()
+          ? getBrowseTreeGroups(entityName, indexName, path, from, size)
+          : getAggregatedGroups(indexName, path, requestMap, from, size);
       final int numGroups = browseGroupsResult.getTotalGroups();
 
       // Based on the number of groups returned, compute the from and size to query for entities
@@ -126,6 +137,98 @@ public class ESBrowseDAO {
     }
   }
 
+  @Nonnull
+  private BrowseGroupsResult getAggregatedGroups(@Nonnull String indexName, @Nonnull String path,
+      @Nonnull Map<String, String> requestMap, int from, int size) throws IOException {
+    final SearchResponse groupsResponse;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esGroupSearch").time()) {
+      groupsResponse =
+          client.search(constructGroupsSearchRequest(indexName, path, requestMap), RequestOptions.DEFAULT);
+    }
+    return extractGroupsResponse(groupsResponse, path, from, size);
+  }
+
+  /**
+   * Gets the groups of a path from the browse tree, which only holds the page of children being requested. Their
+   * entity counts then come from a single search on the entity index, with one term filter per child.
+   *
+   * Children without live entities are left out of the page, but still count towards the total number of groups so
+   * that the offsets of the entities that follow the groups stay stable. Children without any entity, not even a
+   * removed one, are removed from the tree, so that they stop counting on later browses.
+   */
+  @Nonnull
+  private BrowseGroupsResult getBrowseTreeGroups(@Nonnull String entityName, @Nonnull String indexName,
+      @Nonnull String path, int from, int size) throws IOException {
+    final ESBrowseTreeDAO.BrowseTreeChildren children;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esBrowseTreeSearch").time()) {
+      children = browseTreeDAO.getChildren(entityName, path, from, size);
+    }
+
+    final SearchResponse countsResponse;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esBrowseTreeCountSearch").time()) {
+      countsResponse =
+          client.search(constructBrowseTreeCountsRequest(indexName, path, children.getPaths()), RequestOptions.DEFAULT);
+    }
+
+    final List<BrowseResultGroup> groups = new ArrayList<>();
+    final List<ESBrowseTreeDAO.BrowseTreeNode> emptyNodes = new ArrayList<>();
+    if (!children.getNodes().isEmpty()) {
+      final ParsedFilters groupCounts = countsResponse.getAggregations().get(GROUP_AGG);
+      for (ESBrowseTreeDAO.BrowseTreeNode child : children.getNodes()) {
+        final ParsedFilters.ParsedBucket bucket = groupCounts.getBucketByKey(child.getPath());
+        final ParsedFilter liveCount = bucket.getAggregations().get(LIVE_AGG);
+        if (liveCount.getDocCount() > 0) {
+          groups.add(new BrowseResultGroup().setName(getSimpleName(child.getPath())).setCount(liveCount.getDocCount()));
+        } else if (bucket.getDocCount() == 0) {
+          emptyNodes.add(child);
+        }
+      }
+    }
+    if (!emptyNodes.isEmpty()) {
+      browseTreeDAO.removeEmptyNodes(entityName, emptyNodes);
+    }
+    final ParsedFilter totalLiveCount = countsResponse.getAggregations().get(LIVE_AGG);
+    return new BrowseGroupsResult(groups, (int) children.getTotal(), (int) totalLiveCount.getDocCount());
+  }
+
+  /**
+   * Constructs the search request counting the entities under the given children of a path. Removed entities are
+   * filtered in a sub aggregation rather than in the query, so that they are told apart from missing ones.
+   *
+   * @param path the path which is being browsed
+   * @param childPaths the children of the path to count entities for
+   * @return {@link SearchRequest}
+   */
+  @VisibleForTesting
+  @Nonnull
+  SearchRequest constructBrowseTreeCountsRequest(@Nonnull String indexName, @Nonnull String path,
+      @Nonnull List<String> childPaths) {
+    final BoolQueryBuilder queryBuilder = QueryBuilders.boolQuery();
+    if (!path.isEmpty()) {
+      queryBuilder.filter(QueryBuilders.termQuery(BROWSE_PATH, path));
+    }
+    queryBuilder.filter(QueryBuilders.rangeQuery(BROWSE_PATH_DEPTH).gt(getPathDepth(path)));
+
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.size(0);
+    searchSourceBuilder.query(queryBuilder);
+    searchSourceBuilder.aggregation(AggregationBuilders.filter(LIVE_AGG, buildNotRemovedQuery()));
+    if (!childPaths.isEmpty()) {
+      final FiltersAggregator.KeyedFilter[] filters = childPaths.stream()
+          .map(childPath ->
+              new FiltersAggregator.KeyedFilter(childPath, QueryBuilders.termQuery(BROWSE_PATH, childPath)))
+          .toArray(FiltersAggregator.KeyedFilter[]::new);
+      searchSourceBuilder.aggregation(AggregationBuilders.filters(GROUP_AGG, filters)
+          .subAggregation(AggregationBuilders.filter(LIVE_AGG, buildNotRemovedQuery())));
+    }
+    return new SearchRequest(indexName).source(searchSourceBuilder);
+  }
+
+  @Nonnull
+  private static QueryBuilder buildNotRemovedQuery() {
+    return QueryBuilders.boolQuery().mustNot(QueryBuilders.termQuery(REMOVED, "true"));
+  }
+
   /**
    * Builds aggregations for search request.
    *
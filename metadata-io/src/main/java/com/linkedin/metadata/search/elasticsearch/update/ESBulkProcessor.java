@@ -7,9 +7,13 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.DocWriteResponse;
 import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.RequestOptions;
@@ -18,16 +22,26 @@ import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
+import org.elasticsearch.rest.RestStatus;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 @Slf4j
 @Builder(builderMethodName = "hiddenBuilder")
 public class ESBulkProcessor implements Closeable {
     private static final String ES_WRITES_METRIC = "num_elasticSearch_writes";
     private static final String ES_DELETE_EXCEPTION_METRIC = "delete_by_query";
+    private static final String ES_WRITE_BLOCK_RETRIES_METRIC = "write_block_retries";
+    private static final String CLUSTER_BLOCK_EXCEPTION = "cluster_block_exception";
 
     public static ESBulkProcessor.ESBulkProcessorBuilder builder(RestHighLevelClient searchClient) {
         return hiddenBuilder().searchClient(searchClient);
@@ -48,16 +62,23 @@ public class ESBulkProcessor implements Closeable {
     private Long retryInterval = 1L;
     @Builder.Default
     private TimeValue defaultTimeout = TimeValue.timeValueMinutes(1);
+    // How long writes rejected by an index write block, set while an index is swapped after a reindex, are retried
+    @Builder.Default
+    private TimeValue writeBlockTimeout = TimeValue.timeValueMinutes(5);
     @Getter
     private final WriteRequest.RefreshPolicy writeRequestRefreshPolicy;
     @Setter(AccessLevel.NONE)
     @Getter(AccessLevel.NONE)
     private final BulkProcessor bulkProcessor;
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService writeBlockRetryScheduler;
 
     private ESBulkProcessor(@NonNull RestHighLevelClient searchClient, @NonNull Boolean async, Integer bulkRequestsLimit,
                             Integer bulkFlushPeriod, Integer numRetries, Long retryInterval,
-                            TimeValue defaultTimeout, WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
-                            BulkProcessor ignored) {
+                            TimeValue defaultTimeout, TimeValue writeBlockTimeout,
+                            WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
+                            BulkProcessor ignored, ScheduledExecutorService ignoredScheduler) {
         this.searchClient = searchClient;
         this.async = async;
         this.bulkRequestsLimit = bulkRequestsLimit;
@@ -65,7 +86,13 @@ public class ESBulkProcessor implements Closeable {
         this.numRetries = numRetries;
         this.retryInterval = retryInterval;
         this.defaultTimeout = defaultTimeout;
+        this.writeBlockTimeout = writeBlockTimeout;
         this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
+        this.writeBlockRetryScheduler = async ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "es-bulk-write-block-retry");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
         this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
     }
 
@@ -112,7 +139,7 @@ public class ESBulkProcessor implements Closeable {
     private BulkProcessor toBulkProcessor() {
         return BulkProcessor.builder((request, bulkListener) -> {
                     try {
-                        BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
+                        BulkResponse response = bulkWaitingOutWriteBlocks(request);
                         bulkListener.onResponse(response);
                     } catch (IOException e) {
                         bulkListener.onFailure(e);
@@ -128,7 +155,7 @@ public class ESBulkProcessor implements Closeable {
 
     private BulkProcessor toAsyncBulkProcessor() {
         return BulkProcessor.builder((request, bulkListener) -> {
-            searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
+            bulkAsyncWaitingOutWriteBlocks(new WriteBlockRetry(request), bulkListener);
             }, BulkListener.getInstance(writeRequestRefreshPolicy))
                 .setBulkActions(bulkRequestsLimit)
                 .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
@@ -137,9 +164,114 @@ public class ESBulkProcessor implements Closeable {
                 .build();
     }
 
+    /*
+     * Writes rejected because their index is write blocked are sent again until the block is lifted, or for at most
+     * writeBlockTimeout, before the response of the bulk request is handed to the bulk processor. The bulk processor
+     * waits for that response before it sends the next bulk request, so retried writes are never overtaken by writes
+     * added after them.
+     */
+
+    private BulkResponse bulkWaitingOutWriteBlocks(BulkRequest request) throws IOException {
+        final WriteBlockRetry retry = new WriteBlockRetry(request);
+        BulkRequest toSend = request;
+        while (true) {
+            retry.merge(searchClient.bulk(toSend, RequestOptions.DEFAULT));
+            toSend = retry.nextRequest();
+            if (toSend == null) {
+                return retry.response();
+            }
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryInterval));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return retry.response();
+            }
+        }
+    }
+
+    private void bulkAsyncWaitingOutWriteBlocks(WriteBlockRetry retry, ActionListener<BulkResponse> bulkListener) {
+        final BulkRequest toSend = retry.pending == null ? retry.request : retry.nextRequest();
+        searchClient.bulkAsync(toSend, RequestOptions.DEFAULT, ActionListener.wrap(response -> {
+            retry.merge(response);
+            if (!retry.hasBlockedWrites()) {
+                bulkListener.onResponse(retry.response());
+                return;
+            }
+            try {
+                writeBlockRetryScheduler.schedule(() -> bulkAsyncWaitingOutWriteBlocks(retry, bulkListener),
+                    retryInterval, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException e) {
+                bulkListener.onResponse(retry.response());
+            }
+        }, bulkListener::onFailure));
+    }
+
+    private static boolean isWriteBlocked(BulkItemResponse item) {
+        return item.isFailed() && item.getFailure().getStatus() == RestStatus.FORBIDDEN
+            && String.valueOf(item.getFailureMessage()).contains(CLUSTER_BLOCK_EXCEPTION);
+    }
+
+    /**
+     * Responses of the writes of a bulk request, merged across the retries of its write blocked writes
+     */
+    private class WriteBlockRetry {
+        private final BulkRequest request;
+        private final BulkItemResponse[] items;
+        private final long startNanos = System.nanoTime();
+        // positions in the original request of the writes sent last, null until the request was sent once
+        private List<Integer> pending;
+
+        WriteBlockRetry(BulkRequest request) {
+            this.request = request;
+            this.items = new BulkItemResponse[request.numberOfActions()];
+        }
+
+        void merge(BulkResponse response) {
+            BulkItemResponse[] responseItems = response.getItems();
+            for (int i = 0; i < responseItems.length; i++) {
+                int position = pending == null ? i : pending.get(i);
+                BulkItemResponse item = responseItems[i];
+                items[position] = item.isFailed()
+                    ? new BulkItemResponse(position, item.getOpType(), item.getFailure())
+                    : new BulkItemResponse(position, item.getOpType(), item.<DocWriteResponse>getResponse());
+            }
+            pending = new ArrayList<>();
+            for (int position = 0; position < items.length; position++) {
+                if (isWriteBlocked(items[position])) {
+                    pending.add(position);
+                }
+            }
+        }
+
+        boolean hasBlockedWrites() {
+            return !pending.isEmpty() && System.nanoTime() - startNanos < writeBlockTimeout.nanos();
+        }
+
+        @Nullable
+        BulkRequest nextRequest() {
+            if (!hasBlockedWrites()) {
+                return null;
+            }
+            log.warn("Retrying {} writes rejected by an index write block", pending.size());
+            MetricUtils.counter(ESBulkProcessor.class, ES_WRITE_BLOCK_RETRIES_METRIC).inc(pending.size());
+            BulkRequest retryRequest = new BulkRequest()
+                .timeout(request.timeout())
+                .setRefreshPolicy(request.getRefreshPolicy());
+            pending.forEach(position -> retryRequest.add(request.requests().get(position)));
+            return retryRequest;
+        }
+
+        BulkResponse response() {
+            return new BulkResponse(items, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
     @Override
     public void close() throws IOException {
         bulkProcessor.close();
+        if (writeBlockRetryScheduler != null) {
+            writeBlockRetryScheduler.shutdown();
+        }
     }
 
     public void flush() {
@@ -6,6 +6,7 @@ import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.features.FeatureExtractor;
 import com.linkedin.metadata.search.features.Features;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +52,7 @@ public abstract class SearchRanker<U extends Comparable<? super U>> {
   private List<Features> fetchFeatures(List<SearchEntity> originalList) {
     List<Features> originalFeatures =
         originalList.stream().map(SearchEntity::getFeatures).map(Features::from).collect(Collectors.toList());
-    return ConcurrencyUtils.transformAndCollectAsync(getFeatureExtractors(),
+    return ConcurrencyUtils.transformAndCollectAsync(BoundedExecutors.SEARCH_RANKER, getFeatureExtractors(),
         extractor -> extractor.extractFeatures(originalList)).stream().reduce(originalFeatures, Features::merge);
   }
 
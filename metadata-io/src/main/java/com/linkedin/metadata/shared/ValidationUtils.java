@@ -1,17 +1,23 @@
 package com.linkedin.metadata.shared;
 
 import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.browse.BrowseResult;
+import com.linkedin.metadata.browse.BrowseResultEntity;
 import com.linkedin.metadata.browse.BrowseResultEntityArray;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageRelationship;
 import com.linkedin.metadata.graph.LineageRelationshipArray;
 import com.linkedin.metadata.query.ListResult;
+import com.linkedin.metadata.search.LineageSearchEntity;
 import com.linkedin.metadata.search.LineageSearchEntityArray;
 import com.linkedin.metadata.search.LineageSearchResult;
+import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -32,9 +38,11 @@ public class ValidationUtils {
         .setPageSize(searchResult.getPageSize())
         .setNumEntities(searchResult.getNumEntities());
 
+    final Set<Urn> existingUrns = entityService.getExistingUrns(
+        searchResult.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()));
     SearchEntityArray validatedEntities = searchResult.getEntities()
         .stream()
-        .filter(searchEntity -> entityService.exists(searchEntity.getEntity()))
+        .filter(searchEntity -> existingUrns.contains(searchEntity.getEntity()))
         .collect(Collectors.toCollection(SearchEntityArray::new));
     validatedSearchResult.setEntities(validatedEntities);
 
@@ -56,9 +64,11 @@ public class ValidationUtils {
         .setNumEntities(browseResult.getNumEntities())
         .setNumElements(browseResult.getNumElements());
 
+    final Set<Urn> existingUrns = entityService.getExistingUrns(
+        browseResult.getEntities().stream().map(BrowseResultEntity::getUrn).collect(Collectors.toList()));
     BrowseResultEntityArray validatedEntities = browseResult.getEntities()
         .stream()
-        .filter(browseResultEntity -> entityService.exists(browseResultEntity.getUrn()))
+        .filter(browseResultEntity -> existingUrns.contains(browseResultEntity.getUrn()))
         .collect(Collectors.toCollection(BrowseResultEntityArray::new));
     validatedBrowseResult.setEntities(validatedEntities);
 
@@ -76,8 +86,9 @@ public class ValidationUtils {
         .setCount(listResult.getCount())
         .setTotal(listResult.getTotal());
 
+    final Set<Urn> existingUrns = entityService.getExistingUrns(listResult.getEntities());
     UrnArray validatedEntities =
-        listResult.getEntities().stream().filter(entityService::exists).collect(Collectors.toCollection(UrnArray::new));
+        listResult.getEntities().stream().filter(existingUrns::contains).collect(Collectors.toCollection(UrnArray::new));
     validatedListResult.setEntities(validatedEntities);
 
     return validatedListResult;
@@ -96,9 +107,11 @@ public class ValidationUtils {
             .setPageSize(lineageSearchResult.getPageSize())
             .setNumEntities(lineageSearchResult.getNumEntities());
 
+    final Set<Urn> existingUrns = entityService.getExistingUrns(
+        lineageSearchResult.getEntities().stream().map(LineageSearchEntity::getEntity).collect(Collectors.toList()));
     LineageSearchEntityArray validatedEntities = lineageSearchResult.getEntities()
         .stream()
-        .filter(entity -> entityService.exists(entity.getEntity()))
+        .filter(entity -> existingUrns.contains(entity.getEntity()))
         .collect(Collectors.toCollection(LineageSearchEntityArray::new));
     validatedLineageSearchResult.setEntities(validatedEntities);
 
@@ -117,8 +130,10 @@ public class ValidationUtils {
         .setCount(entityLineageResult.getCount())
         .setTotal(entityLineageResult.getTotal());
 
+    final Set<Urn> existingUrns = entityService.getExistingUrns(
+        entityLineageResult.getRelationships().stream().map(LineageRelationship::getEntity).collect(Collectors.toList()));
     final LineageRelationshipArray validatedRelationships = entityLineageResult.getRelationships().stream()
-        .filter(relationship -> entityService.exists(relationship.getEntity()))
+        .filter(relationship -> existingUrns.contains(relationship.getEntity()))
         .collect(Collectors.toCollection(LineageRelationshipArray::new));
 
     validatedEntityLineageResult.setRelationships(validatedRelationships);
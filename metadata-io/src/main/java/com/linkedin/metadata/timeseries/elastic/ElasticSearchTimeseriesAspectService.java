@@ -24,6 +24,7 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
 import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
@@ -33,7 +34,9 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -72,16 +75,29 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   private final RestHighLevelClient _searchClient;
   private final ESAggregatedStatsDAO _esAggregatedStatsDAO;
   private final EntityRegistry _entityRegistry;
+  @Nullable
+  private final ESTimeseriesRollupDAO _rollupDAO;
 
   public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
       @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
       @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries) {
+    this(searchClient, indexConvention, indexBuilders, entityRegistry, bulkProcessor, numRetries, null);
+  }
+
+  /**
+   * @param rollupDAO maintains the rollups of the aspects that are rolled up, and serves aggregations from them, if set
+   */
+  public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
+      @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
+      @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries,
+      @Nullable ESTimeseriesRollupDAO rollupDAO) {
     _indexConvention = indexConvention;
     _indexBuilders = indexBuilders;
     _searchClient = searchClient;
     _bulkProcessor = bulkProcessor;
     _entityRegistry = entityRegistry;
     _numRetries = numRetries;
+    _rollupDAO = rollupDAO;
 
     _esAggregatedStatsDAO = new ESAggregatedStatsDAO(indexConvention, searchClient, entityRegistry);
   }
@@ -115,11 +131,18 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   @Override
   public void configure() {
     _indexBuilders.reindexAll();
+    if (_rollupDAO != null) {
+      _rollupDAO.configure();
+    }
   }
 
   @Override
-  public List<ReindexConfig> getReindexConfigs() {
-    return _indexBuilders.getReindexConfigs();
+  public List<ReindexConfig> getReindexConfigs() throws IOException {
+    final List<ReindexConfig> configs = new ArrayList<>(_indexBuilders.getReindexConfigs());
+    if (_rollupDAO != null) {
+      configs.addAll(_rollupDAO.getReindexConfigs());
+    }
+    return configs;
   }
 
   @Override
@@ -138,6 +161,9 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
             .doc(document.toString(), XContentType.JSON)
             .retryOnConflict(_numRetries);
     _bulkProcessor.add(updateRequest);
+    if (_rollupDAO != null) {
+      _rollupDAO.upsertDocument(entityName, aspectName, docId, document);
+    }
   }
 
   @Override
@@ -196,6 +222,13 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   public GenericTable getAggregatedStats(@Nonnull String entityName, @Nonnull String aspectName,
       @Nonnull AggregationSpec[] aggregationSpecs, @Nullable Filter filter,
       @Nullable GroupingBucket[] groupingBuckets) {
+    if (_rollupDAO != null) {
+      final Optional<GenericTable> rolledUp =
+          _rollupDAO.getAggregatedStats(entityName, aspectName, aggregationSpecs, filter, groupingBuckets);
+      if (rolledUp.isPresent()) {
+        return rolledUp.get();
+      }
+    }
     return _esAggregatedStatsDAO.getAggregatedStats(entityName, aspectName, aggregationSpecs, filter, groupingBuckets);
   }
 
@@ -215,6 +248,9 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
       @Nonnull Filter filter) {
     final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
     final BoolQueryBuilder filterQueryBuilder = ESUtils.buildFilterQuery(filter);
+    if (_rollupDAO != null) {
+      _rollupDAO.removeDocuments(entityName, aspectName, filter);
+    }
 
     final Optional<DeleteAspectValuesResult> result = _bulkProcessor
             .deleteByQuery(filterQueryBuilder, false, DEFAULT_LIMIT, TimeValue.timeValueMinutes(10), indexName)
@@ -232,7 +232,7 @@ public class ESAggregatedStatsDAO {
     return getTimeseriesFieldType(aspectSpec, aggregationSpec.getFieldPath());
   }
 
-  private static List<String> genColumnNames(GroupingBucket[] groupingBuckets, AggregationSpec[] aggregationSpecs) {
+  public static List<String> genColumnNames(GroupingBucket[] groupingBuckets, AggregationSpec[] aggregationSpecs) {
     List<String> groupingBucketNames = Arrays.stream(groupingBuckets).map(t -> t.getKey()).collect(Collectors.toList());
 
     List<String> aggregationNames = Arrays.stream(aggregationSpecs)
@@ -244,7 +244,7 @@ public class ESAggregatedStatsDAO {
     return columnNames;
   }
 
-  private static List<String> genColumnTypes(AspectSpec aspectSpec, GroupingBucket[] groupingBuckets,
+  public static List<String> genColumnTypes(AspectSpec aspectSpec, GroupingBucket[] groupingBuckets,
       AggregationSpec[] aggregationSpecs) {
     List<String> columnTypes = new ArrayList<>();
     for (GroupingBucket g : groupingBuckets) {
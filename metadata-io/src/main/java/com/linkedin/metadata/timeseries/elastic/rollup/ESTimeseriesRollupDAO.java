@@ -0,0 +1,1106 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.codahale.metrics.Timer;
+import com.datahub.util.exception.ESQueryException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.StringArrayArray;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
+import com.linkedin.metadata.models.TimeseriesFieldSpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.search.utils.ESUtils;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
+import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.timeseries.AggregationSpec;
+import com.linkedin.timeseries.CalendarInterval;
+import com.linkedin.timeseries.GenericTable;
+import com.linkedin.timeseries.GroupingBucket;
+import com.linkedin.timeseries.GroupingBucketType;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.rest.RestStatus;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
+
+
+/**
+ * Maintains hourly, daily and monthly rollups of timeseries aspects, and answers aggregation queries from them.
+ *
+ * Each rollup document holds, for one entity and one bucket, the sums and latest values of the fields of all the
+ * timeseries documents of the bucket, for the aspect itself and for each key of its collections.
+ *
+ * Documents are folded into the hourly rollups through scripted upserts as they are written to the raw index. The
+ * contribution of each raw document is kept, unindexed, next to the totals of its hour, so that writing a raw document
+ * again replaces its contribution instead of counting it twice, and so that hours at the edges of a query window can
+ * be aggregated point by point. Hourly rollups changed since they were last compacted are flagged as such.
+ *
+ * Daily and monthly rollups only hold totals. They are recomputed by {@link #compact()} from the hours of the day,
+ * resp. the days of the month, that were flagged. Until then, they are stale and queries read the finer buckets they
+ * cover instead.
+ *
+ * Aggregation queries filtering on a single urn and a time range, computing sums and latest values, and grouping by
+ * time and by a collection key, as done for usage statistics, are answered from the rollups. The window is covered
+ * with the coarsest buckets that fit, so the cost of a query depends on the number of months it spans rather than on
+ * the number of raw documents. All other queries are left to {@link ESAggregatedStatsDAO}.
+ */
+@Slf4j
+public class ESTimeseriesRollupDAO {
+
+  private static final String FIELD_URN = "urn";
+  private static final String FIELD_RESOLUTION = "resolution";
+  private static final String FIELD_BUCKET_START = "bucketStart";
+  private static final String FIELD_TOTALS = "totals";
+  private static final String FIELD_POINTS = "points";
+  // False once the rollup changed, until the coarser rollup containing it is recomputed from it
+  private static final String FIELD_COMPACTED = "compacted";
+  private static final String TOTALS_COUNT = "count";
+  private static final String TOTALS_STATS = "stats";
+  private static final String TOTALS_COLLECTIONS = "collections";
+  private static final String POINT_TIMESTAMP = "t";
+  private static final String POINT_COLLECTION = "c";
+  private static final String POINT_KEY = "k";
+  private static final String POINT_VALUES = "v";
+
+  private static final String ES_FIELD_TIMESTAMP = MappingsBuilder.TIMESTAMP_MILLIS_FIELD;
+  private static final String ES_NULL_VALUE = "NULL";
+  // Same bound on the number of keys as the terms aggregations of raw queries
+  private static final int MAX_TERM_BUCKETS = 24 * 60;
+  private static final int MAX_ROLLUP_DOCUMENTS = 10000;
+  // Bound on the number of bucket ranges searched, which grows with the number of stale buckets in the window
+  private static final int MAX_RANGES = 512;
+  private static final int SCROLL_SIZE = 1000;
+  private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+  // Bound of open-ended windows, keeps bucket arithmetic clear of overflows
+  private static final long MAX_TIMESTAMP = 253402300799999L;
+
+  /**
+   * Folds the contribution of a raw document into an hourly rollup document, or removes it when the point is null.
+   */
+  private static final String UPDATE_SCRIPT =
+      "ctx._source.urn = params.urn; ctx._source.resolution = params.resolution;"
+          + "ctx._source.bucketStart = params.bucketStart;"
+          + "if (ctx._source.points == null) { ctx._source.points = new HashMap(); }"
+          + "if (ctx._source.totals == null) {"
+          + "  ctx._source.totals = ['count': 0, 'stats': new HashMap(), 'collections': new HashMap()]; }"
+          + "def points = ctx._source.points;"
+          + "def old = params.point == null ? points.remove(params.id) : points.put(params.id, params.point);"
+          + "def p = params.point == null ? old : params.point;"
+          + "if (p == null || (old != null && old.equals(params.point))) { ctx.op = 'noop'; return; }"
+          + "ctx._source.compacted = false;"
+          + "def s = ctx._source.totals.stats;"
+          + "if (p.c != null) {"
+          + "  def keys = ctx._source.totals.collections.computeIfAbsent(p.c, x -> new HashMap());"
+          + "  s = keys.computeIfAbsent(p.k, x -> new HashMap()); }"
+          + "if (s.count == null) { s.count = 0; s.sums = new HashMap(); s.latest = new HashMap(); }"
+          + "if (old != null) {"
+          + "  ctx._source.totals.count -= 1; s.count -= 1;"
+          + "  for (def e : old.v.entrySet()) {"
+          + "    def f = e.getKey();"
+          + "    if (e.getValue() instanceof Number) { s.sums[f] = s.sums.getOrDefault(f, 0) - e.getValue(); }"
+          + "    def l = s.latest[f];"
+          + "    if (l != null && l.t == old.t) {"
+          + "      def best = null;"
+          + "      for (def q : points.values()) {"
+          + "        if (q.c == old.c && q.k == old.k && q.v.containsKey(f) && (best == null || best.t <= q.t)) {"
+          + "          best = ['t': q.t, 'v': q.v[f]]; } }"
+          + "      if (best == null) { s.latest.remove(f); } else { s.latest[f] = best; } } } }"
+          + "if (params.point != null) {"
+          + "  ctx._source.totals.count += 1; s.count += 1;"
+          + "  for (def e : params.point.v.entrySet()) {"
+          + "    def f = e.getKey();"
+          + "    if (e.getValue() instanceof Number) { s.sums[f] = s.sums.getOrDefault(f, 0) + e.getValue(); }"
+          + "    def l = s.latest[f];"
+          + "    if (l == null || l.t <= params.point.t) {"
+          + "      s.latest[f] = ['t': params.point.t, 'v': e.getValue()]; } } }"
+          + "if (s.count == 0 && p.c != null) { ctx._source.totals.collections[p.c].remove(p.k); }";
+
+  private final RestHighLevelClient _searchClient;
+  private final IndexConvention _indexConvention;
+  private final ESIndexBuilder _indexBuilder;
+  private final ESBulkProcessor _bulkProcessor;
+  private final EntityRegistry _entityRegistry;
+  private final int _numRetries;
+  // Rolled up aspect specs, by entity name and aspect name
+  private final Map<String, Map<String, AspectSpec>> _aspectSpecs = new HashMap<>();
+  private final boolean _serveQueries;
+  // Aspect names whose raw documents are downsampled, by entity name
+  private final Map<String, Set<String>> _downsampledAspects = new HashMap<>();
+  private final long _rawRetentionMillis;
+
+  /**
+   * @param aspects the aspects to roll up, as entityName.aspectName
+   * @param serveQueries whether to answer aggregation queries from the rollups
+   * @param downsampledAspects the rolled up aspects whose old raw documents are deleted, as entityName.aspectName.
+   *                           Raw documents remain the only source of aspect values, of aggregations that cannot be
+   *                           answered from the rollups, and of rollbacks, so these must not be read that way
+   * @param rawRetentionMillis age after which raw documents of downsampled aspects are deleted, disabled if not positive
+   */
+  public ESTimeseriesRollupDAO(@Nonnull RestHighLevelClient searchClient, @Nonnull IndexConvention indexConvention,
+      @Nonnull ESIndexBuilder indexBuilder, @Nonnull ESBulkProcessor bulkProcessor,
+      @Nonnull EntityRegistry entityRegistry, int numRetries, @Nonnull Collection<String> aspects,
+      boolean serveQueries, @Nonnull Collection<String> downsampledAspects, long rawRetentionMillis) {
+    _searchClient = searchClient;
+    _indexConvention = indexConvention;
+    _indexBuilder = indexBuilder;
+    _bulkProcessor = bulkProcessor;
+    _entityRegistry = entityRegistry;
+    _numRetries = numRetries;
+    _serveQueries = serveQueries;
+    _rawRetentionMillis = rawRetentionMillis;
+    for (String aspect : aspects) {
+      final String[] parts = aspect.trim().split("\\.");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(
+            String.format("Invalid rolled up aspect %s, expected entityName.aspectName", aspect));
+      }
+      final EntitySpec entitySpec = _entityRegistry.getEntitySpec(parts[0]);
+      final AspectSpec aspectSpec = entitySpec.getAspectSpec(parts[1]);
+      if (aspectSpec == null || !aspectSpec.isTimeseries()) {
+        throw new IllegalArgumentException(
+            String.format("Aspect %s of entity %s is not a timeseries aspect", parts[1], parts[0]));
+      }
+      _aspectSpecs.computeIfAbsent(parts[0], x -> new HashMap<>()).put(parts[1], aspectSpec);
+    }
+    for (String aspect : downsampledAspects) {
+      final String[] parts = aspect.trim().split("\\.");
+      if (parts.length != 2 || !isRolledUp(parts[0], parts[1])) {
+        throw new IllegalArgumentException(
+            String.format("Invalid downsampled aspect %s, expected the entityName.aspectName of a rolled up aspect",
+                aspect));
+      }
+      _downsampledAspects.computeIfAbsent(parts[0], x -> new HashSet<>()).add(parts[1]);
+    }
+  }
+
+  public boolean isRolledUp(@Nonnull String entityName, @Nonnull String aspectName) {
+    return getAspectSpec(entityName, aspectName) != null;
+  }
+
+  public String getRollupIndexName(@Nonnull String entityName, @Nonnull String aspectName) {
+    return _indexConvention.getIndexName(entityName + "_" + aspectName + "rollup_v1");
+  }
+
+  /**
+   * Folds a document written to the raw index of a timeseries aspect into the rollups of its entity.
+   */
+  public void upsertDocument(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String docId,
+      @Nonnull JsonNode document) {
+    final AspectSpec aspectSpec = getAspectSpec(entityName, aspectName);
+    if (aspectSpec == null) {
+      return;
+    }
+    final Map<String, Object> point = toPoint(aspectSpec, document);
+    final String urn = document.get(MappingsBuilder.URN_FIELD).asText();
+    final long timestampMillis = document.get(ES_FIELD_TIMESTAMP).asLong();
+    updateHour(entityName, aspectName, urn, RollupResolution.HOUR.floor(timestampMillis), docId, point);
+  }
+
+  /**
+   * Removes the raw documents matching the filter from the rollups. To be called before they are deleted.
+   */
+  public void removeDocuments(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull Filter filter) {
+    if (!isRolledUp(entityName, aspectName)) {
+      return;
+    }
+    final SearchRequest searchRequest =
+        new SearchRequest(_indexConvention.getTimeseriesAspectIndexName(entityName, aspectName)).scroll(
+            SCROLL_KEEP_ALIVE)
+            .source(new SearchSourceBuilder().query(ESUtils.buildFilterQuery(filter))
+                .fetchSource(new String[]{MappingsBuilder.URN_FIELD, ES_FIELD_TIMESTAMP}, null)
+                .size(SCROLL_SIZE));
+    String scrollId = null;
+    try {
+      SearchResponse response = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      while (response.getHits().getHits().length > 0) {
+        scrollId = response.getScrollId();
+        for (SearchHit hit : response.getHits().getHits()) {
+          final Map<String, Object> source = hit.getSourceAsMap();
+          final String urn = (String) source.get(MappingsBuilder.URN_FIELD);
+          final long timestampMillis = ((Number) source.get(ES_FIELD_TIMESTAMP)).longValue();
+          updateHour(entityName, aspectName, urn, RollupResolution.HOUR.floor(timestampMillis), hit.getId(), null);
+        }
+        response = _searchClient.scroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE),
+            RequestOptions.DEFAULT);
+      }
+      scrollId = response.getScrollId();
+    } catch (IOException e) {
+      log.error("Failed to remove documents of aspect {} of entity {} from the rollups", aspectName, entityName, e);
+      throw new ESQueryException("Failed to remove documents from the rollups", e);
+    } finally {
+      clearScroll(scrollId);
+    }
+  }
+
+  /**
+   * Recomputes the daily rollups whose hours changed, then the monthly rollups whose days changed.
+   *
+   * A rollup is only written if it did not change since it was read, and a finer rollup is only flagged as compacted
+   * if it did not change since it was summed, so that concurrent writes and compactions leave the rollups stale
+   * rather than wrong. Stale rollups are compacted again by the next run.
+   */
+  public void compact() {
+    _aspectSpecs.forEach((entityName, aspectSpecs) -> aspectSpecs.keySet().forEach(aspectName -> {
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "compact").time()) {
+        compact(entityName, aspectName, RollupResolution.DAY);
+        compact(entityName, aspectName, RollupResolution.MONTH);
+      } catch (IOException e) {
+        log.error("Failed to compact the rollups of aspect {} of entity {}", aspectName, entityName, e);
+        throw new ESQueryException("Failed to compact the rollups", e);
+      }
+    }));
+  }
+
+  /**
+   * Deletes the raw documents of the downsampled aspects older than the retention, only their rollups being kept.
+   */
+  public void downsample(long nowMillis) {
+    if (_rawRetentionMillis <= 0) {
+      return;
+    }
+    if (!_serveQueries) {
+      log.warn("Not deleting raw timeseries documents, as queries are not served from the rollups");
+      return;
+    }
+    final long cutoff = nowMillis - _rawRetentionMillis;
+    _downsampledAspects.forEach((entityName, aspectNames) -> aspectNames.forEach(aspectName -> {
+      final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+      _bulkProcessor.deleteByQuery(QueryBuilders.rangeQuery(ES_FIELD_TIMESTAMP).lt(cutoff), false,
+          MAX_ROLLUP_DOCUMENTS, TimeValue.timeValueMinutes(10), indexName)
+          .ifPresent(response -> log.info("Deleted {} raw documents older than {} from {}", response.getDeleted(),
+              Instant.ofEpochMilli(cutoff), indexName));
+    }));
+  }
+
+  /**
+   * Computes the aggregation from the rollups, if they are served and the query can be answered from them.
+   */
+  @Nonnull
+  public Optional<GenericTable> getAggregatedStats(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nonnull AggregationSpec[] aggregationSpecs, @Nullable Filter filter,
+      @Nullable GroupingBucket[] groupingBuckets) {
+    final AspectSpec aspectSpec = getAspectSpec(entityName, aspectName);
+    if (!_serveQueries || aspectSpec == null) {
+      return Optional.empty();
+    }
+    final GroupingBucket[] buckets = groupingBuckets == null ? new GroupingBucket[0] : groupingBuckets;
+    final RollupQuery query = RollupQuery.parse(aspectSpec, aggregationSpecs, filter, buckets);
+    if (query == null) {
+      log.debug("Aggregation query on aspect {} of entity {} cannot be served from the rollups", aspectName,
+          entityName);
+      return Optional.empty();
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getAggregatedStats").time()) {
+      final Map<Long, Map<String, RollupStats>> stats = fetchStats(entityName, aspectName, query);
+      if (stats == null) {
+        return Optional.empty();
+      }
+      final GenericTable table = new GenericTable();
+      table.setColumnNames(new StringArray(ESAggregatedStatsDAO.genColumnNames(buckets, aggregationSpecs)));
+      table.setColumnTypes(
+          new StringArray(ESAggregatedStatsDAO.genColumnTypes(aspectSpec, buckets, aggregationSpecs)));
+      table.setRows(new StringArrayArray(toRows(query, stats)));
+      return Optional.of(table);
+    } catch (IOException e) {
+      log.error("Search query on the rollups failed", e);
+      throw new ESQueryException("Search query on the rollups failed", e);
+    }
+  }
+
+  public void configure() {
+    log.info("Setting up timeseries rollup indices");
+    try {
+      for (ReindexConfig config : getReindexConfigs()) {
+        _indexBuilder.buildIndex(config);
+      }
+    } catch (IOException ie) {
+      throw new RuntimeException("Could not configure timeseries rollup indices", ie);
+    }
+  }
+
+  @Nonnull
+  public List<ReindexConfig> getReindexConfigs() throws IOException {
+    final List<ReindexConfig> configs = new ArrayList<>();
+    for (Map.Entry<String, Map<String, AspectSpec>> entry : _aspectSpecs.entrySet()) {
+      for (String aspectName : entry.getValue().keySet()) {
+        configs.add(_indexBuilder.buildReindexState(getRollupIndexName(entry.getKey(), aspectName), getMappings(),
+            Collections.emptyMap()));
+      }
+    }
+    return configs;
+  }
+
+  @Nullable
+  private AspectSpec getAspectSpec(@Nonnull String entityName, @Nonnull String aspectName) {
+    return _aspectSpecs.getOrDefault(entityName, Collections.emptyMap()).get(aspectName);
+  }
+
+  private void updateHour(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String urn,
+      long bucketStart, @Nonnull String rawDocId, @Nullable Map<String, Object> point) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("urn", urn);
+    params.put("resolution", RollupResolution.HOUR.name());
+    params.put("bucketStart", bucketStart);
+    params.put("id", rawDocId);
+    params.put("point", point);
+    final UpdateRequest updateRequest =
+        new UpdateRequest(getRollupIndexName(entityName, aspectName), toDocId(urn, RollupResolution.HOUR, bucketStart))
+            .script(new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, UPDATE_SCRIPT, params))
+            .scriptedUpsert(true)
+            .upsert(Collections.emptyMap())
+            .retryOnConflict(_numRetries);
+    _bulkProcessor.add(updateRequest);
+  }
+
+  /**
+   * Recomputes the rollups of the given resolution containing finer rollups that are not compacted yet
+   */
+  private void compact(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull RollupResolution resolution)
+      throws IOException {
+    final RollupResolution finer = RollupResolution.values()[resolution.ordinal() - 1];
+    final String indexName = getRollupIndexName(entityName, aspectName);
+    final SearchHits hits = search(indexName, QueryBuilders.boolQuery()
+        .filter(QueryBuilders.termQuery(FIELD_COMPACTED, false))
+        .filter(QueryBuilders.termQuery(FIELD_RESOLUTION, finer.name())), new String[]{FIELD_URN, FIELD_BUCKET_START});
+    final Map<String, Set<Long>> buckets = new TreeMap<>();
+    for (SearchHit hit : hits.getHits()) {
+      final Map<String, Object> source = hit.getSourceAsMap();
+      buckets.computeIfAbsent((String) source.get(FIELD_URN), x -> new TreeSet<>())
+          .add(resolution.floor(((Number) source.get(FIELD_BUCKET_START)).longValue()));
+    }
+    int compacted = 0;
+    for (Map.Entry<String, Set<Long>> entry : buckets.entrySet()) {
+      for (long bucketStart : entry.getValue()) {
+        if (compactBucket(indexName, entry.getKey(), resolution, bucketStart)) {
+          compacted++;
+        }
+      }
+    }
+    if (compacted > 0) {
+      log.info("Compacted {} {} rollups of aspect {} of entity {}", compacted, resolution, aspectName, entityName);
+    }
+  }
+
+  /**
+   * Recomputes one rollup from the finer rollups it contains
+   *
+   * @return false if the rollup changed concurrently, in which case it is left as is
+   */
+  @SuppressWarnings("unchecked")
+  private boolean compactBucket(@Nonnull String indexName, @Nonnull String urn, @Nonnull RollupResolution resolution,
+      long bucketStart) throws IOException {
+    final RollupResolution finer = RollupResolution.values()[resolution.ordinal() - 1];
+    final String docId = toDocId(urn, resolution, bucketStart);
+    final GetResponse current = _searchClient.get(
+        new GetRequest(indexName, docId).fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE),
+        RequestOptions.DEFAULT);
+    final SearchHits children = search(indexName, QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termQuery(FIELD_URN, urn))
+            .filter(QueryBuilders.termQuery(FIELD_RESOLUTION, finer.name()))
+            .filter(QueryBuilders.rangeQuery(FIELD_BUCKET_START).gte(bucketStart).lt(resolution.next(bucketStart))),
+        new String[]{FIELD_TOTALS, FIELD_COMPACTED});
+
+    long count = 0;
+    final RollupStats stats = new RollupStats();
+    final Map<String, Map<String, RollupStats>> collections = new TreeMap<>();
+    for (SearchHit child : children.getHits()) {
+      final Map<String, Object> totals =
+          (Map<String, Object>) child.getSourceAsMap().getOrDefault(FIELD_TOTALS, Map.of());
+      count += ((Number) totals.getOrDefault(TOTALS_COUNT, 0)).longValue();
+      stats.addRollup((Map<String, Object>) totals.getOrDefault(TOTALS_STATS, Map.of()));
+      ((Map<String, Map<String, Map<String, Object>>>) totals.getOrDefault(TOTALS_COLLECTIONS, Map.of())).forEach(
+          (collection, keys) -> keys.forEach((key, keyStats) -> collections.computeIfAbsent(collection,
+              x -> new TreeMap<>()).computeIfAbsent(key, x -> new RollupStats()).addRollup(keyStats)));
+    }
+    final Map<String, Object> totals = new HashMap<>();
+    totals.put(TOTALS_COUNT, count);
+    totals.put(TOTALS_STATS, stats.toRollup());
+    final Map<String, Object> collectionTotals = new HashMap<>();
+    collections.forEach((collection, keys) -> {
+      final Map<String, Object> keyTotals = new HashMap<>();
+      keys.forEach((key, keyStats) -> {
+        if (keyStats.getCount() > 0) {
+          keyTotals.put(key, keyStats.toRollup());
+        }
+      });
+      collectionTotals.put(collection, keyTotals);
+    });
+    totals.put(TOTALS_COLLECTIONS, collectionTotals);
+
+    final Map<String, Object> document = new HashMap<>();
+    document.put(FIELD_URN, urn);
+    document.put(FIELD_RESOLUTION, resolution.name());
+    document.put(FIELD_BUCKET_START, bucketStart);
+    document.put(FIELD_TOTALS, totals);
+    document.put(FIELD_COMPACTED, false);
+    // Visible before the finer rollups are flagged as compacted, so that readers never skip the changes
+    final IndexRequest indexRequest = new IndexRequest(indexName).id(docId)
+        .source(document)
+        .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+    if (current.isExists()) {
+      indexRequest.setIfSeqNo(current.getSeqNo()).setIfPrimaryTerm(current.getPrimaryTerm());
+    } else {
+      indexRequest.opType(DocWriteRequest.OpType.CREATE);
+    }
+    try {
+      _searchClient.index(indexRequest, RequestOptions.DEFAULT);
+    } catch (ElasticsearchStatusException e) {
+      if (e.status() == RestStatus.CONFLICT) {
+        log.debug("Rollup {} of {} changed while being compacted", docId, urn);
+        return false;
+      }
+      throw e;
+    }
+
+    final BulkRequest bulkRequest = new BulkRequest();
+    for (SearchHit child : children.getHits()) {
+      if (Boolean.FALSE.equals(child.getSourceAsMap().get(FIELD_COMPACTED))) {
+        bulkRequest.add(new UpdateRequest(indexName, child.getId()).doc(Map.of(FIELD_COMPACTED, true))
+            .setIfSeqNo(child.getSeqNo())
+            .setIfPrimaryTerm(child.getPrimaryTerm()));
+      }
+    }
+    if (bulkRequest.numberOfActions() > 0) {
+      final BulkResponse response = _searchClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+      // Rollups that changed since they were summed stay stale, and are compacted again by the next run
+      for (BulkItemResponse item : response.getItems()) {
+        if (item.isFailed() && item.getFailure().getStatus() != RestStatus.CONFLICT) {
+          log.warn("Failed to flag rollup {} as compacted: {}", item.getId(), item.getFailureMessage());
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Replaces the buckets of the ranges whose rollups are stale with the finer buckets they contain
+   *
+   * @return the ranges to read, or null if there are too many of them
+   */
+  @Nullable
+  private List<RollupWindow.Range> freshRanges(@Nonnull String indexName, @Nonnull String urn,
+      @Nonnull List<RollupWindow.Range> ranges) throws IOException {
+    final long start = ranges.stream()
+        .filter(range -> range.getResolution() != RollupResolution.HOUR)
+        .mapToLong(RollupWindow.Range::getStart)
+        .min()
+        .orElse(Long.MAX_VALUE);
+    final long end = ranges.stream().mapToLong(RollupWindow.Range::getEnd).max().orElse(Long.MIN_VALUE);
+    if (start >= end) {
+      return ranges;
+    }
+
+    final SearchHits hits = search(indexName, QueryBuilders.boolQuery()
+        .filter(QueryBuilders.termQuery(FIELD_URN, urn))
+        .filter(QueryBuilders.termQuery(FIELD_COMPACTED, false))
+        .filter(QueryBuilders.termsQuery(FIELD_RESOLUTION, RollupResolution.HOUR.name(), RollupResolution.DAY.name()))
+        .filter(QueryBuilders.rangeQuery(FIELD_BUCKET_START).gte(start).lt(end)),
+        new String[]{FIELD_RESOLUTION, FIELD_BUCKET_START});
+    if (hits.getTotalHits() == null || hits.getTotalHits().value > hits.getHits().length) {
+      log.warn("Too many stale rollup documents for urn {}, aggregating over the raw documents", urn);
+      return null;
+    }
+    final Set<Long> staleDays = new HashSet<>();
+    final Set<Long> staleMonths = new HashSet<>();
+    for (SearchHit hit : hits.getHits()) {
+      final Map<String, Object> source = hit.getSourceAsMap();
+      final long bucketStart = ((Number) source.get(FIELD_BUCKET_START)).longValue();
+      if (RollupResolution.HOUR.name().equals(source.get(FIELD_RESOLUTION))) {
+        staleDays.add(RollupResolution.DAY.floor(bucketStart));
+      }
+      staleMonths.add(RollupResolution.MONTH.floor(bucketStart));
+    }
+
+    final List<RollupWindow.Range> fresh = new ArrayList<>();
+    for (RollupWindow.Range range : ranges) {
+      addFreshRange(range, staleDays, staleMonths, fresh);
+    }
+    if (fresh.size() > MAX_RANGES) {
+      log.warn("Too many stale rollup documents for urn {}, aggregating over the raw documents", urn);
+      return null;
+    }
+    return fresh;
+  }
+
+  private static void addFreshRange(@Nonnull RollupWindow.Range range, @Nonnull Set<Long> staleDays,
+      @Nonnull Set<Long> staleMonths, @Nonnull List<RollupWindow.Range> fresh) {
+    final RollupResolution resolution = range.getResolution();
+    if (resolution == RollupResolution.HOUR) {
+      addRange(range, fresh);
+      return;
+    }
+    final Set<Long> stale = resolution == RollupResolution.DAY ? staleDays : staleMonths;
+    for (long bucket = range.getStart(); bucket < range.getEnd(); bucket = resolution.next(bucket)) {
+      final RollupWindow.Range bucketRange = new RollupWindow.Range(
+          stale.contains(bucket) ? RollupResolution.values()[resolution.ordinal() - 1] : resolution, bucket,
+          resolution.next(bucket));
+      if (bucketRange.getResolution() == resolution) {
+        addRange(bucketRange, fresh);
+      } else {
+        addFreshRange(bucketRange, staleDays, staleMonths, fresh);
+      }
+    }
+  }
+
+  /**
+   * Adds a range, merging it with the previous one if they are adjacent and of the same resolution
+   */
+  private static void addRange(@Nonnull RollupWindow.Range range, @Nonnull List<RollupWindow.Range> ranges) {
+    final RollupWindow.Range last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+    if (last != null && last.getResolution() == range.getResolution() && last.getEnd() == range.getStart()) {
+      ranges.set(ranges.size() - 1, new RollupWindow.Range(range.getResolution(), last.getStart(), range.getEnd()));
+    } else {
+      ranges.add(range);
+    }
+  }
+
+  /**
+   * Contribution of a raw document: its timestamp, and either the aspect level fields, or the collection, key and
+   * fields of a collection element for the exploded documents.
+   */
+  @Nonnull
+  static Map<String, Object> toPoint(@Nonnull AspectSpec aspectSpec, @Nonnull JsonNode document) {
+    final Map<String, Object> point = new HashMap<>();
+    point.put(POINT_TIMESTAMP, document.get(ES_FIELD_TIMESTAMP).asLong());
+    final Map<String, Object> values = new HashMap<>();
+    final JsonNode isExploded = document.get(MappingsBuilder.IS_EXPLODED_FIELD);
+    if (isExploded != null && isExploded.asBoolean()) {
+      for (TimeseriesFieldCollectionSpec collectionSpec : aspectSpec.getTimeseriesFieldCollectionSpecs()) {
+        final JsonNode element = document.get(collectionSpec.getName());
+        if (element == null) {
+          continue;
+        }
+        final String keyField = collectionSpec.getTimeseriesFieldCollectionAnnotation().getKey();
+        point.put(POINT_COLLECTION, collectionSpec.getName());
+        point.put(POINT_KEY, element.path(keyField).asText());
+        element.fields().forEachRemaining(field -> {
+          if (!field.getKey().equals(keyField)) {
+            values.put(field.getKey(), toValue(field.getValue()));
+          }
+        });
+        break;
+      }
+    } else {
+      for (TimeseriesFieldSpec fieldSpec : aspectSpec.getTimeseriesFieldSpecs()) {
+        final JsonNode value = document.get(fieldSpec.getName());
+        if (value != null && !value.isNull()) {
+          values.put(fieldSpec.getName(), toValue(value));
+        }
+      }
+    }
+    point.put(POINT_VALUES, values);
+    return point;
+  }
+
+  @Nonnull
+  private static Object toValue(@Nonnull JsonNode value) {
+    if (value.isIntegralNumber()) {
+      return value.longValue();
+    } else if (value.isNumber()) {
+      return value.doubleValue();
+    } else if (value.isBoolean()) {
+      return value.booleanValue();
+    } else if (value.isTextual()) {
+      return value.textValue();
+    }
+    return value.toString();
+  }
+
+  /**
+   * Stats of the window by date bucket, or under a single key when not grouped by date, then by collection key, or
+   * under the empty key for aspect level stats. Null if there are too many rollup documents to read.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Map<Long, Map<String, RollupStats>> fetchStats(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nonnull RollupQuery query) throws IOException {
+    final RollupWindow window = RollupWindow.of(query.from, query.to, query.coarsestResolution());
+    final String indexName = getRollupIndexName(entityName, aspectName);
+    final Map<Long, Map<String, RollupStats>> stats = new TreeMap<>();
+
+    final List<RollupWindow.Range> freshRanges = freshRanges(indexName, query.urn, window.getRanges());
+    if (freshRanges == null) {
+      return null;
+    }
+    if (!freshRanges.isEmpty()) {
+      final BoolQueryBuilder ranges = QueryBuilders.boolQuery().minimumShouldMatch(1);
+      freshRanges
+          .forEach(range -> ranges.should(QueryBuilders.boolQuery()
+              .filter(QueryBuilders.termQuery(FIELD_RESOLUTION, range.getResolution().name()))
+              .filter(QueryBuilders.rangeQuery(FIELD_BUCKET_START).gte(range.getStart()).lt(range.getEnd()))));
+      final String statsField = query.collection == null ? FIELD_TOTALS + "." + TOTALS_STATS
+          : FIELD_TOTALS + "." + TOTALS_COLLECTIONS + "." + query.collection;
+      final SearchHits hits = search(indexName, QueryBuilders.boolQuery()
+          .filter(QueryBuilders.termQuery(FIELD_URN, query.urn))
+          .filter(ranges), new String[]{FIELD_BUCKET_START, FIELD_TOTALS + "." + TOTALS_COUNT, statsField});
+      if (hits.getTotalHits() == null || hits.getTotalHits().value > hits.getHits().length) {
+        log.warn("Too many rollup documents for urn {}, aggregating over the raw documents", query.urn);
+        return null;
+      }
+      for (SearchHit hit : hits.getHits()) {
+        final Map<String, Object> source = hit.getSourceAsMap();
+        final Map<String, Object> totals = (Map<String, Object>) source.getOrDefault(FIELD_TOTALS, Map.of());
+        final Map<String, RollupStats> bucketStats =
+            stats.computeIfAbsent(query.dateBucket(((Number) source.get(FIELD_BUCKET_START)).longValue()),
+                x -> new HashMap<>());
+        // Aspect level stats, counting all the documents so that buckets holding only collection documents are
+        // kept, like raw date histograms do
+        final Map<String, Object> aspectStats = new HashMap<>(query.collection == null
+            ? (Map<String, Object>) totals.getOrDefault(TOTALS_STATS, Map.of()) : Map.of());
+        aspectStats.put(RollupStats.COUNT, totals.getOrDefault(TOTALS_COUNT, 0));
+        bucketStats.computeIfAbsent("", x -> new RollupStats()).addRollup(aspectStats);
+        if (query.collection != null) {
+          ((Map<String, Map<String, Object>>) ((Map<String, Object>) totals.getOrDefault(TOTALS_COLLECTIONS,
+              Map.of())).getOrDefault(query.collection, Map.of())).forEach(
+              (key, keyStats) -> bucketStats.computeIfAbsent(key, x -> new RollupStats()).addRollup(keyStats));
+        }
+      }
+    }
+
+    if (!window.getPartialHours().isEmpty()) {
+      final SearchHits hits = search(indexName, QueryBuilders.boolQuery()
+          .filter(QueryBuilders.termQuery(FIELD_URN, query.urn))
+          .filter(QueryBuilders.termQuery(FIELD_RESOLUTION, RollupResolution.HOUR.name()))
+          .filter(QueryBuilders.termsQuery(FIELD_BUCKET_START, window.getPartialHours())),
+          new String[]{FIELD_BUCKET_START, FIELD_POINTS});
+      for (SearchHit hit : hits.getHits()) {
+        final Map<String, Object> source = hit.getSourceAsMap();
+        final Map<String, RollupStats> bucketStats =
+            stats.computeIfAbsent(query.dateBucket(((Number) source.get(FIELD_BUCKET_START)).longValue()),
+                x -> new HashMap<>());
+        for (Object value : ((Map<String, Object>) source.getOrDefault(FIELD_POINTS, Map.of())).values()) {
+          final Map<String, Object> point = (Map<String, Object>) value;
+          final long timestampMillis = ((Number) point.get(POINT_TIMESTAMP)).longValue();
+          if (!window.contains(timestampMillis)) {
+            continue;
+          }
+          final RollupStats all = bucketStats.computeIfAbsent("", x -> new RollupStats());
+          final Map<String, Object> values = (Map<String, Object>) point.get(POINT_VALUES);
+          final Object collection = point.get(POINT_COLLECTION);
+          if (query.collection == null && collection == null) {
+            all.addPoint(timestampMillis, values);
+          } else {
+            all.addPoint(timestampMillis, Collections.emptyMap());
+            if (query.collection != null && query.collection.equals(collection)) {
+              bucketStats.computeIfAbsent((String) point.get(POINT_KEY), x -> new RollupStats())
+                  .addPoint(timestampMillis, values);
+            }
+          }
+        }
+      }
+    }
+    return stats;
+  }
+
+  private SearchHits search(@Nonnull String indexName, @Nonnull BoolQueryBuilder query, @Nonnull String[] includes)
+      throws IOException {
+    final SearchSourceBuilder source = new SearchSourceBuilder().query(query)
+        .fetchSource(includes, null)
+        .size(MAX_ROLLUP_DOCUMENTS)
+        .seqNoAndPrimaryTerm(true)
+        .trackTotalHits(true);
+    final SearchRequest searchRequest = new SearchRequest(indexName).source(source);
+    return _searchClient.search(searchRequest, RequestOptions.DEFAULT).getHits();
+  }
+
+  /**
+   * Rows in the same order and format as those of {@link ESAggregatedStatsDAO}
+   */
+  @Nonnull
+  private static List<StringArray> toRows(@Nonnull RollupQuery query,
+      @Nonnull Map<Long, Map<String, RollupStats>> stats) {
+    final List<StringArray> rows = new ArrayList<>();
+    if (query.dateInterval == null) {
+      final Map<String, RollupStats> merged = new HashMap<>();
+      stats.values()
+          .forEach(bucketStats -> bucketStats.forEach(
+              (key, keyStats) -> merged.computeIfAbsent(key, x -> new RollupStats()).addStats(keyStats)));
+      addRows(query, Collections.emptyList(), merged, rows);
+      return rows;
+    }
+
+    // Date histograms return all the buckets between the first and the last one holding documents
+    final List<Long> nonEmpty = stats.entrySet()
+        .stream()
+        .filter(entry -> entry.getValue().containsKey("") && entry.getValue().get("").getCount() > 0)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+    if (nonEmpty.isEmpty()) {
+      return rows;
+    }
+    final long last = nonEmpty.get(nonEmpty.size() - 1);
+    for (long bucket = nonEmpty.get(0); bucket <= last; bucket = query.nextDateBucket(bucket)) {
+      addRows(query, Collections.singletonList(String.valueOf(bucket)),
+          stats.getOrDefault(bucket, Collections.emptyMap()), rows);
+    }
+    return rows;
+  }
+
+  private static void addRows(@Nonnull RollupQuery query, @Nonnull List<String> prefix,
+      @Nonnull Map<String, RollupStats> bucketStats, @Nonnull List<StringArray> rows) {
+    if (query.collection == null) {
+      final List<String> row = new ArrayList<>(prefix);
+      final RollupStats stats = bucketStats.getOrDefault("", new RollupStats());
+      query.aggregations.forEach(aggregation -> row.add(aggregation.format(stats)));
+      rows.add(new StringArray(row));
+      return;
+    }
+    // Terms aggregations return the keys in order, without the empty ones
+    final Iterator<String> keys = new TreeMap<>(bucketStats).entrySet()
+        .stream()
+        .filter(entry -> !entry.getKey().isEmpty() && entry.getValue().getCount() > 0)
+        .map(Map.Entry::getKey)
+        .limit(MAX_TERM_BUCKETS)
+        .iterator();
+    while (keys.hasNext()) {
+      final String key = keys.next();
+      final List<String> row = new ArrayList<>(prefix);
+      row.add(key);
+      query.aggregations.forEach(aggregation -> row.add(aggregation.format(bucketStats.get(key))));
+      rows.add(new StringArray(row));
+    }
+  }
+
+  private static String toDocId(@Nonnull String urn, @Nonnull RollupResolution resolution, long bucketStart) {
+    return DigestUtils.md5Hex(urn + "_" + resolution.name() + "_" + bucketStart);
+  }
+
+  private void clearScroll(@Nullable String scrollId) {
+    if (scrollId == null) {
+      return;
+    }
+    final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+    clearScrollRequest.addScrollId(scrollId);
+    try {
+      _searchClient.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.warn("Failed to clear scroll {}", scrollId, e);
+    }
+  }
+
+  private static Map<String, Object> getMappings() {
+    final Map<String, Object> keyword = ImmutableMap.of("type", "keyword");
+    final Map<String, Object> notIndexed = ImmutableMap.of("type", "object", "enabled", false);
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(FIELD_URN, keyword);
+    mappings.put(FIELD_RESOLUTION, keyword);
+    mappings.put(FIELD_BUCKET_START, ImmutableMap.of("type", "date"));
+    mappings.put(FIELD_TOTALS, notIndexed);
+    mappings.put(FIELD_POINTS, notIndexed);
+    mappings.put(FIELD_COMPACTED, ImmutableMap.of("type", "boolean"));
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  /**
+   * An aggregation of a single field, sum or latest value
+   */
+  @AllArgsConstructor
+  private static class RollupAggregation {
+    private final String field;
+    private final boolean sum;
+    private final DataSchema.Type type;
+
+    /**
+     * Formats the value like {@link ESAggregatedStatsDAO} formats the results of the Elasticsearch aggregations
+     */
+    String format(@Nonnull RollupStats stats) {
+      final boolean integral = type == DataSchema.Type.INT || type == DataSchema.Type.LONG;
+      if (sum) {
+        final double value = stats.getSum(field);
+        return integral ? String.valueOf((long) value) : String.valueOf(value);
+      }
+      final Object value = stats.getLatest(field);
+      if (value == null) {
+        return ES_NULL_VALUE;
+      } else if (integral) {
+        return String.valueOf(((Number) value).longValue());
+      } else if (type == DataSchema.Type.FLOAT || type == DataSchema.Type.DOUBLE) {
+        return String.valueOf(((Number) value).doubleValue());
+      }
+      return value.toString();
+    }
+  }
+
+  /**
+   * The shape of an aggregation query that can be answered from the rollups
+   */
+  private static class RollupQuery {
+    private static final Set<CalendarInterval> DATE_INTERVALS =
+        Set.of(CalendarInterval.HOUR, CalendarInterval.DAY, CalendarInterval.WEEK, CalendarInterval.MONTH,
+            CalendarInterval.QUARTER, CalendarInterval.YEAR);
+
+    private String urn;
+    private long from = 0;
+    private long to = MAX_TIMESTAMP;
+    @Nullable
+    private CalendarInterval dateInterval;
+    // Collection grouped by key, null for aspect level aggregations
+    @Nullable
+    private String collection;
+    private final List<RollupAggregation> aggregations = new ArrayList<>();
+
+    /**
+     * @return the query, or null if it cannot be answered from the rollups
+     */
+    @Nullable
+    static RollupQuery parse(@Nonnull AspectSpec aspectSpec, @Nonnull AggregationSpec[] aggregationSpecs,
+        @Nullable Filter filter, @Nonnull GroupingBucket[] groupingBuckets) {
+      final RollupQuery query = new RollupQuery();
+      if (!query.parseFilter(filter) || !query.parseGroupingBuckets(aspectSpec, groupingBuckets)) {
+        return null;
+      }
+      for (AggregationSpec aggregationSpec : aggregationSpecs) {
+        if (!query.parseAggregation(aspectSpec, aggregationSpec)) {
+          return null;
+        }
+      }
+      return query;
+    }
+
+    private boolean parseFilter(@Nullable Filter filter) {
+      final List<Criterion> criteria;
+      if (filter != null && filter.hasOr()) {
+        if (filter.getOr().size() != 1) {
+          return false;
+        }
+        criteria = filter.getOr().get(0).getAnd();
+      } else if (filter != null && filter.hasCriteria()) {
+        criteria = filter.getCriteria();
+      } else {
+        return false;
+      }
+      for (Criterion criterion : criteria) {
+        if (criterion.isNegated() || criterion.getValues().size() > 1 || (criterion.getValues().size() == 1
+            && !criterion.getValues().get(0).equals(criterion.getValue()))) {
+          return false;
+        }
+        if (criterion.getField().equals(MappingsBuilder.URN_FIELD)) {
+          if (criterion.getCondition() != Condition.EQUAL || (urn != null
+              && !urn.equals(criterion.getValue()))) {
+            return false;
+          }
+          urn = criterion.getValue();
+        } else if (criterion.getField().equals(ES_FIELD_TIMESTAMP)) {
+          final long value;
+          try {
+            value = Long.parseLong(criterion.getValue());
+          } catch (NumberFormatException e) {
+            return false;
+          }
+          switch (criterion.getCondition()) {
+            case GREATER_THAN:
+              from = Math.max(from, value + 1);
+              break;
+            case GREATER_THAN_OR_EQUAL_TO:
+              from = Math.max(from, value);
+              break;
+            case LESS_THAN:
+              to = Math.min(to, value - 1);
+              break;
+            case LESS_THAN_OR_EQUAL_TO:
+              to = Math.min(to, value);
+              break;
+            default:
+              return false;
+          }
+        } else {
+          return false;
+        }
+      }
+      return urn != null;
+    }
+
+    private boolean parseGroupingBuckets(@Nonnull AspectSpec aspectSpec, @Nonnull GroupingBucket[] groupingBuckets) {
+      int index = 0;
+      if (index < groupingBuckets.length
+          && groupingBuckets[index].getType() == GroupingBucketType.DATE_GROUPING_BUCKET) {
+        final GroupingBucket bucket = groupingBuckets[index++];
+        if (!bucket.getKey().equals(ES_FIELD_TIMESTAMP) || !bucket.hasTimeWindowSize()
+            || bucket.getTimeWindowSize().getMultiple() != 1 || !DATE_INTERVALS.contains(
+            bucket.getTimeWindowSize().getUnit())) {
+          return false;
+        }
+        dateInterval = bucket.getTimeWindowSize().getUnit();
+      }
+      if (index < groupingBuckets.length
+          && groupingBuckets[index].getType() == GroupingBucketType.STRING_GROUPING_BUCKET) {
+        final String[] parts = groupingBuckets[index++].getKey().split("\\.");
+        final TimeseriesFieldCollectionSpec collectionSpec =
+            parts.length == 2 ? aspectSpec.getTimeseriesFieldCollectionSpecMap().get(parts[0]) : null;
+        if (collectionSpec == null || !collectionSpec.getTimeseriesFieldCollectionAnnotation()
+            .getKey()
+            .equals(parts[1])) {
+          return false;
+        }
+        collection = parts[0];
+      }
+      return index == groupingBuckets.length;
+    }
+
+    private boolean parseAggregation(@Nonnull AspectSpec aspectSpec, @Nonnull AggregationSpec aggregationSpec) {
+      final TimeseriesFieldSpec fieldSpec;
+      final String field;
+      if (collection == null) {
+        field = aggregationSpec.getFieldPath();
+        fieldSpec = aspectSpec.getTimeseriesFieldSpecMap().get(field);
+      } else {
+        final String prefix = collection + ".";
+        if (!aggregationSpec.getFieldPath().startsWith(prefix)) {
+          return false;
+        }
+        field = aggregationSpec.getFieldPath().substring(prefix.length());
+        fieldSpec = aspectSpec.getTimeseriesFieldCollectionSpecMap()
+            .get(collection)
+            .getTimeseriesFieldSpecMap()
+            .get(field);
+      }
+      if (fieldSpec == null) {
+        return false;
+      }
+      final DataSchema.Type type = fieldSpec.getPegasusSchema().getType();
+      switch (aggregationSpec.getAggregationType()) {
+        case SUM:
+          if (type != DataSchema.Type.INT && type != DataSchema.Type.LONG && type != DataSchema.Type.FLOAT
+              && type != DataSchema.Type.DOUBLE) {
+            return false;
+          }
+          aggregations.add(new RollupAggregation(field, true, type));
+          return true;
+        case LATEST:
+          aggregations.add(new RollupAggregation(field, false, type));
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    /**
+     * Coarsest rollup resolution whose buckets do not straddle the date buckets of the query
+     */
+    RollupResolution coarsestResolution() {
+      if (dateInterval == null) {
+        return RollupResolution.MONTH;
+      }
+      switch (dateInterval) {
+        case HOUR:
+          return RollupResolution.HOUR;
+        case DAY:
+        case WEEK:
+          return RollupResolution.DAY;
+        default:
+          return RollupResolution.MONTH;
+      }
+    }
+
+    /**
+     * Start of the date bucket of the query containing the given time, as computed by date histograms in UTC
+     */
+    long dateBucket(long timestampMillis) {
+      if (dateInterval == null) {
+        return 0;
+      }
+      final ZonedDateTime time = Instant.ofEpochMilli(timestampMillis).atZone(ZoneOffset.UTC);
+      switch (dateInterval) {
+        case HOUR:
+          return RollupResolution.HOUR.floor(timestampMillis);
+        case DAY:
+          return RollupResolution.DAY.floor(timestampMillis);
+        case WEEK:
+          return time.truncatedTo(ChronoUnit.DAYS)
+              .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+              .toInstant()
+              .toEpochMilli();
+        case MONTH:
+          return RollupResolution.MONTH.floor(timestampMillis);
+        case QUARTER:
+          return time.truncatedTo(ChronoUnit.DAYS)
+              .withDayOfMonth(1)
+              .withMonth((time.getMonthValue() - 1) / 3 * 3 + 1)
+              .toInstant()
+              .toEpochMilli();
+        case YEAR:
+          return time.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1).toInstant().toEpochMilli();
+        default:
+          throw new IllegalStateException("Unexpected date interval " + dateInterval);
+      }
+    }
+
+    long nextDateBucket(long bucketStartMillis) {
+      final ZonedDateTime time = Instant.ofEpochMilli(bucketStartMillis).atZone(ZoneOffset.UTC);
+      switch (dateInterval) {
+        case HOUR:
+          return time.plusHours(1).toInstant().toEpochMilli();
+        case DAY:
+          return time.plusDays(1).toInstant().toEpochMilli();
+        case WEEK:
+          return time.plusWeeks(1).toInstant().toEpochMilli();
+        case MONTH:
+          return time.plusMonths(1).toInstant().toEpochMilli();
+        case QUARTER:
+          return time.plusMonths(3).toInstant().toEpochMilli();
+        case YEAR:
+          return time.plusYears(1).toInstant().toEpochMilli();
+        default:
+          throw new IllegalStateException("Unexpected date interval " + dateInterval);
+      }
+    }
+  }
+}
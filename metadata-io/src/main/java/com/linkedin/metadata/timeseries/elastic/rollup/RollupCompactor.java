@@ -0,0 +1,56 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Periodically recomputes the daily and monthly rollups of timeseries aspects whose finer rollups changed. Queries
+ * read the finer rollups of stale buckets, so the interval only bounds how many of them are read.
+ */
+@Slf4j
+public class RollupCompactor {
+
+  private final ESTimeseriesRollupDAO _rollupDAO;
+  private final long _intervalMillis;
+
+  private ScheduledExecutorService _executor;
+
+  public RollupCompactor(@Nonnull ESTimeseriesRollupDAO rollupDAO, long intervalMillis) {
+    _rollupDAO = rollupDAO;
+    _intervalMillis = intervalMillis;
+  }
+
+  public synchronized void start() {
+    if (_executor != null) {
+      return;
+    }
+    _executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "timeseries-rollup-compactor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    _executor.scheduleWithFixedDelay(this::compact, _intervalMillis, _intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (_executor == null) {
+      return;
+    }
+    _executor.shutdownNow();
+    _executor = null;
+  }
+
+  private void compact() {
+    try {
+      _rollupDAO.compact();
+    } catch (Exception e) {
+      log.error("Failed to compact timeseries rollups", e);
+      MetricUtils.exceptionCounter(RollupCompactor.class, "compactFailed", e);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Periodically deletes the raw documents of downsampled timeseries aspects that are older than their retention.
+ */
+@Slf4j
+public class RollupDownsampler {
+
+  private final ESTimeseriesRollupDAO _rollupDAO;
+  private final long _intervalMillis;
+
+  private ScheduledExecutorService _executor;
+
+  public RollupDownsampler(@Nonnull ESTimeseriesRollupDAO rollupDAO, long intervalMillis) {
+    _rollupDAO = rollupDAO;
+    _intervalMillis = intervalMillis;
+  }
+
+  public synchronized void start() {
+    if (_executor != null) {
+      return;
+    }
+    _executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "timeseries-rollup-downsampler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    _executor.scheduleWithFixedDelay(this::downsample, _intervalMillis, _intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (_executor == null) {
+      return;
+    }
+    _executor.shutdownNow();
+    _executor = null;
+  }
+
+  private void downsample() {
+    try {
+      _rollupDAO.downsample(System.currentTimeMillis());
+    } catch (Exception e) {
+      log.error("Failed to delete expired raw timeseries documents", e);
+      MetricUtils.exceptionCounter(RollupDownsampler.class, "downsampleFailed", e);
+    }
+  }
+}
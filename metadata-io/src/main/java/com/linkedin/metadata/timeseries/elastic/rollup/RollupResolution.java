@@ -0,0 +1,64 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+
+/**
+ * Resolutions at which timeseries aspects are rolled up, finest first. Buckets are aligned on UTC, like the date
+ * histograms of aggregation queries.
+ */
+public enum RollupResolution {
+  HOUR,
+  DAY,
+  MONTH;
+
+  private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+  private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+  /**
+   * Start of the bucket containing the given time
+   */
+  public long floor(long timestampMillis) {
+    switch (this) {
+      case HOUR:
+        return timestampMillis - Math.floorMod(timestampMillis, HOUR_MILLIS);
+      case DAY:
+        return timestampMillis - Math.floorMod(timestampMillis, DAY_MILLIS);
+      case MONTH:
+        return toUtc(timestampMillis).truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).toInstant().toEpochMilli();
+      default:
+        throw new IllegalStateException("Unexpected resolution " + this);
+    }
+  }
+
+  /**
+   * Start of the first bucket starting at or after the given time
+   */
+  public long ceil(long timestampMillis) {
+    final long floor = floor(timestampMillis);
+    return floor == timestampMillis ? floor : next(floor);
+  }
+
+  /**
+   * Start of the bucket following the one starting at the given time
+   */
+  public long next(long bucketStartMillis) {
+    switch (this) {
+      case HOUR:
+        return bucketStartMillis + HOUR_MILLIS;
+      case DAY:
+        return bucketStartMillis + DAY_MILLIS;
+      case MONTH:
+        return toUtc(bucketStartMillis).plusMonths(1).toInstant().toEpochMilli();
+      default:
+        throw new IllegalStateException("Unexpected resolution " + this);
+    }
+  }
+
+  private static ZonedDateTime toUtc(long timestampMillis) {
+    return Instant.ofEpochMilli(timestampMillis).atZone(ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,96 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Sums and latest values of the fields of a set of timeseries documents, e.g. of the documents of an entity within a
+ * bucket, or of the documents of one key of a collection within a bucket.
+ */
+class RollupStats {
+  static final String COUNT = "count";
+  static final String SUMS = "sums";
+  static final String LATEST = "latest";
+  static final String LATEST_TIMESTAMP = "t";
+  static final String LATEST_VALUE = "v";
+
+  private long _count;
+  private final Map<String, Double> _sums = new HashMap<>();
+  private final Map<String, Long> _latestTimestamps = new HashMap<>();
+  private final Map<String, Object> _latestValues = new HashMap<>();
+
+  /**
+   * Adds the stats kept in a rollup document
+   */
+  @SuppressWarnings("unchecked")
+  void addRollup(@Nonnull Map<String, Object> stats) {
+    _count += ((Number) stats.getOrDefault(COUNT, 0)).longValue();
+    ((Map<String, Object>) stats.getOrDefault(SUMS, Map.of())).forEach(
+        (field, sum) -> _sums.merge(field, ((Number) sum).doubleValue(), Double::sum));
+    ((Map<String, Map<String, Object>>) stats.getOrDefault(LATEST, Map.of())).forEach(
+        (field, latest) -> addLatest(field, ((Number) latest.get(LATEST_TIMESTAMP)).longValue(),
+            latest.get(LATEST_VALUE)));
+  }
+
+  /**
+   * Adds the field values of a single document
+   */
+  void addPoint(long timestampMillis, @Nonnull Map<String, Object> values) {
+    _count++;
+    values.forEach((field, value) -> {
+      if (value instanceof Number) {
+        _sums.merge(field, ((Number) value).doubleValue(), Double::sum);
+      }
+      addLatest(field, timestampMillis, value);
+    });
+  }
+
+  void addStats(@Nonnull RollupStats other) {
+    _count += other._count;
+    other._sums.forEach((field, sum) -> _sums.merge(field, sum, Double::sum));
+    other._latestTimestamps.forEach((field, timestamp) -> addLatest(field, timestamp, other._latestValues.get(field)));
+  }
+
+  /**
+   * The stats in the format kept in rollup documents
+   */
+  @Nonnull
+  Map<String, Object> toRollup() {
+    final Map<String, Object> latest = new HashMap<>();
+    _latestTimestamps.forEach((field, timestamp) -> {
+      final Map<String, Object> value = new HashMap<>();
+      value.put(LATEST_TIMESTAMP, timestamp);
+      value.put(LATEST_VALUE, _latestValues.get(field));
+      latest.put(field, value);
+    });
+    final Map<String, Object> rollup = new HashMap<>();
+    rollup.put(COUNT, _count);
+    rollup.put(SUMS, new HashMap<>(_sums));
+    rollup.put(LATEST, latest);
+    return rollup;
+  }
+
+  long getCount() {
+    return _count;
+  }
+
+  double getSum(@Nonnull String field) {
+    return _sums.getOrDefault(field, 0.0);
+  }
+
+  @Nullable
+  Object getLatest(@Nonnull String field) {
+    return _latestValues.get(field);
+  }
+
+  private void addLatest(@Nonnull String field, long timestampMillis, @Nullable Object value) {
+    final Long current = _latestTimestamps.get(field);
+    if (current == null || current <= timestampMillis) {
+      _latestTimestamps.put(field, timestampMillis);
+      _latestValues.put(field, value);
+    }
+  }
+}
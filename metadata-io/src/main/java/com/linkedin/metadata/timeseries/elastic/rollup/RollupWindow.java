@@ -0,0 +1,100 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+import lombok.Value;
+
+
+/**
+ * Covers a time window with as few rollup buckets as possible.
+ *
+ * The window is split into whole buckets of the coarsest resolution that fits, with finer buckets at both ends. Hours
+ * that are only partially inside the window are read point by point, so the result is exactly the one of an
+ * aggregation over the raw documents of the window.
+ */
+@Getter
+public class RollupWindow {
+
+  /**
+   * Consecutive buckets of one resolution, by bucket start, end excluded
+   */
+  @Value
+  public static class Range {
+    RollupResolution resolution;
+    long start;
+    long end;
+  }
+
+  // Both inclusive, like the time range filters of aggregation queries
+  private final long from;
+  private final long to;
+  private final List<Range> ranges = new ArrayList<>();
+  private final List<Long> partialHours = new ArrayList<>();
+
+  private RollupWindow(long from, long to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * @param from start of the window, inclusive
+   * @param to end of the window, inclusive
+   * @param coarsest coarsest resolution to use, e.g. days when the results are grouped by day
+   */
+  @Nonnull
+  public static RollupWindow of(long from, long to, @Nonnull RollupResolution coarsest) {
+    final RollupWindow window = new RollupWindow(from, to);
+    if (from > to) {
+      return window;
+    }
+    final long end = to + 1;
+    final long wholeHoursStart = RollupResolution.HOUR.ceil(from);
+    final long wholeHoursEnd = RollupResolution.HOUR.floor(end);
+    if (wholeHoursStart >= wholeHoursEnd) {
+      // Less than an hour, spread over at most two hours
+      window.partialHours.add(RollupResolution.HOUR.floor(from));
+      if (RollupResolution.HOUR.floor(to) != RollupResolution.HOUR.floor(from)) {
+        window.partialHours.add(RollupResolution.HOUR.floor(to));
+      }
+      return window;
+    }
+    if (from < wholeHoursStart) {
+      window.partialHours.add(RollupResolution.HOUR.floor(from));
+    }
+    if (wholeHoursEnd < end) {
+      window.partialHours.add(wholeHoursEnd);
+    }
+    window.cover(wholeHoursStart, wholeHoursEnd, RollupResolution.HOUR, coarsest);
+    return window;
+  }
+
+  public boolean contains(long timestampMillis) {
+    return timestampMillis >= from && timestampMillis <= to;
+  }
+
+  /**
+   * Covers [start, end), both aligned on the given resolution
+   */
+  private void cover(long start, long end, @Nonnull RollupResolution resolution, @Nonnull RollupResolution coarsest) {
+    if (resolution == coarsest) {
+      ranges.add(new Range(resolution, start, end));
+      return;
+    }
+    final RollupResolution coarser = RollupResolution.values()[resolution.ordinal() + 1];
+    final long coarserStart = coarser.ceil(start);
+    final long coarserEnd = coarser.floor(end);
+    if (coarserStart >= coarserEnd) {
+      ranges.add(new Range(resolution, start, end));
+      return;
+    }
+    if (start < coarserStart) {
+      ranges.add(new Range(resolution, start, coarserStart));
+    }
+    if (coarserEnd < end) {
+      ranges.add(new Range(resolution, coarserEnd, end));
+    }
+    cover(coarserStart, coarserEnd, coarser, coarsest);
+  }
+}
@@ -0,0 +1,64 @@
+package com.linkedin.metadata.datahubusage;
+
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class DataHubUsageAggregatesServiceTest {
+  private static final long HALF_LIFE_MS = TimeUnit.DAYS.toMillis(7);
+
+  private ESBulkProcessor _bulkProcessor;
+  private DataHubUsageAggregatesService _service;
+
+  @BeforeMethod
+  public void setup() {
+    _bulkProcessor = Mockito.mock(ESBulkProcessor.class);
+    _service = new DataHubUsageAggregatesService(Mockito.mock(RestHighLevelClient.class), _bulkProcessor,
+        new IndexConventionImpl("test"), Mockito.mock(ESIndexBuilder.class), 3, HALF_LIFE_MS, 20);
+  }
+
+  @Test
+  public void testRecordEntityViewUpdatesEntityAndUser() {
+    _service.recordEntityView("urn:li:corpuser:test", "urn:li:dataset:(urn:li:dataPlatform:hive,a,PROD)", 1000L);
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(2)).add(captor.capture());
+    final List<DocWriteRequest> requests = captor.getAllValues();
+
+    final UpdateRequest entityUpdate = (UpdateRequest) requests.get(0);
+    assertEquals(entityUpdate.index(), "test_" + DataHubUsageAggregatesService.INDEX_NAME);
+    assertTrue(entityUpdate.scriptedUpsert());
+    assertEquals(entityUpdate.script().getParams().get("urn"), "urn:li:dataset:(urn:li:dataPlatform:hive,a,PROD)");
+
+    final UpdateRequest userUpdate = (UpdateRequest) requests.get(1);
+    assertNotEquals(userUpdate.id(), entityUpdate.id());
+    assertEquals(userUpdate.script().getParams().get("field"), "recentlyViewed");
+    assertEquals(userUpdate.script().getParams().get("maxItems"), 20);
+  }
+
+  @Test
+  public void testRecordSearchOnlyUpdatesUser() {
+    _service.recordSearch("urn:li:corpuser:test", "sales", 1000L);
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(1)).add(captor.capture());
+    assertEquals(((UpdateRequest) captor.getValue()).script().getParams().get("value"), "sales");
+  }
+
+  @Test
+  public void testLogWeightDoublesEveryHalfLife() {
+    final double delta = _service.logWeight(2 * HALF_LIFE_MS) - _service.logWeight(HALF_LIFE_MS);
+    assertEquals(Math.exp(delta), 2.0, 1e-9);
+  }
+}
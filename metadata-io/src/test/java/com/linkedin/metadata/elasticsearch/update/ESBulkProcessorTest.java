@@ -1,10 +1,25 @@
 package com.linkedin.metadata.elasticsearch.update;
 
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.rest.RestStatus;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 public class ESBulkProcessorTest {
@@ -15,4 +30,53 @@ public class ESBulkProcessorTest {
         ESBulkProcessor test = ESBulkProcessor.builder(mock).build();
         assertNotNull(test);
     }
+
+    @Test
+    public void testWriteBlockedWritesAreRetried() throws Exception {
+        RestHighLevelClient mock = Mockito.mock(RestHighLevelClient.class);
+        Mockito.when(mock.bulk(Mockito.any(BulkRequest.class), Mockito.any(RequestOptions.class)))
+            .thenReturn(new BulkResponse(new BulkItemResponse[]{indexed(0, "a"), writeBlocked(1, "b")}, 1))
+            .thenReturn(new BulkResponse(new BulkItemResponse[]{indexed(0, "b")}, 1));
+        ESBulkProcessor test = ESBulkProcessor.builder(mock)
+            .bulkRequestsLimit(2)
+            .retryInterval(0L)
+            .build();
+
+        test.add(new IndexRequest("index").id("a").source("field", "a"));
+        test.add(new IndexRequest("index").id("b").source("field", "b"));
+
+        ArgumentCaptor<BulkRequest> requests = ArgumentCaptor.forClass(BulkRequest.class);
+        Mockito.verify(mock, Mockito.times(2)).bulk(requests.capture(), Mockito.any(RequestOptions.class));
+        List<DocWriteRequest<?>> retried = requests.getAllValues().get(1).requests();
+        assertEquals(retried.size(), 1);
+        assertEquals(retried.get(0).id(), "b");
+    }
+
+    @Test
+    public void testWriteBlockedWritesGiveUpAfterTimeout() throws Exception {
+        RestHighLevelClient mock = Mockito.mock(RestHighLevelClient.class);
+        Mockito.when(mock.bulk(Mockito.any(BulkRequest.class), Mockito.any(RequestOptions.class)))
+            .thenReturn(new BulkResponse(new BulkItemResponse[]{writeBlocked(0, "a")}, 1));
+        ESBulkProcessor test = ESBulkProcessor.builder(mock)
+            .bulkRequestsLimit(1)
+            .retryInterval(0L)
+            .writeBlockTimeout(TimeValue.ZERO)
+            .build();
+
+        test.add(new IndexRequest("index").id("a").source("field", "a"));
+
+        Mockito.verify(mock, Mockito.times(1)).bulk(Mockito.any(BulkRequest.class), Mockito.any(RequestOptions.class));
+    }
+
+    private static BulkItemResponse indexed(int position, String id) {
+        return new BulkItemResponse(position, DocWriteRequest.OpType.INDEX,
+            new IndexResponse(new ShardId("index", "uuid", 0), "_doc", id, 1, 1, 1, true));
+    }
+
+    private static BulkItemResponse writeBlocked(int position, String id) {
+        return new BulkItemResponse(position, DocWriteRequest.OpType.INDEX, new BulkItemResponse.Failure("index", "_doc", id,
+            new ElasticsearchStatusException("Elasticsearch exception [type=cluster_block_exception, "
+                + "reason=index [index] blocked by: [FORBIDDEN/8/index write (api)];]", RestStatus.FORBIDDEN),
+            RestStatus.FORBIDDEN));
+    }
 }
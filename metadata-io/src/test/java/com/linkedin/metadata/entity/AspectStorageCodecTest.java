@@ -0,0 +1,62 @@
+package com.linkedin.metadata.entity;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AspectStorageCodecTest {
+
+  private static final String SMALL_JSON = "{\"removed\":false}";
+
+  private static String largeJson() {
+    final StringBuilder builder = new StringBuilder("{\"fields\":[");
+    for (int i = 0; i < 500; i++) {
+      builder.append(i == 0 ? "" : ",").append("{\"fieldPath\":\"field_").append(i).append("\",\"nullable\":true}");
+    }
+    return builder.append("]}").toString();
+  }
+
+  @Test
+  public void testJsonCodecIsIdentity() {
+    final String json = largeJson();
+    assertSame(AspectStorageCodec.JSON.encode(json), json);
+    assertNull(AspectStorageCodec.JSON.encode(null));
+    assertTrue(AspectStorageCodec.JSON.isInFormat(json));
+  }
+
+  @Test
+  public void testGzipRoundTrip() {
+    final AspectStorageCodec codec = new AspectStorageCodec(AspectStorageCodec.Format.GZIP_JSON, 0);
+    final String json = largeJson();
+    final String encoded = codec.encode(json);
+
+    assertTrue(AspectStorageCodec.isEncoded(encoded));
+    assertTrue(encoded.length() < json.length());
+    assertTrue(codec.isInFormat(encoded));
+    assertFalse(codec.isInFormat(json));
+    assertEquals(AspectStorageCodec.decode(encoded), json);
+    // Encoding is idempotent
+    assertEquals(codec.encode(encoded), encoded);
+  }
+
+  @Test
+  public void testSmallPayloadsStayJson() {
+    final AspectStorageCodec codec = new AspectStorageCodec(AspectStorageCodec.Format.GZIP_JSON, 1024);
+    assertEquals(codec.encode(SMALL_JSON), SMALL_JSON);
+    assertTrue(codec.isInFormat(SMALL_JSON));
+  }
+
+  @Test
+  public void testLegacyJsonDecodesAsIs() {
+    assertEquals(AspectStorageCodec.decode(SMALL_JSON), SMALL_JSON);
+    assertEquals(AspectStorageCodec.decode(""), "");
+    assertNull(AspectStorageCodec.decode(null));
+  }
+
+  @Test
+  public void testFormatFromString() {
+    assertEquals(AspectStorageCodec.Format.fromString("gzip_json"), AspectStorageCodec.Format.GZIP_JSON);
+    assertEquals(AspectStorageCodec.Format.fromString(" JSON "), AspectStorageCodec.Format.JSON);
+  }
+}
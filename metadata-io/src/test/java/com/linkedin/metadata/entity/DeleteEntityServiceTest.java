@@ -23,6 +23,8 @@ import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.SystemMetadataUtils;
 import java.sql.Timestamp;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
@@ -97,4 +99,57 @@ public class DeleteEntityServiceTest {
     assertEquals(1, (int) response.getTotal());
     assertFalse(response.getRelatedAspects().isEmpty());
   }
-}
\ No newline at end of file
+
+  /**
+   * This test checks that the aspects of all entities referencing the deleted urn are read at once.
+   */
+  @Test
+  public void testDeleteReferencesReadsAspectsInBatch() {
+    final Urn container = UrnUtils.getUrn("urn:li:container:d1006cf3-3ff9-48e3-85cd-26eb23775ab2");
+    final Urn datasetOne = UrnUtils.toDatasetUrn("snowflake", "one", "DEV");
+    final Urn datasetTwo = UrnUtils.toDatasetUrn("snowflake", "two", "DEV");
+
+    final RelatedEntitiesResult mockRelatedEntities = new RelatedEntitiesResult(0, 2, 2, ImmutableList.of(
+        new RelatedEntity("IsPartOf", datasetOne.toString()),
+        new RelatedEntity("IsPartOf", datasetTwo.toString())));
+    Mockito.when(_graphService.findRelatedEntities(null, newFilter("urn", container.toString()),
+            null, EMPTY_FILTER, ImmutableList.of(),
+            newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING), 0, 10000))
+        .thenReturn(mockRelatedEntities);
+
+    final Container containerAspect = new Container();
+    containerAspect.setContainer(container);
+    final AuditStamp auditStamp = AuditStampUtils.createDefaultAuditStamp();
+    Mockito.when(_aspectDao.batchGet(Mockito.any())).thenAnswer(invocation -> {
+      final Set<EntityAspectIdentifier> keys = invocation.getArgument(0);
+      return keys.stream()
+          .filter(key -> key.getAspect().equals(Constants.CONTAINER_ASPECT_NAME))
+          .collect(Collectors.toMap(key -> key, key -> {
+            final EntityAspect dbValue = new EntityAspect();
+            dbValue.setUrn(key.getUrn());
+            dbValue.setVersion(0);
+            dbValue.setAspect(Constants.CONTAINER_ASPECT_NAME);
+            dbValue.setMetadata(RecordUtils.toJsonString(containerAspect));
+            dbValue.setSystemMetadata(RecordUtils.toJsonString(SystemMetadataUtils.createDefaultSystemMetadata()));
+            dbValue.setCreatedBy(auditStamp.getActor().toString());
+            dbValue.setCreatedOn(new Timestamp(auditStamp.getTime()));
+            return dbValue;
+          }));
+    });
+
+    final RollbackResult result = new RollbackResult(container, Constants.DATASET_ENTITY_NAME,
+        Constants.CONTAINER_ASPECT_NAME, containerAspect, null, null, null,
+        ChangeType.DELETE, false, 1);
+    Mockito.when(_aspectDao.runInTransactionWithRetry(Mockito.any(), Mockito.anyInt()))
+        .thenReturn(result);
+    Mockito.clearInvocations(_aspectDao);
+
+    final DeleteReferencesResponse response = _deleteEntityService.deleteReferencesTo(container, false);
+    assertEquals(2, (int) response.getTotal());
+
+    // one read for the aspects of both datasets, and one removal of the container aspect per dataset
+    verify(_aspectDao, times(1)).batchGet(argThat(keys -> keys.size() == 2));
+    verify(_aspectDao, times(2)).runInTransactionWithRetry(Mockito.any(), Mockito.anyInt());
+    assertFalse(_deleteEntityService.getDeleteReferencesProgress(container).isPresent());
+  }
+}
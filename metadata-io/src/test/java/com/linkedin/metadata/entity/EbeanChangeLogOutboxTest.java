@@ -0,0 +1,178 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.identity.CorpUserInfo;
+import com.linkedin.metadata.AspectGenerationUtils;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanChangeLogOutbox;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutboxEntry;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutboxRelay;
+import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistryException;
+import com.linkedin.metadata.models.registry.MergedEntityRegistry;
+import com.linkedin.metadata.run.AspectRowSummary;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.PegasusUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.ebean.EbeanServer;
+import io.ebean.Transaction;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class EbeanChangeLogOutboxTest {
+
+  private static final Urn URN_1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+  private static final Urn URN_2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+  private static final long LEASE_MILLIS = 60_000;
+
+  private final EntityRegistry _testEntityRegistry;
+  private final String _aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+
+  private EbeanServer _server;
+  private EbeanChangeLogOutbox _outbox;
+  private EventProducer _mockProducer;
+  private EntityService _entityService;
+
+  public EbeanChangeLogOutboxTest() throws EntityRegistryException {
+    EntityRegistry snapshotEntityRegistry = new TestEntityRegistry();
+    EntityRegistry configEntityRegistry = new ConfigEntityRegistry(
+        Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+    _testEntityRegistry = new MergedEntityRegistry(snapshotEntityRegistry).apply(configEntityRegistry);
+  }
+
+  @BeforeMethod
+  public void setupTest() {
+    _server = EbeanTestUtils.createTestServer();
+    _outbox = new EbeanChangeLogOutbox(_server);
+    _mockProducer = mock(EventProducer.class);
+    EbeanAspectDao aspectDao = new EbeanAspectDao(_server);
+    aspectDao.setConnectionValidated(true);
+    _entityService = new EntityService(aspectDao, _mockProducer, _testEntityRegistry);
+    _entityService.setChangeLogOutbox(_outbox);
+  }
+
+  @Test
+  public void testIngestAppendsToOutboxInsteadOfProducing() {
+    CorpUserInfo aspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+    _entityService.ingestAspect(URN_1, _aspectName, aspect, EntityServiceTest.TEST_AUDIT_STAMP,
+        AspectGenerationUtils.createSystemMetadata());
+
+    verify(_mockProducer, never()).produceMetadataChangeLog(any(), any(), any());
+
+    List<ChangeLogOutboxEntry> entries = _outbox.claim("owner", 10, LEASE_MILLIS);
+    assertEquals(entries.size(), 1);
+    MetadataChangeLog metadataChangeLog = entries.get(0).getMetadataChangeLog();
+    assertEquals(entries.get(0).getUrn(), URN_1);
+    assertEquals(metadataChangeLog.getEntityUrn(), URN_1);
+    assertEquals(metadataChangeLog.getAspectName(), _aspectName);
+    assertFalse(metadataChangeLog.hasPreviousAspectValue());
+    assertTrue(metadataChangeLog.hasAspect());
+  }
+
+  @Test
+  public void testDeleteIsQueuedBehindPendingIngest() {
+    CorpUserInfo aspect = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+    _entityService.ingestAspect(URN_1, _aspectName, aspect, EntityServiceTest.TEST_AUDIT_STAMP,
+        AspectGenerationUtils.createSystemMetadata());
+    _entityService.ingestAspect(URN_1, PegasusUtils.getAspectNameFromSchema(new CorpUserKey().schema()),
+        AspectGenerationUtils.createCorpUserKey(URN_1), EntityServiceTest.TEST_AUDIT_STAMP,
+        AspectGenerationUtils.createSystemMetadata());
+
+    // Rollback and entity deletion happen while the change logs of the ingest are still pending
+    AspectRowSummary rollback = new AspectRowSummary();
+    rollback.setRunId("run-123");
+    rollback.setAspectName(_aspectName);
+    rollback.setUrn(URN_1.toString());
+    _entityService.rollbackRun(List.of(rollback), "run-123", true);
+    _entityService.deleteUrn(URN_1);
+
+    verify(_mockProducer, never()).produceMetadataChangeLog(any(), any(), any());
+    List<ChangeLogOutboxEntry> entries = _outbox.claim("owner", 10, LEASE_MILLIS);
+    assertEquals(entries.stream().map(entry -> entry.getMetadataChangeLog().getChangeType()).collect(Collectors.toList()),
+        List.of(ChangeType.UPSERT, ChangeType.UPSERT, ChangeType.DELETE, ChangeType.DELETE));
+    assertEquals(entries.get(2).getMetadataChangeLog().getAspectName(), _aspectName);
+  }
+
+  @Test
+  public void testAppendRolledBackWithTransaction() {
+    try (Transaction transaction = _server.beginTransaction()) {
+      _outbox.append(URN_1, new MetadataChangeLog().setEntityType("corpuser").setEntityUrn(URN_1)
+          .setChangeType(ChangeType.UPSERT).setAspectName(_aspectName));
+      transaction.rollback();
+    }
+    assertTrue(_outbox.claim("owner", 10, LEASE_MILLIS).isEmpty());
+  }
+
+  @Test
+  public void testClaimKeepsUrnOrderAcrossOwners() {
+    appendAll(URN_1, URN_1, URN_2);
+
+    // The first owner only gets the oldest entry, the second one must leave the rest of the urn to it
+    List<ChangeLogOutboxEntry> first = _outbox.claim("first", 1, LEASE_MILLIS);
+    List<ChangeLogOutboxEntry> second = _outbox.claim("second", 10, LEASE_MILLIS);
+    assertEquals(urns(first), List.of(URN_1));
+    assertEquals(urns(second), List.of(URN_2));
+
+    // Once published, the remaining entry of the urn is claimable again
+    _outbox.delete(List.of(first.get(0).getId()));
+    List<ChangeLogOutboxEntry> third = _outbox.claim("third", 10, LEASE_MILLIS);
+    assertEquals(urns(third), List.of(URN_1));
+    assertTrue(third.get(0).getId() > first.get(0).getId());
+  }
+
+  @Test
+  public void testExpiredLeaseIsClaimedAgain() {
+    appendAll(URN_1);
+    assertEquals(_outbox.claim("first", 10, LEASE_MILLIS).size(), 1);
+    assertTrue(_outbox.claim("second", 10, LEASE_MILLIS).isEmpty());
+    assertEquals(_outbox.claim("second", 10, -1).size(), 1);
+  }
+
+  @Test
+  public void testRelayReleasesUrnAfterFailure() {
+    appendAll(URN_1, URN_1, URN_2);
+    doReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")))
+        .doReturn(CompletableFuture.completedFuture(null))
+        .when(_mockProducer).produceMetadataChangeLog(eq(URN_1), any(), any());
+    doReturn(CompletableFuture.completedFuture(null))
+        .when(_mockProducer).produceMetadataChangeLog(eq(URN_2), any(), any());
+
+    ChangeLogOutboxRelay relay =
+        new ChangeLogOutboxRelay(_outbox, _mockProducer, _testEntityRegistry, 1, 10, 100, LEASE_MILLIS, 1000);
+    assertEquals(relay.relayBatch("relay"), 3);
+
+    // Both entries of the failed urn are published again, in order
+    Mockito.reset(_mockProducer);
+    assertEquals(relay.relayBatch("relay"), 2);
+    verify(_mockProducer, times(2)).produceMetadataChangeLog(eq(URN_1), any(), any());
+    verify(_mockProducer, never()).produceMetadataChangeLog(eq(URN_2), any(), any());
+    assertEquals(relay.relayBatch("relay"), 0);
+  }
+
+  private void appendAll(Urn... urns) {
+    for (Urn urn : urns) {
+      _outbox.append(urn, new MetadataChangeLog().setEntityType("corpuser").setEntityUrn(urn)
+          .setChangeType(ChangeType.UPSERT).setAspectName(_aspectName));
+    }
+  }
+
+  private static List<Urn> urns(List<ChangeLogOutboxEntry> entries) {
+    return entries.stream().map(ChangeLogOutboxEntry::getUrn).collect(Collectors.toList());
+  }
+}
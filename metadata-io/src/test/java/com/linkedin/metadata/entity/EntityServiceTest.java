@@ -706,6 +706,40 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertTrue(DataTemplateUtil.areEqual(null, deletedKeyAspect));
     }
 
+    @Test
+    public void testGetExistingUrns() throws AssertionError {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+        Urn entityUrn3 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+        SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata(1625792689, "run-123");
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+        String keyAspectName = _entityService.getKeyAspectName(entityUrn1);
+
+        _entityService.ingestAspect(entityUrn1, aspectName, AspectGenerationUtils.createCorpUserInfo("email@test.com"),
+            TEST_AUDIT_STAMP, metadata1);
+        _entityService.ingestAspect(entityUrn1, keyAspectName, _entityService.buildKeyAspect(entityUrn1),
+            TEST_AUDIT_STAMP, metadata1);
+        _entityService.setExistenceCache(new EntityExistenceCache(60, 100));
+
+        // Urns of several entity types are checked together
+        assertEquals(_entityService.getExistingUrns(ImmutableList.of(entityUrn1, entityUrn2, entityUrn3)),
+            ImmutableSet.of(entityUrn1));
+        assertTrue(_entityService.exists(entityUrn1));
+
+        // Entities that did not exist are not cached, so they show up as soon as they are written
+        _entityService.ingestAspect(entityUrn2, aspectName, AspectGenerationUtils.createCorpUserInfo("email2@test.com"),
+            TEST_AUDIT_STAMP, metadata1);
+        assertEquals(_entityService.getExistingUrns(ImmutableList.of(entityUrn1, entityUrn2)),
+            ImmutableSet.of(entityUrn1, entityUrn2));
+
+        // Local deletes are evicted from the cache right away
+        _entityService.deleteUrn(entityUrn1);
+        assertFalse(_entityService.exists(entityUrn1));
+        assertEquals(_entityService.getExistingUrns(ImmutableList.of(entityUrn1, entityUrn2)),
+            ImmutableSet.of(entityUrn2));
+    }
+
     @Test
     public void testIngestGetLatestAspect() throws AssertionError {
         Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test");
@@ -453,6 +453,19 @@ abstract public class GraphServiceTestBase extends AbstractTestNGSpringContextTe
     assertEquals(relationships.get(dataJobTwoUrn).getType(), downstreamOf);
   }
 
+  @Test
+  public void testPopulatedGraphServiceGetLineageOfMultipleEntities() throws Exception {
+    GraphService service = getLineagePopulatedGraphService();
+
+    // datasetTwo is upstream of both, and dataJobOne, upstream of datasetThree, is not returned as it is a root
+    EntityLineageResult upstreamLineage = service.getLineage(new HashSet<>(Arrays.asList(datasetThreeUrn, dataJobOneUrn)),
+        LineageDirection.UPSTREAM, 0, 1000, 1, null, null);
+    assertEquals(upstreamLineage.getRelationships().size(), 2);
+    Set<Urn> entities = upstreamLineage.getRelationships().stream().map(LineageRelationship::getEntity)
+        .collect(Collectors.toSet());
+    assertEquals(entities, new HashSet<>(Arrays.asList(datasetOneUrn, datasetTwoUrn)));
+  }
+
   @DataProvider(name = "FindRelatedEntitiesSourceEntityFilterTests")
   public Object[][] getFindRelatedEntitiesSourceEntityFilterTests() {
     return new Object[][] {
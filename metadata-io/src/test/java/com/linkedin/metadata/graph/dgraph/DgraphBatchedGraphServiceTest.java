@@ -0,0 +1,19 @@
+package com.linkedin.metadata.graph.dgraph;
+
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import io.dgraph.DgraphClient;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * Runs the graph service tests with edge writes batched across concurrent writers.
+ */
+public class DgraphBatchedGraphServiceTest extends DgraphGraphServiceTest {
+
+    @Nonnull
+    @Override
+    protected DgraphGraphService createService(@Nonnull LineageRegistry lineageRegistry, @Nonnull DgraphClient client) {
+        return new DgraphGraphService(lineageRegistry, client, 100, 20);
+    }
+}
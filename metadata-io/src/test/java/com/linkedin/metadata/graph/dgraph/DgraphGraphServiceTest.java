@@ -1,6 +1,9 @@
 package com.linkedin.metadata.graph.dgraph;
 
 import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.GraphServiceTestBase;
 import com.linkedin.metadata.graph.RelatedEntity;
@@ -9,6 +12,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import io.dgraph.DgraphClient;
 import io.dgraph.DgraphGrpc;
+import io.dgraph.DgraphProto.Request;
 import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
@@ -83,12 +87,18 @@ public class DgraphGraphServiceTest extends GraphServiceTestBase {
         };
 
         DgraphGrpc.DgraphStub stub = DgraphGrpc.newStub(_channel).withInterceptors(timeoutInterceptor);
-        _service = new DgraphGraphService(lineageRegistry, new DgraphClient(stub));
+        _service = createService(lineageRegistry, new DgraphClient(stub));
+    }
+
+    @Nonnull
+    protected DgraphGraphService createService(@Nonnull LineageRegistry lineageRegistry, @Nonnull DgraphClient client) {
+        return new DgraphGraphService(lineageRegistry, client);
     }
 
     @AfterMethod
     public void disconnect() throws InterruptedException {
         try {
+            _service.close();
             _channel.shutdownNow();
             _channel.awaitTermination(10, TimeUnit.SECONDS);
         } finally {
@@ -110,7 +120,9 @@ public class DgraphGraphServiceTest extends GraphServiceTestBase {
     }
 
     @Override
-    protected void syncAfterWrite() { }
+    protected void syncAfterWrite() {
+        _service.flush();
+    }
 
     @Test
     public void testGetSchema() {
@@ -239,6 +251,58 @@ public class DgraphGraphServiceTest extends GraphServiceTestBase {
         // TODO: test that dgraph schema gets altered
     }
 
+    @Test
+    public void testGetBatchRequest() {
+        Urn a = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:type,a,PROD)");
+        Urn b = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:type,b,PROD)");
+        Urn c = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:type,c,PROD)");
+
+        Request request = DgraphBatchWriter.getRequest(Arrays.asList(
+                DgraphBatchWriter.removeOutgoingEdges(a, Collections.singletonList("DownstreamOf")),
+                DgraphBatchWriter.removeIncomingEdges(b, Arrays.asList("DownstreamOf", "Consumes")),
+                DgraphBatchWriter.addEdge(new Edge(a, b, "DownstreamOf", null, null, null, null, null)),
+                DgraphBatchWriter.addEdge(new Edge(a, c, "DownstreamOf", null, null, null, null, null))
+        ));
+
+        // every node is looked up once, so nodes created by the batch are not duplicated
+        assertEquals(request.getQuery(), "query {\n"
+                + "  node1 as var(func: eq(<urn>, \"" + a + "\"))\n"
+                + "  node2 as var(func: eq(<urn>, \"" + b + "\"))\n"
+                + "  var(func: uid(node2)) @normalize {\n"
+                + "    <~DownstreamOf> { uids3 as uid }\n"
+                + "    <~Consumes> { uids4 as uid }\n"
+                + "  }\n"
+                + "  node5 as var(func: eq(<urn>, \"" + c + "\"))\n"
+                + "}");
+        assertTrue(request.getCommitNow());
+
+        // deletions are applied before additions
+        assertEquals(request.getMutationsCount(), 2);
+        assertEquals(request.getMutations(0).getDelNquads().toStringUtf8(), ""
+                + "uid(node1) <DownstreamOf> * .\n"
+                + "uid(uids3) <DownstreamOf> uid(node2) .\n"
+                + "uid(uids4) <Consumes> uid(node2) .");
+        assertEquals(request.getMutations(1).getSetNquads().toStringUtf8(), ""
+                + "uid(node1) <dgraph.type> \"li:dataset\" .\n"
+                + "uid(node1) <urn> \"" + a + "\" .\n"
+                + "uid(node1) <type> \"dataset\" .\n"
+                + "uid(node1) <key> \"" + a.getEntityKey() + "\" .\n"
+                + "uid(node2) <dgraph.type> \"li:dataset\" .\n"
+                + "uid(node2) <urn> \"" + b + "\" .\n"
+                + "uid(node2) <type> \"dataset\" .\n"
+                + "uid(node2) <key> \"" + b.getEntityKey() + "\" .\n"
+                + "uid(node1) <DownstreamOf> uid(node2) .\n"
+                + "uid(node5) <dgraph.type> \"li:dataset\" .\n"
+                + "uid(node5) <urn> \"" + c + "\" .\n"
+                + "uid(node5) <type> \"dataset\" .\n"
+                + "uid(node5) <key> \"" + c.getEntityKey() + "\" .\n"
+                + "uid(node1) <DownstreamOf> uid(node5) .");
+
+        Request removal = DgraphBatchWriter.getRequest(Collections.singletonList(DgraphBatchWriter.removeNode(a)));
+        assertEquals(removal.getMutationsCount(), 1);
+        assertEquals(removal.getMutations(0).getDelNquads().toStringUtf8(), "uid(node1) * * .");
+    }
+
     @Test
     public void testGetFilterConditions() {
         // no filters
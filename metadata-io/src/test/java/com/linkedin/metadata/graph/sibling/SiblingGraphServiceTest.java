@@ -2,6 +2,7 @@ package com.linkedin.metadata.graph.sibling;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.Siblings;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
@@ -14,14 +15,17 @@ import com.linkedin.metadata.graph.LineageRelationship;
 import com.linkedin.metadata.graph.LineageRelationshipArray;
 import com.linkedin.metadata.graph.SiblingGraphService;
 import java.net.URISyntaxException;
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.mockito.Mockito;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
-import static com.linkedin.metadata.Constants.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
@@ -63,6 +67,8 @@ public class SiblingGraphServiceTest {
   public void setup() {
     _mockEntityService = Mockito.mock(EntityService.class);
     when(_mockEntityService.exists(any())).thenReturn(true);
+    when(_mockEntityService.getExistingUrns(any())).thenAnswer(
+        invocation -> new HashSet<>(invocation.<Collection<Urn>>getArgument(0)));
     _graphService = Mockito.mock(GraphService.class);
     _client = new SiblingGraphService(_mockEntityService, _graphService);
   }
@@ -99,7 +105,7 @@ public class SiblingGraphServiceTest {
         datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1, null, null
     )).thenReturn(mockResult);
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(null);
+    mockSiblings(ImmutableMap.of());
 
     SiblingGraphService service = _client;
 
@@ -112,7 +118,6 @@ public class SiblingGraphServiceTest {
   @Test
   public void testNoSiblingInResults() {
     EntityLineageResult mockResult = new EntityLineageResult();
-    EntityLineageResult siblingMockResult = new EntityLineageResult();
 
     LineageRelationshipArray relationships = new LineageRelationshipArray();
     LineageRelationship relationship1 = new LineageRelationship();
@@ -139,25 +144,15 @@ public class SiblingGraphServiceTest {
     mockResult.setCount(3);
     mockResult.setRelationships(relationships);
 
+    // your sibling has no lineage, so the lineage of the group is yours
     when(_graphService.getLineage(
-        datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1, null, null
+        ImmutableSet.of(datasetFourUrn, datasetFiveUrn), LineageDirection.UPSTREAM, 0, 100, 1, null, null
     )).thenReturn(mockResult);
 
-    siblingMockResult.setStart(0);
-    siblingMockResult.setTotal(0);
-    siblingMockResult.setCount(0);
-    siblingMockResult.setRelationships(new LineageRelationshipArray());
-
-    when(_graphService.getLineage(
-        datasetFiveUrn, LineageDirection.UPSTREAM, 0, 97, 1, null, null
-    )).thenReturn(siblingMockResult);
-
     Siblings noRelevantSiblingsResponse = new Siblings();
     noRelevantSiblingsResponse.setPrimary(true);
     noRelevantSiblingsResponse.setSiblings(new UrnArray(ImmutableList.of(datasetFiveUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(noRelevantSiblingsResponse);
-
     Siblings dataset1Siblings = new Siblings();
     dataset1Siblings.setPrimary(false);
     dataset1Siblings.setSiblings(new UrnArray(ImmutableList.of()));
@@ -170,13 +165,12 @@ public class SiblingGraphServiceTest {
     dataset3Siblings.setPrimary(false);
     dataset3Siblings.setSiblings(new UrnArray(ImmutableList.of()));
 
-    Map<Urn, List<RecordTemplate>> siblingsMap = ImmutableMap.of(
-        datasetOneUrn, ImmutableList.of(dataset1Siblings),
-        datasetTwoUrn, ImmutableList.of(dataset2Siblings),
-        datasetThreeUrn, ImmutableList.of(dataset3Siblings)
-    );
-
-    when(_mockEntityService.getLatestAspects(any(), any())).thenReturn(siblingsMap);
+    mockSiblings(ImmutableMap.of(
+        datasetFourUrn, noRelevantSiblingsResponse,
+        datasetOneUrn, dataset1Siblings,
+        datasetTwoUrn, dataset2Siblings,
+        datasetThreeUrn, dataset3Siblings
+    ));
 
     SiblingGraphService service = _client;
 
@@ -189,7 +183,6 @@ public class SiblingGraphServiceTest {
   @Test
   public void testSiblingInResult() throws Exception {
     EntityLineageResult mockResult = new EntityLineageResult();
-    EntityLineageResult siblingMockResult = new EntityLineageResult();
 
     LineageRelationshipArray relationships = new LineageRelationshipArray();
     LineageRelationship relationship1 = new LineageRelationship();
@@ -216,26 +209,14 @@ public class SiblingGraphServiceTest {
     mockResult.setCount(3);
     mockResult.setRelationships(relationships);
 
-    siblingMockResult.setStart(0);
-    siblingMockResult.setTotal(0);
-    siblingMockResult.setCount(0);
-    siblingMockResult.setRelationships(new LineageRelationshipArray());
-
     when(_graphService.getLineage(
-        datasetThreeUrn, LineageDirection.UPSTREAM, 0, 98, 1, null, null
-    )).thenReturn(siblingMockResult);
-
-
-    when(_graphService.getLineage(
-        datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1, null, null
+        ImmutableSet.of(datasetFourUrn, datasetThreeUrn), LineageDirection.UPSTREAM, 0, 100, 1, null, null
     )).thenReturn(mockResult);
 
     Siblings siblingInSearchResult = new Siblings();
     siblingInSearchResult.setPrimary(true);
     siblingInSearchResult.setSiblings(new UrnArray(ImmutableList.of(datasetThreeUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(siblingInSearchResult);
-
     Siblings dataset1Siblings = new Siblings();
     dataset1Siblings.setPrimary(false);
     dataset1Siblings.setSiblings(new UrnArray(ImmutableList.of()));
@@ -248,13 +229,12 @@ public class SiblingGraphServiceTest {
     dataset3Siblings.setPrimary(false);
     dataset3Siblings.setSiblings(new UrnArray(ImmutableList.of()));
 
-    Map<Urn, List<RecordTemplate>> siblingsMap = ImmutableMap.of(
-        datasetOneUrn, ImmutableList.of(dataset1Siblings),
-        datasetTwoUrn, ImmutableList.of(dataset2Siblings),
-        datasetThreeUrn, ImmutableList.of(dataset3Siblings)
-    );
-
-    when(_mockEntityService.getLatestAspects(any(), any())).thenReturn(siblingsMap);
+    mockSiblings(ImmutableMap.of(
+        datasetFourUrn, siblingInSearchResult,
+        datasetOneUrn, dataset1Siblings,
+        datasetTwoUrn, dataset2Siblings,
+        datasetThreeUrn, dataset3Siblings
+    ));
 
     SiblingGraphService service = _client;
 
@@ -273,11 +253,9 @@ public class SiblingGraphServiceTest {
   @Test
   public void testCombineSiblingResult() {
     EntityLineageResult mockResult = new EntityLineageResult();
-    EntityLineageResult siblingMockResult = new EntityLineageResult();
     EntityLineageResult expectedResult = new EntityLineageResult();
 
     LineageRelationshipArray relationships = new LineageRelationshipArray();
-    LineageRelationshipArray siblingRelationships = new LineageRelationshipArray();
     LineageRelationshipArray expectedRelationships = new LineageRelationshipArray();
 
     LineageRelationship relationship1 = new LineageRelationship();
@@ -300,8 +278,6 @@ public class SiblingGraphServiceTest {
     relationship4.setType(downstreamOf);
     relationship4.setEntity(datasetFiveUrn);
 
-    relationships.add(relationship1);
-
     expectedRelationships.add(relationship2);
     expectedRelationships.add(relationship4);
     expectedRelationships.add(relationship1); // expect just one relationship1 despite duplicates in sibling lineage
@@ -311,34 +287,24 @@ public class SiblingGraphServiceTest {
     expectedResult.setTotal(3);
     expectedResult.setRelationships(expectedRelationships);
 
+    // lineage of the group, with relationship1 reached from both siblings
+    relationships.add(relationship2);
+    relationships.add(relationship4);
+    relationships.add(relationship1);
+    relationships.add(relationship1); // duplicate from sibling's lineage, we should not see duplicates in result
     mockResult.setStart(0);
-    mockResult.setTotal(1);
-    mockResult.setCount(1);
+    mockResult.setTotal(3);
+    mockResult.setCount(4);
     mockResult.setRelationships(relationships);
 
-    siblingRelationships.add(relationship2);
-    siblingRelationships.add(relationship4);
-    siblingRelationships.add(relationship1); // duplicate from sibling's lineage, we should not see duplicates in result
-    siblingMockResult.setStart(0);
-    siblingMockResult.setTotal(2);
-    siblingMockResult.setCount(2);
-    siblingMockResult.setRelationships(siblingRelationships);
-
     when(_graphService.getLineage(
-        datasetThreeUrn, LineageDirection.UPSTREAM, 0, 99, 1, null, null
-    )).thenReturn(siblingMockResult);
-
-
-    when(_graphService.getLineage(
-        datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1, null, null
+        ImmutableSet.of(datasetFourUrn, datasetThreeUrn), LineageDirection.UPSTREAM, 0, 100, 1, null, null
     )).thenReturn(mockResult);
 
     Siblings siblingInSearchResult = new Siblings();
     siblingInSearchResult.setPrimary(true);
     siblingInSearchResult.setSiblings(new UrnArray(ImmutableList.of(datasetThreeUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(siblingInSearchResult);
-
     Siblings dataset1Siblings = new Siblings();
     dataset1Siblings.setPrimary(false);
     dataset1Siblings.setSiblings(new UrnArray(ImmutableList.of()));
@@ -351,19 +317,22 @@ public class SiblingGraphServiceTest {
     dataset3Siblings.setPrimary(false);
     dataset3Siblings.setSiblings(new UrnArray(ImmutableList.of()));
 
-    Map<Urn, List<RecordTemplate>> siblingsMap = ImmutableMap.of(
-        datasetOneUrn, ImmutableList.of(dataset1Siblings),
-        datasetTwoUrn, ImmutableList.of(dataset2Siblings),
-        datasetThreeUrn, ImmutableList.of(dataset3Siblings),
-        datasetFiveUrn, ImmutableList.of(dataset3Siblings)
-    );
-
-    when(_mockEntityService.getLatestAspects(any(), any())).thenReturn(siblingsMap);
+    mockSiblings(ImmutableMap.of(
+        datasetFourUrn, siblingInSearchResult,
+        datasetOneUrn, dataset1Siblings,
+        datasetTwoUrn, dataset2Siblings,
+        datasetThreeUrn, dataset3Siblings,
+        datasetFiveUrn, dataset3Siblings
+    ));
 
     SiblingGraphService service = _client;
 
     EntityLineageResult upstreamLineage = service.getLineage(datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1);
 
+    // the lineage of the sibling is not fetched on its own
+    verify(_graphService, never()).getLineage(eq(datasetThreeUrn), any(LineageDirection.class), anyInt(), anyInt(),
+        anyInt(), any(), any());
+
     // assert your lineage will be combined with your siblings lineage
     assertEquals(upstreamLineage, expectedResult);
   }
@@ -371,11 +340,9 @@ public class SiblingGraphServiceTest {
   @Test
   public void testUpstreamOfSiblings() {
     EntityLineageResult mockResult = new EntityLineageResult();
-    EntityLineageResult siblingMockResult = new EntityLineageResult();
     EntityLineageResult expectedResult = new EntityLineageResult();
 
     LineageRelationshipArray relationships = new LineageRelationshipArray();
-    LineageRelationshipArray siblingRelationships = new LineageRelationshipArray();
     LineageRelationshipArray expectedRelationships = new LineageRelationshipArray();
 
     LineageRelationship relationship1 = new LineageRelationship();
@@ -398,8 +365,6 @@ public class SiblingGraphServiceTest {
     relationship4.setType(downstreamOf);
     relationship4.setEntity(datasetFiveUrn);
 
-    relationships.add(relationship1);
-
     expectedRelationships.add(relationship4);
     expectedRelationships.add(relationship1);
 
@@ -408,33 +373,23 @@ public class SiblingGraphServiceTest {
     expectedResult.setTotal(3);
     expectedResult.setRelationships(expectedRelationships);
 
+    // lineage of the group, containing both dataset2 and its primary sibling dataset5
+    relationships.add(relationship2);
+    relationships.add(relationship4);
+    relationships.add(relationship1);
     mockResult.setStart(0);
-    mockResult.setTotal(1);
-    mockResult.setCount(1);
+    mockResult.setTotal(3);
+    mockResult.setCount(3);
     mockResult.setRelationships(relationships);
 
-    siblingRelationships.add(relationship2);
-    siblingRelationships.add(relationship4);
-    siblingMockResult.setStart(0);
-    siblingMockResult.setTotal(2);
-    siblingMockResult.setCount(2);
-    siblingMockResult.setRelationships(siblingRelationships);
-
     when(_graphService.getLineage(
-        datasetThreeUrn, LineageDirection.UPSTREAM, 0, 99, 1, null, null
-    )).thenReturn(siblingMockResult);
-
-
-    when(_graphService.getLineage(
-        datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1, null, null
+        ImmutableSet.of(datasetFourUrn, datasetThreeUrn), LineageDirection.UPSTREAM, 0, 100, 1, null, null
     )).thenReturn(mockResult);
 
     Siblings siblingInSearchResult = new Siblings();
     siblingInSearchResult.setPrimary(true);
     siblingInSearchResult.setSiblings(new UrnArray(ImmutableList.of(datasetThreeUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(siblingInSearchResult);
-
     Siblings dataset1Siblings = new Siblings();
     dataset1Siblings.setPrimary(false);
     dataset1Siblings.setSiblings(new UrnArray(ImmutableList.of()));
@@ -451,14 +406,13 @@ public class SiblingGraphServiceTest {
     dataset5Siblings.setPrimary(true);
     dataset5Siblings.setSiblings(new UrnArray(ImmutableList.of(datasetTwoUrn)));
 
-    Map<Urn, List<RecordTemplate>> siblingsMap = ImmutableMap.of(
-        datasetOneUrn, ImmutableList.of(dataset1Siblings),
-        datasetTwoUrn, ImmutableList.of(dataset2Siblings),
-        datasetThreeUrn, ImmutableList.of(dataset3Siblings),
-        datasetFiveUrn, ImmutableList.of(dataset5Siblings)
-    );
-
-    when(_mockEntityService.getLatestAspects(any(), any())).thenReturn(siblingsMap);
+    mockSiblings(ImmutableMap.of(
+        datasetFourUrn, siblingInSearchResult,
+        datasetOneUrn, dataset1Siblings,
+        datasetTwoUrn, dataset2Siblings,
+        datasetThreeUrn, dataset3Siblings,
+        datasetFiveUrn, dataset5Siblings
+    ));
 
     SiblingGraphService service = _client;
 
@@ -498,59 +452,34 @@ public class SiblingGraphServiceTest {
     mockResult.setCount(1);
     mockResult.setRelationships(relationships);
 
-    EntityLineageResult emptyLineageResult = new EntityLineageResult();
-    emptyLineageResult.setRelationships(new LineageRelationshipArray());
-    emptyLineageResult.setStart(0);
-    emptyLineageResult.setTotal(0);
-    emptyLineageResult.setCount(0);
-
-    when(_graphService.getLineage(
-        Mockito.eq(datasetOneUrn), Mockito.eq(LineageDirection.UPSTREAM), Mockito.anyInt(), Mockito.anyInt(),
-        Mockito.eq(1), Mockito.eq(null), Mockito.eq(null)
-    )).thenReturn(emptyLineageResult);
-
+    // dataset4 is reached from the whole group at once
     when(_graphService.getLineage(
-        Mockito.eq(datasetTwoUrn), Mockito.eq(LineageDirection.UPSTREAM), Mockito.anyInt(), Mockito.anyInt(),
-        Mockito.eq(1), Mockito.eq(null), Mockito.eq(null)
-    )).thenReturn(emptyLineageResult);
-
-    when(_graphService.getLineage(
-        Mockito.eq(datasetThreeUrn), Mockito.eq(LineageDirection.UPSTREAM), Mockito.anyInt(), Mockito.anyInt(),
-        Mockito.eq(1), Mockito.eq(null), Mockito.eq(null)
+        ImmutableSet.of(datasetOneUrn, datasetTwoUrn, datasetThreeUrn), LineageDirection.UPSTREAM, 0, 100, 1, null,
+        null
     )).thenReturn(mockResult);
 
     Siblings dataset1Siblings = new Siblings();
     dataset1Siblings.setPrimary(true);
     dataset1Siblings.setSiblings(new UrnArray(ImmutableList.of(datasetTwoUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetOneUrn, SIBLINGS_ASPECT_NAME)).thenReturn(dataset1Siblings);
-
     Siblings dataset2Siblings = new Siblings();
     dataset2Siblings.setPrimary(true);
     dataset2Siblings.setSiblings(new UrnArray(ImmutableList.of(datasetOneUrn, datasetThreeUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetTwoUrn, SIBLINGS_ASPECT_NAME)).thenReturn(dataset2Siblings);
-
     Siblings dataset3Siblings = new Siblings();
     dataset3Siblings.setPrimary(true);
     dataset3Siblings.setSiblings(new UrnArray(ImmutableList.of(datasetTwoUrn)));
 
-    when(_mockEntityService.getLatestAspect(datasetThreeUrn, SIBLINGS_ASPECT_NAME)).thenReturn(dataset3Siblings);
-
     Siblings dataset4Siblings = new Siblings();
     dataset4Siblings.setPrimary(true);
     dataset4Siblings.setSiblings(new UrnArray());
 
-    when(_mockEntityService.getLatestAspect(datasetFourUrn, SIBLINGS_ASPECT_NAME)).thenReturn(dataset4Siblings);
-
-    Map<Urn, List<RecordTemplate>> siblingsMap = ImmutableMap.of(
-        datasetOneUrn, ImmutableList.of(dataset1Siblings),
-        datasetTwoUrn, ImmutableList.of(dataset2Siblings),
-        datasetThreeUrn, ImmutableList.of(dataset3Siblings),
-        datasetFourUrn, ImmutableList.of(dataset4Siblings)
-    );
-
-    when(_mockEntityService.getLatestAspects(any(), any())).thenReturn(siblingsMap);
+    mockSiblings(ImmutableMap.of(
+        datasetOneUrn, dataset1Siblings,
+        datasetTwoUrn, dataset2Siblings,
+        datasetThreeUrn, dataset3Siblings,
+        datasetFourUrn, dataset4Siblings
+    ));
 
     SiblingGraphService service = _client;
 
@@ -559,6 +488,16 @@ public class SiblingGraphServiceTest {
     assertEquals(upstreamLineage, expectedResult);
   }
 
+  private void mockSiblings(@Nonnull Map<Urn, Siblings> siblingsByUrn) {
+    when(_mockEntityService.getLatestAspects(any(), any())).thenAnswer(invocation -> {
+      final Set<Urn> urns = invocation.getArgument(0);
+      return urns.stream()
+          .filter(siblingsByUrn::containsKey)
+          .collect(Collectors.toMap(Function.identity(),
+              urn -> ImmutableList.<RecordTemplate>of(siblingsByUrn.get(urn))));
+    });
+  }
+
   static Urn createFromString(@Nonnull String rawUrn) {
     try {
       return Urn.createFromString(rawUrn);
@@ -0,0 +1,132 @@
+package com.linkedin.metadata.recommendation;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationCacheScope;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class RecommendationModuleCacheTest {
+
+  private static final Urn USER_1 = UrnUtils.getUrn("urn:li:corpuser:user1");
+  private static final Urn USER_2 = UrnUtils.getUrn("urn:li:corpuser:user2");
+  private static final RecommendationRequestContext HOME =
+      new RecommendationRequestContext().setScenario(ScenarioType.HOME);
+  private static final RecommendationRequestContext SEARCH_RESULTS =
+      new RecommendationRequestContext().setScenario(ScenarioType.SEARCH_RESULTS);
+
+  private Clock _clock;
+  private List<Runnable> _pendingRefreshes;
+  private Executor _executor;
+
+  @BeforeMethod
+  public void setup() {
+    _clock = mock(Clock.class);
+    when(_clock.millis()).thenReturn(0L);
+    _pendingRefreshes = new ArrayList<>();
+    _executor = _pendingRefreshes::add;
+  }
+
+  private RecommendationModuleCache buildCache(ImmutableMap<String, RecommendationCacheScope> scopeOverrides) {
+    return new RecommendationModuleCache(60, 600, 100, _executor, scopeOverrides, _clock);
+  }
+
+  private static RecommendationSource mockSource(String moduleId, RecommendationCacheScope scope) {
+    final RecommendationSource source = mock(RecommendationSource.class);
+    when(source.getModuleId()).thenReturn(moduleId);
+    when(source.getCacheScope()).thenReturn(scope);
+    when(source.getRecommendationModule(any(), any())).thenAnswer(invocation -> Optional.of(
+        new RecommendationModule().setModuleId(moduleId).setTitle(invocation.getArgument(0).toString())));
+    return source;
+  }
+
+  @Test
+  public void testGlobalScopeSharedAcrossUsers() {
+    final RecommendationModuleCache cache = buildCache(ImmutableMap.of());
+    final RecommendationSource source = mockSource("global", RecommendationCacheScope.GLOBAL);
+
+    assertEquals(cache.getRecommendationModule(source, USER_1, HOME).get().getTitle(), USER_1.toString());
+    assertEquals(cache.getRecommendationModule(source, USER_2, HOME).get().getTitle(), USER_1.toString());
+    verify(source, times(1)).getRecommendationModule(any(), any());
+
+    // Different scenarios are cached separately
+    cache.getRecommendationModule(source, USER_2, SEARCH_RESULTS);
+    verify(source, times(2)).getRecommendationModule(any(), any());
+  }
+
+  @Test
+  public void testUserScopeCachedPerUser() {
+    final RecommendationModuleCache cache = buildCache(ImmutableMap.of());
+    final RecommendationSource source = mockSource("user", RecommendationCacheScope.USER);
+
+    assertEquals(cache.getRecommendationModule(source, USER_1, HOME).get().getTitle(), USER_1.toString());
+    assertEquals(cache.getRecommendationModule(source, USER_2, HOME).get().getTitle(), USER_2.toString());
+    assertEquals(cache.getRecommendationModule(source, USER_1, HOME).get().getTitle(), USER_1.toString());
+    verify(source, times(2)).getRecommendationModule(any(), any());
+  }
+
+  @Test
+  public void testNoneScopeAndOverrides() {
+    final RecommendationSource uncached = mockSource("uncached", RecommendationCacheScope.NONE);
+    final RecommendationSource overridden = mockSource("overridden", RecommendationCacheScope.GLOBAL);
+    final RecommendationModuleCache cache =
+        buildCache(ImmutableMap.of("overridden", RecommendationCacheScope.NONE));
+
+    cache.getRecommendationModule(uncached, USER_1, HOME);
+    cache.getRecommendationModule(uncached, USER_1, HOME);
+    cache.getRecommendationModule(overridden, USER_1, HOME);
+    cache.getRecommendationModule(overridden, USER_1, HOME);
+    verify(uncached, times(2)).getRecommendationModule(any(), any());
+    verify(overridden, times(2)).getRecommendationModule(any(), any());
+  }
+
+  @Test
+  public void testStaleWhileRevalidate() {
+    final RecommendationModuleCache cache = buildCache(ImmutableMap.of());
+    final RecommendationSource source = mockSource("global", RecommendationCacheScope.GLOBAL);
+
+    cache.getRecommendationModule(source, USER_1, HOME);
+    when(_clock.millis()).thenReturn(30_000L);
+    cache.getRecommendationModule(source, USER_2, HOME);
+    assertTrue(_pendingRefreshes.isEmpty());
+
+    // Stale entry is served as-is, and only a single refresh is scheduled
+    when(_clock.millis()).thenReturn(61_000L);
+    assertEquals(cache.getRecommendationModule(source, USER_2, HOME).get().getTitle(), USER_1.toString());
+    assertEquals(cache.getRecommendationModule(source, USER_2, HOME).get().getTitle(), USER_1.toString());
+    assertEquals(_pendingRefreshes.size(), 1);
+    verify(source, times(1)).getRecommendationModule(any(), any());
+
+    _pendingRefreshes.remove(0).run();
+    assertEquals(cache.getRecommendationModule(source, USER_1, HOME).get().getTitle(), USER_2.toString());
+    assertTrue(_pendingRefreshes.isEmpty());
+  }
+
+  @Test
+  public void testFailedRefreshKeepsStaleModule() {
+    final RecommendationModuleCache cache = buildCache(ImmutableMap.of());
+    final RecommendationSource source = mockSource("global", RecommendationCacheScope.GLOBAL);
+
+    cache.getRecommendationModule(source, USER_1, HOME);
+    when(source.getRecommendationModule(any(), any())).thenThrow(new RuntimeException("search unavailable"));
+    when(_clock.millis()).thenReturn(61_000L);
+    cache.getRecommendationModule(source, USER_1, HOME);
+    _pendingRefreshes.remove(0).run();
+
+    assertEquals(cache.getRecommendationModule(source, USER_1, HOME).get().getTitle(), USER_1.toString());
+    // The failed refresh is retried on the next request
+    assertEquals(_pendingRefreshes.size(), 1);
+  }
+}
@@ -0,0 +1,103 @@
+package com.linkedin.metadata.search.elasticsearch.autocomplete;
+
+import com.linkedin.metadata.entity.TestEntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.List;
+import java.util.Map;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ESAutocompleteDAOTest {
+
+  private static final String URN = "urn:li:testEntity:abc";
+
+  private ESBulkProcessor _bulkProcessor;
+  private ESAutocompleteDAO _autocompleteDAO;
+
+  @BeforeMethod
+  public void setup() {
+    _bulkProcessor = Mockito.mock(ESBulkProcessor.class);
+    _autocompleteDAO = new ESAutocompleteDAO(Mockito.mock(RestHighLevelClient.class), _bulkProcessor,
+        new IndexConventionImpl("test"), Mockito.mock(ESIndexBuilder.class), new TestEntityRegistry(), 3);
+  }
+
+  @Test
+  public void testGetInputs() {
+    assertEquals(ESAutocompleteDAO.getInputs("jaffle_shop.customers", true),
+        List.of("jaffle_shop.customers", "shop.customers", "customers"));
+    // Runs of delimiters only start one input
+    assertEquals(ESAutocompleteDAO.getInputs(" orders (v2) ", true), List.of("orders (v2)", "v2)"));
+    assertEquals(ESAutocompleteDAO.getInputs(URN, false), List.of(URN));
+    assertTrue(ESAutocompleteDAO.getInputs("  ", true).isEmpty());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testUpsertDocumentIndexesAutocompleteFields() {
+    _autocompleteDAO.upsertDocument("testEntity",
+        "{\"urn\": \"" + URN + "\", \"keyPart1\": \"jaffle_shop.customers\", \"textField\": \"ignored\"}", "docId");
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(2)).add(captor.capture());
+
+    final UpdateRequest keyPart1 = (UpdateRequest) captor.getAllValues().get(0);
+    assertEquals(keyPart1.index(), "test_" + ESAutocompleteDAO.INDEX_NAME);
+    assertTrue(keyPart1.scriptedUpsert());
+    final Map<String, Object> document = (Map<String, Object>) keyPart1.script().getParams().get("doc");
+    assertEquals(document.get("urn"), URN);
+    assertEquals(document.get("entityType"), "testEntity");
+    assertEquals(document.get("field"), "keyPart1");
+    final Map<String, Object> suggest = (Map<String, Object>) document.get("suggest");
+    assertEquals(suggest.get("input"), List.of("jaffle_shop.customers", "shop.customers", "customers"));
+    assertEquals(suggest.get("weight"), 100);
+    assertEquals(((Map<String, Object>) suggest.get("contexts")).get("scope"),
+        List.of("testEntity", "testEntity.keyPart1"));
+
+    final UpdateRequest urn = (UpdateRequest) captor.getAllValues().get(1);
+    assertEquals(((Map<String, Object>) urn.script().getParams().get("doc")).get("field"), "urn");
+    assertNotEquals(urn.id(), keyPart1.id());
+  }
+
+  @Test
+  public void testSoftDeleteRemovesSuggestions() {
+    _autocompleteDAO.upsertDocument("testEntity", "{\"urn\": \"" + URN + "\", \"removed\": true}", "docId");
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(2)).add(captor.capture());
+    captor.getAllValues().forEach(request -> {
+      // markers without inputs replace the whole documents
+      final Map<String, Object> document = ((IndexRequest) request).sourceAsMap();
+      assertEquals(document.get("removed"), true);
+      assertFalse(document.containsKey("suggest"));
+    });
+  }
+
+  @Test
+  public void testSoftDeleteThenUpdateOfAnotherAspect() {
+    _autocompleteDAO.upsertDocument("testEntity", "{\"urn\": \"" + URN + "\", \"removed\": true}", "docId");
+    // the document of another aspect carries no removed field
+    _autocompleteDAO.upsertDocument("testEntity",
+        "{\"urn\": \"" + URN + "\", \"keyPart1\": \"jaffle_shop.customers\"}", "docId");
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(4)).add(captor.capture());
+    final List<DocWriteRequest> requests = captor.getAllValues();
+    final IndexRequest marker = (IndexRequest) requests.get(0);
+    final UpdateRequest update = (UpdateRequest) requests.get(2);
+    assertEquals(update.id(), marker.id());
+    // the update leaves the marker of the soft deleted entity in place instead of adding its suggestions back
+    assertTrue(update.script().getIdOrCode().startsWith("if (ctx._source.removed == true) { ctx.op = 'noop' }"));
+    assertTrue(update.scriptedUpsert());
+  }
+}
@@ -0,0 +1,87 @@
+package com.linkedin.metadata.search.elasticsearch.browse;
+
+import com.linkedin.metadata.entity.TestEntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ESBrowseTreeDAOTest {
+
+  private ESBulkProcessor _bulkProcessor;
+  private ESBrowseTreeDAO _browseTreeDAO;
+
+  @BeforeMethod
+  public void setup() {
+    _bulkProcessor = Mockito.mock(ESBulkProcessor.class);
+    _browseTreeDAO = new ESBrowseTreeDAO(Mockito.mock(RestHighLevelClient.class), _bulkProcessor,
+        new IndexConventionImpl("test"), Mockito.mock(ESIndexBuilder.class), new TestEntityRegistry(), 3);
+  }
+
+  @Test
+  public void testGetNodePaths() {
+    assertEquals(List.copyOf(ESBrowseTreeDAO.getNodePaths(List.of("/prod/hive/db"))),
+        List.of("/prod", "/prod/hive", "/prod/hive/db"));
+    // Shared prefixes are only returned once
+    assertEquals(List.copyOf(ESBrowseTreeDAO.getNodePaths(List.of("/prod/hive/db", "/prod/kafka"))),
+        List.of("/prod", "/prod/hive", "/prod/hive/db", "/prod/kafka"));
+    // Empty segments and paths that cannot be browsed to are skipped
+    assertEquals(List.copyOf(ESBrowseTreeDAO.getNodePaths(List.of("/prod//db/", "prod/hive", ""))),
+        List.of("/prod", "/prod//db"));
+  }
+
+  @Test
+  public void testAddBrowsePathsUpsertsNodes() {
+    _browseTreeDAO.addBrowsePaths("dataset", List.of("/prod/hive"));
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(2)).add(captor.capture());
+    final List<Map<String, Object>> nodes = captor.getAllValues().stream()
+        .map(request -> ((UpdateRequest) request).doc().sourceAsMap())
+        .collect(Collectors.toList());
+
+    assertEquals(nodes.get(0).get("path"), "/prod");
+    assertEquals(nodes.get(0).get("parentPath"), "");
+    assertEquals(nodes.get(0).get("name"), "prod");
+    assertEquals(nodes.get(0).get("depth"), 1);
+    assertEquals(nodes.get(1).get("path"), "/prod/hive");
+    assertEquals(nodes.get(1).get("parentPath"), "/prod");
+    assertEquals(nodes.get(1).get("name"), "hive");
+    assertEquals(nodes.get(1).get("entityType"), "dataset");
+    assertTrue((Long) nodes.get(1).get("lastAdded") > System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(2));
+
+    final UpdateRequest request = (UpdateRequest) captor.getAllValues().get(0);
+    assertEquals(request.index(), "test_" + ESBrowseTreeDAO.INDEX_NAME);
+    assertTrue(request.docAsUpsert());
+  }
+
+  @Test
+  public void testRemoveEmptyNodesSkipsRecentlyAddedNodes() {
+    final long now = System.currentTimeMillis();
+    _browseTreeDAO.removeEmptyNodes("dataset", List.of(
+        new ESBrowseTreeDAO.BrowseTreeNode("/prod/old", now - TimeUnit.HOURS.toMillis(1), 5, 1),
+        new ESBrowseTreeDAO.BrowseTreeNode("/prod/recent", now - TimeUnit.SECONDS.toMillis(30), 6, 1)));
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    Mockito.verify(_bulkProcessor, Mockito.times(1)).add(captor.capture());
+    final DeleteRequest request = (DeleteRequest) captor.getValue();
+    assertEquals(request.index(), "test_" + ESBrowseTreeDAO.INDEX_NAME);
+    // Nodes re-added since they were read are left alone
+    assertEquals(request.ifSeqNo(), 5);
+    assertEquals(request.ifPrimaryTerm(), 1);
+  }
+}
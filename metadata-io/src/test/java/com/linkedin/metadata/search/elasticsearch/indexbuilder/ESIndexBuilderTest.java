@@ -2,17 +2,26 @@ package com.linkedin.metadata.search.elasticsearch.indexbuilder;
 
 import com.google.common.collect.ImmutableMap;
 import com.linkedin.metadata.ESTestConfiguration;
+import com.linkedin.metadata.config.BuildIndicesConfiguration;
 import com.linkedin.metadata.config.ElasticSearchConfiguration;
 import com.linkedin.metadata.systemmetadata.SystemMetadataMappingsBuilder;
 import com.linkedin.metadata.version.GitVersion;
 import java.util.Optional;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.admin.cluster.node.tasks.list.ListTasksRequest;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.client.IndicesClient;
 import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.core.CountRequest;
 import org.elasticsearch.client.indices.GetIndexResponse;
 import org.elasticsearch.cluster.metadata.AliasMetadata;
 import org.elasticsearch.rest.RestStatus;
@@ -27,10 +36,13 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 
 @Import(ESTestConfiguration.class)
@@ -158,6 +170,79 @@ public class ESIndexBuilderTest extends AbstractTestNGSpringContextTests {
                 "Expected number of shards: " + expectedShards);
     }
 
+    @Test
+    public void testReindexCopiesDocumentsAndRestoresSettings() throws Exception {
+        GitVersion gitVersion = new GitVersion("0.0.0-test", "123456", Optional.empty());
+        testDefaultBuilder.buildIndex(TEST_INDEX_NAME, Map.of(), Map.of());
+        for (int i = 0; i < 50; i++) {
+            _searchClient.index(new IndexRequest(TEST_INDEX_NAME).id("doc" + i).source(Map.of("value", i)),
+                    RequestOptions.DEFAULT);
+        }
+        _indexClient.refresh(new RefreshRequest(TEST_INDEX_NAME), RequestOptions.DEFAULT);
+
+        ESIndexBuilder changedShardBuilder = new ESIndexBuilder(_searchClient, 2, 0, 1, 5, Map.of(),
+                true, false, new ElasticSearchConfiguration(), gitVersion);
+        changedShardBuilder.buildIndex(TEST_INDEX_NAME, Map.of(), Map.of());
+
+        String newIndex = getTestIndex().getAliases().entrySet().stream()
+                .filter(e -> e.getValue().stream().anyMatch(aliasMeta -> aliasMeta.alias().equals(TEST_INDEX_NAME)))
+                .findFirst().get().getKey();
+        assertEquals(_searchClient.count(new CountRequest(TEST_INDEX_NAME), RequestOptions.DEFAULT).getCount(), 50);
+        // replicas and refreshes are disabled while copying only
+        assertEquals("0", getTestIndex().getSetting(newIndex, "index.number_of_replicas"));
+        assertEquals("5s", getTestIndex().getSetting(newIndex, "index.refresh_interval"));
+    }
+
+    @Test
+    public void testReindexReplaysWritesAndDeletesMadeDuringCopy() throws Exception {
+        GitVersion gitVersion = new GitVersion("0.0.0-test", "123456", Optional.empty());
+        testDefaultBuilder.buildIndex(TEST_INDEX_NAME, Map.of(), Map.of());
+        BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        for (int i = 0; i < 200; i++) {
+            bulkRequest.add(new IndexRequest(TEST_INDEX_NAME).id("doc" + i).source(Map.of("value", i)));
+        }
+        _searchClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+
+        // throttled, so that the source index changes while documents are being copied
+        BuildIndicesConfiguration buildIndicesConfiguration = new BuildIndicesConfiguration();
+        buildIndicesConfiguration.setReindexBatchSize(10);
+        buildIndicesConfiguration.setReindexRequestsPerSecond(20);
+        ElasticSearchConfiguration elasticSearchConfiguration = new ElasticSearchConfiguration();
+        elasticSearchConfiguration.setBuildIndices(buildIndicesConfiguration);
+        ESIndexBuilder changedShardBuilder = new ESIndexBuilder(_searchClient, 2, 0, 1, 0, Map.of(),
+                true, false, elasticSearchConfiguration, gitVersion);
+        CompletableFuture<Void> reindex = CompletableFuture.runAsync(() -> {
+            try {
+                changedShardBuilder.buildIndex(TEST_INDEX_NAME, Map.of(), Map.of());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        ListTasksRequest reindexTasks = new ListTasksRequest().setActions("indices:data/write/reindex");
+        while (_searchClient.tasks().list(reindexTasks, RequestOptions.DEFAULT).getTasks().isEmpty()) {
+            assertFalse(reindex.isDone(), "Expected the copy to still be running");
+            Thread.sleep(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            _searchClient.delete(new DeleteRequest(TEST_INDEX_NAME, "doc" + i), RequestOptions.DEFAULT);
+        }
+        _searchClient.index(new IndexRequest(TEST_INDEX_NAME).id("doc10").source(Map.of("value", -10)),
+                RequestOptions.DEFAULT);
+        _searchClient.index(new IndexRequest(TEST_INDEX_NAME).id("doc200").source(Map.of("value", 200)),
+                RequestOptions.DEFAULT);
+        reindex.get(5, TimeUnit.MINUTES);
+
+        assertTrue(Arrays.stream(getTestIndex().getIndices()).noneMatch(name -> name.equals(TEST_INDEX_NAME)),
+                "Expected original index to be replaced with alias");
+        _indexClient.refresh(new RefreshRequest(TEST_INDEX_NAME), RequestOptions.DEFAULT);
+        assertEquals(_searchClient.count(new CountRequest(TEST_INDEX_NAME), RequestOptions.DEFAULT).getCount(), 191);
+        assertFalse(_searchClient.exists(new GetRequest(TEST_INDEX_NAME, "doc0"), RequestOptions.DEFAULT));
+        assertEquals(_searchClient.get(new GetRequest(TEST_INDEX_NAME, "doc10"), RequestOptions.DEFAULT)
+                .getSourceAsMap().get("value"), -10);
+        assertTrue(_searchClient.exists(new GetRequest(TEST_INDEX_NAME, "doc200"), RequestOptions.DEFAULT));
+    }
+
     @Test
     public void testSettingsNoReindex() throws Exception {
         GitVersion gitVersion = new GitVersion("0.0.0-test", "123456", Optional.empty());
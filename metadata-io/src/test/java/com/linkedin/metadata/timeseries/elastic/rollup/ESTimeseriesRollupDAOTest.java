@@ -0,0 +1,235 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.datahub.test.TestEntityComponentProfile;
+import com.datahub.test.TestEntityComponentProfileArray;
+import com.datahub.test.TestEntityProfile;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.TestEntityUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.ESTestConfiguration;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.DataSchemaFactory;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.search.utils.QueryUtils;
+import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
+import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
+import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import com.linkedin.timeseries.AggregationSpec;
+import com.linkedin.timeseries.AggregationType;
+import com.linkedin.timeseries.CalendarInterval;
+import com.linkedin.timeseries.GenericTable;
+import com.linkedin.timeseries.GroupingBucket;
+import com.linkedin.timeseries.GroupingBucketType;
+import com.linkedin.timeseries.TimeWindowSize;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.ESTestConfiguration.syncAfterWrite;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+@Import(ESTestConfiguration.class)
+public class ESTimeseriesRollupDAOTest extends AbstractTestNGSpringContextTests {
+
+  private static final String ENTITY_NAME = "testEntity";
+  private static final String ASPECT_NAME = "testEntityProfile";
+  private static final Urn TEST_URN = new TestEntityUrn("acryl", "testTimeseriesRollups", "table1");
+  private static final int NUM_PROFILES = 100;
+  // Not a divisor of an hour, so that profiles land at various offsets within hours, days and months
+  private static final long TIME_INCREMENT = 7 * 3600000L + 13 * 60000L;
+  private static final long START_TIME = Instant.parse("2022-12-20T05:17:00Z").toEpochMilli();
+  private static final long END_TIME = START_TIME + (NUM_PROFILES - 1) * TIME_INCREMENT;
+
+  @Autowired
+  private RestHighLevelClient _searchClient;
+  @Autowired
+  private ESBulkProcessor _bulkProcessor;
+  @Autowired
+  private ESIndexBuilder _esIndexBuilder;
+  private EntityRegistry _entityRegistry;
+  private AspectSpec _aspectSpec;
+  private ElasticSearchTimeseriesAspectService _timeseriesAspectService;
+  private ESTimeseriesRollupDAO _rollupDAO;
+  private ESAggregatedStatsDAO _rawDAO;
+
+  @BeforeClass
+  public void setup() {
+    _entityRegistry = new ConfigEntityRegistry(new DataSchemaFactory("com.datahub.test"),
+        TestEntityProfile.class.getClassLoader().getResourceAsStream("test-entity-registry.yml"));
+    _aspectSpec = _entityRegistry.getEntitySpec(ENTITY_NAME).getAspectSpec(ASPECT_NAME);
+    final IndexConvention indexConvention = new IndexConventionImpl("es_timeseries_rollup_test");
+    _rollupDAO = new ESTimeseriesRollupDAO(_searchClient, indexConvention, _esIndexBuilder, _bulkProcessor,
+        _entityRegistry, 1, ImmutableList.of(ENTITY_NAME + "." + ASPECT_NAME), true, ImmutableList.of(), 0);
+    _timeseriesAspectService = new ElasticSearchTimeseriesAspectService(_searchClient, indexConvention,
+        new TimeseriesAspectIndexBuilders(_esIndexBuilder, _entityRegistry, indexConvention), _entityRegistry,
+        _bulkProcessor, 1, _rollupDAO);
+    _timeseriesAspectService.configure();
+    _rawDAO = new ESAggregatedStatsDAO(indexConvention, _searchClient, _entityRegistry);
+  }
+
+  private void upsertProfile(long timestampMillis, long stat) throws JsonProcessingException {
+    final TestEntityProfile profile = new TestEntityProfile();
+    profile.setTimestampMillis(timestampMillis);
+    profile.setStat(stat);
+    profile.setStrStat(String.valueOf(stat));
+    profile.setEventGranularity(new TimeWindowSize().setUnit(CalendarInterval.DAY).setMultiple(1));
+    // Keys come and go, so that buckets hold different sets of keys
+    final TestEntityComponentProfileArray componentProfiles = new TestEntityComponentProfileArray();
+    componentProfiles.add(new TestEntityComponentProfile().setKey("col1").setStat(stat + 1));
+    if (stat % 3 == 0) {
+      componentProfiles.add(new TestEntityComponentProfile().setKey("col" + (stat % 4 + 2)).setStat(stat + 2));
+    }
+    profile.setComponentProfiles(componentProfiles);
+
+    final Map<String, JsonNode> documents = TimeseriesAspectTransformer.transform(TEST_URN, profile, _aspectSpec, null);
+    documents.forEach((key, value) -> _timeseriesAspectService.upsertDocument(ENTITY_NAME, ASPECT_NAME, key, value));
+  }
+
+  @Nonnull
+  private static Filter makeFilter(long from, long to) {
+    final Criterion urnCriterion =
+        new Criterion().setField("urn").setCondition(Condition.EQUAL).setValue(TEST_URN.toString());
+    final Criterion fromCriterion = new Criterion().setField("timestampMillis")
+        .setCondition(Condition.GREATER_THAN_OR_EQUAL_TO)
+        .setValue(String.valueOf(from));
+    final Criterion toCriterion = new Criterion().setField("timestampMillis")
+        .setCondition(Condition.LESS_THAN_OR_EQUAL_TO)
+        .setValue(String.valueOf(to));
+    return QueryUtils.getFilterFromCriteria(ImmutableList.of(urnCriterion, fromCriterion, toCriterion));
+  }
+
+  @Nonnull
+  private static GroupingBucket dateBucket(@Nonnull CalendarInterval unit) {
+    return new GroupingBucket().setKey("timestampMillis")
+        .setType(GroupingBucketType.DATE_GROUPING_BUCKET)
+        .setTimeWindowSize(new TimeWindowSize().setMultiple(1).setUnit(unit));
+  }
+
+  @Nonnull
+  private static GroupingBucket keyBucket() {
+    return new GroupingBucket().setKey("componentProfiles.key").setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+  }
+
+  @Nonnull
+  private static AggregationSpec aggregation(@Nonnull AggregationType type, @Nonnull String fieldPath) {
+    return new AggregationSpec().setAggregationType(type).setFieldPath(fieldPath);
+  }
+
+  private void assertSameAsRaw(@Nonnull AggregationSpec[] aggregationSpecs, @Nonnull Filter filter,
+      @Nonnull GroupingBucket[] groupingBuckets) {
+    final Optional<GenericTable> rollupTable =
+        _rollupDAO.getAggregatedStats(ENTITY_NAME, ASPECT_NAME, aggregationSpecs, filter, groupingBuckets);
+    final GenericTable rawTable =
+        _rawDAO.getAggregatedStats(ENTITY_NAME, ASPECT_NAME, aggregationSpecs, filter, groupingBuckets);
+    assertTrue(rollupTable.isPresent());
+    assertFalse(rawTable.getRows().isEmpty());
+    assertEquals(rollupTable.get().getColumnNames(), rawTable.getColumnNames());
+    assertEquals(rollupTable.get().getColumnTypes(), rawTable.getColumnTypes());
+    assertEquals(rollupTable.get().getRows(), rawTable.getRows());
+  }
+
+  private void assertAllSameAsRaw(@Nonnull Filter filter) {
+    for (CalendarInterval unit : ImmutableList.of(CalendarInterval.HOUR, CalendarInterval.DAY, CalendarInterval.WEEK,
+        CalendarInterval.MONTH)) {
+      assertSameAsRaw(new AggregationSpec[]{aggregation(AggregationType.LATEST, "stat"),
+              aggregation(AggregationType.SUM, "stat"), aggregation(AggregationType.LATEST, "strStat")}, filter,
+          new GroupingBucket[]{dateBucket(unit)});
+      assertSameAsRaw(new AggregationSpec[]{aggregation(AggregationType.SUM, "componentProfiles.stat"),
+              aggregation(AggregationType.LATEST, "componentProfiles.stat")}, filter,
+          new GroupingBucket[]{dateBucket(unit), keyBucket()});
+    }
+    assertSameAsRaw(new AggregationSpec[]{aggregation(AggregationType.SUM, "stat"),
+        aggregation(AggregationType.LATEST, "strStat")}, filter, new GroupingBucket[]{});
+    assertSameAsRaw(new AggregationSpec[]{aggregation(AggregationType.SUM, "componentProfiles.stat")}, filter,
+        new GroupingBucket[]{keyBucket()});
+  }
+
+  @Test(groups = "upsert")
+  public void testUpsertProfiles() throws Exception {
+    for (int i = 0; i < NUM_PROFILES; i++) {
+      upsertProfile(START_TIME + i * TIME_INCREMENT, 20 + i * 10);
+    }
+    syncAfterWrite(_bulkProcessor);
+    // Writing documents again replaces their contribution
+    for (int i = 0; i < NUM_PROFILES; i += 7) {
+      upsertProfile(START_TIME + i * TIME_INCREMENT, 25 + i * 10);
+    }
+    syncAfterWrite(_bulkProcessor);
+  }
+
+  @Test(groups = "query", dependsOnGroups = "upsert")
+  public void testWholeRange() {
+    assertAllSameAsRaw(makeFilter(START_TIME, END_TIME));
+  }
+
+  @Test(groups = "query", dependsOnGroups = "upsert")
+  public void testUnalignedWindow() {
+    assertAllSameAsRaw(makeFilter(START_TIME + 9 * TIME_INCREMENT + 1234, END_TIME - 11 * TIME_INCREMENT - 56789));
+  }
+
+  @Test(groups = "query", dependsOnGroups = "upsert")
+  public void testWindowWithinAnHour() {
+    final long from = START_TIME + 42 * TIME_INCREMENT - 60000;
+    assertSameAsRaw(new AggregationSpec[]{aggregation(AggregationType.SUM, "stat")}, makeFilter(from, from + 120000),
+        new GroupingBucket[]{dateBucket(CalendarInterval.DAY)});
+  }
+
+  @Test(groups = "query", dependsOnGroups = "upsert")
+  public void testUnsupportedQueries() {
+    final Filter filter = makeFilter(START_TIME, END_TIME);
+    assertFalse(_rollupDAO.getAggregatedStats(ENTITY_NAME, ASPECT_NAME,
+        new AggregationSpec[]{aggregation(AggregationType.CARDINALITY, "strStat")}, filter,
+        new GroupingBucket[]{}).isPresent());
+    assertFalse(_rollupDAO.getAggregatedStats(ENTITY_NAME, ASPECT_NAME,
+        new AggregationSpec[]{aggregation(AggregationType.SUM, "stat")},
+        QueryUtils.newFilter("strStat", "20"), new GroupingBucket[]{}).isPresent());
+  }
+
+  @Test(groups = "compact", dependsOnGroups = "query")
+  public void testCompactedRollups() throws Exception {
+    // Queries above read the hourly rollups, days and months not being compacted yet
+    _rollupDAO.compact();
+    syncAfterWrite(_bulkProcessor);
+    assertAllSameAsRaw(makeFilter(START_TIME, END_TIME));
+    assertAllSameAsRaw(makeFilter(START_TIME + 9 * TIME_INCREMENT + 1234, END_TIME - 11 * TIME_INCREMENT - 56789));
+
+    // Hours changed after the compaction are read instead of their stale days and months
+    upsertProfile(START_TIME + 20 * TIME_INCREMENT, 1000);
+    syncAfterWrite(_bulkProcessor);
+    assertAllSameAsRaw(makeFilter(START_TIME, END_TIME));
+  }
+
+  @Test(groups = "delete", dependsOnGroups = "compact")
+  public void testDeleteAspectValues() throws Exception {
+    final long from = START_TIME + 30 * TIME_INCREMENT;
+    final long to = START_TIME + 60 * TIME_INCREMENT;
+    _timeseriesAspectService.deleteAspectValues(ENTITY_NAME, ASPECT_NAME, makeFilter(from, to));
+    syncAfterWrite(_bulkProcessor);
+    assertAllSameAsRaw(makeFilter(START_TIME, END_TIME));
+
+    _rollupDAO.compact();
+    syncAfterWrite(_bulkProcessor);
+    assertAllSameAsRaw(makeFilter(START_TIME, END_TIME));
+  }
+}
@@ -0,0 +1,92 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+public class RollupWindowTest {
+
+  private static long time(String isoInstant) {
+    return Instant.parse(isoInstant).toEpochMilli();
+  }
+
+  @Test
+  public void testResolutionFloorAndNext() {
+    final long ts = time("2023-02-14T13:45:12.345Z");
+    assertEquals(RollupResolution.HOUR.floor(ts), time("2023-02-14T13:00:00Z"));
+    assertEquals(RollupResolution.DAY.floor(ts), time("2023-02-14T00:00:00Z"));
+    assertEquals(RollupResolution.MONTH.floor(ts), time("2023-02-01T00:00:00Z"));
+    assertEquals(RollupResolution.MONTH.next(time("2023-02-01T00:00:00Z")), time("2023-03-01T00:00:00Z"));
+    assertEquals(RollupResolution.DAY.ceil(ts), time("2023-02-15T00:00:00Z"));
+    assertEquals(RollupResolution.DAY.ceil(time("2023-02-15T00:00:00Z")), time("2023-02-15T00:00:00Z"));
+  }
+
+  @Test
+  public void testWithinAnHour() {
+    final RollupWindow window =
+        RollupWindow.of(time("2023-01-30T10:15:00Z"), time("2023-01-30T10:45:00Z"), RollupResolution.MONTH);
+    assertTrue(window.getRanges().isEmpty());
+    assertEquals(window.getPartialHours(), ImmutableList.of(time("2023-01-30T10:00:00Z")));
+  }
+
+  @Test
+  public void testAcrossTwoPartialHours() {
+    final RollupWindow window =
+        RollupWindow.of(time("2023-01-30T10:15:00Z"), time("2023-01-30T11:20:00Z"), RollupResolution.MONTH);
+    assertTrue(window.getRanges().isEmpty());
+    assertEquals(window.getPartialHours(),
+        ImmutableList.of(time("2023-01-30T10:00:00Z"), time("2023-01-30T11:00:00Z")));
+  }
+
+  @Test
+  public void testAcrossMonths() {
+    final long from = time("2023-01-30T22:30:00Z");
+    final long to = time("2023-04-02T01:29:59.999Z");
+    final RollupWindow window = RollupWindow.of(from, to, RollupResolution.MONTH);
+    assertEquals(window.getPartialHours(),
+        ImmutableList.of(time("2023-01-30T22:00:00Z"), time("2023-04-02T01:00:00Z")));
+    assertEquals(window.getRanges(), ImmutableList.of(
+        new RollupWindow.Range(RollupResolution.HOUR, time("2023-01-30T23:00:00Z"), time("2023-01-31T00:00:00Z")),
+        new RollupWindow.Range(RollupResolution.HOUR, time("2023-04-02T00:00:00Z"), time("2023-04-02T01:00:00Z")),
+        new RollupWindow.Range(RollupResolution.DAY, time("2023-01-31T00:00:00Z"), time("2023-02-01T00:00:00Z")),
+        new RollupWindow.Range(RollupResolution.DAY, time("2023-04-01T00:00:00Z"), time("2023-04-02T00:00:00Z")),
+        new RollupWindow.Range(RollupResolution.MONTH, time("2023-02-01T00:00:00Z"), time("2023-04-01T00:00:00Z"))));
+
+    assertTrue(window.contains(from));
+    assertTrue(window.contains(to));
+    assertFalse(window.contains(from - 1));
+    assertFalse(window.contains(to + 1));
+  }
+
+  @Test
+  public void testCoarsestResolution() {
+    final RollupWindow window =
+        RollupWindow.of(time("2023-01-30T22:30:00Z"), time("2023-04-02T01:29:59.999Z"), RollupResolution.DAY);
+    assertEquals(window.getRanges(), ImmutableList.of(
+        new RollupWindow.Range(RollupResolution.HOUR, time("2023-01-30T23:00:00Z"), time("2023-01-31T00:00:00Z")),
+        new RollupWindow.Range(RollupResolution.HOUR, time("2023-04-02T00:00:00Z"), time("2023-04-02T01:00:00Z")),
+        new RollupWindow.Range(RollupResolution.DAY, time("2023-01-31T00:00:00Z"), time("2023-04-02T00:00:00Z"))));
+  }
+
+  @Test
+  public void testAlignedWindow() {
+    final RollupWindow window =
+        RollupWindow.of(time("2023-02-01T00:00:00Z"), time("2023-02-28T23:59:59.999Z"), RollupResolution.MONTH);
+    assertTrue(window.getPartialHours().isEmpty());
+    assertEquals(window.getRanges(), ImmutableList.of(
+        new RollupWindow.Range(RollupResolution.MONTH, time("2023-02-01T00:00:00Z"), time("2023-03-01T00:00:00Z"))));
+  }
+
+  @Test
+  public void testEmptyWindow() {
+    final RollupWindow window =
+        RollupWindow.of(time("2023-02-01T00:00:00Z"), time("2023-01-01T00:00:00Z"), RollupResolution.MONTH);
+    assertTrue(window.getRanges().isEmpty());
+    assertTrue(window.getPartialHours().isEmpty());
+  }
+}
@@ -13,7 +13,11 @@ import org.springframework.context.annotation.FilterType;
 @SuppressWarnings("checkstyle:HideUtilityClassConstructor")
 @SpringBootApplication(exclude = {ElasticsearchRestClientAutoConfiguration.class, CassandraAutoConfiguration.class,
     SolrHealthContributorAutoConfiguration.class})
-@ComponentScan(excludeFilters = {
+@ComponentScan(basePackages = {
+    "com.linkedin.metadata.kafka",
+    // KafkaHealthChecker, needed to produce platform events directly
+    "com.linkedin.metadata.dao.producer"
+}, excludeFilters = {
     @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ScheduledAnalyticsFactory.class)})
 public class MaeConsumerApplication {
 
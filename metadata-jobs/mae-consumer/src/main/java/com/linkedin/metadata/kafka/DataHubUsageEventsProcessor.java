@@ -2,8 +2,13 @@ package com.linkedin.metadata.kafka;
 
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.common.DataHubUsageAggregatesServiceFactory;
 import com.linkedin.gms.factory.kafka.SimpleKafkaConsumerFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
+import com.linkedin.metadata.datahubusage.DataHubUsageEventType;
 import com.linkedin.metadata.kafka.config.DataHubUsageEventsProcessorCondition;
 import com.linkedin.metadata.kafka.elasticsearch.ElasticsearchConnector;
 import com.linkedin.metadata.kafka.elasticsearch.JsonElasticEvent;
@@ -13,39 +18,59 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.Topics;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import static com.linkedin.metadata.datahubusage.DataHubUsageEventConstants.*;
+
 
 @Slf4j
 @Component
 @EnableKafka
 @Conditional(DataHubUsageEventsProcessorCondition.class)
-@Import({SimpleKafkaConsumerFactory.class})
+@Import({SimpleKafkaConsumerFactory.class, DataHubUsageAggregatesServiceFactory.class})
 public class DataHubUsageEventsProcessor {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final ElasticsearchConnector elasticSearchConnector;
   private final DataHubUsageEventTransformer dataHubUsageEventTransformer;
+  private final DataHubUsageAggregatesService dataHubUsageAggregatesService;
+  private final boolean aggregatesEnabled;
   private final String indexName;
 
   private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
 
   public DataHubUsageEventsProcessor(ElasticsearchConnector elasticSearchConnector,
-      DataHubUsageEventTransformer dataHubUsageEventTransformer, IndexConvention indexConvention) {
+      DataHubUsageEventTransformer dataHubUsageEventTransformer, IndexConvention indexConvention,
+      DataHubUsageAggregatesService dataHubUsageAggregatesService,
+      @Value("${usageAggregates.enabled:true}") boolean aggregatesEnabled) {
     this.elasticSearchConnector = elasticSearchConnector;
     this.dataHubUsageEventTransformer = dataHubUsageEventTransformer;
+    this.dataHubUsageAggregatesService = dataHubUsageAggregatesService;
+    this.aggregatesEnabled = aggregatesEnabled;
     this.indexName = indexConvention.getIndexName("datahub_usage_event");
   }
 
   @KafkaListener(id = "${DATAHUB_USAGE_EVENT_KAFKA_CONSUMER_GROUP_ID:datahub-usage-event-consumer-job-client}", topics =
-      "${DATAHUB_USAGE_EVENT_NAME:" + Topics.DATAHUB_USAGE_EVENT + "}", containerFactory = "simpleKafkaConsumer")
-  public void consume(final ConsumerRecord<String, String> consumerRecord) {
+      "${DATAHUB_USAGE_EVENT_NAME:" + Topics.DATAHUB_USAGE_EVENT + "}", containerFactory = "simpleBatchKafkaConsumer")
+  public void consume(final List<ConsumerRecord<String, String>> consumerRecords) {
+    // Look up all the entities referenced by the poll at once, instead of once per event
+    dataHubUsageEventTransformer.prefetchEntities(
+        consumerRecords.stream().map(ConsumerRecord::value).collect(Collectors.toList()));
+    consumerRecords.forEach(this::consume);
+  }
+
+  private void consume(final ConsumerRecord<String, String> consumerRecord) {
     kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
     final String record = consumerRecord.value();
     log.debug("Got DHUE");
@@ -66,5 +91,36 @@ public class DataHubUsageEventsProcessor {
     elasticEvent.setIndex(indexName);
     elasticEvent.setActionType(ChangeType.CREATE);
     elasticSearchConnector.feedElasticEvent(elasticEvent);
+
+    if (aggregatesEnabled) {
+      updateAggregates(record);
+    }
+  }
+
+  /**
+   * Folds the event into the rolling usage aggregates read by the recommendation sources.
+   */
+  private void updateAggregates(final String record) {
+    final JsonNode event;
+    try {
+      event = OBJECT_MAPPER.readTree(record);
+    } catch (Exception e) {
+      log.warn("Failed to parse usage event for aggregation: {}", record);
+      return;
+    }
+    final DataHubUsageEventType eventType = DataHubUsageEventType.getType(event.path(TYPE).asText());
+    final String actorUrn = event.path(ACTOR_URN).asText(null);
+    final long timestamp = event.path(TIMESTAMP).asLong();
+    if (eventType == null || actorUrn == null) {
+      return;
+    }
+    if (eventType == DataHubUsageEventType.ENTITY_VIEW_EVENT && event.hasNonNull(ENTITY_URN)) {
+      dataHubUsageAggregatesService.recordEntityView(actorUrn, event.get(ENTITY_URN).asText(), timestamp);
+    } else if (eventType == DataHubUsageEventType.SEARCH_RESULTS_VIEW_EVENT && event.path("total").asLong() > 0) {
+      final String query = event.path(QUERY).asText("").trim();
+      if (!query.isEmpty() && !query.equals("*")) {
+        dataHubUsageAggregatesService.recordSearch(actorUrn, query, timestamp);
+      }
+    }
   }
 }
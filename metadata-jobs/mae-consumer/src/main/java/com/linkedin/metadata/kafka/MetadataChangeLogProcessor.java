@@ -10,13 +10,16 @@ import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
 import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
+import com.linkedin.metadata.kafka.hook.hydrator.EntityHydratorCacheHook;
 import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
 import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.Topics;
+import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -36,7 +39,8 @@ import org.springframework.stereotype.Component;
     IngestionSchedulerHook.class,
     EntityChangeEventGeneratorHook.class,
     KafkaEventConsumerFactory.class,
-    SiblingAssociationHook.class
+    SiblingAssociationHook.class,
+    EntityHydratorCacheHook.class
 })
 @EnableKafka
 public class MetadataChangeLogProcessor {
@@ -49,44 +53,41 @@ public class MetadataChangeLogProcessor {
       @Nonnull final UpdateIndicesHook updateIndicesHook,
       @Nonnull final IngestionSchedulerHook ingestionSchedulerHook,
       @Nonnull final EntityChangeEventGeneratorHook entityChangeEventHook,
-      @Nonnull final SiblingAssociationHook siblingAssociationHook
+      @Nonnull final SiblingAssociationHook siblingAssociationHook,
+      @Nonnull final EntityHydratorCacheHook entityHydratorCacheHook
   ) {
-    this.hooks = ImmutableList.of(updateIndicesHook, ingestionSchedulerHook, entityChangeEventHook, siblingAssociationHook);
+    this.hooks = ImmutableList.of(updateIndicesHook, ingestionSchedulerHook, entityChangeEventHook, siblingAssociationHook,
+        entityHydratorCacheHook);
     this.hooks.forEach(MetadataChangeLogHook::init);
   }
 
   @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
       "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
       "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
-          + "}"}, containerFactory = "kafkaEventConsumer")
-  public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
-    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-    final GenericRecord record = consumerRecord.value();
-    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
-    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
-
-    MetadataChangeLog event;
-    try {
-      event = EventUtils.avroToPegasusMCL(record);
-      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
-          event.getEntityKeyAspect());
-    } catch (Exception e) {
-      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
-      log.error("Error deserializing message due to: ", e);
-      log.error("Message: {}", record.toString());
+          + "}"}, containerFactory = "kafkaEventBatchConsumer")
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      final MetadataChangeLog event = convert(consumerRecord);
+      if (event != null) {
+        events.add(event);
+      }
+    }
+    if (events.isEmpty()) {
       return;
     }
 
-    log.debug("Invoking MCL hooks for urn: {}, key: {}", event.getEntityUrn(), event.getEntityKeyAspect());
+    log.debug("Invoking MCL hooks for {} events", events.size());
 
     // Here - plug in additional "custom processor hooks"
+    // Each hook is handed the whole poll, so that it can process the events together.
     for (MetadataChangeLogHook hook : this.hooks) {
       if (!hook.isEnabled()) {
         continue;
       }
       try (Timer.Context ignored = MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
           .time()) {
-        hook.invoke(event);
+        hook.invokeBatch(events);
       } catch (Exception e) {
         // Just skip this hook and continue. - Note that this represents "at most once" processing.
         MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
@@ -94,8 +95,27 @@ public class MetadataChangeLogProcessor {
       }
     }
     // TODO: Manually commit kafka offsets after full processing.
-    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc();
-    log.debug("Successfully completed MCL hooks for urn: {}, key: {}", event.getEntityUrn(),
-        event.getEntityKeyAspect());
+    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+    log.debug("Successfully completed MCL hooks for {} events", events.size());
+  }
+
+  @Nullable
+  private MetadataChangeLog convert(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
+
+    try {
+      final MetadataChangeLog event = EventUtils.avroToPegasusMCL(record);
+      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
+          event.getEntityKeyAspect());
+      return event;
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return null;
+    }
   }
 }
@@ -4,15 +4,19 @@ import com.datahub.authentication.Authentication;
 import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
 
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 @Import({RestliEntityClientFactory.class, SystemAuthenticationFactory.class})
 public class EntityHydratorConfig {
 
@@ -24,8 +28,14 @@ public class EntityHydratorConfig {
   @Qualifier("restliEntityClient")
   private RestliEntityClient _entityClient;
 
+  @Value("${entityHydrator.cacheTtlSeconds:60}")
+  private Long _cacheTtlSeconds;
+
+  @Value("${entityHydrator.cacheMaxSize:10000}")
+  private Long _cacheMaxSize;
+
   @Bean
   public EntityHydrator getEntityHydrator() {
-    return new EntityHydrator(_systemAuthentication, _entityClient);
+    return new EntityHydrator(_systemAuthentication, _entityClient, _cacheTtlSeconds, _cacheMaxSize);
   }
 }
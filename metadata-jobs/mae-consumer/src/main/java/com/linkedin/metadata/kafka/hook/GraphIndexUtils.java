@@ -12,6 +12,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -183,4 +184,14 @@ public class GraphIndexUtils {
         newEdge.getProperties()
     );
   }
+  /**
+   * Returns whether writing the merged edge would change the edge document stored for the old edge, i.e.
+   * whether any of the fields taken over from the new edge differ.
+   */
+  public static boolean isEdgeUpdated(@Nonnull final Edge oldEdge, @Nonnull final Edge newEdge) {
+    return !Objects.equals(oldEdge.getUpdatedOn(), newEdge.getUpdatedOn())
+        || !Objects.equals(oldEdge.getUpdatedActor(), newEdge.getUpdatedActor())
+        || !Objects.equals(oldEdge.getProperties(), newEdge.getProperties());
+  }
+
 }
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.kafka.hook;
 
 import com.linkedin.mxe.MetadataChangeLog;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 
@@ -29,4 +30,29 @@ public interface MetadataChangeLogHook {
    * Invoke the hook when a MetadataChangeLog is received
    */
   void invoke(@Nonnull MetadataChangeLog log) throws Exception;
+
+  /**
+   * Invoke the hook with all the MetadataChangeLogs received in one poll, in the order they were received.
+   *
+   * Hooks that benefit from processing events together override this. By default the hook is invoked once per event,
+   * and an event failing does not prevent the following ones from being processed: the first failure is rethrown once
+   * all the events were handed to the hook.
+   */
+  default void invokeBatch(@Nonnull List<MetadataChangeLog> logs) throws Exception {
+    Exception failure = null;
+    for (MetadataChangeLog log : logs) {
+      try {
+        invoke(log);
+      } catch (Exception e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
 }
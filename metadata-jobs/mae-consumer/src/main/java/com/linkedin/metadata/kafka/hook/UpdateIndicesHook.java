@@ -3,6 +3,7 @@ package com.linkedin.metadata.kafka.hook;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.BrowsePaths;
 import com.linkedin.common.InputField;
 import com.linkedin.common.InputFields;
 import com.linkedin.common.Status;
@@ -39,6 +40,7 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.SystemMetadata;
@@ -332,6 +334,12 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       @Nonnull final RecordTemplate newAspect,
       @Nonnull final MetadataChangeLog event
   ) {
+    // Re-ingesting an unchanged aspect leaves every edge as it is, so there is nothing to write
+    if (oldAspect != null && oldAspect.data().equals(newAspect.data())) {
+      MetricUtils.counter(this.getClass(), "graph_diff_unchanged_aspect").inc();
+      return;
+    }
+
     Pair<List<Edge>, HashMap<Urn, Set<String>>> oldEdgeAndRelationTypes = null;
     if (oldAspect != null) {
       oldEdgeAndRelationTypes = getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, oldAspect, event, false);
@@ -377,6 +385,10 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       log.debug("Updating edges: {}", mergedEdges);
       mergedEdges.forEach(_graphService::upsertEdge);
     }
+
+    MetricUtils.counter(this.getClass(), "graph_diff_removed_edges").inc(subtractiveDifference.size());
+    MetricUtils.counter(this.getClass(), "graph_diff_added_edges").inc(additiveDifference.size());
+    MetricUtils.counter(this.getClass(), "graph_diff_updated_edges").inc(mergedEdges.size());
   }
 
   private static List<Edge> getMergedEdges(final Set<Edge> oldEdgeSet, final Set<Edge> newEdgeSet) {
@@ -390,8 +402,10 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       for (com.linkedin.metadata.graph.Edge newEdge : newEdgeSet) {
         if (oldEdgesMap.containsKey(newEdge.hashCode())) {
           final com.linkedin.metadata.graph.Edge oldEdge = oldEdgesMap.get(newEdge.hashCode());
-          final com.linkedin.metadata.graph.Edge mergedEdge = GraphIndexUtils.mergeEdges(oldEdge, newEdge);
-          mergedEdges.add(mergedEdge);
+          // Edges whose timestamps, actor and properties did not change are already up to date in the index
+          if (GraphIndexUtils.isEdgeUpdated(oldEdge, newEdge)) {
+            mergedEdges.add(GraphIndexUtils.mergeEdges(oldEdge, newEdge));
+          }
         }
       }
     }
@@ -423,6 +437,10 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     }
 
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId.get());
+
+    if (aspectSpec.getName().equals(Constants.BROWSE_PATHS_ASPECT_NAME)) {
+      _entitySearchService.addBrowsePaths(entityName, ((BrowsePaths) aspect).getPaths());
+    }
   }
 
   /**
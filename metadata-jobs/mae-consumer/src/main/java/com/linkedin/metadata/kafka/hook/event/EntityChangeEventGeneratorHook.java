@@ -12,7 +12,9 @@ import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.kafka.DataHubKafkaEventProducerFactory;
 import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -21,20 +23,26 @@ import com.linkedin.metadata.timeline.eventgenerator.Aspect;
 import com.linkedin.metadata.timeline.eventgenerator.EntityChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.EntityChangeEventGeneratorRegistry;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.PlatformEventHeader;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.platform.event.v1.Parameters;
+import com.linkedin.util.Pair;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
@@ -47,7 +55,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @Import({EntityChangeEventGeneratorRegistry.class, EntityRegistryFactory.class, RestliEntityClientFactory.class,
-    SystemAuthenticationFactory.class})
+    SystemAuthenticationFactory.class, DataHubKafkaEventProducerFactory.class})
 public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
 
   /**
@@ -87,18 +95,39 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
   private final Authentication _systemAuthentication;
   private final EntityRegistry _entityRegistry;
   private final Boolean _isEnabled;
+  @Nullable
+  private final EventProducer _eventProducer;
+
+  public EntityChangeEventGeneratorHook(
+      @Nonnull final EntityChangeEventGeneratorRegistry entityChangeEventGeneratorRegistry,
+      @Nonnull final RestliEntityClient entityClient, @Nonnull final Authentication systemAuthentication,
+      @Nonnull final EntityRegistry entityRegistry, @Nonnull Boolean isEnabled) {
+    this(entityChangeEventGeneratorRegistry, entityClient, systemAuthentication, entityRegistry, isEnabled, null);
+  }
 
   @Autowired
   public EntityChangeEventGeneratorHook(
       @Nonnull final EntityChangeEventGeneratorRegistry entityChangeEventGeneratorRegistry,
       @Nonnull final RestliEntityClient entityClient, @Nonnull final Authentication systemAuthentication,
       @Nonnull final EntityRegistry entityRegistry,
-      @Nonnull @Value("${entityChangeEvents.enabled:true}") Boolean isEnabled) {
+      @Nonnull @Value("${entityChangeEvents.enabled:true}") Boolean isEnabled,
+      @Nonnull @Qualifier("kafkaEventProducer") final EventProducer eventProducer,
+      @Value("${entityChangeEvents.produceDirectly:true}") boolean produceDirectly) {
+    this(entityChangeEventGeneratorRegistry, entityClient, systemAuthentication, entityRegistry, isEnabled,
+        produceDirectly ? eventProducer : null);
+  }
+
+  private EntityChangeEventGeneratorHook(
+      @Nonnull final EntityChangeEventGeneratorRegistry entityChangeEventGeneratorRegistry,
+      @Nonnull final RestliEntityClient entityClient, @Nonnull final Authentication systemAuthentication,
+      @Nonnull final EntityRegistry entityRegistry, @Nonnull Boolean isEnabled,
+      @Nullable final EventProducer eventProducer) {
     _entityChangeEventGeneratorRegistry = Objects.requireNonNull(entityChangeEventGeneratorRegistry);
     _entityClient = Objects.requireNonNull(entityClient);
     _systemAuthentication = Objects.requireNonNull(systemAuthentication);
     _entityRegistry = Objects.requireNonNull(entityRegistry);
     _isEnabled = isEnabled;
+    _eventProducer = eventProducer;
   }
 
   @Override
@@ -108,52 +137,71 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
 
   @Override
   public void invoke(@Nonnull final MetadataChangeLog logEvent) throws Exception {
-    if (isEligibleForProcessing(logEvent)) {
-      // Steps:
-      // 1. Parse the old and new aspect.
-      // 2. Find and invoke a EntityChangeEventGenerator.
-      // 3. Sink the output of the EntityChangeEventGenerator to a specific PDL change event.
-      final AspectSpec aspectSpec =
-          _entityRegistry.getEntitySpec(logEvent.getEntityType()).getAspectSpec(logEvent.getAspectName());
-
-      assert aspectSpec != null;
-
-      final RecordTemplate fromAspect = logEvent.getPreviousAspectValue() != null
-          ? GenericRecordUtils.deserializeAspect(
-          logEvent.getPreviousAspectValue().getValue(),
-          logEvent.getPreviousAspectValue().getContentType(),
-          aspectSpec)
-          : null;
-
-      final RecordTemplate toAspect = logEvent.getAspect() != null
-          ? GenericRecordUtils.deserializeAspect(
-          logEvent.getAspect().getValue(),
-          logEvent.getAspect().getContentType(),
-          aspectSpec)
-          : null;
-
-      final List<ChangeEvent> changeEvents = generateChangeEvents(
-          logEvent.getEntityUrn(),
-          logEvent.getEntityType(),
-          logEvent.getAspectName(),
-          createAspect(fromAspect, logEvent.getPreviousSystemMetadata()),
-          createAspect(toAspect, logEvent.getSystemMetadata()),
-          logEvent.getCreated()
-      );
-
-      // Iterate through each transaction, emit change events as platform events.
-      for (final ChangeEvent event : changeEvents) {
-        PlatformEvent platformEvent = buildPlatformEvent(event);
-        emitPlatformEvent(
-            platformEvent,
-            String.format("%s-%s", Constants.CHANGE_EVENT_PLATFORM_EVENT_NAME, event.getEntityUrn())
-        );
-        log.debug("Successfully emitted change event. category: {}, operation: {}, entity urn: {}",
-            event.getCategory(),
-            event.getOperation(),
-            event.getEntityUrn());
+    invokeBatch(Collections.singletonList(logEvent));
+  }
+
+  /**
+   * Generates the change events of all the given MCLs, and emits them in order once all were generated. Events failing
+   * to generate or to be sent are skipped, and the first failure is rethrown after the others were emitted.
+   */
+  @Override
+  public void invokeBatch(@Nonnull final List<MetadataChangeLog> logEvents) throws Exception {
+    final List<ChangeEvent> changeEvents = new ArrayList<>();
+    Exception failure = null;
+    for (final MetadataChangeLog logEvent : logEvents) {
+      if (!isEligibleForProcessing(logEvent)) {
+        continue;
+      }
+      try {
+        changeEvents.addAll(generateChangeEvents(logEvent));
+      } catch (Exception e) {
+        failure = addFailure(failure, e);
       }
     }
+
+    // Iterate through each transaction, emit change events as platform events.
+    final Exception emitFailure = emitPlatformEvents(changeEvents);
+    if (emitFailure != null) {
+      failure = addFailure(failure, emitFailure);
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private List<ChangeEvent> generateChangeEvents(@Nonnull final MetadataChangeLog logEvent) {
+    // Steps:
+    // 1. Parse the old and new aspect.
+    // 2. Find and invoke a EntityChangeEventGenerator.
+    // 3. Sink the output of the EntityChangeEventGenerator to a specific PDL change event.
+    final AspectSpec aspectSpec =
+        _entityRegistry.getEntitySpec(logEvent.getEntityType()).getAspectSpec(logEvent.getAspectName());
+
+    assert aspectSpec != null;
+
+    final RecordTemplate fromAspect = logEvent.getPreviousAspectValue() != null
+        ? GenericRecordUtils.deserializeAspect(
+        logEvent.getPreviousAspectValue().getValue(),
+        logEvent.getPreviousAspectValue().getContentType(),
+        aspectSpec)
+        : null;
+
+    final RecordTemplate toAspect = logEvent.getAspect() != null
+        ? GenericRecordUtils.deserializeAspect(
+        logEvent.getAspect().getValue(),
+        logEvent.getAspect().getContentType(),
+        aspectSpec)
+        : null;
+
+    return generateChangeEvents(
+        logEvent.getEntityUrn(),
+        logEvent.getEntityType(),
+        logEvent.getAspectName(),
+        createAspect(fromAspect, logEvent.getPreviousSystemMetadata()),
+        createAspect(toAspect, logEvent.getSystemMetadata()),
+        logEvent.getCreated()
+    );
   }
 
   private <T extends RecordTemplate> List<ChangeEvent> generateChangeEvents(
@@ -180,18 +228,100 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
   }
 
   private boolean isEligibleForProcessing(final MetadataChangeLog log) {
-    return SUPPORTED_OPERATIONS.contains(log.getChangeType().toString()) && SUPPORTED_ASPECT_NAMES.contains(
-        log.getAspectName());
+    // Checked before the aspects are deserialized, which is most of the cost of processing an event
+    return SUPPORTED_OPERATIONS.contains(log.getChangeType().toString())
+        && SUPPORTED_ASPECT_NAMES.contains(log.getAspectName())
+        && !_entityChangeEventGeneratorRegistry.getEntityChangeEventGenerators(log.getAspectName()).isEmpty();
   }
 
-  private void emitPlatformEvent(@Nonnull final PlatformEvent event, @Nonnull final String partitioningKey)
+  /**
+   * Emits change events as platform events, keyed by urn so that the events of an entity keep their order. When a
+   * producer is available, the events are sent to Kafka directly and flushed together, otherwise each one is sent
+   * through GMS. An event failing to be sent does not prevent the others from being sent.
+   *
+   * @return the first failure to send an event, with the following ones suppressed, or null if all were sent
+   */
+  @Nullable
+  private Exception emitPlatformEvents(@Nonnull final List<ChangeEvent> changeEvents) {
+    if (changeEvents.isEmpty()) {
+      return null;
+    }
+    Exception failure = null;
+    final List<Pair<ChangeEvent, Future<?>>> sends = new ArrayList<>(changeEvents.size());
+    for (final ChangeEvent event : changeEvents) {
+      try {
+        PlatformEvent platformEvent = buildPlatformEvent(event);
+        sends.add(Pair.of(event, emitPlatformEvent(
+            platformEvent,
+            String.format("%s-%s", Constants.CHANGE_EVENT_PLATFORM_EVENT_NAME, event.getEntityUrn())
+        )));
+      } catch (Exception e) {
+        failure = addFailure(failure, onEmitFailure(event, e));
+      }
+    }
+    if (_eventProducer != null) {
+      _eventProducer.flush();
+    }
+
+    // Sends to Kafka are acknowledged by the flush, so their futures are all complete by now
+    for (final Pair<ChangeEvent, Future<?>> send : sends) {
+      final ChangeEvent event = send.getFirst();
+      try {
+        if (send.getSecond() != null) {
+          send.getSecond().get();
+        }
+        MetricUtils.counter(this.getClass(), "emitted_platform_event_count").inc();
+        log.debug("Successfully emitted change event. category: {}, operation: {}, entity urn: {}",
+            event.getCategory(),
+            event.getOperation(),
+            event.getEntityUrn());
+      } catch (ExecutionException e) {
+        final Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        failure = addFailure(failure, onEmitFailure(event, cause));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return addFailure(failure, e);
+      }
+    }
+    return failure;
+  }
+
+  @Nonnull
+  private Exception onEmitFailure(@Nonnull final ChangeEvent event, @Nonnull final Exception e) {
+    log.error("Failed to emit change event. category: {}, operation: {}, entity urn: {}",
+        event.getCategory(),
+        event.getOperation(),
+        event.getEntityUrn(),
+        e);
+    MetricUtils.counter(this.getClass(), "failed_platform_event_count").inc();
+    return e;
+  }
+
+  @Nonnull
+  private static Exception addFailure(@Nullable final Exception failure, @Nonnull final Exception e) {
+    if (failure == null) {
+      return e;
+    }
+    failure.addSuppressed(e);
+    return failure;
+  }
+
+  /**
+   * @return a future completed once Kafka acknowledged the event, or null if the event was sent synchronously
+   */
+  @Nullable
+  private Future<?> emitPlatformEvent(@Nonnull final PlatformEvent event, @Nonnull final String partitioningKey)
       throws Exception {
+    if (_eventProducer != null) {
+      return _eventProducer.producePlatformEvent(Constants.CHANGE_EVENT_PLATFORM_EVENT_NAME, partitioningKey, event);
+    }
     _entityClient.producePlatformEvent(
         Constants.CHANGE_EVENT_PLATFORM_EVENT_NAME,
         partitioningKey,
         event,
         _systemAuthentication
     );
+    return null;
   }
 
   private PlatformEvent buildPlatformEvent(final ChangeEvent rawChangeEvent) {
@@ -0,0 +1,63 @@
+package com.linkedin.metadata.kafka.hook.hydrator;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.metadata.kafka.config.EntityHydratorConfig;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import javax.annotation.Nonnull;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * This hook drops the entities cached by the {@link EntityHydrator} of the usage event consumer when one of the
+ * aspects they were hydrated from changes. It only has an effect when both consumers run in the same process, otherwise
+ * cached entities simply expire.
+ */
+@Slf4j
+@Component
+@Singleton
+@Import({EntityRegistryFactory.class, EntityHydratorConfig.class})
+public class EntityHydratorCacheHook implements MetadataChangeLogHook {
+
+  private final EntityRegistry _entityRegistry;
+  private final EntityHydrator _entityHydrator;
+
+  @Autowired
+  public EntityHydratorCacheHook(
+      @Nonnull final EntityRegistry entityRegistry,
+      @Nonnull final EntityHydrator entityHydrator
+  ) {
+    _entityRegistry = entityRegistry;
+    _entityHydrator = entityHydrator;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (!event.hasAspectName()) {
+      return;
+    }
+    final Urn urn;
+    if (event.hasEntityUrn()) {
+      urn = event.getEntityUrn();
+    } else {
+      final EntitySpec entitySpec;
+      try {
+        entitySpec = _entityRegistry.getEntitySpec(event.getEntityType());
+      } catch (IllegalArgumentException e) {
+        log.debug("Skipping cache invalidation for unknown entity type {}", event.getEntityType());
+        return;
+      }
+      urn = EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
+    }
+    _entityHydrator.invalidate(urn, event.getAspectName());
+  }
+}
@@ -2,12 +2,18 @@ package com.linkedin.metadata.kafka.hydrator;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linkedin.entity.EntityResponse;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 
 @Slf4j
 public abstract class BaseHydrator {
 
+  /**
+   * Names of the aspects read by {@link #hydrateFromEntityResponse}, the only ones fetched for the entity
+   */
+  protected abstract Set<String> getAspectNames();
+
   /**
    * Use values in the entity response to hydrate the document
    */
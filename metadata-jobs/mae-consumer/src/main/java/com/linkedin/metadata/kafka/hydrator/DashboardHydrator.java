@@ -1,11 +1,13 @@
 package com.linkedin.metadata.kafka.hydrator;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.dashboard.DashboardInfo;
 import com.linkedin.datahub.graphql.types.common.mappers.util.MappingHelper;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.metadata.key.DashboardKey;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
@@ -16,6 +18,13 @@ public class DashboardHydrator extends BaseHydrator {
   private static final String DASHBOARD_TOOL = "dashboardTool";
   private static final String TITLE = "title";
 
+  private static final Set<String> ASPECT_NAMES = ImmutableSet.of(DASHBOARD_INFO_ASPECT_NAME, DASHBOARD_KEY_ASPECT_NAME);
+
+  @Override
+  protected Set<String> getAspectNames() {
+    return ASPECT_NAMES;
+  }
+
   @Override
   protected void hydrateFromEntityResponse(ObjectNode document, EntityResponse entityResponse) {
     EnvelopedAspectMap aspectMap = entityResponse.getAspects();
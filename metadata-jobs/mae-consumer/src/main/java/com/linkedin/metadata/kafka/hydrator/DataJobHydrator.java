@@ -1,6 +1,7 @@
 package com.linkedin.metadata.kafka.hydrator;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.types.common.mappers.util.MappingHelper;
 import com.linkedin.datajob.DataJobInfo;
@@ -9,6 +10,7 @@ import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.metadata.key.DataFlowKey;
 import com.linkedin.metadata.key.DataJobKey;
 import com.linkedin.metadata.utils.EntityKeyUtils;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
@@ -20,6 +22,13 @@ public class DataJobHydrator extends BaseHydrator {
   private static final String ORCHESTRATOR = "orchestrator";
   private static final String NAME = "name";
 
+  private static final Set<String> ASPECT_NAMES = ImmutableSet.of(DATA_JOB_INFO_ASPECT_NAME, DATA_JOB_KEY_ASPECT_NAME);
+
+  @Override
+  protected Set<String> getAspectNames() {
+    return ASPECT_NAMES;
+  }
+
   @Override
   protected void hydrateFromEntityResponse(ObjectNode document, EntityResponse entityResponse) {
     EnvelopedAspectMap aspectMap = entityResponse.getAspects();
@@ -3,36 +3,64 @@ package com.linkedin.metadata.kafka.hydrator;
 import com.datahub.authentication.Authentication;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.r2.RemoteInvocationException;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
 
 
+/**
+ * Hydrates the display fields of the entities referenced by usage events.
+ *
+ * Only the aspects read by the hydrator of each entity type are fetched, a whole batch of urns at a time, and the
+ * hydrated documents are cached for a short while. Cached documents are dropped as soon as one of the aspects they
+ * were built from changes, see {@link #invalidate}.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class EntityHydrator {
 
   private final Authentication _systemAuthentication;
   private final EntityClient _entityClient;
+  private final Cache<Urn, ObjectNode> _hydratedEntities;
 
-  private final ChartHydrator _chartHydrator = new ChartHydrator();
-  private final CorpUserHydrator _corpUserHydrator = new CorpUserHydrator();
-  private final DashboardHydrator _dashboardHydrator = new DashboardHydrator();
-  private final DataFlowHydrator _dataFlowHydrator = new DataFlowHydrator();
-  private final DataJobHydrator _dataJobHydrator = new DataJobHydrator();
-  private final DatasetHydrator _datasetHydrator = new DatasetHydrator();
+  private final Map<String, BaseHydrator> _hydrators = ImmutableMap.<String, BaseHydrator>builder()
+      .put(CHART_ENTITY_NAME, new ChartHydrator())
+      .put(CORP_USER_ENTITY_NAME, new CorpUserHydrator())
+      .put(DASHBOARD_ENTITY_NAME, new DashboardHydrator())
+      .put(DATA_FLOW_ENTITY_NAME, new DataFlowHydrator())
+      .put(DATA_JOB_ENTITY_NAME, new DataJobHydrator())
+      .put(DATASET_ENTITY_NAME, new DatasetHydrator())
+      .build();
+
+  public EntityHydrator(Authentication systemAuthentication, EntityClient entityClient, long cacheTtlSeconds,
+      long cacheMaxSize) {
+    _systemAuthentication = systemAuthentication;
+    _entityClient = entityClient;
+    _hydratedEntities = CacheBuilder.newBuilder()
+        .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+        .maximumSize(cacheMaxSize)
+        .build();
+  }
 
   public Optional<ObjectNode> getHydratedEntity(String entityTypeName, String urn) {
-    final ObjectNode document = JsonNodeFactory.instance.objectNode();
-    // Hydrate fields from urn
     Urn urnObj;
     try {
       urnObj = Urn.createFromString(urn);
@@ -40,44 +68,76 @@ public class EntityHydrator {
       log.info("Invalid URN: {}", urn);
       return Optional.empty();
     }
-    // Hydrate fields from snapshot
-    EntityResponse entityResponse;
-    try {
-      entityResponse = _entityClient.batchGetV2(entityTypeName, Collections.singleton(urnObj), null,
-          this._systemAuthentication).get(urnObj);
-    } catch (RemoteInvocationException | URISyntaxException e) {
-      log.error("Error while calling GMS to hydrate entity for urn {}", urn);
-      return Optional.empty();
+    return Optional.ofNullable(getHydratedEntities(Collections.singleton(urnObj)).get(urnObj));
+  }
+
+  /**
+   * Hydrates a batch of entities, possibly of different types, with one call to GMS per entity type for the urns that
+   * are not cached.
+   *
+   * @return the hydrated documents of the entities that could be found, keyed by urn
+   */
+  @Nonnull
+  public Map<Urn, ObjectNode> getHydratedEntities(@Nonnull Collection<Urn> urns) {
+    final Map<Urn, ObjectNode> documents = new HashMap<>();
+    final Map<String, Set<Urn>> missingUrnsByType = new HashMap<>();
+    for (Urn urn : new HashSet<>(urns)) {
+      final ObjectNode cached = _hydratedEntities.getIfPresent(urn);
+      if (cached != null) {
+        documents.put(urn, cached.deepCopy());
+      } else {
+        missingUrnsByType.computeIfAbsent(urn.getEntityType(), type -> new HashSet<>()).add(urn);
+      }
     }
+    MetricUtils.counter(this.getClass(), "cacheHit").inc(documents.size());
 
-    if (entityResponse == null) {
-      log.error("Could not find entity for urn {}", urn);
-      return Optional.empty();
+    missingUrnsByType.forEach((entityType, missingUrns) -> {
+      final BaseHydrator hydrator = _hydrators.get(entityType);
+      if (hydrator == null) {
+        log.error("Unable to find valid hydrator for entity type: {} urns: {}", entityType, missingUrns);
+        return;
+      }
+      fetch(entityType, hydrator, missingUrns).forEach((urn, document) -> {
+        _hydratedEntities.put(urn, document);
+        documents.put(urn, document.deepCopy());
+      });
+    });
+    return documents;
+  }
+
+  /**
+   * Drops the cached document of an entity if it was built from the given aspect
+   */
+  public void invalidate(@Nonnull Urn urn, @Nonnull String aspectName) {
+    final BaseHydrator hydrator = _hydrators.get(urn.getEntityType());
+    if (hydrator != null && hydrator.getAspectNames().contains(aspectName)) {
+      _hydratedEntities.invalidate(urn);
+    }
+  }
+
+  @Nonnull
+  private Map<Urn, ObjectNode> fetch(@Nonnull String entityType, @Nonnull BaseHydrator hydrator,
+      @Nonnull Set<Urn> urns) {
+    final Map<Urn, EntityResponse> entityResponses;
+    try {
+      entityResponses =
+          _entityClient.batchGetV2(entityType, urns, hydrator.getAspectNames(), this._systemAuthentication);
+    } catch (RemoteInvocationException | URISyntaxException e) {
+      log.error("Error while calling GMS to hydrate entities for urns {}", urns);
+      return Collections.emptyMap();
     }
 
-    switch (entityResponse.getEntityName()) {
-      case CHART_ENTITY_NAME:
-        _chartHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case CORP_USER_ENTITY_NAME:
-        _corpUserHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DASHBOARD_ENTITY_NAME:
-        _dashboardHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATA_FLOW_ENTITY_NAME:
-        _dataFlowHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATA_JOB_ENTITY_NAME:
-        _dataJobHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATASET_ENTITY_NAME:
-        _datasetHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      default:
-        log.error("Unable to find valid hydrator for entity type: {} urn: {}", entityResponse.getEntityName(), urn);
-        return Optional.empty();
+    final Map<Urn, ObjectNode> documents = new HashMap<>();
+    for (Urn urn : urns) {
+      final EntityResponse entityResponse = entityResponses.get(urn);
+      if (entityResponse == null) {
+        log.error("Could not find entity for urn {}", urn);
+        continue;
+      }
+      final ObjectNode document = JsonNodeFactory.instance.objectNode();
+      hydrator.hydrateFromEntityResponse(document, entityResponse);
+      documents.put(urn, document);
     }
-    return Optional.of(document);
+    return documents;
   }
 }
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventType;
 import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
 import com.linkedin.metadata.kafka.hydrator.EntityType;
+import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -99,6 +103,47 @@ public class DataHubUsageEventTransformer {
     }
   }
 
+  /**
+   * Hydrates the actors and entities of a batch of usage events together, so that transforming the events one by one
+   * afterwards is served by the hydration cache.
+   */
+  public void prefetchEntities(List<String> dataHubUsageEvents) {
+    final Set<Urn> urns = new HashSet<>();
+    for (String dataHubUsageEvent : dataHubUsageEvents) {
+      final ObjectNode usageEvent;
+      try {
+        usageEvent = (ObjectNode) OBJECT_MAPPER.readTree(dataHubUsageEvent);
+      } catch (Exception e) {
+        continue;
+      }
+      addUrn(urns, usageEvent, ACTOR_URN);
+      final DataHubUsageEventType eventType = DataHubUsageEventType.getType(usageEvent.path(TYPE).asText());
+      if (EVENTS_WITH_ENTITY_URN.contains(eventType) && isSupportedEntityType(usageEvent.path(ENTITY_TYPE).asText())) {
+        addUrn(urns, usageEvent, ENTITY_URN);
+      }
+    }
+    _entityHydrator.getHydratedEntities(urns);
+  }
+
+  private static void addUrn(Set<Urn> urns, ObjectNode usageEvent, String field) {
+    if (!usageEvent.hasNonNull(field)) {
+      return;
+    }
+    try {
+      urns.add(Urn.createFromString(usageEvent.get(field).asText()));
+    } catch (URISyntaxException e) {
+      // Reported when the event itself is transformed
+    }
+  }
+
+  private static boolean isSupportedEntityType(String entityType) {
+    try {
+      return ENTITY_TYPE_MAP.containsKey(EntityType.valueOf(entityType));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
   private void setFieldsForEntity(ObjectNode recordObject, ObjectNode searchObject) {
     if (!recordObject.has(ENTITY_TYPE) || !recordObject.has(ENTITY_URN)) {
       return;
@@ -139,6 +139,43 @@ public class GraphIndexUtilsTest {
     assertEquals(edge3.getProperties(), edge2.getProperties());
   }
 
+  @Test
+  public void testIsEdgeUpdated() {
+    final Edge edge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        CREATED_EVENT_TIME,
+        _createdActorUrn,
+        UPDATED_EVENT_TIME_1,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "bar")
+    );
+    final Edge sameEdge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        UPDATED_EVENT_TIME_2,
+        _updatedActorUrn,
+        UPDATED_EVENT_TIME_1,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "bar")
+    );
+    final Edge changedEdge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        CREATED_EVENT_TIME,
+        _createdActorUrn,
+        UPDATED_EVENT_TIME_1,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "baz")
+    );
+    // created fields are never written for merged edges, so they do not count as an update
+    assertFalse(isEdgeUpdated(edge, sameEdge));
+    assertTrue(isEdgeUpdated(edge, changedEdge));
+  }
+
   private UpstreamLineage createUpstreamLineage() {
     UpstreamLineage upstreamLineage = new UpstreamLineage();
     UpstreamArray upstreams = new UpstreamArray();
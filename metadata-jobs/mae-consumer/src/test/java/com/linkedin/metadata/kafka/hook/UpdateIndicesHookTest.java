@@ -23,6 +23,7 @@ import com.linkedin.metadata.config.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.SystemUpdateConfiguration;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
 import com.linkedin.metadata.kafka.boot.DataHubUpgradeKafkaListener;
 import com.linkedin.metadata.key.ChartKey;
 import com.linkedin.metadata.models.AspectSpec;
@@ -43,6 +44,7 @@ import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 
@@ -138,6 +140,31 @@ public class UpdateIndicesHookTest {
     );
   }
 
+  @Test
+  public void testUnchangedAspectCausesNoGraphWritesInDiffMode() throws Exception {
+    ElasticSearchGraphService mockGraphService = Mockito.mock(ElasticSearchGraphService.class);
+    _updateIndicesHook = new UpdateIndicesHook(
+        mockGraphService,
+        _mockEntitySearchService,
+        _mockTimeseriesAspectService,
+        _mockSystemMetadataService,
+        new ConfigEntityRegistry(
+            UpdateIndicesHookTest.class.getClassLoader().getResourceAsStream("test-entity-registry.yml")),
+        _mockSearchDocumentTransformer
+    );
+    Field diffMode = UpdateIndicesHook.class.getDeclaredField("_diffMode");
+    diffMode.setAccessible(true);
+    diffMode.set(_updateIndicesHook, true);
+
+    Urn upstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleCypressHdfsDataset,PROD),foo_info)");
+    Urn downstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,SampleCypressHiveDataset,PROD),field_foo)");
+    MetadataChangeLog event = createUpstreamLineageMCL(upstreamUrn, downstreamUrn);
+    event.setPreviousAspectValue(event.getAspect());
+    _updateIndicesHook.invoke(event);
+
+    Mockito.verifyZeroInteractions(mockGraphService);
+  }
+
   private EntityRegistry createMockEntityRegistry() {
     // need to mock this registry instead of using test-entity-registry.yml because inputFields does not work due to a known bug
     EntityRegistry mockEntityRegistry = Mockito.mock(EntityRegistry.class);
@@ -25,6 +25,7 @@ import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.GlossaryTermUrn;
 import com.linkedin.common.urn.TagUrn;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataprocess.DataProcessInstanceRelationships;
@@ -42,6 +43,7 @@ import com.linkedin.entity.client.EntityClient;
 import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.DatasetKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
@@ -59,14 +61,20 @@ import com.linkedin.metadata.timeline.eventgenerator.OwnershipChangeEventGenerat
 import com.linkedin.metadata.timeline.eventgenerator.SingleDomainChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.StatusChangeEventGenerator;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.PlatformEventHeader;
 import com.linkedin.platform.event.v1.EntityChangeEvent;
 import com.linkedin.platform.event.v1.Parameters;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -601,6 +609,102 @@ public class EntityChangeEventGeneratorHookTest {
     return platformEvent;
   }
 
+  @Test
+  public void testInvokeBatchProducesDirectlyInOrder() throws Exception {
+    EventProducer mockProducer = Mockito.mock(EventProducer.class);
+    EntityChangeEventGeneratorHook hook =
+        new EntityChangeEventGeneratorHook(createEntityChangeEventGeneratorRegistry(), _mockClient, _mockAuthentication,
+            createMockEntityRegistry(), true, mockProducer, true);
+
+    final TagUrn tagUrn = new TagUrn("Test");
+    final GlobalTags tags = new GlobalTags().setTags(new TagAssociationArray(
+        ImmutableList.of(new TagAssociation().setTag(tagUrn))));
+    final Deprecation deprecation = new Deprecation().setDeprecated(true).setNote("").setActor(actorUrn);
+    hook.invokeBatch(ImmutableList.of(
+        createEvent(GLOBAL_TAGS_ASPECT_NAME, tags),
+        createEvent(DEPRECATION_ASPECT_NAME, deprecation)));
+
+    PlatformEvent tagEvent =
+        createChangeEvent(DATASET_ENTITY_NAME, Urn.createFromString(TEST_DATASET_URN), ChangeCategory.TAG,
+            ChangeOperation.ADD, tagUrn.toString(), ImmutableMap.of("tagUrn", tagUrn.toString()), actorUrn);
+    PlatformEvent deprecationEvent =
+        createChangeEvent(DATASET_ENTITY_NAME, Urn.createFromString(TEST_DATASET_URN), ChangeCategory.DEPRECATION,
+            ChangeOperation.MODIFY, null, ImmutableMap.of("status", "DEPRECATED"), actorUrn);
+
+    // Both events are keyed by urn, produced in the order of their change logs and flushed together
+    final String key = String.format("%s-%s", CHANGE_EVENT_PLATFORM_EVENT_NAME, TEST_DATASET_URN);
+    InOrder inOrder = Mockito.inOrder(mockProducer);
+    inOrder.verify(mockProducer).producePlatformEvent(eq(CHANGE_EVENT_PLATFORM_EVENT_NAME), eq(key),
+        argThat(new PlatformEventMatcher(tagEvent)));
+    inOrder.verify(mockProducer).producePlatformEvent(eq(CHANGE_EVENT_PLATFORM_EVENT_NAME), eq(key),
+        argThat(new PlatformEventMatcher(deprecationEvent)));
+    inOrder.verify(mockProducer).flush();
+    Mockito.verifyNoMoreInteractions(mockProducer);
+    Mockito.verifyZeroInteractions(_mockClient);
+  }
+
+  @Test
+  public void testInvokeBatchSendsRemainingEventsAfterFailure() throws Exception {
+    final TagUrn tagUrn = new TagUrn("Test");
+    final GlobalTags tags = new GlobalTags().setTags(new TagAssociationArray(
+        ImmutableList.of(new TagAssociation().setTag(tagUrn))));
+    final Deprecation deprecation = new Deprecation().setDeprecated(true).setNote("").setActor(actorUrn);
+    final List<MetadataChangeLog> events = ImmutableList.of(
+        createEvent(GLOBAL_TAGS_ASPECT_NAME, tags),
+        createEvent(DEPRECATION_ASPECT_NAME, deprecation));
+
+    // Through GMS, a failing call does not abort the following events
+    Mockito.doThrow(new RuntimeException("GMS unavailable")).doNothing()
+        .when(_mockClient).producePlatformEvent(any(), any(), any(), any());
+    Assert.assertThrows(RuntimeException.class, () -> _entityChangeEventHook.invokeBatch(events));
+    verify(_mockClient, Mockito.times(2)).producePlatformEvent(eq(CHANGE_EVENT_PLATFORM_EVENT_NAME), anyString(),
+        any(PlatformEvent.class), eq(_mockAuthentication));
+
+    // Directly, the failed send of an event is surfaced once all were flushed
+    EventProducer mockProducer = Mockito.mock(EventProducer.class);
+    CompletableFuture<Void> failedSend = new CompletableFuture<>();
+    failedSend.completeExceptionally(new IllegalStateException("Broker unavailable"));
+    Mockito.doReturn(failedSend).doReturn(CompletableFuture.completedFuture(null))
+        .when(mockProducer).producePlatformEvent(any(), any(), any());
+    EntityChangeEventGeneratorHook hook =
+        new EntityChangeEventGeneratorHook(createEntityChangeEventGeneratorRegistry(), _mockClient, _mockAuthentication,
+            createMockEntityRegistry(), true, mockProducer, true);
+    Assert.assertThrows(IllegalStateException.class, () -> hook.invokeBatch(events));
+    InOrder inOrder = Mockito.inOrder(mockProducer);
+    inOrder.verify(mockProducer, Mockito.times(2)).producePlatformEvent(eq(CHANGE_EVENT_PLATFORM_EVENT_NAME),
+        anyString(), any(PlatformEvent.class));
+    inOrder.verify(mockProducer).flush();
+  }
+
+  @Test
+  public void testInvokeBatchSkipsAspectsWithoutGenerators() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    // Supported, but without generator in this registry: the aspect must not even be deserialized
+    event.setAspectName(EDITABLE_SCHEMA_METADATA_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setAspect(new GenericAspect()
+        .setValue(ByteString.copyString("not an aspect", StandardCharsets.UTF_8))
+        .setContentType("application/json"));
+    event.setEntityUrn(Urn.createFromString(TEST_DATASET_URN));
+    event.setCreated(new AuditStamp().setActor(actorUrn).setTime(EVENT_TIME));
+
+    _entityChangeEventHook.invokeBatch(ImmutableList.of(event));
+
+    Mockito.verifyZeroInteractions(_mockClient);
+  }
+
+  private MetadataChangeLog createEvent(String aspectName, RecordTemplate aspect) throws URISyntaxException {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setAspectName(aspectName);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setAspect(GenericRecordUtils.serializeAspect(aspect));
+    event.setEntityUrn(Urn.createFromString(TEST_DATASET_URN));
+    event.setCreated(new AuditStamp().setActor(actorUrn).setTime(EVENT_TIME));
+    return event;
+  }
+
   private EntityChangeEventGeneratorRegistry createEntityChangeEventGeneratorRegistry() {
     final EntityChangeEventGeneratorRegistry registry = new EntityChangeEventGeneratorRegistry();
     registry.register(GLOBAL_TAGS_ASPECT_NAME, new GlobalTagsChangeEventGenerator());
@@ -0,0 +1,89 @@
+package com.linkedin.metadata.kafka.hydrator;
+
+import com.datahub.authentication.Authentication;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.key.CorpUserKey;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.testng.Assert.*;
+
+
+public class EntityHydratorTest {
+
+  private static final Urn USER_URN = Urn.createFromTuple(CORP_USER_ENTITY_NAME, "datahub");
+
+  private EntityClient _entityClient;
+  private Authentication _authentication;
+  private EntityHydrator _entityHydrator;
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    _entityClient = Mockito.mock(EntityClient.class);
+    _authentication = Mockito.mock(Authentication.class);
+    _entityHydrator = new EntityHydrator(_authentication, _entityClient, 60, 100);
+
+    final EnvelopedAspectMap aspects = new EnvelopedAspectMap();
+    aspects.put(CORP_USER_KEY_ASPECT_NAME, new EnvelopedAspect().setName(CORP_USER_KEY_ASPECT_NAME)
+        .setValue(new Aspect(new CorpUserKey().setUsername("datahub").data())));
+    Mockito.when(_entityClient.batchGetV2(Mockito.eq(CORP_USER_ENTITY_NAME), Mockito.any(), Mockito.any(),
+        Mockito.eq(_authentication)))
+        .thenReturn(Map.of(USER_URN, new EntityResponse().setEntityName(CORP_USER_ENTITY_NAME)
+            .setUrn(USER_URN)
+            .setAspects(aspects)));
+  }
+
+  @Test
+  public void testFetchesOnlyHydratedAspects() throws Exception {
+    final Optional<ObjectNode> document = _entityHydrator.getHydratedEntity(CORP_USER_ENTITY_NAME, USER_URN.toString());
+
+    assertTrue(document.isPresent());
+    assertEquals(document.get().get("username").asText(), "datahub");
+    Mockito.verify(_entityClient).batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(USER_URN),
+        ImmutableSet.of(CORP_USER_INFO_ASPECT_NAME, CORP_USER_KEY_ASPECT_NAME), _authentication);
+  }
+
+  @Test
+  public void testCachesHydratedEntities() throws Exception {
+    _entityHydrator.getHydratedEntities(List.of(USER_URN));
+    final ObjectNode document = _entityHydrator.getHydratedEntities(List.of(USER_URN)).get(USER_URN);
+
+    assertEquals(document.get("username").asText(), "datahub");
+    Mockito.verify(_entityClient, Mockito.times(1))
+        .batchGetV2(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+    // Callers get their own copy of the cached document
+    document.put("username", "changed");
+    assertEquals(_entityHydrator.getHydratedEntities(List.of(USER_URN)).get(USER_URN).get("username").asText(),
+        "datahub");
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    _entityHydrator.getHydratedEntities(List.of(USER_URN));
+
+    // Aspects the document was not built from are ignored
+    _entityHydrator.invalidate(USER_URN, CORP_USER_EDITABLE_INFO_ASPECT_NAME);
+    _entityHydrator.getHydratedEntities(List.of(USER_URN));
+    Mockito.verify(_entityClient, Mockito.times(1))
+        .batchGetV2(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+    _entityHydrator.invalidate(USER_URN, CORP_USER_INFO_ASPECT_NAME);
+    _entityHydrator.getHydratedEntities(List.of(USER_URN));
+    Mockito.verify(_entityClient, Mockito.times(2))
+        .batchGetV2(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+  }
+}
@@ -0,0 +1,80 @@
+#!/usr/bin/env python3
+"""Compares two JMH result files, e.g. the results of the base and head commits of a change.
+
+Usage: compare.py baseline.json candidate.json [--threshold PERCENT]
+
+Exits with status 1 when a benchmark got slower by more than the threshold, beyond the error margin of both runs.
+"""
+import argparse
+import json
+import sys
+
+# Modes where a higher score is better, all others being times per operation
+THROUGHPUT_MODES = {"thrpt"}
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    return {key(result): result for result in results}
+
+
+def key(result):
+    params = ",".join(f"{name}={value}" for name, value in sorted(result.get("params", {}).items()))
+    return f"{result['benchmark']}({params})" if params else result["benchmark"]
+
+
+def short_name(benchmark_key):
+    # Drop the package, keeping the class and method names
+    name, _, params = benchmark_key.partition("(")
+    name = ".".join(name.split(".")[-2:])
+    return f"{name}({params}" if params else name
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=10.0, help="regression threshold in percent (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    candidate = load(args.candidate)
+
+    regressions = []
+    rows = []
+    for benchmark_key in sorted(baseline.keys() | candidate.keys()):
+        if benchmark_key not in baseline or benchmark_key not in candidate:
+            rows.append((short_name(benchmark_key), "-", "-", "only in " + ("baseline" if benchmark_key in baseline else "candidate")))
+            continue
+        base, cand = baseline[benchmark_key], candidate[benchmark_key]
+        base_metric, cand_metric = base["primaryMetric"], cand["primaryMetric"]
+        base_score, cand_score = base_metric["score"], cand_metric["score"]
+        unit = cand_metric["scoreUnit"]
+
+        change = (cand_score - base_score) / base_score * 100 if base_score else 0.0
+        slower = change < 0 if cand["mode"] in THROUGHPUT_MODES else change > 0
+        # Differences within the error margins of the runs are noise
+        significant = abs(cand_score - base_score) > abs(base_metric.get("scoreError") or 0) + abs(
+            cand_metric.get("scoreError") or 0)
+
+        status = ""
+        if significant and abs(change) > args.threshold:
+            status = "REGRESSION" if slower else "improvement"
+            if slower:
+                regressions.append(benchmark_key)
+        rows.append((short_name(benchmark_key), f"{base_score:.3f} {unit}", f"{cand_score:.3f} {unit}",
+                     f"{change:+.1f}% {status}".strip()))
+
+    widths = [max(len(row[i]) for row in rows + [("benchmark", "baseline", "candidate", "change")]) for i in range(4)]
+    for row in [("benchmark", "baseline", "candidate", "change")] + rows:
+        print("  ".join(cell.ljust(width) for cell, width in zip(row, widths)).rstrip())
+
+    if regressions:
+        print(f"\n{len(regressions)} benchmark(s) regressed by more than {args.threshold}%", file=sys.stderr)
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,127 @@
+package com.datahub.authorization;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.identity.GroupMembership;
+import com.linkedin.metadata.perf.AspectFixtures;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.mockito.ArgumentMatchers.*;
+
+
+/**
+ * Evaluation of the metadata policies against an authorization request, the way {@link DataHubAuthorizer} does it.
+ *
+ * Group memberships are served by an in-memory stub of the entity client, so only the evaluation itself is measured.
+ * The benchmark lives in the package of the policy engine to read the evaluation results like the authorizer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final int NUM_GROUPS = 10;
+
+  @Param({"10", "200"})
+  public int numPolicies;
+
+  private PolicyEngine _policyEngine;
+  private List<DataHubPolicyInfo> _policies;
+  private Urn _actor;
+  private Optional<ResolvedResourceSpec> _resourceSpec;
+
+  @Setup
+  public void setup() throws Exception {
+    _actor = UrnUtils.getUrn("urn:li:corpuser:benchmark_user");
+
+    final EntityClient entityClient = Mockito.mock(EntityClient.class, Mockito.withSettings().stubOnly());
+    final GroupMembership groupMembership = new GroupMembership().setGroups(new UrnArray(
+        Collections.singletonList(UrnUtils.getUrn("urn:li:corpGroup:group_" + (NUM_GROUPS - 1)))));
+    final EnvelopedAspectMap aspects = new EnvelopedAspectMap();
+    aspects.put(GROUP_MEMBERSHIP_ASPECT_NAME,
+        new EnvelopedAspect().setValue(new Aspect(groupMembership.data())));
+    Mockito.when(entityClient.batchGetV2(eq(CORP_USER_ENTITY_NAME), any(), any(), any()))
+        .thenReturn(Collections.singletonMap(_actor, new EntityResponse().setUrn(_actor).setAspects(aspects)));
+    _policyEngine = new PolicyEngine(Mockito.mock(Authentication.class), entityClient);
+
+    // Only the last policy grants the privilege, through a group of the actor, so that all of them get evaluated
+    _policies = new ArrayList<>(numPolicies);
+    for (int i = 0; i < numPolicies; i++) {
+      _policies.add(policy(i, i == numPolicies - 1));
+    }
+
+    final String resourceUrn = AspectFixtures.datasetUrn(0).toString();
+    _resourceSpec = Optional.of(new ResolvedResourceSpec(new ResourceSpec(DATASET_ENTITY_NAME, resourceUrn),
+        ImmutableMap.of(
+            ResourceFieldType.RESOURCE_TYPE, FieldResolver.getResolverFromValues(Collections.singleton(DATASET_ENTITY_NAME)),
+            ResourceFieldType.RESOURCE_URN, FieldResolver.getResolverFromValues(Collections.singleton(resourceUrn)),
+            ResourceFieldType.OWNER, FieldResolver.getResolverFromValues(Collections.emptySet()),
+            ResourceFieldType.DOMAIN, FieldResolver.getResolverFromValues(Collections.emptySet()))));
+  }
+
+  @Benchmark
+  public boolean authorize() {
+    for (DataHubPolicyInfo policy : _policies) {
+      if (_policyEngine.evaluatePolicy(policy, _actor, PRIVILEGE, _resourceSpec).isGranted()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  public List<String> getGrantedPrivileges() {
+    return _policyEngine.getGrantedPrivileges(_policies, _actor, _resourceSpec);
+  }
+
+  private static DataHubPolicyInfo policy(int index, boolean granting) {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter()
+        .setUsers(new UrnArray(Collections.singletonList(UrnUtils.getUrn("urn:li:corpuser:user_" + index))))
+        .setGroups(new UrnArray(Collections.singletonList(
+            UrnUtils.getUrn("urn:li:corpGroup:group_" + (granting ? NUM_GROUPS - 1 : index % (NUM_GROUPS - 1))))))
+        .setResourceOwners(false)
+        .setAllUsers(false)
+        .setAllGroups(false);
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter()
+        .setType(DATASET_ENTITY_NAME)
+        .setAllResources(granting)
+        .setResources(new StringArray(Collections.singletonList(AspectFixtures.datasetUrn(index + 1).toString())));
+    return new DataHubPolicyInfo()
+        .setType(METADATA_POLICY_TYPE)
+        .setState(ACTIVE_POLICY_STATE)
+        .setPrivileges(new StringArray(PRIVILEGE, "EDIT_ENTITY_OWNERS"))
+        .setDisplayName("Policy " + index)
+        .setDescription("Benchmark policy " + index)
+        .setEditable(true)
+        .setActors(actorFilter)
+        .setResources(resourceFilter);
+  }
+}
@@ -0,0 +1,137 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.schema.NumberType;
+import com.linkedin.schema.OtherSchema;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Synthetic aspects used by the benchmarks.
+ *
+ * Fixtures are deterministic so that runs on different commits measure the same work. Sizes are picked by the
+ * benchmarks: a handful of fields for a typical table, a few hundred for the wide tables and event schemas that
+ * dominate ingestion time in practice.
+ */
+public class AspectFixtures {
+
+  public static final AuditStamp AUDIT_STAMP =
+      new AuditStamp().setTime(1670000000000L).setActor(UrnUtils.getUrn("urn:li:corpuser:benchmark"));
+
+  private static final DataPlatformUrn PLATFORM = new DataPlatformUrn("hive");
+
+  private AspectFixtures() {
+  }
+
+  /**
+   * The registry of the core entities, as loaded by GMS
+   */
+  @Nonnull
+  public static EntityRegistry entityRegistry() {
+    return new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+  }
+
+  @Nonnull
+  public static DatasetUrn datasetUrn(int index) {
+    return new DatasetUrn(PLATFORM, "warehouse.benchmark.table_" + index, FabricType.PROD);
+  }
+
+  /**
+   * A schema with the given number of fields, a third of them nested, every fifth one tagged
+   */
+  @Nonnull
+  public static SchemaMetadata schemaMetadata(int numFields) {
+    final SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < numFields; i++) {
+      final SchemaField field = new SchemaField()
+          .setFieldPath(i % 3 == 0 ? "record_" + (i / 3) + ".nested_field_" + i : "field_" + i)
+          .setNullable(i % 2 == 0)
+          .setDescription("Description of field " + i + ", as typically written by the owners of the table.")
+          .setNativeDataType(i % 4 == 0 ? "bigint" : "varchar(255)")
+          .setType(new SchemaFieldDataType().setType(i % 4 == 0
+              ? SchemaFieldDataType.Type.create(new NumberType())
+              : SchemaFieldDataType.Type.create(new StringType())));
+      if (i % 5 == 0) {
+        field.setGlobalTags(tags(2));
+      }
+      fields.add(field);
+    }
+    return new SchemaMetadata()
+        .setSchemaName("warehouse.benchmark.table")
+        .setPlatform(PLATFORM)
+        .setVersion(0L)
+        .setCreated(AUDIT_STAMP)
+        .setLastModified(AUDIT_STAMP)
+        .setHash("")
+        .setPlatformSchema(SchemaMetadata.PlatformSchema.create(new OtherSchema().setRawSchema("")))
+        .setFields(fields);
+  }
+
+  @Nonnull
+  public static DatasetProperties datasetProperties(int numCustomProperties) {
+    final Map<String, String> customProperties = new HashMap<>();
+    for (int i = 0; i < numCustomProperties; i++) {
+      customProperties.put("property_" + i, "value of property " + i);
+    }
+    return new DatasetProperties()
+        .setName("table")
+        .setDescription("A table produced by the nightly benchmark pipeline.")
+        .setCustomProperties(new StringMap(customProperties));
+  }
+
+  @Nonnull
+  public static GlobalTags tags(int numTags) {
+    final TagAssociationArray tags = new TagAssociationArray();
+    for (int i = 0; i < numTags; i++) {
+      tags.add(new TagAssociation().setTag(new TagUrn("tag_" + i)));
+    }
+    return new GlobalTags().setTags(tags);
+  }
+
+  @Nonnull
+  public static SystemMetadata systemMetadata() {
+    return new SystemMetadata().setLastObserved(AUDIT_STAMP.getTime()).setRunId("benchmark");
+  }
+
+  /**
+   * The change log emitted when the given aspect of a dataset is upserted
+   */
+  @Nonnull
+  public static MetadataChangeLog metadataChangeLog(@Nonnull Urn urn, @Nonnull SchemaMetadata aspect) {
+    return new MetadataChangeLog()
+        .setEntityType(DATASET_ENTITY_NAME)
+        .setEntityUrn(urn)
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(SCHEMA_METADATA_ASPECT_NAME)
+        .setAspect(GenericRecordUtils.serializeAspect(aspect))
+        .setSystemMetadata(systemMetadata())
+        .setCreated(AUDIT_STAMP);
+  }
+}
@@ -0,0 +1,145 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.entity.AspectStorageCodec;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.schema.SchemaMetadata;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Ingestion and reads of aspects through the entity service, against an embedded H2 database.
+ *
+ * Events are produced to a stub, so this covers validation, serialization and the local DB round trips of an ingest.
+ * New aspects are written in batches, which are deleted again before the next batch, so the size of the database is
+ * bounded by the batch size rather than growing with the number of writes an iteration runs.
+ *
+ * Each benchmark runs with every storage format of the aspect payloads, compressing payloads of any size, to compare
+ * the read and write cost of the formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityServiceBenchmark {
+
+  private static final int NEW_ASPECTS_PER_INVOCATION = 100;
+
+  @Param({"10", "100"})
+  public int numFields;
+
+  @Param({"JSON", "GZIP_JSON"})
+  public String storageFormat;
+
+  private EbeanServer _server;
+  private EntityService _entityService;
+  private SchemaMetadata _schemaMetadata;
+  private Urn _existingUrn;
+
+  /**
+   * Deletes the aspects written by the previous invocation of {@link #ingestNew}, so their urns are new again
+   */
+  @State(Scope.Thread)
+  public static class NewAspects {
+    @Setup(Level.Invocation)
+    public void deleteNewAspects(EntityServiceBenchmark benchmark) {
+      benchmark._server.createSqlUpdate("delete from metadata_aspect_v2 where urn <> :urn")
+          .setParameter("urn", benchmark._existingUrn.toString())
+          .execute();
+    }
+  }
+
+  @Setup
+  public void setup() {
+    _server = EbeanServerFactory.create(createH2ServerConfig());
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(_server);
+    aspectDao.setConnectionValidated(true);
+    aspectDao.setStorageCodec(new AspectStorageCodec(AspectStorageCodec.Format.fromString(storageFormat), 0));
+    _entityService = new EntityService(aspectDao, Mockito.mock(EventProducer.class, Mockito.withSettings().stubOnly()),
+        AspectFixtures.entityRegistry());
+    _schemaMetadata = AspectFixtures.schemaMetadata(numFields);
+    _existingUrn = AspectFixtures.datasetUrn(0);
+  }
+
+  @Setup(Level.Iteration)
+  public void resetDatabase() {
+    _server.createSqlUpdate("delete from metadata_aspect_v2").execute();
+    ingest(_existingUrn);
+  }
+
+  @TearDown
+  public void tearDown() {
+    _server.shutdown(false, false);
+  }
+
+  /**
+   * First write of an aspect of an entity
+   */
+  @Benchmark
+  @OperationsPerInvocation(NEW_ASPECTS_PER_INVOCATION)
+  public void ingestNew(NewAspects newAspects, Blackhole blackhole) {
+    for (int i = 1; i <= NEW_ASPECTS_PER_INVOCATION; i++) {
+      blackhole.consume(ingest(AspectFixtures.datasetUrn(i)));
+    }
+  }
+
+  /**
+   * Write of an aspect identical to the latest version, as happens whenever ingestion runs emit unchanged metadata
+   */
+  @Benchmark
+  public RecordTemplate ingestUnchanged() {
+    return ingest(_existingUrn);
+  }
+
+  /**
+   * Read of the latest version of an aspect, decoding the stored payload
+   */
+  @Benchmark
+  public Map<String, RecordTemplate> getLatest() {
+    return _entityService.getLatestAspectsForUrn(_existingUrn, Collections.singleton(SCHEMA_METADATA_ASPECT_NAME));
+  }
+
+  private RecordTemplate ingest(Urn urn) {
+    return _entityService.ingestAspect(urn, SCHEMA_METADATA_ASPECT_NAME, _schemaMetadata, AspectFixtures.AUDIT_STAMP,
+        AspectFixtures.systemMetadata());
+  }
+
+  private static ServerConfig createH2ServerConfig() {
+    final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("benchmark");
+    dataSourceConfig.setPassword("");
+    // Named and kept open so that all the pooled connections share the same in-memory database
+    dataSourceConfig.setUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;IGNORECASE=TRUE;");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    final ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return serverConfig;
+  }
+}
@@ -0,0 +1,48 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Conversion of change log events between Pegasus and Avro, as done for every event produced to or consumed from Kafka.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventUtilsBenchmark {
+
+  @Param({"10", "500"})
+  public int numFields;
+
+  private MetadataChangeLog _metadataChangeLog;
+  private GenericRecord _avroMetadataChangeLog;
+
+  @Setup
+  public void setup() throws IOException {
+    _metadataChangeLog =
+        AspectFixtures.metadataChangeLog(AspectFixtures.datasetUrn(0), AspectFixtures.schemaMetadata(numFields));
+    _avroMetadataChangeLog = EventUtils.pegasusToAvroMCL(_metadataChangeLog);
+  }
+
+  @Benchmark
+  public GenericRecord pegasusToAvroMCL() throws IOException {
+    return EventUtils.pegasusToAvroMCL(_metadataChangeLog);
+  }
+
+  @Benchmark
+  public MetadataChangeLog avroToPegasusMCL() throws IOException {
+    return EventUtils.avroToPegasusMCL(_avroMetadataChangeLog);
+  }
+}
@@ -0,0 +1,54 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.metadata.models.extractor.FieldExtractor;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Extraction of the annotated fields of an aspect, as done when indexing it for search and in the graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldExtractorBenchmark {
+
+  @Param({"10", "500"})
+  public int numFields;
+
+  private AspectSpec _aspectSpec;
+  private SchemaMetadata _schemaMetadata;
+
+  @Setup
+  public void setup() {
+    _aspectSpec = AspectFixtures.entityRegistry()
+        .getEntitySpec(DATASET_ENTITY_NAME)
+        .getAspectSpec(SCHEMA_METADATA_ASPECT_NAME);
+    _schemaMetadata = AspectFixtures.schemaMetadata(numFields);
+  }
+
+  @Benchmark
+  public Map<SearchableFieldSpec, List<Object>> extractSearchableFields() {
+    return FieldExtractor.extractFields(_schemaMetadata, _aspectSpec.getSearchableFieldSpecs());
+  }
+
+  @Benchmark
+  public Map<RelationshipFieldSpec, List<Object>> extractRelationshipFields() {
+    return FieldExtractor.extractFields(_schemaMetadata, _aspectSpec.getRelationshipFieldSpecs());
+  }
+}
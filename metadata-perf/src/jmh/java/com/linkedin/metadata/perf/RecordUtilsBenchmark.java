@@ -0,0 +1,45 @@
+package com.linkedin.metadata.perf;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * JSON serialization of aspects, as done for every aspect written to or read from the local DB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordUtilsBenchmark {
+
+  @Param({"10", "500"})
+  public int numFields;
+
+  private SchemaMetadata _schemaMetadata;
+  private String _schemaMetadataJson;
+
+  @Setup
+  public void setup() {
+    _schemaMetadata = AspectFixtures.schemaMetadata(numFields);
+    _schemaMetadataJson = RecordUtils.toJsonString(_schemaMetadata);
+  }
+
+  @Benchmark
+  public String toJsonString() {
+    return RecordUtils.toJsonString(_schemaMetadata);
+  }
+
+  @Benchmark
+  public SchemaMetadata toRecordTemplate() {
+    return RecordUtils.toRecordTemplate(SchemaMetadata.class, _schemaMetadataJson);
+  }
+}
@@ -0,0 +1,63 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Building of the search documents of aspects, as done by the MAE consumer for every change log event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchDocumentTransformerBenchmark {
+
+  // Defaults of the search document transformer in GMS
+  private static final int MAX_ARRAY_LENGTH = 1000;
+  private static final int MAX_OBJECT_KEYS = 1000;
+
+  @Param({"10", "500"})
+  public int size;
+
+  private final SearchDocumentTransformer _transformer =
+      new SearchDocumentTransformer(MAX_ARRAY_LENGTH, MAX_OBJECT_KEYS);
+  private EntitySpec _entitySpec;
+  private Urn _urn;
+  private SchemaMetadata _schemaMetadata;
+  private DatasetProperties _datasetProperties;
+
+  @Setup
+  public void setup() {
+    _entitySpec = AspectFixtures.entityRegistry().getEntitySpec(DATASET_ENTITY_NAME);
+    _urn = AspectFixtures.datasetUrn(0);
+    _schemaMetadata = AspectFixtures.schemaMetadata(size);
+    _datasetProperties = AspectFixtures.datasetProperties(size);
+  }
+
+  @Benchmark
+  public Optional<String> transformSchemaMetadata() {
+    return _transformer.transformAspect(_urn, _schemaMetadata,
+        _entitySpec.getAspectSpec(SCHEMA_METADATA_ASPECT_NAME), false);
+  }
+
+  @Benchmark
+  public Optional<String> transformDatasetProperties() {
+    return _transformer.transformAspect(_urn, _datasetProperties,
+        _entitySpec.getAspectSpec(DATASET_PROPERTIES_ASPECT_NAME), false);
+  }
+}
@@ -1,6 +1,7 @@
 package com.datahub.authentication.token;
 
 import com.datahub.authentication.Actor;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -15,6 +16,7 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.key.DataHubAccessTokenKey;
 import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
 import java.util.Base64;
 import java.util.Date;
@@ -38,12 +40,24 @@ import org.apache.commons.lang.ArrayUtils;
 @Slf4j
 public class StatefulTokenService extends StatelessTokenService {
 
+  private static final long DEFAULT_VERIFIED_TOKEN_CACHE_TTL_SECONDS = 60;
+  private static final long DEFAULT_VERIFIED_TOKEN_CACHE_MAX_SIZE = 10000;
+
   private final EntityService _entityService;
   private final LoadingCache<String, Boolean> _revokedTokenCache;
+  // Claims of the tokens whose signature was recently verified, keyed by token hash
+  private final Cache<String, TokenClaims> _verifiedTokenCache;
   private final String salt;
 
   public StatefulTokenService(@Nonnull final String signingKey, @Nonnull final String signingAlgorithm,
       @Nullable final String iss, @Nonnull final EntityService entityService, @Nonnull final String salt) {
+    this(signingKey, signingAlgorithm, iss, entityService, salt, DEFAULT_VERIFIED_TOKEN_CACHE_TTL_SECONDS,
+        DEFAULT_VERIFIED_TOKEN_CACHE_MAX_SIZE);
+  }
+
+  public StatefulTokenService(@Nonnull final String signingKey, @Nonnull final String signingAlgorithm,
+      @Nullable final String iss, @Nonnull final EntityService entityService, @Nonnull final String salt,
+      final long verifiedTokenCacheTtlSeconds, final long verifiedTokenCacheMaxSize) {
     super(signingKey, signingAlgorithm, iss);
     this._entityService = entityService;
     this._revokedTokenCache = CacheBuilder.newBuilder()
@@ -56,6 +70,10 @@ public class StatefulTokenService extends StatelessTokenService {
             return !_entityService.exists(accessUrn);
           }
         });
+    this._verifiedTokenCache = CacheBuilder.newBuilder()
+        .maximumSize(verifiedTokenCacheMaxSize)
+        .expireAfterWrite(verifiedTokenCacheTtlSeconds, TimeUnit.SECONDS)
+        .build();
     this.salt = salt;
   }
 
@@ -133,13 +151,31 @@ public class StatefulTokenService extends StatelessTokenService {
     return accessToken;
   }
 
+  /**
+   * Validates a JWT issued by this service.
+   *
+   * The signature of a given token is only verified once in a while: the claims of verified tokens are cached for a
+   * short time, during which the token is only checked for expiration and revocation.
+   */
   @Nonnull
   @Override
   public TokenClaims validateAccessToken(@Nonnull String accessToken) throws TokenException {
+    Objects.requireNonNull(accessToken);
+    final String hash = hash(accessToken);
     try {
-      final TokenClaims tokenClaims = super.validateAccessToken(accessToken);
+      TokenClaims tokenClaims = _verifiedTokenCache.getIfPresent(hash);
+      if (tokenClaims == null) {
+        MetricUtils.counter(this.getClass(), "verifiedTokenCacheMiss").inc();
+        tokenClaims = super.validateAccessToken(accessToken);
+        _verifiedTokenCache.put(hash, tokenClaims);
+      } else {
+        MetricUtils.counter(this.getClass(), "verifiedTokenCacheHit").inc();
+        if (tokenClaims.getExpirationInMs() != null && tokenClaims.getExpirationInMs() <= System.currentTimeMillis()) {
+          _verifiedTokenCache.invalidate(hash);
+          throw new TokenExpiredException("Failed to validate DataHub token. Token has expired.");
+        }
+      }
       if (tokenClaims.getTokenVersion().equals(TokenVersion.TWO)) {
-        final String hash = hash(accessToken);
         if (_revokedTokenCache.get(hash)) {
           throw new TokenException("Failed to validate DataHub token: Token has been revoked");
         }
@@ -147,7 +183,7 @@ public class StatefulTokenService extends StatelessTokenService {
       return tokenClaims;
     } catch (final TokenExpiredException e) {
       // delete entity
-      this.revokeAccessToken(hash(accessToken));
+      this.revokeAccessToken(hash);
       throw e;
     } catch (final ExecutionException e) {
       throw new TokenException("Failed to validate DataHub token: Unable to load token information from store", e);
@@ -160,6 +196,7 @@ public class StatefulTokenService extends StatelessTokenService {
         final Urn tokenUrn = Urn.createFromTuple(Constants.ACCESS_TOKEN_ENTITY_NAME, hashedToken);
         _entityService.deleteUrn(tokenUrn);
         _revokedTokenCache.put(hashedToken, true);
+        _verifiedTokenCache.invalidate(hashedToken);
         return;
       }
     } catch (ExecutionException e) {
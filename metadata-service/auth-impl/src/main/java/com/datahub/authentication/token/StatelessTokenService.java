@@ -5,6 +5,7 @@ import com.datahub.authentication.ActorType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.nio.charset.StandardCharsets;
@@ -38,6 +39,8 @@ public class StatelessTokenService {
   private final String signingKey;
   private final SignatureAlgorithm signingAlgorithm;
   private final String iss;
+  // Parsers are immutable and thread-safe, so the same one verifies every token
+  private final JwtParser jwtParser;
 
   public StatelessTokenService(
       @Nonnull final String signingKey,
@@ -54,6 +57,10 @@ public class StatelessTokenService {
     this.signingKey = Objects.requireNonNull(signingKey);
     this.signingAlgorithm = validateAlgorithm(Objects.requireNonNull(signingAlgorithm));
     this.iss = iss;
+    final String base64Key = Base64.getEncoder().encodeToString(this.signingKey.getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKey(base64Key)
+        .build();
   }
 
   /**
@@ -125,12 +132,7 @@ public class StatelessTokenService {
   public TokenClaims validateAccessToken(@Nonnull final String accessToken) throws TokenException {
     Objects.requireNonNull(accessToken);
     try {
-      byte [] apiKeySecretBytes = this.signingKey.getBytes(StandardCharsets.UTF_8);
-      final String base64Key = Base64.getEncoder().encodeToString(apiKeySecretBytes);
-      final Jws<Claims> jws = Jwts.parserBuilder()
-          .setSigningKey(base64Key)
-          .build()
-          .parseClaimsJws(accessToken);
+      final Jws<Claims> jws = this.jwtParser.parseClaimsJws(accessToken);
       validateTokenAlgorithm(jws.getHeader().getAlgorithm());
       final Claims claims = jws.getBody();
       final String tokenVersion = claims.get(TokenClaims.TOKEN_VERSION_CLAIM_NAME, String.class);
@@ -174,4 +174,39 @@ public class StatefulTokenServiceTest {
     // Validation should fail.
     assertThrows(TokenException.class, () -> tokenService.validateAccessToken(token));
   }
+
+  @Test
+  public void testValidateVerifiedTokenChecksRevocation() throws Exception {
+    Mockito.when(mockService.exists(Mockito.any(Urn.class))).thenReturn(true);
+    StatefulTokenService tokenService = new StatefulTokenService(TEST_SIGNING_KEY, "HS256", null, mockService, TEST_SALTING_KEY);
+    Actor datahub = new Actor(ActorType.USER, "datahub");
+    String token = tokenService.generateAccessToken(TokenType.PERSONAL, datahub, "some token",
+            "A token description",
+            datahub.toUrnStr());
+
+    // Verifies the token and caches its claims
+    assertEquals(tokenService.validateAccessToken(token).getActorId(), "datahub");
+    assertEquals(tokenService.validateAccessToken(token).getActorId(), "datahub");
+
+    tokenService.revokeAccessToken(tokenService.hash(token));
+
+    // Validation should fail even though the token was verified before.
+    assertThrows(TokenException.class, () -> tokenService.validateAccessToken(token));
+  }
+
+  @Test
+  public void testValidateVerifiedTokenChecksExpiration() throws Exception {
+    Mockito.when(mockService.exists(Mockito.any(Urn.class))).thenReturn(true);
+    StatefulTokenService tokenService = new StatefulTokenService(TEST_SIGNING_KEY, "HS256", null, mockService, TEST_SALTING_KEY);
+    String token = tokenService.generateAccessToken(TokenType.PERSONAL, new Actor(ActorType.USER, "datahub"), 1000L,
+        System.currentTimeMillis(), "token", "", "urn:li:corpuser:datahub");
+
+    // Verifies the token and caches its claims
+    tokenService.validateAccessToken(token);
+
+    Thread.sleep(1100);
+
+    // Validation should fail although the claims of the token are still cached.
+    assertThrows(TokenExpiredException.class, () -> tokenService.validateAccessToken(token));
+  }
 }
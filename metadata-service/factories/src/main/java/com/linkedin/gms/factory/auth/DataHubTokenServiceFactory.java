@@ -28,6 +28,12 @@ public class DataHubTokenServiceFactory {
   @Value("${elasticsearch.tokenService.issuer:datahub-metadata-service}")
   private String issuer;
 
+  @Value("${authentication.tokenService.verifiedTokenCacheTtlSeconds:60}")
+  private long verifiedTokenCacheTtlSeconds;
+
+  @Value("${authentication.tokenService.verifiedTokenCacheMaxSize:10000}")
+  private long verifiedTokenCacheMaxSize;
+
   /**
    * +  @Inject
    * +  @Named("entityService")
@@ -47,7 +53,9 @@ public class DataHubTokenServiceFactory {
         this.signingAlgorithm,
         this.issuer,
         this.entityService,
-        this.saltingKey
+        this.saltingKey,
+        this.verifiedTokenCacheTtlSeconds,
+        this.verifiedTokenCacheMaxSize
     );
   }
 }
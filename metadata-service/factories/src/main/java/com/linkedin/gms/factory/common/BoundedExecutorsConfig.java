@@ -0,0 +1,34 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+
+/**
+ * Sizes the named executors used by {@link com.linkedin.metadata.utils.ConcurrencyUtils} to fan out blocking calls
+ */
+@Configuration
+public class BoundedExecutorsConfig {
+
+  public BoundedExecutorsConfig(
+      @Value("${executors.default.threads:16}") int defaultThreads,
+      @Value("${executors.default.queueSize:1000}") int defaultQueueSize,
+      @Value("${executors.search.threads:32}") int searchThreads,
+      @Value("${executors.search.queueSize:1000}") int searchQueueSize,
+      @Value("${executors.searchRanker.threads:8}") int searchRankerThreads,
+      @Value("${executors.searchRanker.queueSize:1000}") int searchRankerQueueSize,
+      @Value("${executors.graph.threads:16}") int graphThreads,
+      @Value("${executors.graph.queueSize:1000}") int graphQueueSize,
+      @Value("${executors.recommendation.threads:16}") int recommendationThreads,
+      @Value("${executors.recommendation.queueSize:1000}") int recommendationQueueSize,
+      @Value("${executors.deleteReferences.threads:4}") int deleteReferencesThreads,
+      @Value("${executors.deleteReferences.queueSize:1000}") int deleteReferencesQueueSize) {
+    BoundedExecutors.configure(BoundedExecutors.DEFAULT, defaultThreads, defaultQueueSize);
+    BoundedExecutors.configure(BoundedExecutors.SEARCH, searchThreads, searchQueueSize);
+    BoundedExecutors.configure(BoundedExecutors.SEARCH_RANKER, searchRankerThreads, searchRankerQueueSize);
+    BoundedExecutors.configure(BoundedExecutors.GRAPH, graphThreads, graphQueueSize);
+    BoundedExecutors.configure(BoundedExecutors.RECOMMENDATION, recommendationThreads, recommendationQueueSize);
+    BoundedExecutors.configure(BoundedExecutors.DELETE_REFERENCES, deleteReferencesThreads, deleteReferencesQueueSize);
+  }
+}
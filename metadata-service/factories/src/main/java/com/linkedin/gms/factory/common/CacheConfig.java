@@ -1,6 +1,5 @@
 package com.linkedin.gms.factory.common;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
@@ -9,11 +8,13 @@ import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
-import java.util.concurrent.TimeUnit;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.CacheConfiguration;
+import com.linkedin.metadata.config.CachePolicyConfiguration;
+import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,54 +22,68 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class CacheConfig {
 
-  @Value("${CACHE_TTL_SECONDS:600}")
-  private int cacheTtlSeconds;
-
-  @Value("${CACHE_MAX_SIZE:10000}")
-  private int cacheMaxSize;
+  private static final long BYTES_PER_MB = 1024L * 1024L;
 
   @Value("${searchService.cache.hazelcast.serviceName:hazelcast-service}")
   private String hazelcastServiceName;
 
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "caffeine")
-  public CacheManager caffeineCacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-    cacheManager.setCaffeine(caffeineCacheBuilder());
-    return cacheManager;
-  }
-
-  private Caffeine<Object, Object> caffeineCacheBuilder() {
-    return Caffeine.newBuilder()
-        .initialCapacity(100)
-        .maximumSize(cacheMaxSize)
-        .expireAfterAccess(cacheTtlSeconds, TimeUnit.SECONDS)
-        .recordStats();
+  public CacheManager caffeineCacheManager(ConfigurationProvider configurationProvider) {
+    return new ConfiguredCacheManager(getCacheConfiguration(configurationProvider), null);
   }
 
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "hazelcast")
-  public CacheManager hazelcastCacheManager() {
+  public CacheManager hazelcastCacheManager(ConfigurationProvider configurationProvider) {
+    CacheConfiguration cacheConfiguration = getCacheConfiguration(configurationProvider);
     Config config = new Config();
-    // TODO: This setting is equivalent to expireAfterAccess, refreshes timer after a get, put, containsKey etc.
-    //       is this behavior what we actually desire? Should we change it now?
-    MapConfig mapConfig = new MapConfig().setMaxIdleSeconds(cacheTtlSeconds);
-
-    EvictionConfig evictionConfig = new EvictionConfig()
-        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
-        .setSize(cacheMaxSize)
-        .setEvictionPolicy(EvictionPolicy.LFU);
-    mapConfig.setEvictionConfig(evictionConfig);
-    mapConfig.setName("default");
-    config.addMapConfig(mapConfig);
+    // caches without their own policy share the map config named default
+    config.addMapConfig(mapConfig("default", cacheConfiguration.getPolicy("default")));
+    for (String cacheName : cacheConfiguration.getCaches().keySet()) {
+      config.addMapConfig(mapConfig(cacheName, cacheConfiguration.getPolicy(cacheName)));
+    }
 
     config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
     config.getNetworkConfig().getJoin().getKubernetesConfig().setEnabled(true)
         .setProperty("service-dns", hazelcastServiceName);
 
-    
     HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
 
-    return new HazelcastCacheManager(hazelcastInstance);
+    return new ConfiguredCacheManager(cacheConfiguration, new HazelcastCacheManager(hazelcastInstance));
+  }
+
+  /**
+   * Maps a cache policy to the Hazelcast map backing the cache. Hazelcast bounds memory per node in whole
+   * megabytes, so weight budgets are rounded up.
+   */
+  static MapConfig mapConfig(@Nonnull String name, @Nonnull CachePolicyConfiguration policy) {
+    MapConfig mapConfig = new MapConfig(name)
+        .setTimeToLiveSeconds(valueOrZero(policy.getTtlSeconds()))
+        .setMaxIdleSeconds(valueOrZero(policy.getMaxIdleSeconds()));
+
+    long maxWeightBytes = policy.getMaxWeightBytes() != null ? policy.getMaxWeightBytes() : 0;
+    long maxSize = policy.getMaxSize() != null ? policy.getMaxSize() : 0;
+    EvictionConfig evictionConfig = new EvictionConfig().setEvictionPolicy(EvictionPolicy.LFU);
+    if (maxWeightBytes > 0) {
+      evictionConfig.setMaxSizePolicy(MaxSizePolicy.USED_HEAP_SIZE)
+          .setSize((int) Math.min(Integer.MAX_VALUE, (maxWeightBytes + BYTES_PER_MB - 1) / BYTES_PER_MB));
+    } else if (maxSize > 0) {
+      evictionConfig.setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+          .setSize((int) Math.min(Integer.MAX_VALUE, maxSize));
+    } else {
+      evictionConfig.setEvictionPolicy(EvictionPolicy.NONE);
+    }
+    mapConfig.setEvictionConfig(evictionConfig);
+    return mapConfig;
+  }
+
+  private static CacheConfiguration getCacheConfiguration(ConfigurationProvider configurationProvider) {
+    CacheConfiguration cacheConfiguration = configurationProvider.getCache();
+    return cacheConfiguration != null ? cacheConfiguration : new CacheConfiguration();
+  }
+
+  private static int valueOrZero(Integer value) {
+    return value != null ? value : 0;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.linkedin.gms.factory.common;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Estimates the heap used by a cache entry in bytes. Cached values are JSON strings or compressed lineage
+ * results, so the estimate is dominated by their length; keys are estimated from their string representation.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+  public static final CacheEntryWeigher INSTANCE = new CacheEntryWeigher();
+
+  private static final int OBJECT_OVERHEAD_BYTES = 16;
+  private static final int STRING_OVERHEAD_BYTES = 40;
+
+  @Override
+  public int weigh(@Nonnull Object key, @Nonnull Object value) {
+    return (int) Math.min(Integer.MAX_VALUE, estimateBytes(key) + estimateBytes(value));
+  }
+
+  public static long estimateBytes(@Nullable Object object) {
+    if (object == null) {
+      return 0;
+    }
+    if (object instanceof byte[]) {
+      return OBJECT_OVERHEAD_BYTES + ((byte[]) object).length;
+    }
+    if (object instanceof CharSequence) {
+      return STRING_OVERHEAD_BYTES + 2L * ((CharSequence) object).length();
+    }
+    if (object instanceof CachedEntityLineageResult) {
+      return 2L * OBJECT_OVERHEAD_BYTES + ((CachedEntityLineageResult) object).getCompressedSize();
+    }
+    if (object instanceof RefreshingCache.TimestampedValue) {
+      return OBJECT_OVERHEAD_BYTES + estimateBytes(((RefreshingCache.TimestampedValue) object).getValue());
+    }
+    return STRING_OVERHEAD_BYTES + 2L * object.toString().length();
+  }
+}
@@ -0,0 +1,130 @@
+package com.linkedin.gms.factory.common;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.linkedin.metadata.config.CacheConfiguration;
+import com.linkedin.metadata.config.CachePolicyConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+
+/**
+ * Creates every cache according to its policy in {@link CacheConfiguration}: local caches are Caffeine caches
+ * bounded by entry count or estimated weight, distributed caches are Hazelcast maps configured by
+ * {@link CacheConfig}. Each cache reports hits, misses, evictions and its size as metrics.
+ */
+@Slf4j
+public class ConfiguredCacheManager implements CacheManager {
+
+  private final CacheConfiguration _configuration;
+  @Nullable
+  private final HazelcastCacheManager _distributedCacheManager;
+  private final ConcurrentMap<String, Cache> _caches = new ConcurrentHashMap<>();
+
+  public ConfiguredCacheManager(@Nonnull CacheConfiguration configuration,
+      @Nullable HazelcastCacheManager distributedCacheManager) {
+    _configuration = configuration;
+    _distributedCacheManager = distributedCacheManager;
+  }
+
+  @Override
+  @Nonnull
+  public Cache getCache(@Nonnull String name) {
+    return _caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  @Nonnull
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(_caches.keySet());
+  }
+
+  private Cache createCache(@Nonnull String name) {
+    CachePolicyConfiguration policy = _configuration.getPolicy(name);
+
+    Cache cache;
+    if (policy.getPlacement() == CachePolicyConfiguration.Placement.LOCAL || _distributedCacheManager == null) {
+      cache = createLocalCache(name, policy);
+    } else {
+      cache = createDistributedCache(name);
+    }
+
+    int refreshAfterWriteSeconds = valueOrZero(policy.getRefreshAfterWriteSeconds());
+    if (refreshAfterWriteSeconds > 0) {
+      cache = new RefreshingCache(cache, TimeUnit.SECONDS.toMillis(refreshAfterWriteSeconds));
+    }
+    log.info("Created cache {} with policy {}", name, policy);
+    return new InstrumentedCache(cache);
+  }
+
+  private Cache createLocalCache(@Nonnull String name, @Nonnull CachePolicyConfiguration policy) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .initialCapacity(100)
+        .recordStats();
+
+    long maxWeightBytes = valueOrZero(policy.getMaxWeightBytes());
+    long maxSize = valueOrZero(policy.getMaxSize());
+    if (maxWeightBytes > 0) {
+      builder.maximumWeight(maxWeightBytes).weigher(CacheEntryWeigher.INSTANCE);
+    } else if (maxSize > 0) {
+      builder.maximumSize(maxSize);
+    }
+
+    int ttlSeconds = valueOrZero(policy.getTtlSeconds());
+    if (ttlSeconds > 0) {
+      builder.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS);
+    }
+    int maxIdleSeconds = valueOrZero(policy.getMaxIdleSeconds());
+    if (maxIdleSeconds > 0) {
+      builder.expireAfterAccess(maxIdleSeconds, TimeUnit.SECONDS);
+    }
+
+    com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = builder.build();
+    registerGauge(name, "evictions", () -> nativeCache.stats().evictionCount());
+    registerGauge(name, "evictedBytes", () -> nativeCache.stats().evictionWeight());
+    registerGauge(name, "size", nativeCache::estimatedSize);
+    return new CaffeineCache(name, nativeCache);
+  }
+
+  private Cache createDistributedCache(@Nonnull String name) {
+    IMap<Object, Object> map = _distributedCacheManager.getHazelcastInstance().getMap(name);
+    // entries are evicted and expired by the member owning them, so local listeners count each of them once
+    AtomicLong evictions = new AtomicLong();
+    map.addLocalEntryListener((EntryEvictedListener<Object, Object>) event -> evictions.incrementAndGet());
+    map.addLocalEntryListener((EntryExpiredListener<Object, Object>) event -> evictions.incrementAndGet());
+    registerGauge(name, "evictions", evictions::get);
+    registerGauge(name, "size", () -> map.getLocalMapStats().getOwnedEntryCount());
+    registerGauge(name, "heapBytes", () -> map.getLocalMapStats().getOwnedEntryMemoryCost());
+    return _distributedCacheManager.getCache(name);
+  }
+
+  private static void registerGauge(@Nonnull String cacheName, @Nonnull String metricName, @Nonnull Gauge<Long> gauge) {
+    final String fullName = MetricRegistry.name(ConfiguredCacheManager.class, cacheName + MetricUtils.DELIMITER + metricName);
+    MetricUtils.get().remove(fullName);
+    MetricUtils.get().register(fullName, gauge);
+  }
+
+  private static long valueOrZero(@Nullable Long value) {
+    return value != null ? value : 0;
+  }
+
+  private static int valueOrZero(@Nullable Integer value) {
+    return value != null ? value : 0;
+  }
+}
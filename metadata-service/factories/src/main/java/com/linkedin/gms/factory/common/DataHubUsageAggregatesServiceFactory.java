@@ -0,0 +1,38 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({BaseElasticSearchComponentsFactory.class})
+public class DataHubUsageAggregatesServiceFactory {
+  @Autowired
+  @Qualifier("baseElasticSearchComponents")
+  private BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components;
+
+  @Value("${usageAggregates.popularityHalfLifeDays:7}")
+  private Integer popularityHalfLifeDays;
+
+  @Value("${usageAggregates.maxRecentItems:20}")
+  private Integer maxRecentItems;
+
+  @Bean(name = "dataHubUsageAggregatesService")
+  @Nonnull
+  protected DataHubUsageAggregatesService getInstance() {
+    return new DataHubUsageAggregatesService(components.getSearchClient(), components.getBulkProcessor(),
+        components.getIndexConvention(), components.getIndexBuilder(), components.getNumRetries(),
+        TimeUnit.DAYS.toMillis(popularityHalfLifeDays), maxRecentItems);
+  }
+}
@@ -0,0 +1,98 @@
+package com.linkedin.gms.factory.common;
+
+import com.codahale.metrics.Counter;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.cache.Cache;
+
+
+/**
+ * Decorates a cache to count hits and misses of its reads, independently of the cache implementation.
+ */
+public class InstrumentedCache implements Cache {
+
+  private final Cache _delegate;
+  private final Counter _hits;
+  private final Counter _misses;
+
+  public InstrumentedCache(@Nonnull Cache delegate) {
+    _delegate = delegate;
+    _hits = MetricUtils.counter(InstrumentedCache.class, delegate.getName() + MetricUtils.DELIMITER + "hit");
+    _misses = MetricUtils.counter(InstrumentedCache.class, delegate.getName() + MetricUtils.DELIMITER + "miss");
+  }
+
+  @Override
+  @Nonnull
+  public String getName() {
+    return _delegate.getName();
+  }
+
+  @Override
+  @Nonnull
+  public Object getNativeCache() {
+    return _delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@Nonnull Object key) {
+    return record(_delegate.get(key));
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@Nonnull Object key, @Nullable Class<T> type) {
+    return record(_delegate.get(key, type));
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+    AtomicBoolean loaded = new AtomicBoolean(false);
+    T value = _delegate.get(key, () -> {
+      loaded.set(true);
+      return valueLoader.call();
+    });
+    (loaded.get() ? _misses : _hits).inc();
+    return value;
+  }
+
+  @Override
+  public void put(@Nonnull Object key, @Nullable Object value) {
+    _delegate.put(key, value);
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper putIfAbsent(@Nonnull Object key, @Nullable Object value) {
+    return _delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void evict(@Nonnull Object key) {
+    _delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(@Nonnull Object key) {
+    return _delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    _delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return _delegate.invalidate();
+  }
+
+  private <T> T record(@Nullable T value) {
+    (value != null ? _hits : _misses).inc();
+    return value;
+  }
+}
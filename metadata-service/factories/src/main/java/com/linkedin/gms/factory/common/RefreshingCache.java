@@ -0,0 +1,153 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+
+/**
+ * Decorates a cache so that entries are reloaded once they are older than refreshAfterWriteMillis.
+ *
+ * Reads through {@link #get(Object, Callable)} keep returning the current value while it is reloaded in the
+ * background, so callers never wait for a refresh. Plain reads have no way to reload a value, so they report a
+ * stale entry as missing and the caller recomputes and puts it, as it would after an expiry.
+ */
+@Slf4j
+public class RefreshingCache implements Cache {
+
+  private final Cache _delegate;
+  private final long _refreshAfterWriteMillis;
+  private final Set<Object> _refreshing = ConcurrentHashMap.newKeySet();
+
+  public RefreshingCache(@Nonnull Cache delegate, long refreshAfterWriteMillis) {
+    _delegate = delegate;
+    _refreshAfterWriteMillis = refreshAfterWriteMillis;
+  }
+
+  @Value
+  public static class TimestampedValue implements Serializable {
+    Object value;
+    long writeTimeMillis;
+  }
+
+  @Override
+  @Nonnull
+  public String getName() {
+    return _delegate.getName();
+  }
+
+  @Override
+  @Nonnull
+  public Object getNativeCache() {
+    return _delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@Nonnull Object key) {
+    TimestampedValue entry = getEntry(key);
+    return entry != null && !isStale(entry) ? new SimpleValueWrapper(entry.getValue()) : null;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull Object key, @Nullable Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+    }
+    return (T) value;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+    TimestampedValue entry = getEntry(key);
+    if (entry == null) {
+      return load(key, valueLoader);
+    }
+    if (isStale(entry) && _refreshing.add(key)) {
+      CompletableFuture.runAsync(() -> {
+        try {
+          load(key, valueLoader);
+        } catch (RuntimeException e) {
+          MetricUtils.exceptionCounter(RefreshingCache.class, getName() + MetricUtils.DELIMITER + "refresh", e);
+          log.warn("Failed to refresh entry of cache {}", getName(), e);
+        } finally {
+          _refreshing.remove(key);
+        }
+      });
+    }
+    return (T) entry.getValue();
+  }
+
+  @Override
+  public void put(@Nonnull Object key, @Nullable Object value) {
+    _delegate.put(key, new TimestampedValue(value, System.currentTimeMillis()));
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper putIfAbsent(@Nonnull Object key, @Nullable Object value) {
+    ValueWrapper existing = _delegate.putIfAbsent(key, new TimestampedValue(value, System.currentTimeMillis()));
+    Object existingValue = existing != null ? existing.get() : null;
+    return existingValue instanceof TimestampedValue
+        ? new SimpleValueWrapper(((TimestampedValue) existingValue).getValue()) : null;
+  }
+
+  @Override
+  public void evict(@Nonnull Object key) {
+    _delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(@Nonnull Object key) {
+    return _delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    _delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return _delegate.invalidate();
+  }
+
+  private <T> T load(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+    T value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    put(key, value);
+    return value;
+  }
+
+  @Nullable
+  private TimestampedValue getEntry(@Nonnull Object key) {
+    ValueWrapper wrapper = _delegate.get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    // values written without this decorator, e.g. by an instance with another policy, are treated as missing
+    return value instanceof TimestampedValue ? (TimestampedValue) value : null;
+  }
+
+  private boolean isStale(@Nonnull TimestampedValue entry) {
+    return System.currentTimeMillis() - entry.getWriteTimeMillis() >= _refreshAfterWriteMillis;
+  }
+}
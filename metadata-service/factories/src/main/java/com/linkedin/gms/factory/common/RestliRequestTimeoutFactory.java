@@ -0,0 +1,27 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+
+/**
+ * Creates the deadline of Rest.li requests, injected in the Rest.li resources. Once it passes, the work a request
+ * fans out through {@link com.linkedin.metadata.utils.ConcurrencyUtils} is cancelled.
+ */
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class RestliRequestTimeoutFactory {
+  public static final String RESTLI_REQUEST_TIMEOUT_BEAN = "restliRequestTimeout";
+
+  @Value("${requestDeadlines.restliSeconds:120}")
+  private long restliSeconds;
+
+  @Bean(name = RESTLI_REQUEST_TIMEOUT_BEAN)
+  protected Duration createInstance() {
+    return Duration.ofSeconds(restliSeconds);
+  }
+}
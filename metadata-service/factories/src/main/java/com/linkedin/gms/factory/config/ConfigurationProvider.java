@@ -3,6 +3,7 @@ package com.linkedin.gms.factory.config;
 import com.datahub.authentication.AuthenticationConfiguration;
 import com.datahub.authorization.AuthorizationConfiguration;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
+import com.linkedin.metadata.config.CacheConfiguration;
 import com.linkedin.metadata.config.DataHubConfiguration;
 import com.linkedin.metadata.config.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.IngestionConfiguration;
@@ -69,4 +70,9 @@ public class ConfigurationProvider {
    * System Update configurations
    */
   private SystemUpdateConfiguration systemUpdate;
+
+  /**
+   * Sizing, expiry and placement of the search, browse and lineage caches
+   */
+  private CacheConfiguration cache;
 }
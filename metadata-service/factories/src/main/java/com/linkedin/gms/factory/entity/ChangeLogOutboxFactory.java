@@ -0,0 +1,68 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.dao.producer.KafkaEventProducer;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanChangeLogOutbox;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutbox;
+import com.linkedin.metadata.entity.outbox.ChangeLogOutboxRelay;
+import io.ebean.EbeanServer;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
+
+
+/**
+ * Wires the transactional change log outbox into the {@link EntityService}, and starts the relay publishing it.
+ * Only supported by the ebean implementation, as it relies on the outbox being written in the aspect transaction.
+ */
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@ConditionalOnExpression("${entityService.changeLogOutbox.enabled:false} && '${entityService.impl:ebean}' == 'ebean'")
+public class ChangeLogOutboxFactory {
+
+  @Autowired
+  @Qualifier("entityService")
+  private EntityService _entityService;
+
+  @Value("${entityService.changeLogOutbox.relayThreads:2}")
+  private Integer _relayThreads;
+
+  @Value("${entityService.changeLogOutbox.batchSize:500}")
+  private Integer _batchSize;
+
+  @Value("${entityService.changeLogOutbox.pollIntervalMs:200}")
+  private Long _pollIntervalMs;
+
+  @Value("${entityService.changeLogOutbox.leaseSeconds:120}")
+  private Long _leaseSeconds;
+
+  @Value("${entityService.changeLogOutbox.publishTimeoutSeconds:30}")
+  private Long _publishTimeoutSeconds;
+
+  @Bean(name = "changeLogOutbox")
+  @DependsOn({"ebeanServer", "entityService"})
+  @Nonnull
+  protected ChangeLogOutbox createInstance(EbeanServer server) {
+    final ChangeLogOutbox changeLogOutbox = new EbeanChangeLogOutbox(server);
+    _entityService.setChangeLogOutbox(changeLogOutbox);
+    return changeLogOutbox;
+  }
+
+  @Bean(name = "changeLogOutboxRelay", initMethod = "start", destroyMethod = "stop")
+  @DependsOn({"changeLogOutbox", "kafkaEventProducer"})
+  @Nonnull
+  protected ChangeLogOutboxRelay createRelayInstance(@Qualifier("changeLogOutbox") ChangeLogOutbox changeLogOutbox,
+      @Qualifier("kafkaEventProducer") KafkaEventProducer eventProducer) {
+    return new ChangeLogOutboxRelay(changeLogOutbox, eventProducer, _entityService.getEntityRegistry(), _relayThreads,
+        _batchSize, _pollIntervalMs, TimeUnit.SECONDS.toMillis(_leaseSeconds),
+        TimeUnit.SECONDS.toMillis(_publishTimeoutSeconds));
+  }
+}
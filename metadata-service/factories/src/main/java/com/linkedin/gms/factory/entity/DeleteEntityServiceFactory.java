@@ -1,18 +1,22 @@
 package com.linkedin.gms.factory.entity;
 
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.DeleteEntityService;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
 
 @Configuration
 @Import({EntityServiceFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class DeleteEntityServiceFactory {
   @Autowired
   @Qualifier("entityService")
@@ -22,10 +26,16 @@ public class DeleteEntityServiceFactory {
   @Qualifier("graphService")
   private GraphService _graphService;
 
+  @Value("${entityService.deleteReferences.async:false}")
+  private boolean _async;
+
+  @Value("${entityService.deleteReferences.batchSize:100}")
+  private int _batchSize;
+
   @Bean(name = "deleteEntityService")
   @DependsOn({"entityService"})
   @Nonnull
   protected DeleteEntityService createDeleteEntityService() {
-    return new DeleteEntityService(_entityService, _graphService);
+    return new DeleteEntityService(_entityService, _graphService, _async, _batchSize);
   }
 }
@@ -2,9 +2,11 @@ package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.AspectStorageCodec;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.EbeanServer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,12 +17,20 @@ import javax.annotation.Nonnull;
 @Configuration
 public class EntityAspectDaoFactory {
 
+  @Value("${entityService.storage.format:json}")
+  private String _storageFormat;
+
+  @Value("${entityService.storage.minCompressionBytes:4096}")
+  private Integer _minCompressionBytes;
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
   @Nonnull
   protected AspectDao createEbeanInstance(EbeanServer server) {
-    return new EbeanAspectDao(server);
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(server);
+    aspectDao.setStorageCodec(storageCodec());
+    return aspectDao;
   }
 
   @Bean(name = "entityAspectDao")
@@ -28,6 +38,12 @@ public class EntityAspectDaoFactory {
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
   protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+    final CassandraAspectDao aspectDao = new CassandraAspectDao(session);
+    aspectDao.setStorageCodec(storageCodec());
+    return aspectDao;
+  }
+
+  private AspectStorageCodec storageCodec() {
+    return new AspectStorageCodec(AspectStorageCodec.Format.fromString(_storageFormat), _minCompressionBytes);
   }
 }
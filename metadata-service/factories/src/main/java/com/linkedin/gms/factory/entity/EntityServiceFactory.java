@@ -1,25 +1,39 @@
 package com.linkedin.gms.factory.entity;
 
 import com.linkedin.gms.factory.common.TopicConventionFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.dao.producer.KafkaEventProducer;
 import com.linkedin.metadata.dao.producer.KafkaHealthChecker;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityExistenceCache;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.TopicConvention;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityServiceFactory {
 
+  @Value("${entityService.existenceCache.enabled:false}")
+  private Boolean _existenceCacheEnabled;
+
+  @Value("${entityService.existenceCache.ttlSeconds:60}")
+  private Long _existenceCacheTtlSeconds;
+
+  @Value("${entityService.existenceCache.maxSize:100000}")
+  private Long _existenceCacheMaxSize;
+
   @Bean(name = "entityService")
   @DependsOn({"entityAspectDao", "kafkaEventProducer", "kafkaHealthChecker",
           TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry"})
@@ -32,6 +46,10 @@ public class EntityServiceFactory {
       EntityRegistry entityRegistry) {
 
     final KafkaEventProducer eventProducer = new KafkaEventProducer(producer, convention, kafkaHealthChecker);
-    return new EntityService(aspectDao, eventProducer, entityRegistry);
+    final EntityService entityService = new EntityService(aspectDao, eventProducer, entityRegistry);
+    if (_existenceCacheEnabled) {
+      entityService.setExistenceCache(new EntityExistenceCache(_existenceCacheTtlSeconds, _existenceCacheMaxSize));
+    }
+    return entityService;
   }
 }
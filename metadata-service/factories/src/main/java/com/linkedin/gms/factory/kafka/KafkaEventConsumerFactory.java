@@ -95,14 +95,40 @@ public class KafkaEventConsumerFactory {
           @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> defaultKafkaConsumerFactory,
           @Qualifier("kafkaEventConsumerConcurrency") int concurrency) {
 
+    KafkaListenerContainerFactory<?> factory = buildFactory(defaultKafkaConsumerFactory, concurrency, false);
+
+    log.info(String.format("Event-based KafkaListenerContainerFactory built successfully. Consumers = %s",
+            concurrency));
+
+    return factory;
+  }
+
+  /**
+   * Same as kafkaEventConsumer, but hands all the records of a poll to the listener at once
+   */
+  @Bean(name = "kafkaEventBatchConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(
+          @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> defaultKafkaConsumerFactory,
+          @Qualifier("kafkaEventConsumerConcurrency") int concurrency) {
+
+    KafkaListenerContainerFactory<?> factory = buildFactory(defaultKafkaConsumerFactory, concurrency, true);
+
+    log.info(String.format("Event-based batch KafkaListenerContainerFactory built successfully. Consumers = %s",
+            concurrency));
+
+    return factory;
+  }
+
+  private KafkaListenerContainerFactory<?> buildFactory(
+          DefaultKafkaConsumerFactory<String, GenericRecord> defaultKafkaConsumerFactory, int concurrency,
+          boolean batchListener) {
+
     ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(defaultKafkaConsumerFactory);
     factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
     factory.setConcurrency(concurrency);
-
-    log.info(String.format("Event-based KafkaListenerContainerFactory built successfully. Consumers = %s",
-            concurrency));
+    factory.setBatchListener(batchListener);
 
     return factory;
   }
@@ -25,6 +25,22 @@ public class SimpleKafkaConsumerFactory {
 
   @Bean(name = "simpleKafkaConsumer")
   protected KafkaListenerContainerFactory<?> createInstance(KafkaProperties properties) {
+    KafkaListenerContainerFactory<?> factory = buildFactory(properties, false);
+    log.info("Simple KafkaListenerContainerFactory built successfully");
+    return factory;
+  }
+
+  /**
+   * Same as simpleKafkaConsumer, but hands all the records of a poll to the listener at once
+   */
+  @Bean(name = "simpleBatchKafkaConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(KafkaProperties properties) {
+    KafkaListenerContainerFactory<?> factory = buildFactory(properties, true);
+    log.info("Simple batch KafkaListenerContainerFactory built successfully");
+    return factory;
+  }
+
+  private KafkaListenerContainerFactory<?> buildFactory(KafkaProperties properties, boolean batchListener) {
 
     KafkaProperties.Consumer consumerProps = properties.getConsumer();
 
@@ -44,8 +60,7 @@ public class SimpleKafkaConsumerFactory {
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
     factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties.buildConsumerProperties()));
-
-    log.info("Simple KafkaListenerContainerFactory built successfully");
+    factory.setBatchListener(batchListener);
 
     return factory;
   }
@@ -7,21 +7,26 @@ import com.linkedin.gms.factory.recommendation.candidatesource.RecentlyEditedCan
 import com.linkedin.gms.factory.recommendation.candidatesource.TopPlatformsCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.TopTagsCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.TopTermsCandidateSourceFactory;
+import com.linkedin.metadata.recommendation.RecommendationModuleCache;
 import com.linkedin.metadata.recommendation.RecommendationsService;
 import com.linkedin.metadata.recommendation.candidatesource.DomainsCandidateSource;
 import com.linkedin.metadata.recommendation.candidatesource.MostPopularSource;
 import com.linkedin.metadata.recommendation.candidatesource.RecentlySearchedSource;
 import com.linkedin.metadata.recommendation.candidatesource.RecentlyViewedSource;
 import com.linkedin.metadata.recommendation.candidatesource.RecentlyEditedSource;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationCacheScope;
 import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource;
 import com.linkedin.metadata.recommendation.candidatesource.TopPlatformsSource;
 import com.linkedin.metadata.recommendation.candidatesource.TopTagsSource;
 import com.linkedin.metadata.recommendation.candidatesource.TopTermsSource;
 import com.linkedin.metadata.recommendation.ranker.SimpleRecommendationRanker;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -64,6 +69,27 @@ public class RecommendationServiceFactory {
   @Qualifier("recentlySearchedCandidateSource")
   private RecentlySearchedSource recentlySearchedCandidateSource;
 
+  @Value("${recommendationService.cache.enabled:true}")
+  private boolean cacheEnabled;
+
+  @Value("${recommendationService.cache.ttlSeconds:300}")
+  private long cacheTtlSeconds;
+
+  @Value("${recommendationService.cache.maxStalenessSeconds:3600}")
+  private long cacheMaxStalenessSeconds;
+
+  @Value("${recommendationService.cache.maxSize:10000}")
+  private long cacheMaxSize;
+
+  @Value("${recommendationService.cache.refreshThreads:2}")
+  private int cacheRefreshThreads;
+
+  @Value("${recommendationService.cache.refreshQueueSize:1000}")
+  private int cacheRefreshQueueSize;
+
+  @Value("${recommendationService.cache.scopeOverrides:}")
+  private String cacheScopeOverrides;
+
   @Bean
   @Nonnull
   protected RecommendationsService getInstance() {
@@ -74,6 +100,26 @@ public class RecommendationServiceFactory {
         domainsCandidateSource,
         recentlyViewedCandidateSource, recentlyEditedCandidateSource, _mostPopularCandidateSource,
         topTagsCandidateSource, topTermsCandidateSource, recentlySearchedCandidateSource);
-    return new RecommendationsService(candidateSources, new SimpleRecommendationRanker());
+    final RecommendationModuleCache moduleCache = cacheEnabled
+        ? new RecommendationModuleCache(cacheTtlSeconds, cacheMaxStalenessSeconds, cacheMaxSize, cacheRefreshThreads,
+            cacheRefreshQueueSize, parseScopeOverrides(cacheScopeOverrides))
+        : null;
+    return new RecommendationsService(candidateSources, new SimpleRecommendationRanker(), moduleCache);
+  }
+
+  private static Map<String, RecommendationCacheScope> parseScopeOverrides(@Nonnull String scopeOverrides) {
+    final Map<String, RecommendationCacheScope> result = new HashMap<>();
+    for (String override : scopeOverrides.split(",")) {
+      if (override.trim().isEmpty()) {
+        continue;
+      }
+      final String[] parts = override.split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(
+            String.format("Invalid recommendation cache scope override %s, expected moduleId:scope", override));
+      }
+      result.put(parts[0].trim(), RecommendationCacheScope.valueOf(parts[1].trim().toUpperCase()));
+    }
+    return result;
   }
 }
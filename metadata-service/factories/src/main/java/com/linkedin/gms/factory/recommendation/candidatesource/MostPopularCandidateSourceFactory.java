@@ -1,8 +1,10 @@
 package com.linkedin.gms.factory.recommendation.candidatesource;
 
+import com.linkedin.gms.factory.common.DataHubUsageAggregatesServiceFactory;
 import com.linkedin.gms.factory.common.IndexConventionFactory;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
 import com.linkedin.gms.factory.entity.EntityServiceFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.recommendation.candidatesource.MostPopularSource;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
@@ -10,13 +12,15 @@ import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityServiceFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityServiceFactory.class,
+    DataHubUsageAggregatesServiceFactory.class})
 public class MostPopularCandidateSourceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -26,6 +30,13 @@ public class MostPopularCandidateSourceFactory {
   @Qualifier(IndexConventionFactory.INDEX_CONVENTION_BEAN)
   private IndexConvention indexConvention;
 
+  @Autowired
+  @Qualifier("dataHubUsageAggregatesService")
+  private DataHubUsageAggregatesService usageAggregatesService;
+
+  @Value("${usageAggregates.serveRecommendations:false}")
+  private Boolean serveFromAggregates;
+
   @Autowired
   @Qualifier("entityService")
   private EntityService entityService;
@@ -33,6 +44,7 @@ public class MostPopularCandidateSourceFactory {
   @Bean(name = "mostPopularCandidateSource")
   @Nonnull
   protected MostPopularSource getInstance() {
-    return new MostPopularSource(searchClient, indexConvention, entityService);
+    return new MostPopularSource(searchClient, indexConvention, entityService,
+        serveFromAggregates ? usageAggregatesService : null);
   }
 }
@@ -1,20 +1,23 @@
 package com.linkedin.gms.factory.recommendation.candidatesource;
 
+import com.linkedin.gms.factory.common.DataHubUsageAggregatesServiceFactory;
 import com.linkedin.gms.factory.common.IndexConventionFactory;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.recommendation.candidatesource.RecentlySearchedSource;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, DataHubUsageAggregatesServiceFactory.class})
 public class RecentlySearchedCandidateSourceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -24,9 +27,17 @@ public class RecentlySearchedCandidateSourceFactory {
   @Qualifier(IndexConventionFactory.INDEX_CONVENTION_BEAN)
   private IndexConvention indexConvention;
 
+  @Autowired
+  @Qualifier("dataHubUsageAggregatesService")
+  private DataHubUsageAggregatesService usageAggregatesService;
+
+  @Value("${usageAggregates.serveRecommendations:false}")
+  private Boolean serveFromAggregates;
+
   @Bean(name = "recentlySearchedCandidateSource")
   @Nonnull
   protected RecentlySearchedSource getInstance() {
-    return new RecentlySearchedSource(searchClient, indexConvention);
+    return new RecentlySearchedSource(searchClient, indexConvention,
+        serveFromAggregates ? usageAggregatesService : null);
   }
 }
@@ -1,8 +1,10 @@
 package com.linkedin.gms.factory.recommendation.candidatesource;
 
+import com.linkedin.gms.factory.common.DataHubUsageAggregatesServiceFactory;
 import com.linkedin.gms.factory.common.IndexConventionFactory;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
 import com.linkedin.gms.factory.entity.EntityServiceFactory;
+import com.linkedin.metadata.datahubusage.DataHubUsageAggregatesService;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.recommendation.candidatesource.RecentlyViewedSource;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
@@ -10,13 +12,15 @@ import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityServiceFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityServiceFactory.class,
+    DataHubUsageAggregatesServiceFactory.class})
 public class RecentlyViewedCandidateSourceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -26,6 +30,13 @@ public class RecentlyViewedCandidateSourceFactory {
   @Qualifier(IndexConventionFactory.INDEX_CONVENTION_BEAN)
   private IndexConvention indexConvention;
 
+  @Autowired
+  @Qualifier("dataHubUsageAggregatesService")
+  private DataHubUsageAggregatesService usageAggregatesService;
+
+  @Value("${usageAggregates.serveRecommendations:false}")
+  private Boolean serveFromAggregates;
+
   @Autowired
   @Qualifier("entityService")
   private EntityService entityService;
@@ -33,6 +44,7 @@ public class RecentlyViewedCandidateSourceFactory {
   @Bean(name = "recentlyViewedCandidateSource")
   @Nonnull
   protected RecentlyViewedSource getInstance() {
-    return new RecentlyViewedSource(searchClient, indexConvention, entityService);
+    return new RecentlyViewedSource(searchClient, indexConvention, entityService,
+        serveFromAggregates ? usageAggregatesService : null);
   }
 }
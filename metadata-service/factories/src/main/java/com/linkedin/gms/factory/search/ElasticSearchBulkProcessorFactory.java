@@ -8,6 +8,7 @@ import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +39,9 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.retryInterval}")
   private Long retryInterval;
 
+  @Value("${elasticsearch.bulkProcessor.writeBlockTimeoutSeconds:300}")
+  private Long writeBlockTimeoutSeconds;
+
   @Value("#{new Boolean('${elasticsearch.bulkProcessor.async}')}")
   private boolean async;
 
@@ -53,6 +57,7 @@ public class ElasticSearchBulkProcessorFactory {
             .bulkRequestsLimit(bulkRequestsLimit)
             .retryInterval(retryInterval)
             .numRetries(numRetries)
+            .writeBlockTimeout(TimeValue.timeValueSeconds(writeBlockTimeoutSeconds))
             .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
             .build();
   }
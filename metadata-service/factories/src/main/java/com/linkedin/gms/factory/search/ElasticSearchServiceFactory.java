@@ -4,6 +4,8 @@ import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.elasticsearch.autocomplete.ESAutocompleteDAO;
+import com.linkedin.metadata.search.elasticsearch.browse.ESBrowseTreeDAO;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.SettingsBuilder;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
@@ -12,6 +14,7 @@ import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -34,16 +37,33 @@ public class ElasticSearchServiceFactory {
   @Qualifier("settingsBuilder")
   private SettingsBuilder settingsBuilder;
 
+  @Value("${searchService.browseTree.enabled:false}")
+  private Boolean browseTreeEnabled;
+
+  @Value("${searchService.autocompleteIndex.enabled:false}")
+  private Boolean autocompleteIndexEnabled;
+
   @Bean(name = "elasticSearchService")
   @Nonnull
   protected ElasticSearchService getInstance() {
     ESSearchDAO esSearchDAO =
         new ESSearchDAO(entityRegistry, components.getSearchClient(), components.getIndexConvention());
+    ESBrowseTreeDAO esBrowseTreeDAO = browseTreeEnabled
+        ? new ESBrowseTreeDAO(components.getSearchClient(), components.getBulkProcessor(),
+            components.getIndexConvention(), components.getIndexBuilder(), entityRegistry, components.getNumRetries())
+        : null;
+    ESAutocompleteDAO esAutocompleteDAO = autocompleteIndexEnabled
+        ? new ESAutocompleteDAO(components.getSearchClient(), components.getBulkProcessor(),
+            components.getIndexConvention(), components.getIndexBuilder(), entityRegistry, components.getNumRetries())
+        : null;
     return new ElasticSearchService(
         new EntityIndexBuilders(components.getIndexBuilder(), entityRegistry, components.getIndexConvention(),
             settingsBuilder), esSearchDAO,
-        new ESBrowseDAO(entityRegistry, components.getSearchClient(), components.getIndexConvention()),
+        new ESBrowseDAO(entityRegistry, components.getSearchClient(), components.getIndexConvention(),
+            esBrowseTreeDAO),
         new ESWriteDAO(entityRegistry, components.getSearchClient(), components.getIndexConvention(),
-            components.getBulkProcessor(), components.getNumRetries()));
+            components.getBulkProcessor(), components.getNumRetries()),
+        esBrowseTreeDAO,
+        esAutocompleteDAO);
   }
 }
@@ -6,9 +6,15 @@ import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -27,11 +33,41 @@ public class ElasticSearchTimeseriesAspectServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
+  @Value("${timeseriesService.rollups.enabled:false}")
+  private Boolean rollupsEnabled;
+
+  @Value("${timeseriesService.rollups.aspects:}")
+  private String rolledUpAspects;
+
+  @Value("${timeseriesService.rollups.serveQueries:false}")
+  private Boolean serveQueriesFromRollups;
+
+  @Value("${timeseriesService.rollups.downsampledAspects:}")
+  private String downsampledAspects;
+
+  @Value("${timeseriesService.rollups.rawRetentionDays:0}")
+  private Integer rawRetentionDays;
+
+  @Bean(name = "timeseriesRollupDAO")
+  @Nonnull
+  protected ESTimeseriesRollupDAO getRollupDAO() {
+    return new ESTimeseriesRollupDAO(components.getSearchClient(), components.getIndexConvention(),
+        components.getIndexBuilder(), components.getBulkProcessor(), entityRegistry, components.getNumRetries(),
+        toAspectList(rolledUpAspects), serveQueriesFromRollups, toAspectList(downsampledAspects),
+        TimeUnit.DAYS.toMillis(rawRetentionDays));
+  }
+
+  private static List<String> toAspectList(String aspects) {
+    return Arrays.stream(aspects.split(",")).map(String::trim).filter(aspect -> !aspect.isEmpty())
+        .collect(Collectors.toList());
+  }
+
   @Bean(name = "elasticSearchTimeseriesAspectService")
   @Nonnull
   protected ElasticSearchTimeseriesAspectService getInstance() {
     return new ElasticSearchTimeseriesAspectService(components.getSearchClient(), components.getIndexConvention(),
         new TimeseriesAspectIndexBuilders(components.getIndexBuilder(), entityRegistry,
-            components.getIndexConvention()), entityRegistry, components.getBulkProcessor(), components.getNumRetries());
+            components.getIndexConvention()), entityRegistry, components.getBulkProcessor(), components.getNumRetries(),
+        rollupsEnabled ? getRollupDAO() : null);
   }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.linkedin.gms.factory.timeseries;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.RollupDownsampler;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({ElasticSearchTimeseriesAspectServiceFactory.class})
+public class RollupDownsamplerFactory {
+
+  @Value("${timeseriesService.rollups.downsampleIntervalHours:24}")
+  private Integer downsampleIntervalHours;
+
+  @Bean(name = "timeseriesRollupDownsampler", initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty("timeseriesService.rollups.enabled")
+  @Nonnull
+  protected RollupDownsampler getInstance(@Qualifier("timeseriesRollupDAO") ESTimeseriesRollupDAO rollupDAO) {
+    return new RollupDownsampler(rollupDAO, TimeUnit.HOURS.toMillis(downsampleIntervalHours));
+  }
+}
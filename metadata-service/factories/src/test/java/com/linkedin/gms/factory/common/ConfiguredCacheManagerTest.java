@@ -0,0 +1,88 @@
+package com.linkedin.gms.factory.common;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.linkedin.metadata.config.CacheConfiguration;
+import com.linkedin.metadata.config.CachePolicyConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import org.springframework.cache.Cache;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ConfiguredCacheManagerTest {
+
+  @Test
+  public void testPerCachePolicyOverridesDefaults() {
+    CacheConfiguration configuration = new CacheConfiguration();
+    CachePolicyConfiguration overrides = new CachePolicyConfiguration();
+    overrides.setMaxWeightBytes(3L * 1024 * 1024 + 1);
+    overrides.setTtlSeconds(30);
+    configuration.getCaches().put("lineage", overrides);
+
+    CachePolicyConfiguration policy = configuration.getPolicy("lineage");
+    assertEquals(policy.getMaxWeightBytes(), Long.valueOf(3L * 1024 * 1024 + 1));
+    assertEquals(policy.getTtlSeconds(), Integer.valueOf(30));
+    assertEquals(policy.getMaxSize(), Long.valueOf(10000));
+    assertEquals(policy.getMaxIdleSeconds(), Integer.valueOf(600));
+
+    MapConfig mapConfig = CacheConfig.mapConfig("lineage", policy);
+    assertEquals(mapConfig.getEvictionConfig().getMaxSizePolicy(), MaxSizePolicy.USED_HEAP_SIZE);
+    assertEquals(mapConfig.getEvictionConfig().getSize(), 4);
+    assertEquals(mapConfig.getTimeToLiveSeconds(), 30);
+    assertEquals(mapConfig.getMaxIdleSeconds(), 600);
+
+    MapConfig defaultMapConfig = CacheConfig.mapConfig("default", configuration.getPolicy("default"));
+    assertEquals(defaultMapConfig.getEvictionConfig().getMaxSizePolicy(), MaxSizePolicy.PER_NODE);
+    assertEquals(defaultMapConfig.getEvictionConfig().getSize(), 10000);
+  }
+
+  @Test
+  public void testWeightBoundedCacheEvictsAndCountsHits() {
+    CacheConfiguration configuration = new CacheConfiguration();
+    CachePolicyConfiguration overrides = new CachePolicyConfiguration();
+    overrides.setMaxWeightBytes(10_000L);
+    configuration.getCaches().put("weighted", overrides);
+
+    ConfiguredCacheManager cacheManager = new ConfiguredCacheManager(configuration, null);
+    Cache cache = cacheManager.getCache("weighted");
+    assertSame(cacheManager.getCache("weighted"), cache);
+
+    String value = "x".repeat(1000);
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, value);
+    }
+    ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+
+    long cached = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.get(i, String.class) != null) {
+        cached++;
+      }
+    }
+    assertTrue(cached > 0 && cached <= 10, "Expected the weight budget to hold a few entries, got " + cached);
+    assertEquals(MetricUtils.counter(InstrumentedCache.class, "weighted_hit").getCount(), cached);
+    assertEquals(MetricUtils.counter(InstrumentedCache.class, "weighted_miss").getCount(), 100 - cached);
+  }
+
+  @Test
+  public void testRefreshAfterWriteServesStaleValueWhileReloading() throws Exception {
+    CacheConfiguration configuration = new CacheConfiguration();
+    CachePolicyConfiguration overrides = new CachePolicyConfiguration();
+    overrides.setRefreshAfterWriteSeconds(1);
+    configuration.getCaches().put("refreshing", overrides);
+
+    Cache cache = new ConfiguredCacheManager(configuration, null).getCache("refreshing");
+    assertEquals(cache.get("key", () -> "v1"), "v1");
+    assertEquals(cache.get("key", () -> "v2"), "v1");
+
+    Thread.sleep(1100);
+    // the stale value is served while the new one is loaded in the background
+    assertEquals(cache.get("key", () -> "v2"), "v1");
+    for (int i = 0; i < 50 && !"v2".equals(cache.get("key", String.class)); i++) {
+      Thread.sleep(20);
+    }
+    assertEquals(cache.get("key", String.class), "v2");
+  }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.datahub.graphql.GraphQLEngine;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLError;
+import com.linkedin.metadata.utils.concurrent.Deadline;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import graphql.ExecutionResult;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,6 +48,9 @@ public class GraphQLController {
   @Inject
   AuthorizerChain _authorizerChain;
 
+  @Value("${requestDeadlines.graphQLSeconds:60}")
+  long _deadlineSeconds;
+
   @PostMapping(value = "/graphql", produces = "application/json;charset=utf-8")
   CompletableFuture<ResponseEntity<String>> postGraphQL(HttpEntity<String> httpEntity) {
 
@@ -90,11 +95,20 @@ public class GraphQLController {
         authentication,
         _authorizerChain);
 
+    /*
+     * Start the clock when the request arrives, work fanned out by resolvers is cancelled once it runs out
+     */
+    final Optional<Deadline> deadline = _deadlineSeconds > 0
+        ? Optional.of(Deadline.after(_deadlineSeconds, TimeUnit.SECONDS))
+        : Optional.empty();
+
     return CompletableFuture.supplyAsync(() -> {
       /*
        * Execute GraphQL Query
        */
-      ExecutionResult executionResult = _engine.execute(queryJson.asText(), variables, context);
+      ExecutionResult executionResult = deadline
+          .map(value -> value.call(() -> _engine.execute(queryJson.asText(), variables, context)))
+          .orElseGet(() -> _engine.execute(queryJson.asText(), variables, context));
 
       if (executionResult.getErrors().size() != 0) {
         // There were GraphQL errors. Report in error logs.
@@ -0,0 +1,19 @@
+package io.datahubproject.openapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+
+/**
+ * Outcome of a single proposal of a batch ingest request
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestProposalResultDto {
+  String urn;
+  boolean success;
+  Boolean didUpdate;
+  String error;
+}
@@ -1,20 +1,40 @@
 package io.datahubproject.openapi.platform.entities;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.Authentication;
 import com.datahub.authentication.AuthenticationContext;
+import com.datahub.util.RecordUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.metadata.entity.AspectUtils;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.util.Pair;
+import io.datahubproject.openapi.dto.IngestProposalResultDto;
 import io.datahubproject.openapi.generated.MetadataChangeProposal;
 import io.datahubproject.openapi.util.MappingUtil;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.propertyeditors.StringArrayPropertyEditor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,8 +42,10 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpClientErrorException;
 
 
 @RestController
@@ -33,6 +55,12 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Platform Entities", description = "Platform level APIs intended for lower level access to entities")
 public class PlatformEntitiesController {
 
+  private static final String PROPOSALS_FIELD = "proposals";
+  private static final JacksonDataCodec DATA_CODEC = new JacksonDataCodec();
+  // Upper bound of a gzip compressed batch once decompressed, far above the batches emitters send (4MB by default)
+  // while keeping a small compressed body from expanding without limit in memory
+  private static final long MAX_DECOMPRESSED_BYTES = 64L * 1024 * 1024;
+
   private final EntityService _entityService;
   private final ObjectMapper _objectMapper;
 
@@ -59,4 +87,132 @@ public class PlatformEntitiesController {
       return ResponseEntity.ok(Collections.emptyList());
     }
   }
+
+  /**
+   * Ingests a batch of proposals serialized the same way as for the Rest.li ingestProposal action, i.e.
+   * {"proposals": [proposal, ...]}, optionally gzip compressed. Each proposal is ingested on its own: the result of
+   * each one is returned in the order of the request, so that callers can retry the ones that failed.
+   */
+  @PostMapping(value = "/batchIngest", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<IngestProposalResultDto>> batchIngestProposals(
+      @Parameter(name = "Content-Encoding", description = "gzip if the body is compressed")
+      @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) @Nullable String contentEncoding,
+      @RequestBody @Nonnull byte[] body) {
+    Timer.Context context = MetricUtils.timer("batchIngestProposals").time();
+    try {
+      final DataList proposals = readProposals(body, contentEncoding);
+      log.info("BATCH INGEST {} proposals", proposals.size());
+
+      Authentication authentication = AuthenticationContext.getAuthentication();
+      final AuditStamp auditStamp = new AuditStamp().setTime(System.currentTimeMillis())
+          .setActor(UrnUtils.getUrn(authentication.getActor().toUrnStr()));
+
+      final List<IngestProposalResultDto> results = new ArrayList<>(proposals.size());
+      for (Object proposal : proposals) {
+        results.add(ingestProposal(proposal, auditStamp));
+      }
+      return ResponseEntity.ok(results);
+    } finally {
+      context.stop();
+    }
+  }
+
+  @Nonnull
+  private static DataList readProposals(@Nonnull byte[] body, @Nullable String contentEncoding) {
+    try (InputStream in = "gzip".equalsIgnoreCase(contentEncoding)
+        ? new BoundedInputStream(new GZIPInputStream(new ByteArrayInputStream(body)), MAX_DECOMPRESSED_BYTES)
+        : new ByteArrayInputStream(body)) {
+      final Object proposals = DATA_CODEC.readMap(in).get(PROPOSALS_FIELD);
+      if (!(proposals instanceof DataList)) {
+        throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST,
+            String.format("Request body is missing a '%s' array", PROPOSALS_FIELD), null, null, null);
+      }
+      return (DataList) proposals;
+    } catch (PayloadTooLargeException e) {
+      throw HttpClientErrorException.create(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), null, null, null);
+    } catch (IOException e) {
+      throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Unable to read proposals: " + e.getMessage(),
+          null, null, null);
+    }
+  }
+
+  @Nonnull
+  private IngestProposalResultDto ingestProposal(@Nonnull Object proposal, @Nonnull AuditStamp auditStamp) {
+    try {
+      if (!(proposal instanceof DataMap)) {
+        throw new IllegalArgumentException("Proposal is not an object");
+      }
+      final com.linkedin.mxe.MetadataChangeProposal serviceProposal =
+          RecordUtils.toRecordTemplate(com.linkedin.mxe.MetadataChangeProposal.class, (DataMap) proposal);
+      final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
+          AspectUtils.getAdditionalChanges(serviceProposal, _entityService);
+      final EntityService.IngestProposalResult result =
+          _entityService.ingestProposal(serviceProposal, auditStamp, false);
+      additionalChanges.forEach(change -> _entityService.ingestProposal(change, auditStamp, false));
+      MetricUtils.counter(MetricRegistry.name("batchIngestProposals", "success")).inc();
+      return IngestProposalResultDto.builder()
+          .urn(result.getUrn().toString())
+          .success(true)
+          .didUpdate(result.isDidUpdate())
+          .build();
+    } catch (Exception e) {
+      log.warn("Failed to ingest proposal of batch", e);
+      MetricUtils.counter(MetricRegistry.name("batchIngestProposals", "failed")).inc();
+      return IngestProposalResultDto.builder()
+          .success(false)
+          .error(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName())
+          .build();
+    }
+  }
+
+  private static class PayloadTooLargeException extends IOException {
+    PayloadTooLargeException(long maxBytes) {
+      super(String.format("Decompressed request body exceeds %d bytes", maxBytes));
+    }
+  }
+
+  /**
+   * Fails reads past a maximum number of bytes
+   */
+  private static class BoundedInputStream extends FilterInputStream {
+    private final long _maxBytes;
+    private long _read = 0;
+
+    BoundedInputStream(@Nonnull InputStream in, long maxBytes) {
+      super(in);
+      _maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = super.read();
+      if (b >= 0) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(@Nonnull byte[] b, int off, int len) throws IOException {
+      final int n = super.read(b, off, len);
+      if (n > 0) {
+        count(n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      final long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    private void count(long n) throws PayloadTooLargeException {
+      _read += n;
+      if (_read > _maxBytes) {
+        throw new PayloadTooLargeException(_maxBytes);
+      }
+    }
+  }
 }
@@ -2,7 +2,7 @@ package com.linkedin.metadata.resources.analytics;
 
 import com.linkedin.analytics.GetTimeseriesAggregatedStatsResponse;
 import com.linkedin.metadata.query.filter.Filter;
-import com.linkedin.metadata.resources.restli.RestliUtils;
+import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.server.annotations.Action;
@@ -15,6 +15,7 @@ import com.linkedin.timeseries.AggregationSpecArray;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import com.linkedin.timeseries.GroupingBucketArray;
+import java.time.Duration;
 import java.util.Arrays;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -39,6 +40,10 @@ public class Analytics extends SimpleResourceTemplate<GetTimeseriesAggregatedSta
   @Named("timeseriesAspectService")
   private TimeseriesAspectService _timeseriesAspectService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   @Action(name = ACTION_GET_TIMESERIES_STATS)
   @Nonnull
   public Task<GetTimeseriesAggregatedStatsResponse> getTimeseriesStats(
@@ -47,7 +52,7 @@ public class Analytics extends SimpleResourceTemplate<GetTimeseriesAggregatedSta
       @ActionParam(PARAM_METRICS) @Nonnull AggregationSpec[] aggregationSpecs,
       @ActionParam(PARAM_FILTER) @Optional @Nullable Filter filter,
       @ActionParam(PARAM_BUCKETS) @Optional @Nullable GroupingBucket[] groupingBuckets) {
-    return RestliUtils.toTask(() -> {
+    return RestliUtil.toTask(() -> {
       log.info("Attempting to query timeseries stats");
       GetTimeseriesAggregatedStatsResponse resp = new GetTimeseriesAggregatedStatsResponse();
       resp.setEntityName(entityName);
@@ -65,6 +70,6 @@ public class Analytics extends SimpleResourceTemplate<GetTimeseriesAggregatedSta
               groupingBuckets);
       resp.setTable(aggregatedStatsTable);
       return resp;
-    });
+    }, _requestTimeout);
   }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -83,6 +84,10 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
   @Named("timeseriesAspectService")
   private TimeseriesAspectService _timeseriesAspectService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   /**
    * Retrieves the value for an entity that is made up of latest versions of specified aspects.
    * TODO: Get rid of this and migrate to getAspect.
@@ -100,7 +105,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
         throw RestliUtil.resourceNotFoundException(String.format("Did not find urn: %s aspect: %s version: %s", urn, aspectName, version));
       }
       return new AnyRecord(aspect.data());
-    }, MetricRegistry.name(this.getClass(), "get"));
+    }, MetricRegistry.name(this.getClass(), "get"), _requestTimeout);
   }
 
   @Action(name = ACTION_GET_TIMESERIES_ASPECT)
@@ -133,7 +138,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
           _timeseriesAspectService.getAspectValues(urn, entityName, aspectName, startTimeMillis, endTimeMillis, limit,
               latestValue, filter)));
       return response;
-    }, MetricRegistry.name(this.getClass(), "getTimeseriesAspectValues"));
+    }, MetricRegistry.name(this.getClass(), "getTimeseriesAspectValues"), _requestTimeout);
   }
 
   @Action(name = ACTION_INGEST_PROPOSAL)
@@ -171,7 +176,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
       } catch (ValidationException e) {
         throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
       }
-    }, MetricRegistry.name(this.getClass(), "ingestProposal"));
+    }, MetricRegistry.name(this.getClass(), "ingestProposal"), _requestTimeout);
   }
 
   @Action(name = ACTION_GET_COUNT)
@@ -181,7 +186,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
                                 @ActionParam(PARAM_URN_LIKE) @Optional @Nullable String urnLike) {
     return RestliUtil.toTask(() -> {
       return _entityService.getCountAspect(aspectName, urnLike);
-    }, MetricRegistry.name(this.getClass(), "getCount"));
+    }, MetricRegistry.name(this.getClass(), "getCount"), _requestTimeout);
   }
 
   @Action(name = ACTION_RESTORE_INDICES)
@@ -204,7 +209,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
       result.put("args", args);
       result.put("result", _entityService.restoreIndices(args, log::info));
       return result.toString();
-    }, MetricRegistry.name(this.getClass(), "restoreIndices"));
+    }, MetricRegistry.name(this.getClass(), "restoreIndices"), _requestTimeout);
   }
 
   private static void tryIndexRunId(final Urn urn, final @Nullable SystemMetadata systemMetadata,
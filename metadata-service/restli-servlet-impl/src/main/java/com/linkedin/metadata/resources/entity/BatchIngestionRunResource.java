@@ -34,6 +34,7 @@ import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import com.linkedin.timeseries.DeleteAspectValuesResult;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +76,10 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
   @Named("timeseriesAspectService")
   private TimeseriesAspectService _timeseriesAspectService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   /**
    * Rolls back an ingestion run
    */
@@ -228,7 +233,7 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
             .setUnsafeEntitiesCount(unsafeEntitiesCount)
             .setUnsafeEntities(new UnsafeEntityInfoArray(unsafeEntityInfos))
             .setAspectRowSummaries(rowSummaries);
-      }, MetricRegistry.name(this.getClass(), "rollback"));
+      }, MetricRegistry.name(this.getClass(), "rollback"), _requestTimeout);
     } catch (Exception e) {
       updateExecutionRequestStatus(runId, ROLLBACK_FAILED_STATUS);
       throw new RuntimeException(String.format("There was an issue rolling back ingestion run with runId %s", runId), e);
@@ -294,7 +299,7 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
               includeSoft != null ? includeSoft : DEFAULT_INCLUDE_SOFT_DELETED);
 
       return new IngestionRunSummaryArray(summaries);
-    }, MetricRegistry.name(this.getClass(), "list"));
+    }, MetricRegistry.name(this.getClass(), "list"), _requestTimeout);
   }
 
   @Action(name = "describe")
@@ -327,6 +332,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
         });
       }
       return new AspectRowSummaryArray(summaries);
-    }, MetricRegistry.name(this.getClass(), "describe"));
+    }, MetricRegistry.name(this.getClass(), "describe"), _requestTimeout);
   }
 }
@@ -57,6 +57,7 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -146,6 +147,10 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   @Named("timeseriesAspectService")
   private TimeseriesAspectService _timeseriesAspectService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   /**
    * Retrieves the value for an entity that is made up of latest versions of specified aspects.
    */
@@ -165,7 +170,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
         throw RestliUtil.resourceNotFoundException(String.format("Did not find %s", urnStr));
       }
       return new AnyRecord(entity.data());
-    }, MetricRegistry.name(this.getClass(), "get"));
+    }, MetricRegistry.name(this.getClass(), "get"), _requestTimeout);
   }
 
   @RestMethod.BatchGet
@@ -186,7 +191,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
           .stream()
           .collect(
               Collectors.toMap(entry -> entry.getKey().toString(), entry -> new AnyRecord(entry.getValue().data())));
-    }, MetricRegistry.name(this.getClass(), "batchGet"));
+    }, MetricRegistry.name(this.getClass(), "batchGet"), _requestTimeout);
   }
 
   private SystemMetadata populateDefaultFieldsIfEmpty(@Nullable SystemMetadata systemMetadata) {
@@ -225,7 +230,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     return RestliUtil.toTask(() -> {
       _entityService.ingestEntity(entity, auditStamp, finalSystemMetadata);
       return null;
-    }, MetricRegistry.name(this.getClass(), "ingest"));
+    }, MetricRegistry.name(this.getClass(), "ingest"), _requestTimeout);
   }
 
   @Action(name = ACTION_BATCH_INGEST)
@@ -261,7 +266,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     return RestliUtil.toTask(() -> {
       _entityService.ingestEntities(Arrays.asList(entities), auditStamp, finalSystemMetadataList);
       return null;
-    }, MetricRegistry.name(this.getClass(), "batchIngest"));
+    }, MetricRegistry.name(this.getClass(), "batchIngest"), _requestTimeout);
   }
 
   @Action(name = ACTION_SEARCH)
@@ -284,7 +289,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
               }
               return validateSearchResult(result, _entityService);
             },
-            MetricRegistry.name(this.getClass(), "search"));
+            MetricRegistry.name(this.getClass(), "search"), _requestTimeout);
   }
 
   @Action(name = ACTION_SEARCH_ACROSS_ENTITIES)
@@ -299,7 +304,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     return RestliUtil.toTask(() -> validateSearchResult(
         _searchService.searchAcrossEntities(entityList, input, filter, sortCriterion, start, count,
                 new SearchFlags().setFulltext(true)),
-        _entityService), "searchAcrossEntities");
+        _entityService), "searchAcrossEntities", _requestTimeout);
   }
 
   @Action(name = ACTION_SEARCH_ACROSS_LINEAGE)
@@ -319,7 +324,8 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
         urnStr, direction, entityList, input);
     return RestliUtil.toTask(() -> validateLineageSearchResult(
         _lineageSearchService.searchAcrossLineage(urn, LineageDirection.valueOf(direction), entityList, input, maxHops,
-            filter, sortCriterion, start, count, null, null), _entityService), "searchAcrossRelationships");
+            filter, sortCriterion, start, count, null, null), _entityService), "searchAcrossRelationships",
+        _requestTimeout);
   }
 
   @Action(name = ACTION_LIST)
@@ -333,7 +339,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     log.info("GET LIST RESULTS for {} with filter {}", entityName, filter);
     return RestliUtil.toTask(() -> validateListResult(
             toListResult(_entitySearchService.filter(entityName, filter, sortCriterion, start, count)), _entityService),
-        MetricRegistry.name(this.getClass(), "filter"));
+        MetricRegistry.name(this.getClass(), "filter"), _requestTimeout);
   }
 
   @Action(name = ACTION_AUTOCOMPLETE)
@@ -344,7 +350,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       @ActionParam(PARAM_FILTER) @Optional @Nullable Filter filter, @ActionParam(PARAM_LIMIT) int limit) {
 
     return RestliUtil.toTask(() -> _entitySearchService.autoComplete(entityName, query, field, filter, limit),
-        MetricRegistry.name(this.getClass(), "autocomplete"));
+        MetricRegistry.name(this.getClass(), "autocomplete"), _requestTimeout);
   }
 
   @Action(name = ACTION_BROWSE)
@@ -357,7 +363,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     log.info("GET BROWSE RESULTS for {} at path {}", entityName, path);
     return RestliUtil.toTask(
         () -> validateBrowseResult(_entitySearchService.browse(entityName, path, filter, start, limit), _entityService),
-        MetricRegistry.name(this.getClass(), "browse"));
+        MetricRegistry.name(this.getClass(), "browse"), _requestTimeout);
   }
 
   @Action(name = ACTION_GET_BROWSE_PATHS)
@@ -367,7 +373,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       @ActionParam(value = PARAM_URN, typeref = com.linkedin.common.Urn.class) @Nonnull Urn urn) {
     log.info("GET BROWSE PATHS for {}", urn);
     return RestliUtil.toTask(() -> new StringArray(_entitySearchService.getBrowsePaths(urnToEntityName(urn), urn)),
-        MetricRegistry.name(this.getClass(), "getBrowsePaths"));
+        MetricRegistry.name(this.getClass(), "getBrowsePaths"), _requestTimeout);
   }
 
   private String stringifyRowCount(int size) {
@@ -421,7 +427,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
         _entityService.rollbackWithConditions(aspectRowsToDelete, conditions, false);
       }
       return response;
-    }, MetricRegistry.name(this.getClass(), "deleteAll"));
+    }, MetricRegistry.name(this.getClass(), "deleteAll"), _requestTimeout);
   }
 
   /**
@@ -465,7 +471,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       response.setTimeseriesRows(numTimeseriesDocsDeleted);
 
       return response;
-    }, MetricRegistry.name(this.getClass(), "delete"));
+    }, MetricRegistry.name(this.getClass(), "delete"), _requestTimeout);
   }
 
   /**
@@ -516,7 +522,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
 
     Urn urn = Urn.createFromString(urnStr);
     return RestliUtil.toTask(() -> _deleteEntityService.deleteReferencesTo(urn, dryRun),
-        MetricRegistry.name(this.getClass(), "deleteReferences"));
+        MetricRegistry.name(this.getClass(), "deleteReferences"), _requestTimeout);
   }
 
   /*
@@ -530,21 +536,22 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     return RestliUtil.toTask(() -> {
       _entityService.setWritable(value);
       return null;
-    });
+    }, _requestTimeout);
   }
 
   @Action(name = "getTotalEntityCount")
   @Nonnull
   @WithSpan
   public Task<Long> getTotalEntityCount(@ActionParam(PARAM_ENTITY) @Nonnull String entityName) {
-    return RestliUtil.toTask(() -> _entitySearchService.docCount(entityName));
+    return RestliUtil.toTask(() -> _entitySearchService.docCount(entityName), _requestTimeout);
   }
 
   @Action(name = "batchGetTotalEntityCount")
   @Nonnull
   @WithSpan
   public Task<LongMap> batchGetTotalEntityCount(@ActionParam(PARAM_ENTITIES) @Nonnull String[] entityNames) {
-    return RestliUtil.toTask(() -> new LongMap(_searchService.docCountPerEntity(Arrays.asList(entityNames))));
+    return RestliUtil.toTask(() -> new LongMap(_searchService.docCountPerEntity(Arrays.asList(entityNames))),
+        _requestTimeout);
   }
 
   @Action(name = ACTION_LIST_URNS)
@@ -553,7 +560,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   public Task<ListUrnsResult> listUrns(@ActionParam(PARAM_ENTITY) @Nonnull String entityName,
       @ActionParam(PARAM_START) int start, @ActionParam(PARAM_COUNT) int count) throws URISyntaxException {
     log.info("LIST URNS for {} with start {} and count {}", entityName, start, count);
-    return RestliUtil.toTask(() -> _entityService.listUrns(entityName, start, count), "listUrns");
+    return RestliUtil.toTask(() -> _entityService.listUrns(entityName, start, count), "listUrns", _requestTimeout);
   }
 
   @Action(name = ACTION_APPLY_RETENTION)
@@ -566,7 +573,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
                                      @ActionParam(PARAM_URN) @Optional @Nullable String urn
                                      ) {
     return RestliUtil.toTask(() -> _entityService.batchApplyRetention(
-            start, count, attemptWithVersion, aspectName, urn), ACTION_APPLY_RETENTION);
+            start, count, attemptWithVersion, aspectName, urn), ACTION_APPLY_RETENTION, _requestTimeout);
   }
 
   @Action(name = ACTION_FILTER)
@@ -580,7 +587,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     log.info("FILTER RESULTS for {} with filter {}", entityName, filter);
     return RestliUtil.toTask(
         () -> validateSearchResult(_entitySearchService.filter(entityName, filter, sortCriterion, start, count),
-            _entityService), MetricRegistry.name(this.getClass(), "search"));
+            _entityService), MetricRegistry.name(this.getClass(), "search"), _requestTimeout);
   }
 
   @Action(name = ACTION_EXISTS)
@@ -589,6 +596,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   public Task<Boolean> exists(@ActionParam(PARAM_URN) @Nonnull String urnStr) throws URISyntaxException {
     log.info("EXISTS for {}", urnStr);
     Urn urn = Urn.createFromString(urnStr);
-    return RestliUtil.toTask(() -> _entityService.exists(urn), MetricRegistry.name(this.getClass(), "exists"));
+    return RestliUtil.toTask(() -> _entityService.exists(urn), MetricRegistry.name(this.getClass(), "exists"),
+        _requestTimeout);
   }
 }
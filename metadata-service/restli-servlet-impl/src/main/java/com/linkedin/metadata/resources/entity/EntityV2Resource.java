@@ -13,6 +13,7 @@ import com.linkedin.restli.server.annotations.RestMethod;
 import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -40,6 +41,10 @@ public class EntityV2Resource extends CollectionResourceTaskTemplate<String, Ent
   @Named("entityService")
   private EntityService _entityService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   /**
    * Retrieves the value for an entity that is made up of latest versions of specified aspects.
    */
@@ -60,7 +65,7 @@ public class EntityV2Resource extends CollectionResourceTaskTemplate<String, Ent
         throw new RuntimeException(
             String.format("Failed to get entity with urn: %s, aspects: %s", urn, projectedAspects), e);
       }
-    }, MetricRegistry.name(this.getClass(), "get"));
+    }, MetricRegistry.name(this.getClass(), "get"), _requestTimeout);
   }
 
   @RestMethod.BatchGet
@@ -87,6 +92,6 @@ public class EntityV2Resource extends CollectionResourceTaskTemplate<String, Ent
             String.format("Failed to batch get entities with urns: %s, projectedAspects: %s", urns, projectedAspects),
             e);
       }
-    }, MetricRegistry.name(this.getClass(), "batchGet"));
+    }, MetricRegistry.name(this.getClass(), "batchGet"), _requestTimeout);
   }
 }
\ No newline at end of file
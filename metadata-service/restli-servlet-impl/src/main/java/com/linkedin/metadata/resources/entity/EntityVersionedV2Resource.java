@@ -14,6 +14,7 @@ import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.annotations.RestMethod;
 import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -42,6 +43,10 @@ public class EntityVersionedV2Resource extends CollectionResourceTaskTemplate<co
   @Named("entityService")
   private EntityService _entityService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   @RestMethod.BatchGet
   @Nonnull
   @WithSpan
@@ -70,6 +75,6 @@ public class EntityVersionedV2Resource extends CollectionResourceTaskTemplate<co
             String.format("Failed to batch get versioned entities: %s, projectedAspects: %s", versionedUrnStrs, projectedAspects),
             e);
       }
-    }, MetricRegistry.name(this.getClass(), "batchGet"));
+    }, MetricRegistry.name(this.getClass(), "batchGet"), _requestTimeout);
   }
 }
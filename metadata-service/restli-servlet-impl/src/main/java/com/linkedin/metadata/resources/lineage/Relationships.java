@@ -24,6 +24,7 @@ import com.linkedin.restli.server.annotations.RestMethod;
 import com.linkedin.restli.server.resources.SimpleResourceTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -57,6 +58,10 @@ public final class Relationships extends SimpleResourceTemplate<EntityRelationsh
   @Named("graphService")
   private GraphService _graphService;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   public Relationships() {
     super();
   }
@@ -109,7 +114,7 @@ public final class Relationships extends SimpleResourceTemplate<EntityRelationsh
           .setCount(relatedEntitiesResult.getCount())
           .setTotal(relatedEntitiesResult.getTotal())
           .setRelationships(entityArray);
-    }, MetricRegistry.name(this.getClass(), "getLineage"));
+    }, MetricRegistry.name(this.getClass(), "getLineage"), _requestTimeout);
   }
 
   @Nonnull
@@ -131,6 +136,6 @@ public final class Relationships extends SimpleResourceTemplate<EntityRelationsh
     return RestliUtil.toTask(
         () -> _graphService.getLineage(urn, LineageDirection.valueOf(direction), start != null ? start : 0,
             count != null ? count : 100, maxHops != null ? maxHops : 1),
-        MetricRegistry.name(this.getClass(), "getLineage"));
+        MetricRegistry.name(this.getClass(), "getLineage"), _requestTimeout);
   }
 }
@@ -11,6 +11,7 @@ import com.linkedin.restli.server.annotations.Optional;
 import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.time.Duration;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -29,6 +30,10 @@ public class PlatformResource extends CollectionResourceTaskTemplate<String, Ent
   @Named("kafkaEventProducer")
   private EventProducer _eventProducer;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   @Action(name = ACTION_PRODUCE_PLATFORM_EVENT)
   @Nonnull
   @WithSpan
@@ -40,6 +45,6 @@ public class PlatformResource extends CollectionResourceTaskTemplate<String, Ent
     return RestliUtil.toTask(() -> {
       _eventProducer.producePlatformEvent(eventName, key, event);
       return null;
-    });
+    }, _requestTimeout);
   }
 }
@@ -1,56 +1,21 @@
 package com.linkedin.metadata.resources.restli;
 
-import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.RestLiServiceException;
-import java.util.Optional;
-import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 
+/**
+ * Rest.li exceptions of the resources. Resources turn their work into tasks with
+ * {@link com.linkedin.metadata.restli.RestliUtil#toTask}.
+ */
 public class RestliUtils {
 
   private RestliUtils() {
     // Utils class
   }
 
-  /**
-   * Executes the provided supplier and convert the results to a {@link Task}.
-   * Exceptions thrown during the execution will be properly wrapped in {@link RestLiServiceException}.
-   * @param supplier The supplier to execute
-   * @return A parseq {@link Task}
-   */
-  @Nonnull
-  public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier) {
-    try {
-      return Task.value(supplier.get());
-    } catch (Throwable throwable) {
-
-      // Convert IllegalArgumentException to BAD REQUEST
-      if (throwable instanceof IllegalArgumentException || throwable.getCause() instanceof IllegalArgumentException) {
-        throwable = badRequestException(throwable.getMessage());
-      }
-
-      if (throwable instanceof RestLiServiceException) {
-        throw (RestLiServiceException) throwable;
-      }
-
-      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR, throwable);
-    }
-  }
-
-  /**
-   * Similar to {@link #toTask(Supplier)} but the supplier is expected to return an {@link Optional} instead.
-   * A {@link RestLiServiceException} with 404 HTTP status code will be thrown if the optional is emtpy.
-   * @param supplier The supplier to execute
-   * @return A parseq {@link Task}
-   */
-  @Nonnull
-  public static <T> Task<T> toTaskFromOptional(@Nonnull Supplier<Optional<T>> supplier) {
-    return toTask(() -> supplier.get().orElseThrow(RestliUtils::resourceNotFoundException));
-  }
-
   @Nonnull
   public static RestLiServiceException resourceNotFoundException() {
     return resourceNotFoundException(null);
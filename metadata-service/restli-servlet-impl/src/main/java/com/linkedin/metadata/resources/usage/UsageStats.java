@@ -47,6 +47,7 @@ import com.linkedin.usage.UserUsageCounts;
 import com.linkedin.usage.UserUsageCountsArray;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -90,6 +91,10 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
   @Named("entityRegistry")
   private EntityRegistry _entityRegistry;
 
+  @Inject
+  @Named("restliRequestTimeout")
+  private Duration _requestTimeout;
+
   @Getter(lazy = true)
   private final AspectSpec usageStatsAspectSpec =
       _entityRegistry.getEntitySpec(USAGE_STATS_ENTITY_NAME).getAspectSpec(USAGE_STATS_ASPECT_NAME);
@@ -104,7 +109,7 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
         this.ingest(agg);
       }
       return null;
-    }, MetricRegistry.name(this.getClass(), "batchIngest"));
+    }, MetricRegistry.name(this.getClass(), "batchIngest"), _requestTimeout);
   }
 
   private CalendarInterval windowToInterval(@Nonnull WindowDuration duration) {
@@ -334,7 +339,7 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
 
       // 5. Populate and return the result.
       return new UsageQueryResult().setBuckets(buckets).setAggregations(aggregations);
-    }, MetricRegistry.name(this.getClass(), "query"));
+    }, MetricRegistry.name(this.getClass(), "query"), _requestTimeout);
   }
 
   @Action(name = ACTION_QUERY_RANGE)
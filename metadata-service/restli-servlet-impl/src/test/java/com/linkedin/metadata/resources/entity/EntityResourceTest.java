@@ -0,0 +1,75 @@
+package com.linkedin.metadata.resources.entity;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class EntityResourceTest {
+
+  private static final String DATASET_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.fooTable,PROD)";
+
+  private EntityService _entityService;
+  private EntityResource _resource;
+  private AtomicReference<Optional<Deadline>> _deadline;
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    _entityService = Mockito.mock(EntityService.class);
+    _deadline = new AtomicReference<>();
+    Mockito.when(_entityService.exists(Mockito.any(Urn.class))).thenAnswer(invocation -> {
+      _deadline.set(Deadline.current());
+      return true;
+    });
+    _resource = new EntityResource();
+    inject(_resource, "_entityService", _entityService);
+  }
+
+  @Test
+  public void testRequestRunsWithDeadline() throws Exception {
+    inject(_resource, "_requestTimeout", Duration.ofSeconds(30));
+
+    assertTrue(_resource.exists(DATASET_URN).get());
+
+    assertTrue(_deadline.get().isPresent());
+    final long remaining = _deadline.get().get().remaining(TimeUnit.MILLISECONDS);
+    assertTrue(remaining > 0 && remaining <= TimeUnit.SECONDS.toMillis(30));
+    // The deadline only applies to the request
+    assertFalse(Deadline.current().isPresent());
+  }
+
+  @Test
+  public void testRequestDeadlineIsCappedByCurrentDeadline() throws Exception {
+    inject(_resource, "_requestTimeout", Duration.ofSeconds(30));
+
+    final Deadline outer = Deadline.after(1, TimeUnit.SECONDS);
+    assertTrue(outer.call(() -> _resource.exists(DATASET_URN)).get());
+
+    assertSame(_deadline.get().get(), outer);
+  }
+
+  @Test
+  public void testZeroTimeoutDisablesDeadline() throws Exception {
+    inject(_resource, "_requestTimeout", Duration.ZERO);
+
+    assertTrue(_resource.exists(DATASET_URN).get());
+
+    assertFalse(_deadline.get().isPresent());
+  }
+
+  private static void inject(Object resource, String fieldName, Object value) throws Exception {
+    final Field field = resource.getClass().getDeclaredField(fieldName);
+    field.setAccessible(true);
+    field.set(resource, value);
+  }
+}
@@ -2,11 +2,14 @@ package com.linkedin.metadata.restli;
 
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.concurrent.Deadline;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.RestLiServiceException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -43,11 +46,32 @@ public class RestliUtil {
     }
   }
 
+  /**
+   * Similar to {@link #toTask(Supplier)}, but the supplier runs with a request {@link Deadline}, after which the work
+   * it fans out through {@link com.linkedin.metadata.utils.ConcurrencyUtils} is cancelled.
+   * @param supplier The supplier to execute
+   * @param timeout How long the request may run, capped by the deadline of the current thread. Null or zero disables
+   *                the deadline.
+   * @return A parseq {@link Task}
+   */
+  @Nonnull
+  public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier, @Nullable Duration timeout) {
+    if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+      return toTask(supplier);
+    }
+    return toTask(() -> Deadline.afterOrCurrent(timeout.toMillis(), TimeUnit.MILLISECONDS).call(supplier));
+  }
+
   @Nonnull
   public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier, String metricName) {
+    return toTask(supplier, metricName, null);
+  }
+
+  @Nonnull
+  public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier, String metricName, @Nullable Duration timeout) {
     Timer.Context context = MetricUtils.timer(metricName).time();
     // Stop timer on success and failure
-    return toTask(supplier).transform(orig -> {
+    return toTask(supplier, timeout).transform(orig -> {
       context.stop();
       if (orig.isFailed()) {
         MetricUtils.counter(MetricRegistry.name(metricName, "failed")).inc();
@@ -1,12 +1,24 @@
 package com.linkedin.metadata.utils;
 
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -17,35 +29,79 @@ public class ConcurrencyUtils {
 
   /**
    * Transforms original list into the final list using the function transformer in an asynchronous fashion
-   * i.e. each element transform is run as a separate CompleteableFuture and then joined at the end
+   * i.e. each element transform is run as a separate task on the default bounded executor and then joined at the end
    */
   public static <O, T> List<T> transformAndCollectAsync(List<O> originalList, Function<O, T> transformer) {
-    return originalList.stream()
-        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element)))
-        .collect(Collectors.collectingAndThen(Collectors.toList(),
-            completableFutureList -> completableFutureList.stream().map(CompletableFuture::join)))
-        .collect(Collectors.toList());
+    return transformAndCollectAsync(BoundedExecutors.DEFAULT, originalList, transformer);
   }
 
   /**
    * Transforms original list into the final list using the function transformer in an asynchronous fashion
    * with exceptions handled by the input exceptionHandler
-   * i.e. each element transform is run as a separate CompleteableFuture and then joined at the end
+   * i.e. each element transform is run as a separate task on the default bounded executor and then joined at the end
    */
   public static <O, T> List<T> transformAndCollectAsync(List<O> originalList, Function<O, T> transformer,
       BiFunction<O, Throwable, ? extends T> exceptionHandler) {
-    return originalList.stream()
-        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element))
-            .exceptionally(e -> exceptionHandler.apply(element, e)))
-        .filter(Objects::nonNull)
-        .collect(Collectors.collectingAndThen(Collectors.toList(),
-            completableFutureList -> completableFutureList.stream().map(CompletableFuture::join)))
-        .collect(Collectors.toList());
+    return transformAndCollectAsync(BoundedExecutors.DEFAULT, originalList, transformer, exceptionHandler);
+  }
+
+  /**
+   * Transforms original list into the final list using the function transformer, running each element transform as a
+   * separate task on the named bounded executor. Waits at most until the deadline of the current thread, if any.
+   * The first failure is rethrown, and cancels all remaining tasks.
+   */
+  public static <O, T> List<T> transformAndCollectAsync(@Nonnull String executorName, @Nonnull List<O> originalList,
+      @Nonnull Function<O, T> transformer) {
+    return transformAndCollectAsync(executorName, originalList, transformer, (element, e) -> {
+      throw e instanceof RuntimeException ? (RuntimeException) e : new CompletionException(e);
+    }, Deadline.current().orElse(null));
+  }
+
+  /**
+   * Transforms original list into the final list using the function transformer, running each element transform as a
+   * separate task on the named bounded executor, with exceptions handled by the input exceptionHandler. Waits at most
+   * until the deadline of the current thread, if any.
+   */
+  public static <O, T> List<T> transformAndCollectAsync(@Nonnull String executorName, @Nonnull List<O> originalList,
+      @Nonnull Function<O, T> transformer, @Nonnull BiFunction<O, Throwable, ? extends T> exceptionHandler) {
+    return transformAndCollectAsync(executorName, originalList, transformer, exceptionHandler,
+        Deadline.current().orElse(null));
+  }
+
+  /**
+   * Transforms original list into the final list using the function transformer, running each element transform as a
+   * separate task on the named bounded executor, with exceptions handled by the input exceptionHandler.
+   *
+   * Waits at most for the given timeout, capped by the deadline of the current thread. On timeout, all tasks that did
+   * not complete yet are cancelled (interrupting them if running) and passed to the exceptionHandler with a
+   * {@link TimeoutException}. The deadline is propagated to the tasks, so that fan outs nested in them are bounded too.
+   */
+  public static <O, T> List<T> transformAndCollectAsync(@Nonnull String executorName, @Nonnull List<O> originalList,
+      @Nonnull Function<O, T> transformer, @Nonnull BiFunction<O, Throwable, ? extends T> exceptionHandler,
+      long timeout, @Nonnull TimeUnit unit) {
+    return transformAndCollectAsync(executorName, originalList, transformer, exceptionHandler,
+        Deadline.afterOrCurrent(timeout, unit));
+  }
+
+  /**
+   * Transforms original list using the function transformer on the named bounded executor, and only returns the
+   * non-null results of transforms that succeeded before the timeout expired. Remaining tasks are cancelled.
+   */
+  public static <O, T> List<T> getAllCompleted(@Nonnull String executorName, @Nonnull List<O> originalList,
+      @Nonnull Function<O, T> transformer, long timeout, @Nonnull TimeUnit unit) {
+    return transformAndCollectAsync(executorName, originalList, transformer, (element, e) -> {
+      if (e instanceof TimeoutException || e instanceof CancellationException) {
+        log.info("Timed out while waiting for futures to complete");
+      } else {
+        log.error("Failed to transform element {}", element, e);
+      }
+      return null;
+    }, timeout, unit).stream().filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   /**
    * Wait for a list of futures to end with a timeout and only return results that were returned before the timeout
-   * expired
+   * expired. Futures that did not complete in time are cancelled.
    */
   public static <T> List<T> getAllCompleted(List<CompletableFuture<T>> futuresList, long timeout, TimeUnit unit) {
     CompletableFuture<Void> allFuturesResult = CompletableFuture.allOf(futuresList.toArray(new CompletableFuture[0]));
@@ -53,6 +109,7 @@ public class ConcurrencyUtils {
       allFuturesResult.get(timeout, unit);
     } catch (Exception e) {
       log.info("Timed out while waiting for futures to complete");
+      futuresList.forEach(future -> future.cancel(true));
     }
 
     return futuresList.stream()
@@ -60,4 +117,70 @@ public class ConcurrencyUtils {
         .map(CompletableFuture::join)
         .collect(Collectors.<T>toList());
   }
+
+  private static <O, T> List<T> transformAndCollectAsync(@Nonnull String executorName, @Nonnull List<O> originalList,
+      @Nonnull Function<O, T> transformer, @Nonnull BiFunction<O, Throwable, ? extends T> exceptionHandler,
+      @Nullable Deadline deadline) {
+    // Waiting on the executor from one of its own workers could starve it, so run inline instead
+    if (BoundedExecutors.isCurrentThreadWorkerOf(executorName)) {
+      return transformInline(originalList, transformer, exceptionHandler, deadline);
+    }
+
+    final ExecutorService executor = BoundedExecutors.get(executorName);
+    final List<Future<T>> futures = originalList.stream()
+        .map(element -> executor.submit(() -> deadline == null
+            ? transformer.apply(element)
+            : deadline.call(() -> transformer.apply(element))))
+        .collect(Collectors.toList());
+
+    final List<T> results = new ArrayList<>(futures.size());
+    for (int i = 0; i < futures.size(); i++) {
+      final O element = originalList.get(i);
+      try {
+        results.add(deadline == null
+            ? futures.get(i).get()
+            : futures.get(i).get(deadline.remaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS));
+      } catch (ExecutionException e) {
+        results.add(handle(futures, element, e.getCause(), exceptionHandler, false));
+      } catch (TimeoutException | CancellationException e) {
+        MetricUtils.counter(ConcurrencyUtils.class, executorName + MetricUtils.DELIMITER + "timeout").inc();
+        results.add(handle(futures, element, e, exceptionHandler, true));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        results.add(handle(futures, element, e, exceptionHandler, true));
+      }
+    }
+    return results;
+  }
+
+  private static <O, T> T handle(@Nonnull List<Future<T>> futures, @Nonnull O element, @Nonnull Throwable e,
+      @Nonnull BiFunction<O, Throwable, ? extends T> exceptionHandler, boolean cancelRemaining) {
+    if (cancelRemaining) {
+      futures.forEach(future -> future.cancel(true));
+    }
+    try {
+      return exceptionHandler.apply(element, e);
+    } catch (RuntimeException rethrown) {
+      // Nobody is going to wait for the remaining results anymore
+      futures.forEach(future -> future.cancel(true));
+      throw rethrown;
+    }
+  }
+
+  private static <O, T> List<T> transformInline(@Nonnull List<O> originalList, @Nonnull Function<O, T> transformer,
+      @Nonnull BiFunction<O, Throwable, ? extends T> exceptionHandler, @Nullable Deadline deadline) {
+    final List<T> results = new ArrayList<>(originalList.size());
+    for (O element : originalList) {
+      if (deadline != null && deadline.isExpired()) {
+        results.add(exceptionHandler.apply(element, new TimeoutException("Deadline expired")));
+        continue;
+      }
+      try {
+        results.add(deadline == null ? transformer.apply(element) : deadline.call(() -> transformer.apply(element)));
+      } catch (RuntimeException e) {
+        results.add(exceptionHandler.apply(element, e));
+      }
+    }
+    return results;
+  }
 }
@@ -0,0 +1,146 @@
+package com.linkedin.metadata.utils.concurrent;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Registry of named, bounded and instrumented executors used to fan out blocking work (mostly Elasticsearch calls).
+ *
+ * Each executor has a fixed number of threads and a bounded queue. When the queue is full, the task is run on the
+ * submitting thread instead, which applies back pressure to the caller rather than failing the request. Saturation
+ * is visible through the {@code <name>_active}, {@code <name>_queued}, {@code <name>_callerRuns} and
+ * {@code <name>_queueWait} metrics. Once an executor is shut down, submitting to it throws a
+ * {@link RejectedExecutionException}.
+ *
+ * Executors are created lazily on first use, with the settings registered through {@link #configure} or defaults.
+ */
+@Slf4j
+public class BoundedExecutors {
+  private BoundedExecutors() {
+  }
+
+  public static final String DEFAULT = "default";
+  public static final String SEARCH = "search";
+  public static final String SEARCH_RANKER = "searchRanker";
+  public static final String GRAPH = "graph";
+  public static final String RECOMMENDATION = "recommendation";
+  public static final String DELETE_REFERENCES = "deleteReferences";
+
+  private static final int DEFAULT_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+  private static final Map<String, Settings> SETTINGS = new ConcurrentHashMap<>();
+  private static final Map<String, InstrumentedExecutor> EXECUTORS = new ConcurrentHashMap<>();
+
+  /**
+   * Register the size of a named executor. Only applies to the queue size if the executor was not created yet.
+   */
+  public static void configure(@Nonnull String name, int threads, int queueSize) {
+    SETTINGS.put(name, new Settings(threads, queueSize));
+    final InstrumentedExecutor existing = EXECUTORS.get(name);
+    if (existing != null && existing.getMaximumPoolSize() != threads) {
+      log.warn("Executor {} already created, only resizing its thread pool to {}", name, threads);
+      if (threads > existing.getMaximumPoolSize()) {
+        existing.setMaximumPoolSize(threads);
+        existing.setCorePoolSize(threads);
+      } else {
+        existing.setCorePoolSize(threads);
+        existing.setMaximumPoolSize(threads);
+      }
+    }
+  }
+
+  /**
+   * Get or create the executor with the given name
+   */
+  @Nonnull
+  public static ExecutorService get(@Nonnull String name) {
+    return EXECUTORS.computeIfAbsent(name, BoundedExecutors::create);
+  }
+
+  /**
+   * Whether the current thread is a worker of the executor with the given name. Work fanned out from such a thread
+   * onto the same executor must run inline, as waiting for it could otherwise starve the executor.
+   */
+  public static boolean isCurrentThreadWorkerOf(@Nonnull String name) {
+    return Thread.currentThread() instanceof Worker && ((Worker) Thread.currentThread()).executorName.equals(name);
+  }
+
+  private static InstrumentedExecutor create(@Nonnull String name) {
+    final Settings settings = SETTINGS.getOrDefault(name, new Settings(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE));
+    log.info("Creating executor {} with {} threads and queue size {}", name, settings.getThreads(),
+        settings.getQueueSize());
+    return new InstrumentedExecutor(name, settings.getThreads(), settings.getQueueSize());
+  }
+
+  @Value
+  private static class Settings {
+    int threads;
+    int queueSize;
+  }
+
+  private static class Worker extends Thread {
+    private final String executorName;
+
+    Worker(@Nonnull String executorName, @Nonnull Runnable runnable, @Nonnull String threadName) {
+      super(runnable, threadName);
+      this.executorName = executorName;
+      setDaemon(true);
+    }
+  }
+
+  private static class InstrumentedExecutor extends ThreadPoolExecutor {
+    private final Timer _queueWaitTimer;
+
+    InstrumentedExecutor(@Nonnull String name, int threads, int queueSize) {
+      super(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory(name),
+          (runnable, executor) -> {
+            if (executor.isShutdown()) {
+              // Dropping the task would leave whoever waits for its future hanging until their deadline
+              throw new RejectedExecutionException(String.format("Executor %s is shut down", name));
+            }
+            MetricUtils.counter(BoundedExecutors.class, name + MetricUtils.DELIMITER + "callerRuns").inc();
+            runnable.run();
+          });
+      allowCoreThreadTimeOut(true);
+      _queueWaitTimer = MetricUtils.timer(BoundedExecutors.class, name + MetricUtils.DELIMITER + "queueWait");
+      registerGauge(name + MetricUtils.DELIMITER + "active", this::getActiveCount);
+      registerGauge(name + MetricUtils.DELIMITER + "queued", () -> getQueue().size());
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+      final long enqueuedAt = System.nanoTime();
+      super.execute(() -> {
+        _queueWaitTimer.update(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        command.run();
+      });
+    }
+
+    private static ThreadFactory threadFactory(@Nonnull String name) {
+      final AtomicInteger count = new AtomicInteger();
+      return runnable -> new Worker(name, runnable, name + "-executor-" + count.incrementAndGet());
+    }
+
+    private static void registerGauge(@Nonnull String metricName, @Nonnull Gauge<Integer> gauge) {
+      final String fullName = MetricRegistry.name(BoundedExecutors.class, metricName);
+      MetricUtils.get().remove(fullName);
+      MetricUtils.get().register(fullName, gauge);
+    }
+  }
+}
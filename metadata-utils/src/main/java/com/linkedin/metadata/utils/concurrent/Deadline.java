@@ -0,0 +1,79 @@
+package com.linkedin.metadata.utils.concurrent;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Point in time by which a request, and all the work fanned out on its behalf, should complete.
+ *
+ * The deadline of the current request is kept in a thread local. {@link com.linkedin.metadata.utils.ConcurrencyUtils}
+ * propagates it to the tasks it submits, so nested fan outs never wait longer than the outermost caller.
+ */
+public final class Deadline {
+
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  private final long _deadlineNanos;
+
+  private Deadline(long deadlineNanos) {
+    _deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Create a deadline the given amount of time from now
+   */
+  @Nonnull
+  public static Deadline after(long timeout, @Nonnull TimeUnit unit) {
+    return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+  }
+
+  /**
+   * The deadline of the work running on the current thread, if any
+   */
+  @Nonnull
+  public static Optional<Deadline> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * The given timeout from now, capped by the deadline of the current thread
+   */
+  @Nonnull
+  public static Deadline afterOrCurrent(long timeout, @Nonnull TimeUnit unit) {
+    final Deadline deadline = after(timeout, unit);
+    return current().map(current -> current.earliest(deadline)).orElse(deadline);
+  }
+
+  public long remaining(@Nonnull TimeUnit unit) {
+    return unit.convert(Math.max(0, _deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+  }
+
+  public boolean isExpired() {
+    return _deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  @Nonnull
+  public Deadline earliest(@Nonnull Deadline other) {
+    return _deadlineNanos - other._deadlineNanos <= 0 ? this : other;
+  }
+
+  /**
+   * Run the supplier with this deadline as the deadline of the current thread
+   */
+  public <T> T call(@Nonnull Supplier<T> supplier) {
+    final Deadline previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return supplier.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -1,10 +1,12 @@
 package com.linkedin.metadata.utils.metrics;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.SharedMetricRegistries;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.jmx.JmxReporter;
+import com.linkedin.common.urn.UrnCache;
 
 
 public class MetricUtils {
@@ -19,6 +21,10 @@ public class MetricUtils {
   static {
     final JmxReporter reporter = JmxReporter.forRegistry(REGISTRY).build();
     reporter.start();
+
+    REGISTRY.gauge(MetricRegistry.name(UrnCache.class, "hit"), () -> (Gauge<Long>) UrnCache::getHitCount);
+    REGISTRY.gauge(MetricRegistry.name(UrnCache.class, "miss"), () -> (Gauge<Long>) UrnCache::getMissCount);
+    REGISTRY.gauge(MetricRegistry.name(UrnCache.class, "size"), () -> (Gauge<Long>) UrnCache::getTotalSize);
   }
 
   public static MetricRegistry get() {
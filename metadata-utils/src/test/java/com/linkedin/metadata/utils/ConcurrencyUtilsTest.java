@@ -0,0 +1,120 @@
+package com.linkedin.metadata.utils;
+
+import com.linkedin.metadata.utils.concurrent.BoundedExecutors;
+import com.linkedin.metadata.utils.concurrent.Deadline;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ConcurrencyUtilsTest {
+
+  private static final String EXECUTOR = "concurrencyUtilsTest";
+
+  @Test
+  public void testTransformAndCollect() {
+    final List<Integer> result =
+        ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(1, 2, 3), value -> value * 2);
+    assertEquals(result, List.of(2, 4, 6));
+  }
+
+  @Test
+  public void testExceptionHandler() {
+    final List<Integer> result = ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(1, 2, 3),
+        value -> {
+          if (value == 2) {
+            throw new IllegalStateException("failed");
+          }
+          return value;
+        }, (value, e) -> e instanceof IllegalStateException ? -1 : 0);
+    assertEquals(result, List.of(1, -1, 3));
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testFailureRethrownWithoutHandler() {
+    ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(1, 2), value -> {
+      throw new IllegalStateException("failed");
+    });
+  }
+
+  @Test
+  public void testTimeoutCancelsRemainingTasks() throws InterruptedException {
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final List<Integer> result = ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(1, 2),
+        value -> {
+          if (value == 2) {
+            try {
+              Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+              interrupted.countDown();
+            }
+          }
+          return value;
+        }, (value, e) -> e instanceof TimeoutException ? -1 : 0, 200, TimeUnit.MILLISECONDS);
+
+    assertEquals(result, List.of(1, -1));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testGetAllCompletedDropsLateResults() {
+    final List<Integer> result = ConcurrencyUtils.getAllCompleted(EXECUTOR, List.of(1, 2, 3), value -> {
+      if (value == 3) {
+        try {
+          Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return value;
+    }, 200, TimeUnit.MILLISECONDS);
+    assertEquals(result, List.of(1, 2));
+  }
+
+  @Test
+  public void testDeadlinePropagatesToTasks() {
+    final AtomicBoolean sawDeadline = new AtomicBoolean();
+    Deadline.after(10, TimeUnit.SECONDS).call(() -> ConcurrencyUtils.transformAndCollectAsync(EXECUTOR,
+        List.of(1, 2), value -> {
+          sawDeadline.set(Deadline.current().isPresent());
+          // Nested fan out onto the same executor runs inline on the worker
+          assertTrue(BoundedExecutors.isCurrentThreadWorkerOf(EXECUTOR));
+          return ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(value), nested -> nested);
+        }));
+    assertTrue(sawDeadline.get());
+    assertFalse(Deadline.current().isPresent());
+  }
+
+  @Test
+  public void testRequestDeadlineCancelsFanOut() throws InterruptedException {
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final List<Integer> result = Deadline.after(200, TimeUnit.MILLISECONDS).call(() ->
+        ConcurrencyUtils.transformAndCollectAsync(EXECUTOR, List.of(1, 2), value -> {
+          if (value == 2) {
+            try {
+              Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+              interrupted.countDown();
+            }
+          }
+          return value;
+        }, (value, e) -> e instanceof TimeoutException ? -1 : 0));
+
+    assertEquals(result, List.of(1, -1));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test(expectedExceptions = RejectedExecutionException.class)
+  public void testShutDownExecutorRejectsTasks() {
+    final ExecutorService executor = BoundedExecutors.get("concurrencyUtilsTestShutDown");
+    executor.shutdown();
+    executor.execute(() -> fail("Task must not run once the executor is shut down"));
+  }
+}